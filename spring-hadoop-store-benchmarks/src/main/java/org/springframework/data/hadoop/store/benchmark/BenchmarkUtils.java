@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+
+/**
+ * Utility methods shared by store benchmarks. All benchmarks
+ * use a local file system so that a cluster is not needed.
+ */
+public abstract class BenchmarkUtils {
+
+	/**
+	 * Creates a hadoop configuration using a local file system.
+	 *
+	 * @return the hadoop configuration
+	 */
+	public static Configuration createConfiguration() {
+		Configuration configuration = new Configuration();
+		configuration.set("fs.defaultFS", "file:///");
+		return configuration;
+	}
+
+	/**
+	 * Creates a new temporary directory as a path.
+	 *
+	 * @param prefix the directory name prefix
+	 * @return the path of a directory
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public static Path createTempPath(String prefix) throws IOException {
+		File dir = File.createTempFile(prefix, "");
+		if (!dir.delete() || !dir.mkdirs()) {
+			throw new IOException("Unable to create temp directory " + dir);
+		}
+		return new Path(dir.toURI().toString());
+	}
+
+	/**
+	 * Deletes a path recursively.
+	 *
+	 * @param configuration the hadoop configuration
+	 * @param path the path to delete
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public static void delete(Configuration configuration, Path path) throws IOException {
+		if (path != null) {
+			FileSystem fs = path.getFileSystem(configuration);
+			fs.delete(path, true);
+		}
+	}
+
+	/**
+	 * Creates a line of a given length from ascii characters.
+	 *
+	 * @param length the line length
+	 * @return the line
+	 */
+	public static String createLine(int length) {
+		StringBuilder buf = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			buf.append((char) ('a' + (i % 26)));
+		}
+		return buf.toString();
+	}
+
+	/**
+	 * Creates fields of a given length from ascii characters.
+	 *
+	 * @param count the number of fields
+	 * @param length the field length
+	 * @return the fields
+	 */
+	public static List<String> createFields(int count, int length) {
+		List<String> fields = new ArrayList<String>(count);
+		for (int i = 0; i < count; i++) {
+			fields.add(createLine(length));
+		}
+		return fields;
+	}
+
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.GenericRecordBuilder;
+import org.apache.avro.reflect.ReflectData;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.hadoop.store.dataset.DatasetDefinition;
+import org.springframework.data.hadoop.store.dataset.DatasetRepositoryFactory;
+import org.springframework.data.hadoop.store.dataset.EntityRecordMapper;
+import org.springframework.data.hadoop.store.dataset.ParquetDatasetStoreWriter;
+
+/**
+ * Benchmarks for converting entities into Avro records used by
+ * {@link ParquetDatasetStoreWriter} and for a whole writer writing into
+ * a dataset in a local file system. Conversion with a {@link BeanWrapper}
+ * is included as a baseline. A score is an average time per entity.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ParquetDatasetConversionBenchmark {
+
+	private Configuration configuration;
+
+	private Path basePath;
+
+	private Schema schema;
+
+	private EntityRecordMapper<BenchmarkPojo> mapper;
+
+	private BenchmarkPojo pojo;
+
+	private GenericRecord record;
+
+	private DatasetRepositoryFactory datasetRepositoryFactory;
+
+	private ParquetDatasetStoreWriter<BenchmarkPojo> writer;
+
+	@Setup(Level.Trial)
+	public void setupTrial() throws Exception {
+		schema = ReflectData.AllowNull.get().getSchema(BenchmarkPojo.class);
+		mapper = new EntityRecordMapper<BenchmarkPojo>(BenchmarkPojo.class, schema);
+		pojo = new BenchmarkPojo(1L, "name", System.currentTimeMillis(), 1.5d);
+		record = mapper.toRecord(pojo);
+
+		configuration = BenchmarkUtils.createConfiguration();
+		basePath = BenchmarkUtils.createTempPath("parquetdataset");
+		datasetRepositoryFactory = new DatasetRepositoryFactory();
+		datasetRepositoryFactory.setConf(configuration);
+		datasetRepositoryFactory.setBasePath(basePath.toString());
+		datasetRepositoryFactory.setNamespace("benchmark");
+		datasetRepositoryFactory.afterPropertiesSet();
+	}
+
+	@Setup(Level.Iteration)
+	public void setupIteration() {
+		writer = new ParquetDatasetStoreWriter<BenchmarkPojo>(BenchmarkPojo.class, datasetRepositoryFactory,
+				new DatasetDefinition(BenchmarkPojo.class, true, "parquet"));
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDownIteration() throws IOException {
+		writer.close();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownTrial() throws IOException {
+		BenchmarkUtils.delete(configuration, basePath);
+	}
+
+	@Benchmark
+	public GenericRecord toRecord() {
+		return mapper.toRecord(pojo);
+	}
+
+	@Benchmark
+	public BenchmarkPojo toEntity() {
+		return mapper.toEntity(record);
+	}
+
+	@Benchmark
+	public GenericRecord toRecordWithBeanWrapper() {
+		GenericRecordBuilder builder = new GenericRecordBuilder(schema);
+		BeanWrapper beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(pojo);
+		for (Schema.Field f : schema.getFields()) {
+			if (beanWrapper.isReadableProperty(f.name())) {
+				builder.set(f.name(), beanWrapper.getPropertyValue(f.name()));
+			}
+		}
+		return builder.build();
+	}
+
+	@Benchmark
+	public void write() throws IOException {
+		writer.write(pojo);
+	}
+
+	/**
+	 * Simple entity written into a dataset.
+	 */
+	public static class BenchmarkPojo {
+
+		private Long id;
+		private String name;
+		private Long timestamp;
+		private Double value;
+
+		public BenchmarkPojo() {
+		}
+
+		public BenchmarkPojo(Long id, String name, Long timestamp, Double value) {
+			this.id = id;
+			this.name = name;
+			this.timestamp = timestamp;
+			this.value = value;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Long getTimestamp() {
+			return timestamp;
+		}
+
+		public void setTimestamp(Long timestamp) {
+			this.timestamp = timestamp;
+		}
+
+		public Double getValue() {
+			return value;
+		}
+
+		public void setValue(Double value) {
+			this.value = value;
+		}
+	}
+
+}
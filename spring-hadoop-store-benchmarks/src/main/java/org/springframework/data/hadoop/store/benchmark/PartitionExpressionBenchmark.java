@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.fs.Path;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.hadoop.store.partition.DefaultPartitionKey;
+import org.springframework.data.hadoop.store.partition.DefaultPartitionStrategy;
+import org.springframework.data.hadoop.store.partition.PartitionResolver;
+
+/**
+ * Benchmarks for resolving partition paths with {@link DefaultPartitionStrategy}
+ * expressions. Keys are cycled over a given cardinality and timestamps advance
+ * a second per key so that time based expressions don't hit a same bucket
+ * on every evaluation. A score is an average time of a single resolve.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PartitionExpressionBenchmark {
+
+	@Param({
+		"region",
+		"region + '/' + dateFormat('yyyy/MM/dd/HH', timestamp)",
+		"hash(region,16)",
+		"list(region,{{'nordic','fin','swe'},{'britain','eng','sco'}})",
+		"range(size,{10,20,30,40})"
+	})
+	public String expression;
+
+	@Param({ "16" })
+	public int keyCardinality;
+
+	@Param({ "0" })
+	public long timestampBucket;
+
+	private PartitionResolver<Map<String, Object>> resolver;
+
+	private DefaultPartitionKey[] keys;
+
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		DefaultPartitionStrategy<String> strategy = new DefaultPartitionStrategy<String>(expression);
+		if (timestampBucket > 0) {
+			strategy.setTimestampBucket(timestampBucket);
+		}
+		resolver = strategy.getPartitionResolver();
+		String[] regions = new String[] { "fin", "swe", "eng", "sco", "usa" };
+		keys = new DefaultPartitionKey[keyCardinality];
+		long now = System.currentTimeMillis();
+		for (int i = 0; i < keyCardinality; i++) {
+			keys[i] = new DefaultPartitionKey(now + i * 1000);
+			keys[i].put("region", regions[i % regions.length]);
+			keys[i].put("size", i * 3);
+		}
+	}
+
+	@Benchmark
+	public Path resolvePath() {
+		if (++index >= keyCardinality) {
+			index = 0;
+		}
+		return resolver.resolvePath(keys[index]);
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.benchmark;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.hadoop.store.output.PartitionTextFileWriter;
+import org.springframework.data.hadoop.store.partition.DefaultPartitionKey;
+import org.springframework.data.hadoop.store.partition.DefaultPartitionStrategy;
+import org.springframework.data.hadoop.store.strategy.naming.RollingFileNamingStrategy;
+
+/**
+ * Benchmarks for {@link PartitionTextFileWriter} writing into a number of
+ * partitions given by a key cardinality. Writer is shared by all threads
+ * and {@code write} and {@code writeContended} differ only by a
+ * number of threads. Other thread counts can be run with a JMH
+ * {@code -t} option. A score is a number of written lines per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PartitionTextFileWriterBenchmark {
+
+	@Param({ "1", "16", "256" })
+	public int keyCardinality;
+
+	@Param({ "0" })
+	public int maxOpenWriters;
+
+	private Configuration configuration;
+
+	private Path basePath;
+
+	private String line;
+
+	private DefaultPartitionKey[] keys;
+
+	private PartitionTextFileWriter<Map<String, Object>> writer;
+
+	private int iteration;
+
+	@Setup(Level.Trial)
+	public void setupTrial() throws IOException {
+		configuration = BenchmarkUtils.createConfiguration();
+		basePath = BenchmarkUtils.createTempPath("partitionwriter");
+		line = BenchmarkUtils.createLine(100);
+		keys = new DefaultPartitionKey[keyCardinality];
+		long now = System.currentTimeMillis();
+		for (int i = 0; i < keyCardinality; i++) {
+			keys[i] = new DefaultPartitionKey(now);
+			keys[i].put("customer", "customer" + i);
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void setupIteration() {
+		iteration++;
+		DefaultPartitionStrategy<String> strategy = new DefaultPartitionStrategy<String>("customer");
+		writer = new PartitionTextFileWriter<Map<String, Object>>(configuration, new Path(basePath, "iteration"
+				+ iteration), null, strategy);
+		// evicted partitions continue into a next file
+		writer.setFileNamingStrategyFactory(new RollingFileNamingStrategy());
+		writer.setIncrementalInit(true);
+		writer.setMaxOpenWriters(maxOpenWriters);
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDownIteration() throws IOException {
+		writer.close();
+		BenchmarkUtils.delete(configuration, new Path(basePath, "iteration" + iteration));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownTrial() throws IOException {
+		BenchmarkUtils.delete(configuration, basePath);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void write(ThreadState state) throws IOException {
+		writer.write(line, keys[state.next(keyCardinality)]);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void writeContended(ThreadState state) throws IOException {
+		writer.write(line, keys[state.next(keyCardinality)]);
+	}
+
+	/**
+	 * Per thread state cycling through partition keys.
+	 */
+	@State(Scope.Thread)
+	public static class ThreadState {
+
+		private int index;
+
+		int next(int cardinality) {
+			if (++index >= cardinality) {
+				index = 0;
+			}
+			return index;
+		}
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.Text;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.hadoop.store.codec.CodecInfo;
+import org.springframework.data.hadoop.store.codec.Codecs;
+import org.springframework.data.hadoop.store.input.DelimitedTextFileReader;
+import org.springframework.data.hadoop.store.input.TextFileReader;
+import org.springframework.data.hadoop.store.output.DelimitedTextFileWriter;
+import org.springframework.data.hadoop.store.output.TextFileWriter;
+
+/**
+ * Benchmarks for {@link TextFileReader} and {@link DelimitedTextFileReader}
+ * reading and parsing lines from a local file system. Every invocation
+ * reads a whole file and a score is a number of read lines per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TextFileReaderBenchmark {
+
+	private static final int LINES = 100000;
+
+	@Param({ "none", "gzip" })
+	public String codec;
+
+	@Param({ "100" })
+	public int lineLength;
+
+	private Configuration configuration;
+
+	private Path basePath;
+
+	private Path textPath;
+
+	private Path delimitedPath;
+
+	private CodecInfo codecInfo;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		configuration = BenchmarkUtils.createConfiguration();
+		basePath = BenchmarkUtils.createTempPath("textfilereader");
+		codecInfo = Codecs.getCodecInfo(codec);
+		textPath = new Path(basePath, "text");
+		delimitedPath = new Path(basePath, "delimited");
+
+		String line = BenchmarkUtils.createLine(lineLength);
+		TextFileWriter textFileWriter = new TextFileWriter(configuration, textPath, codecInfo);
+		for (int i = 0; i < LINES; i++) {
+			textFileWriter.write(line);
+		}
+		textFileWriter.close();
+
+		List<String> fields = BenchmarkUtils.createFields(10, lineLength / 10);
+		DelimitedTextFileWriter delimitedTextFileWriter = new DelimitedTextFileWriter(configuration, delimitedPath,
+				codecInfo);
+		for (int i = 0; i < LINES; i++) {
+			delimitedTextFileWriter.write(fields);
+		}
+		delimitedTextFileWriter.close();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		BenchmarkUtils.delete(configuration, basePath);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(LINES)
+	public void readString(Blackhole blackhole) throws IOException {
+		TextFileReader reader = new TextFileReader(configuration, textPath, codecInfo);
+		String line;
+		while ((line = reader.read()) != null) {
+			blackhole.consume(line);
+		}
+		reader.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(LINES)
+	public void readText(Blackhole blackhole) throws IOException {
+		TextFileReader reader = new TextFileReader(configuration, textPath, codecInfo);
+		Text line;
+		while ((line = reader.readText()) != null) {
+			blackhole.consume(line.getLength());
+		}
+		reader.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(LINES)
+	public void readDelimited(Blackhole blackhole) throws IOException {
+		DelimitedTextFileReader reader = new DelimitedTextFileReader(configuration, delimitedPath, codecInfo);
+		List<String> fields;
+		while ((fields = reader.read()) != null) {
+			blackhole.consume(fields);
+		}
+		reader.close();
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.hadoop.store.codec.CodecInfo;
+import org.springframework.data.hadoop.store.codec.Codecs;
+import org.springframework.data.hadoop.store.output.DelimitedTextFileWriter;
+import org.springframework.data.hadoop.store.output.TextFileWriter;
+
+/**
+ * Benchmarks for {@link TextFileWriter} and {@link DelimitedTextFileWriter}
+ * writing into a local file system with and without a codec. A score is
+ * a number of written lines per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TextFileWriterBenchmark {
+
+	@Param({ "none", "gzip", "bzip2" })
+	public String codec;
+
+	@Param({ "100" })
+	public int lineLength;
+
+	private Configuration configuration;
+
+	private Path basePath;
+
+	private CodecInfo codecInfo;
+
+	private String line;
+
+	private byte[] lineBytes;
+
+	private List<String> fields;
+
+	private TextFileWriter textFileWriter;
+
+	private DelimitedTextFileWriter delimitedTextFileWriter;
+
+	private int iteration;
+
+	@Setup(Level.Trial)
+	public void setupTrial() throws IOException {
+		configuration = BenchmarkUtils.createConfiguration();
+		basePath = BenchmarkUtils.createTempPath("textfilewriter");
+		codecInfo = Codecs.getCodecInfo(codec);
+		line = BenchmarkUtils.createLine(lineLength);
+		lineBytes = line.getBytes();
+		fields = BenchmarkUtils.createFields(10, lineLength / 10);
+	}
+
+	@Setup(Level.Iteration)
+	public void setupIteration() {
+		iteration++;
+		textFileWriter = new TextFileWriter(configuration, new Path(basePath, "text" + iteration), codecInfo);
+		delimitedTextFileWriter = new DelimitedTextFileWriter(configuration, new Path(basePath, "delimited"
+				+ iteration), codecInfo);
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDownIteration() throws IOException {
+		textFileWriter.close();
+		delimitedTextFileWriter.close();
+		BenchmarkUtils.delete(configuration, new Path(basePath, "text" + iteration));
+		BenchmarkUtils.delete(configuration, new Path(basePath, "delimited" + iteration));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownTrial() throws IOException {
+		BenchmarkUtils.delete(configuration, basePath);
+	}
+
+	@Benchmark
+	public void writeString() throws IOException {
+		textFileWriter.write(line);
+	}
+
+	@Benchmark
+	public void writeBytes() throws IOException {
+		textFileWriter.write(lineBytes, 0, lineBytes.length);
+	}
+
+	@Benchmark
+	public void writeDelimited() throws IOException {
+		delimitedTextFileWriter.write(fields);
+	}
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * A {@code DataBatchWriter} is an extension of {@link DataWriter} able to
+ * write a batch of entities at once. Implementations amortize locking,
+ * write position bookkeeping and rollover checks over a whole batch
+ * instead of paying those for every entity.
+ * @param <T> the type of an entity to write
+ */
+public interface DataBatchWriter<T> extends DataWriter<T> {
+
+	/**
+	 * Write a batch of entities. Rollover of an underlying file is
+	 * evaluated after a batch has been written, thus a file may exceed
+	 * a rollover threshold by at most one batch.
+	 *
+	 * @param entities the entities to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	void writeBatch(Collection<? extends T> entities) throws IOException;
+
+}
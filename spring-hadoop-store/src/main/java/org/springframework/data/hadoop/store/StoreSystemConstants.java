@@ -26,4 +26,7 @@ public abstract class StoreSystemConstants {
 	/** Default bean id for store event publisher. */
 	public static final String DEFAULT_ID_EVENT_PUBLISHER = "storeEventPublisher";
 
+	/** Default bean id for store metrics. */
+	public static final String DEFAULT_ID_STORE_METRICS = "storeMetrics";
+
 }
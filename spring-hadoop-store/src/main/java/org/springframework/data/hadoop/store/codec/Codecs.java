@@ -20,7 +20,9 @@ import java.util.Map;
 
 import org.apache.hadoop.io.compress.BZip2Codec;
 import org.apache.hadoop.io.compress.GzipCodec;
+import org.apache.hadoop.io.compress.Lz4Codec;
 import org.apache.hadoop.io.compress.SnappyCodec;
+import org.springframework.util.ClassUtils;
 
 /**
  * Default codecs supported by store framework. We keep codec info here for implementations
@@ -63,7 +65,20 @@ public enum Codecs {
 	/**
 	 * Non-splittable {@code LzopCodec}.
 	 */
-	LZOP(new DefaultCodecInfo("com.hadoop.compression.lzo.LzopCodec", false, "lzop"), "LZOP");
+	LZOP(new DefaultCodecInfo("com.hadoop.compression.lzo.LzopCodec", false, "lzop"), "LZOP"),
+
+	/**
+	 * Non-splittable {@link Lz4Codec}. This codec will need native hadoop libraries,
+	 * without libhadoop loaded creating its compressor or decompressor fails.
+	 */
+	LZ4(new DefaultCodecInfo(Lz4Codec.class.getName(), false, "lz4"), "LZ4"),
+
+	/**
+	 * Non-splittable {@code ZStandardCodec}. This codec is available with hadoop 2.9
+	 * or newer and will need native zstd libraries. Use {@link #isAvailable()} to
+	 * check if it exists in a classpath.
+	 */
+	ZSTD(new DefaultCodecInfo("org.apache.hadoop.io.compress.ZStandardCodec", false, "zst"), "ZSTD", "ZSTANDARD");
 
 	private final CodecInfo codec;
 
@@ -118,6 +133,16 @@ public enum Codecs {
 		return abbreviations;
 	}
 
+	/**
+	 * Checks if a codec class exists in a classpath. Native libraries
+	 * needed by a codec are not checked.
+	 *
+	 * @return true, if codec class is available
+	 */
+	public boolean isAvailable() {
+		return ClassUtils.isPresent(codec.getCodecClass(), Codecs.class.getClassLoader());
+	}
+
 	/**
 	 * Gets the {@code Codecs} by its abbreviation. Lookup returns <code>NULL</code> if abbreviation hasn't been
 	 * registered.
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.codec;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.hadoop.conf.Configurable;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.compress.BZip2Codec;
+import org.apache.hadoop.io.compress.CodecPool;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.Compressor;
+import org.apache.hadoop.io.compress.DefaultCodec;
+import org.apache.hadoop.io.compress.DeflateCodec;
+import org.apache.hadoop.io.compress.GzipCodec;
+import org.apache.hadoop.io.compress.Lz4Codec;
+import org.apache.hadoop.io.compress.SnappyCodec;
+import org.apache.hadoop.io.compress.zlib.ZlibCompressor.CompressionLevel;
+import org.apache.hadoop.io.compress.zlib.ZlibFactory;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.springframework.data.hadoop.store.StoreException;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Cache for {@link CompressionCodec} instances resolved from a {@link CodecInfo}.
+ * Codecs are configured from a hadoop {@link Configuration} so instances are
+ * cached per configuration identity and keyed by codec class of a
+ * {@code CodecInfo}. As a configurable codec references its configuration,
+ * configurations can't be held weakly, instead cache is bounded to
+ * {@link #MAX_CACHED_CODECS} least recently used codecs so that only
+ * a bounded number of configurations is kept reachable.
+ * <p>
+ * Compression level and buffer size from a {@link TunableCodecInfo} are applied
+ * by configuring a codec with a copy of a configuration having codec
+ * specific settings set. Whether these have an effect depends on a codec,
+ * i.e. built-in java gzip stream doesn't know about levels.
+ */
+public abstract class CompressionCodecCache {
+
+	private static final String IO_FILE_BUFFER_SIZE = "io.file.buffer.size";
+
+	private static final String BZIP2_BLOCKSIZE = "bzip2.compress.blocksize";
+
+	private static final String LZ4_USE_HC = "io.compression.codec.lz4.use.lz4hc";
+
+	private static final String LZ4_BUFFER_SIZE = "io.compression.codec.lz4.buffersize";
+
+	private static final String SNAPPY_BUFFER_SIZE = "io.compression.codec.snappy.buffersize";
+
+	private static final String ZSTD_CODEC = "org.apache.hadoop.io.compress.ZStandardCodec";
+
+	private static final String ZSTD_LEVEL = "io.compression.codec.zstd.level";
+
+	private static final String ZSTD_BUFFER_SIZE = "io.compression.codec.zstd.buffersize";
+
+	private static final String LZO_CODEC_PREFIX = "com.hadoop.compression.lzo.";
+
+	private static final String LZO_LEVEL = "io.compression.codec.lzo.compression.level";
+
+	private static final String LZO_BUFFER_SIZE = "io.compression.codec.lzo.buffersize";
+
+	/** Max number of cached codec instances */
+	public static final int MAX_CACHED_CODECS = 64;
+
+	private static final Map<CacheKey, CompressionCodec> cache =
+			new LinkedHashMap<CacheKey, CompressionCodec>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<CacheKey, CompressionCodec> eldest) {
+			return size() > MAX_CACHED_CODECS;
+		}
+	};
+
+	/**
+	 * Gets a {@link CompressionCodec} for a {@link CodecInfo} configured with a
+	 * given {@link Configuration}. Codec is instantiated on first request and
+	 * same instance is returned for subsequent requests.
+	 *
+	 * @param codecInfo the codec info
+	 * @param configuration the hadoop configuration
+	 * @return the compression codec
+	 * @throws StoreException if codec class doesn't exist in a classpath
+	 */
+	public static CompressionCodec getCodec(CodecInfo codecInfo, Configuration configuration) {
+		Assert.notNull(codecInfo, "Codec info must be set");
+		Assert.notNull(configuration, "Configuration must be set");
+		CacheKey key = new CacheKey(configuration, codecInfo.getCodecClass() + "#"
+				+ getCompressionLevel(codecInfo) + "#" + getBufferSize(codecInfo));
+		CompressionCodec codec;
+		synchronized (cache) {
+			codec = cache.get(key);
+		}
+		if (codec == null) {
+			Class<?> clazz = resolveCodecClass(codecInfo.getCodecClass());
+			codec = (CompressionCodec) ReflectionUtils.newInstance(clazz, tune(codecInfo, configuration));
+			synchronized (cache) {
+				CompressionCodec existing = cache.get(key);
+				if (existing != null) {
+					codec = existing;
+				} else {
+					cache.put(key, codec);
+				}
+			}
+		}
+		return codec;
+	}
+
+	/**
+	 * Resolves a codec class failing with a clear error if it doesn't
+	 * exist, i.e. a codec is newer than hadoop in a classpath.
+	 */
+	private static Class<?> resolveCodecClass(String codecClass) {
+		ClassLoader classLoader = CompressionCodecCache.class.getClassLoader();
+		if (!ClassUtils.isPresent(codecClass, classLoader)) {
+			String hint = codecClass.equals(ZSTD_CODEC) ? ", ZStandard codec needs hadoop 2.9 or newer" : "";
+			throw new StoreException("Codec class " + codecClass + " not found in a classpath" + hint);
+		}
+		return ClassUtils.resolveClassName(codecClass, classLoader);
+	}
+
+	/**
+	 * Borrows a {@link Compressor} from a {@link CodecPool} for a codec. Pooled
+	 * compressor is re-initialized with a codec's own configuration so that
+	 * compression level and buffer size tunables are applied.
+	 *
+	 * @param codec the compression codec
+	 * @return the compressor or {@code NULL} if codec doesn't provide one
+	 */
+	public static Compressor getCompressor(CompressionCodec codec) {
+		Configuration conf = codec instanceof Configurable ? ((Configurable) codec).getConf() : null;
+		return CodecPool.getCompressor(codec, conf);
+	}
+
+	/**
+	 * Creates a configuration for a codec with tunables from a {@link CodecInfo}
+	 * applied. Given configuration is returned as is if there is nothing to tune.
+	 *
+	 * @param codecInfo the codec info
+	 * @param configuration the hadoop configuration
+	 * @return the configuration for a codec
+	 */
+	private static Configuration tune(CodecInfo codecInfo, Configuration configuration) {
+		Integer level = getCompressionLevel(codecInfo);
+		Integer bufferSize = getBufferSize(codecInfo);
+		if (level == null && bufferSize == null) {
+			return configuration;
+		}
+		Configuration conf = new Configuration(configuration);
+		String clazz = codecInfo.getCodecClass();
+		if (clazz.equals(DefaultCodec.class.getName()) || clazz.equals(GzipCodec.class.getName())
+				|| clazz.equals(DeflateCodec.class.getName())) {
+			if (level != null) {
+				ZlibFactory.setCompressionLevel(conf, zlibLevel(level));
+			}
+			if (bufferSize != null) {
+				conf.setInt(IO_FILE_BUFFER_SIZE, bufferSize);
+			}
+		} else if (clazz.equals(BZip2Codec.class.getName())) {
+			if (level != null) {
+				conf.setInt(BZIP2_BLOCKSIZE, Math.max(1, Math.min(9, level)));
+			}
+			if (bufferSize != null) {
+				conf.setInt(IO_FILE_BUFFER_SIZE, bufferSize);
+			}
+		} else if (clazz.equals(Lz4Codec.class.getName())) {
+			if (level != null) {
+				// same as lz4 cli, levels from 3 upwards use high compression
+				conf.setBoolean(LZ4_USE_HC, level >= 3);
+			}
+			if (bufferSize != null) {
+				conf.setInt(LZ4_BUFFER_SIZE, bufferSize);
+			}
+		} else if (clazz.equals(SnappyCodec.class.getName())) {
+			if (bufferSize != null) {
+				conf.setInt(SNAPPY_BUFFER_SIZE, bufferSize);
+			}
+		} else if (clazz.equals(ZSTD_CODEC)) {
+			if (level != null) {
+				conf.setInt(ZSTD_LEVEL, level);
+			}
+			if (bufferSize != null) {
+				conf.setInt(ZSTD_BUFFER_SIZE, bufferSize);
+			}
+		} else if (clazz.startsWith(LZO_CODEC_PREFIX)) {
+			if (level != null) {
+				conf.setInt(LZO_LEVEL, level);
+			}
+			if (bufferSize != null) {
+				conf.setInt(LZO_BUFFER_SIZE, bufferSize);
+			}
+		} else if (bufferSize != null) {
+			conf.setInt(IO_FILE_BUFFER_SIZE, bufferSize);
+		}
+		return conf;
+	}
+
+	private static Integer getCompressionLevel(CodecInfo codecInfo) {
+		return codecInfo instanceof TunableCodecInfo ? ((TunableCodecInfo) codecInfo).getCompressionLevel() : null;
+	}
+
+	private static Integer getBufferSize(CodecInfo codecInfo) {
+		return codecInfo instanceof TunableCodecInfo ? ((TunableCodecInfo) codecInfo).getBufferSize() : null;
+	}
+
+	private static CompressionLevel zlibLevel(int level) {
+		if (level < 0) {
+			return CompressionLevel.DEFAULT_COMPRESSION;
+		}
+		// levels 0-9 are first in enum order
+		return CompressionLevel.values()[Math.min(9, level)];
+	}
+
+	/**
+	 * Clears all cached codecs.
+	 */
+	public static void clear() {
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * Gets the number of cached codecs.
+	 *
+	 * @return the cached codec count
+	 */
+	static int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * Key matching a configuration by identity as a configuration
+	 * is mutable and doesn't define equality.
+	 */
+	private static class CacheKey {
+
+		private final Configuration configuration;
+
+		private final String codecKey;
+
+		CacheKey(Configuration configuration, String codecKey) {
+			this.configuration = configuration;
+			this.codecKey = codecKey;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey other = (CacheKey) obj;
+			return configuration == other.configuration && codecKey.equals(other.codecKey);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(configuration) + codecKey.hashCode();
+		}
+	}
+
+}
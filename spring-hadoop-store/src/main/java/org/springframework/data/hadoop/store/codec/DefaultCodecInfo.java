@@ -15,6 +15,8 @@
  */
 package org.springframework.data.hadoop.store.codec;
 
+import org.springframework.util.ObjectUtils;
+
 /**
  * A default {@code CodecInfo} implementation. Contains a static information about
  * the codec class and its ability being a splittable.
@@ -22,7 +24,7 @@ package org.springframework.data.hadoop.store.codec;
  * @author Janne Valkealahti
  *
  */
-public class DefaultCodecInfo implements CodecInfo {
+public class DefaultCodecInfo implements TunableCodecInfo {
 
 	private final boolean splittable;
 
@@ -30,6 +32,10 @@ public class DefaultCodecInfo implements CodecInfo {
 
 	private final String suffix;
 
+	private final Integer compressionLevel;
+
+	private final Integer bufferSize;
+
 	/**
 	 * Instantiates a new default codec info.
 	 *
@@ -38,10 +44,40 @@ public class DefaultCodecInfo implements CodecInfo {
 	 * @param suffix the suffix
 	 */
 	public DefaultCodecInfo(String clazz, boolean splittable, String suffix) {
+		this(clazz, splittable, suffix, null, null);
+	}
+
+	/**
+	 * Instantiates a new default codec info.
+	 *
+	 * @param clazz the clazz of a codec
+	 * @param splittable the info if codec is splittable
+	 * @param suffix the suffix
+	 * @param compressionLevel the compression level, {@code NULL} for codec default
+	 * @param bufferSize the buffer size, {@code NULL} for codec default
+	 */
+	public DefaultCodecInfo(String clazz, boolean splittable, String suffix, Integer compressionLevel,
+			Integer bufferSize) {
 		super();
 		this.splittable = splittable;
 		this.clazz = clazz;
 		this.suffix = suffix;
+		this.compressionLevel = compressionLevel;
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Instantiates a new default codec info copying static information
+	 * from a given {@link CodecInfo} together with new tunables. This
+	 * is a convenient way to tune a codec from {@link Codecs}.
+	 *
+	 * @param codecInfo the codec info to copy
+	 * @param compressionLevel the compression level, {@code NULL} for codec default
+	 * @param bufferSize the buffer size, {@code NULL} for codec default
+	 */
+	public DefaultCodecInfo(CodecInfo codecInfo, Integer compressionLevel, Integer bufferSize) {
+		this(codecInfo.getCodecClass(), codecInfo.isSplittable(), codecInfo.getDefaultSuffix(), compressionLevel,
+				bufferSize);
 	}
 
 	@Override
@@ -59,4 +95,39 @@ public class DefaultCodecInfo implements CodecInfo {
 		return suffix;
 	}
 
+	@Override
+	public Integer getCompressionLevel() {
+		return compressionLevel;
+	}
+
+	@Override
+	public Integer getBufferSize() {
+		return bufferSize;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = ObjectUtils.nullSafeHashCode(clazz);
+		result = 31 * result + (splittable ? 1 : 0);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(suffix);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(compressionLevel);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(bufferSize);
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof DefaultCodecInfo)) {
+			return false;
+		}
+		DefaultCodecInfo other = (DefaultCodecInfo) obj;
+		return splittable == other.splittable && ObjectUtils.nullSafeEquals(clazz, other.clazz)
+				&& ObjectUtils.nullSafeEquals(suffix, other.suffix)
+				&& ObjectUtils.nullSafeEquals(compressionLevel, other.compressionLevel)
+				&& ObjectUtils.nullSafeEquals(bufferSize, other.bufferSize);
+	}
+
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.codec;
+
+/**
+ * Extension of {@link CodecInfo} adding codec tunables. Kept separate
+ * from {@code CodecInfo} so that existing implementations of it don't
+ * need to change.
+ */
+public interface TunableCodecInfo extends CodecInfo {
+
+	/**
+	 * Gets the compression level. Interpretation of a level is codec
+	 * specific and {@code NULL} means that codec default is used.
+	 *
+	 * @return the compression level
+	 */
+	Integer getCompressionLevel();
+
+	/**
+	 * Gets the compression buffer size in bytes. {@code NULL} means
+	 * that codec default is used.
+	 *
+	 * @return the buffer size
+	 */
+	Integer getBufferSize();
+
+}
@@ -50,6 +50,8 @@ public class SpringDataStoreWriterConfigs {
 
 	private Long closeTimeout;
 
+	private Long rolloverCheckInterval;
+
 	private Integer fileOpenAttempts;
 
 	private String inWritingPrefix;
@@ -136,6 +138,14 @@ public class SpringDataStoreWriterConfigs {
 		this.closeTimeout = closeTimeout;
 	}
 
+	public Long getRolloverCheckInterval() {
+		return rolloverCheckInterval;
+	}
+
+	public void setRolloverCheckInterval(Long rolloverCheckInterval) {
+		this.rolloverCheckInterval = rolloverCheckInterval;
+	}
+
 	public Integer getFileOpenAttempts() {
 		return fileOpenAttempts;
 	}
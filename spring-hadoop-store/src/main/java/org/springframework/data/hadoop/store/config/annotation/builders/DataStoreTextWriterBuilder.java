@@ -67,6 +67,8 @@ public final class DataStoreTextWriterBuilder
 
 	private Long closeTimeout;
 
+	private Long rolloverCheckInterval;
+
 	private Integer fileOpenAttempts;
 
 	private String inWritingPrefix;
@@ -101,6 +103,7 @@ public final class DataStoreTextWriterBuilder
 		configs.setAppendable(appendable);
 		configs.setIdleTimeout(idleTimeout);
 		configs.setCloseTimeout(closeTimeout);
+		configs.setRolloverCheckInterval(rolloverCheckInterval);
 		configs.setFileOpenAttempts(fileOpenAttempts);
 		configs.setInWritingPrefix(inWritingPrefix);
 		configs.setInWritingSuffix(inWritingSuffix);
@@ -224,4 +227,13 @@ public final class DataStoreTextWriterBuilder
 		this.rolloverStrategy = rolloverStrategy;
 	}
 
+	/**
+	 * Sets the rollover check interval for this builder.
+	 *
+	 * @param rolloverCheckInterval the new rollover check interval
+	 */
+	public void setRolloverCheckInterval(Long rolloverCheckInterval) {
+		this.rolloverCheckInterval = rolloverCheckInterval;
+	}
+
 }
@@ -122,6 +122,9 @@ public class SpringDataStoreTextWriterConfiguration extends
 				if (configs.getCloseTimeout() != null) {
 					writer.setCloseTimeout(configs.getCloseTimeout());
 				}
+				if (configs.getRolloverCheckInterval() != null) {
+					writer.setRolloverCheckInterval(configs.getRolloverCheckInterval());
+				}
 				if (configs.getFileOpenAttempts() != null) {
 					writer.setMaxOpenAttempts(configs.getFileOpenAttempts());
 				}
@@ -158,6 +161,9 @@ public class SpringDataStoreTextWriterConfiguration extends
 				if (configs.getCloseTimeout() != null) {
 					writer.setCloseTimeout(configs.getCloseTimeout());
 				}
+				if (configs.getRolloverCheckInterval() != null) {
+					writer.setRolloverCheckInterval(configs.getRolloverCheckInterval());
+				}
 				if (configs.getFileOpenAttempts() != null) {
 					writer.setMaxOpenAttempts(configs.getFileOpenAttempts());
 				}
@@ -15,13 +15,19 @@
  */
 package org.springframework.data.hadoop.store.config.annotation.configurers;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.data.hadoop.config.common.annotation.AnnotationConfigurer;
 import org.springframework.data.hadoop.config.common.annotation.AnnotationConfigurerAdapter;
 import org.springframework.data.hadoop.store.config.annotation.SpringDataStoreWriterConfigs;
 import org.springframework.data.hadoop.store.config.annotation.builders.DataStoreTextWriterBuilder;
 import org.springframework.data.hadoop.store.config.annotation.builders.DataStoreTextWriterConfigurer;
+import org.springframework.data.hadoop.store.strategy.rollover.ChainedRolloverStrategy;
+import org.springframework.data.hadoop.store.strategy.rollover.RecordCountRolloverStrategy;
 import org.springframework.data.hadoop.store.strategy.rollover.RolloverStrategy;
 import org.springframework.data.hadoop.store.strategy.rollover.SizeRolloverStrategy;
+import org.springframework.data.hadoop.store.strategy.rollover.TimeIntervalRolloverStrategy;
 
 /**
  * {@link AnnotationConfigurer} which knows howto configure a rollover strategy.
@@ -33,22 +39,74 @@ public class DefaultRolloverStrategyConfigurer extends
 		AnnotationConfigurerAdapter<SpringDataStoreWriterConfigs, DataStoreTextWriterConfigurer, DataStoreTextWriterBuilder> implements
 		RolloverStrategyConfigurer {
 
-	private RolloverStrategy rolloverStrategy;
+	private static final long DEFAULT_CHECK_INTERVAL = 1000;
+
+	private RolloverStrategy sizeStrategy;
+
+	private List<RolloverStrategy> rolloverStrategies = new ArrayList<RolloverStrategy>();
+
+	private Long checkInterval;
+
+	private long minInterval = Long.MAX_VALUE;
 
 	@Override
 	public void configure(DataStoreTextWriterBuilder builder) throws Exception {
-		builder.setRolloverStrategy(rolloverStrategy);
+		List<RolloverStrategy> strategies = new ArrayList<RolloverStrategy>();
+		if (sizeStrategy != null) {
+			strategies.add(sizeStrategy);
+		}
+		strategies.addAll(rolloverStrategies);
+		if (strategies.size() == 1) {
+			builder.setRolloverStrategy(strategies.get(0));
+		} else if (strategies.size() > 1) {
+			builder.setRolloverStrategy(new ChainedRolloverStrategy(strategies));
+		}
+		if (checkInterval != null) {
+			builder.setRolloverCheckInterval(checkInterval);
+		} else if (minInterval < Long.MAX_VALUE) {
+			// time based strategies need to be checked
+			// periodically for quiet writers to roll on time
+			builder.setRolloverCheckInterval(Math.min(minInterval, DEFAULT_CHECK_INTERVAL));
+		}
 	}
 
 	@Override
 	public RolloverStrategyConfigurer size(long size) {
-		this.rolloverStrategy = new SizeRolloverStrategy(size);
+		this.sizeStrategy = new SizeRolloverStrategy(size);
 		return this;
 	}
 
 	@Override
 	public RolloverStrategyConfigurer size(String size) {
-		this.rolloverStrategy = new SizeRolloverStrategy(size);
+		this.sizeStrategy = new SizeRolloverStrategy(size);
+		return this;
+	}
+
+	@Override
+	public RolloverStrategyConfigurer interval(long interval) {
+		return interval(new TimeIntervalRolloverStrategy(interval));
+	}
+
+	@Override
+	public RolloverStrategyConfigurer interval(String interval) {
+		return interval(new TimeIntervalRolloverStrategy(interval));
+	}
+
+	@Override
+	public RolloverStrategyConfigurer records(long count) {
+		rolloverStrategies.add(new RecordCountRolloverStrategy(count));
+		return this;
+	}
+
+	@Override
+	public RolloverStrategyConfigurer checkInterval(long checkInterval) {
+		this.checkInterval = checkInterval;
+		return this;
+	}
+
+	private RolloverStrategyConfigurer interval(TimeIntervalRolloverStrategy strategy) {
+		rolloverStrategies.add(strategy);
+		minInterval = Math.min(minInterval, strategy.getInterval());
 		return this;
 	}
 
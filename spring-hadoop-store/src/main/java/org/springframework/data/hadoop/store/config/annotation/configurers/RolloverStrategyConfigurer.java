@@ -19,7 +19,17 @@ import org.springframework.data.hadoop.config.common.annotation.AnnotationConfig
 import org.springframework.data.hadoop.store.config.annotation.builders.DataStoreTextWriterConfigurer;
 
 /**
- * {@link AnnotationConfigurerBuilder} for configuring a rollover strategy.
+ * {@link AnnotationConfigurerBuilder} for configuring a rollover strategy. If
+ * more than one strategy is configured, a rollover happens when any of them
+ * wants to roll. A size can be set only once, setting it again replaces
+ * a previous size.
+ *
+ * <p>
+ * Methods {@link #interval(long)}, {@link #interval(String)},
+ * {@link #records(long)} and {@link #checkInterval(long)} were added in
+ * 2.5.1. This is a breaking change for any implementation of this interface
+ * other than {@link DefaultRolloverStrategyConfigurer}, which needs to
+ * implement these methods.
  *
  * <p>
  * Typically configuration is shown below.
@@ -45,7 +55,7 @@ import org.springframework.data.hadoop.store.config.annotation.builders.DataStor
 public interface RolloverStrategyConfigurer extends AnnotationConfigurerBuilder<DataStoreTextWriterConfigurer> {
 
 	/**
-	 * Specify a rollover size in bytes.
+	 * Specify a rollover size in bytes. Replaces a previously specified size.
 	 *
 	 * <br>
 	 * <br>JavaConfig:
@@ -95,4 +105,113 @@ public interface RolloverStrategyConfigurer extends AnnotationConfigurerBuilder<
 	 */
 	RolloverStrategyConfigurer size(String size);
 
+	/**
+	 * Specify a rollover interval in millis. Files are rolled on wall-clock
+	 * boundaries aligned to an interval and checked periodically so that
+	 * a writer doesn't need to wait a next write to roll.
+	 *
+	 * <br>
+	 * <br>JavaConfig:
+	 * <br>
+	 * <pre>
+	 *
+	 * public void configure(DataStoreTextWriterConfigurer writer) throws Exception {
+	 *   writer
+	 *     .withRolloverStrategy()
+	 *       .interval(300000);
+	 * }
+	 * </pre>
+	 *
+	 * <br>XML:
+	 * <br>
+	 * No equivalent
+	 *
+	 * @param interval the interval
+	 *
+	 * @return {@link RolloverStrategyConfigurer} for chaining
+	 * @see #interval(String)
+	 */
+	RolloverStrategyConfigurer interval(long interval);
+
+	/**
+	 * Specify a rollover interval. Supported string representations of
+	 * an interval are, 100ms, 30s, 5m, 1h and 1d where numeric part can
+	 * be changed.
+	 *
+	 * <br>
+	 * <br>JavaConfig:
+	 * <br>
+	 * <pre>
+	 *
+	 * public void configure(DataStoreTextWriterConfigurer writer) throws Exception {
+	 *   writer
+	 *     .withRolloverStrategy()
+	 *       .interval("5m");
+	 * }
+	 * </pre>
+	 *
+	 * <br>XML:
+	 * <br>
+	 * No equivalent
+	 *
+	 * @param interval the interval
+	 *
+	 * @return {@link RolloverStrategyConfigurer} for chaining
+	 */
+	RolloverStrategyConfigurer interval(String interval);
+
+	/**
+	 * Specify a rollover count of written entities.
+	 *
+	 * <br>
+	 * <br>JavaConfig:
+	 * <br>
+	 * <pre>
+	 *
+	 * public void configure(DataStoreTextWriterConfigurer writer) throws Exception {
+	 *   writer
+	 *     .withRolloverStrategy()
+	 *       .records(1000000);
+	 * }
+	 * </pre>
+	 *
+	 * <br>XML:
+	 * <br>
+	 * No equivalent
+	 *
+	 * @param count the count
+	 *
+	 * @return {@link RolloverStrategyConfigurer} for chaining
+	 */
+	RolloverStrategyConfigurer records(long count);
+
+	/**
+	 * Specify an interval in millis used to check rollover state of
+	 * a writer without a write. If not set and an interval is used,
+	 * state is checked every second or with a rollover interval if
+	 * it is shorter.
+	 *
+	 * <br>
+	 * <br>JavaConfig:
+	 * <br>
+	 * <pre>
+	 *
+	 * public void configure(DataStoreTextWriterConfigurer writer) throws Exception {
+	 *   writer
+	 *     .withRolloverStrategy()
+	 *       .interval("5m")
+	 *       .checkInterval(5000);
+	 * }
+	 * </pre>
+	 *
+	 * <br>XML:
+	 * <br>
+	 * No equivalent
+	 *
+	 * @param checkInterval the check interval
+	 *
+	 * @return {@link RolloverStrategyConfigurer} for chaining
+	 */
+	RolloverStrategyConfigurer checkInterval(long checkInterval);
+
 }
@@ -16,11 +16,13 @@
 package org.springframework.data.hadoop.store.dataset;
 
 import java.io.IOException;
+import java.util.Collection;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.kitesdk.data.DatasetWriter;
 import org.kitesdk.data.Flushable;
+import org.springframework.data.hadoop.store.DataBatchWriter;
 import org.springframework.data.hadoop.store.DataStoreWriter;
 import org.springframework.util.Assert;
 
@@ -35,7 +37,8 @@ import org.springframework.util.Assert;
  * @param <R> the type of entity in writer
  *
  */
-public abstract class AbstractDatasetStoreWriter<T, R> extends DatasetStoreObjectSupport implements DataStoreWriter<T> {
+public abstract class AbstractDatasetStoreWriter<T, R> extends DatasetStoreObjectSupport implements DataStoreWriter<T>,
+		DataBatchWriter<T> {
 
 	private static final Log log = LogFactory.getLog(AbstractDatasetStoreWriter.class);
 
@@ -80,6 +83,25 @@ public abstract class AbstractDatasetStoreWriter<T, R> extends DatasetStoreObjec
 		resetIdleTimeout();
 	}
 
+	@Override
+	public void writeBatch(Collection<? extends T> entities) throws IOException {
+		if (entities.isEmpty()) {
+			return;
+		}
+		if (writer == null) {
+			synchronized (lock) {
+				if (writer == null) {
+					writer = createWriter();
+				}
+			}
+		}
+		DatasetWriter<R> w = writer;
+		for (T entity : entities) {
+			w.write(convertEntity(entity));
+		}
+		resetIdleTimeout();
+	}
+
 	@Override
 	public void flush() throws IOException {
 		if (log.isDebugEnabled()) {
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.dataset;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.hadoop.store.StoreException;
+import org.springframework.util.Assert;
+
+import parquet.filter.AndRecordFilter;
+import parquet.filter.UnboundRecordFilter;
+
+/**
+ * A {@code DatasetQuery} defines a column projection and field filters
+ * used when reading a dataset. With a {@code parquet} format only projected
+ * and filtered columns are read from files and filters are evaluated against
+ * column values before records are materialized and entity properties not
+ * included in a projection are left unset. With other formats whole entities
+ * are read and filters are applied to read entities.
+ */
+public class DatasetQuery {
+
+	private final Set<String> fields = new LinkedHashSet<String>();
+
+	private final List<Class<?>> projectionClasses = new ArrayList<Class<?>>();
+
+	private final List<FieldFilter> filters = new ArrayList<FieldFilter>();
+
+	/**
+	 * Adds fields into a projection.
+	 *
+	 * @param fields the field names
+	 * @return this query for chaining
+	 */
+	public DatasetQuery select(String... fields) {
+		Assert.notEmpty(fields, "Fields must be set");
+		Collections.addAll(this.fields, fields);
+		return this;
+	}
+
+	/**
+	 * Adds properties of a given projection class into a projection.
+	 * Properties which don't exist in a dataset schema are ignored.
+	 *
+	 * @param projectionClass the projection class
+	 * @return this query for chaining
+	 */
+	public DatasetQuery select(Class<?> projectionClass) {
+		Assert.notNull(projectionClass, "Projection class must be set");
+		projectionClasses.add(projectionClass);
+		return this;
+	}
+
+	/**
+	 * Adds a filter. Multiple filters are combined with
+	 * a logical and.
+	 *
+	 * @param filter the field filter
+	 * @return this query for chaining
+	 */
+	public DatasetQuery where(FieldFilter filter) {
+		Assert.notNull(filter, "Filter must be set");
+		filters.add(filter);
+		return this;
+	}
+
+	/**
+	 * Gets the explicitly selected fields.
+	 *
+	 * @return the fields
+	 */
+	public Set<String> getFields() {
+		return Collections.unmodifiableSet(fields);
+	}
+
+	/**
+	 * Gets the filters.
+	 *
+	 * @return the filters
+	 */
+	public List<FieldFilter> getFilters() {
+		return Collections.unmodifiableList(filters);
+	}
+
+	/**
+	 * Checks if this query has a projection.
+	 *
+	 * @return true, if projection is defined
+	 */
+	public boolean hasProjection() {
+		return !fields.isEmpty() || !projectionClasses.isEmpty();
+	}
+
+	/**
+	 * Checks if a record matches all filters.
+	 *
+	 * @param record the record
+	 * @return true, if record matches
+	 */
+	public boolean matches(GenericRecord record) {
+		for (int i = 0; i < filters.size(); i++) {
+			if (!filters.get(i).matches(record)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the schema used to read records from a dataset with a given
+	 * schema. Read schema contains projected fields and fields needed by
+	 * filters in order of a dataset schema.
+	 *
+	 * @param schema the dataset schema
+	 * @return the read schema
+	 */
+	public Schema getReadSchema(Schema schema) {
+		for (FieldFilter filter : filters) {
+			if (schema.getField(filter.getField()) == null) {
+				throw new StoreException("Filter field " + filter.getField() + " doesn't exist in schema "
+						+ schema.getFullName());
+			}
+		}
+		if (!hasProjection()) {
+			return schema;
+		}
+		Set<String> names = new LinkedHashSet<String>();
+		for (String field : fields) {
+			if (schema.getField(field) == null) {
+				throw new StoreException("Field " + field + " doesn't exist in schema " + schema.getFullName());
+			}
+			names.add(field);
+		}
+		for (Class<?> projectionClass : projectionClasses) {
+			for (PropertyDescriptor pd : BeanUtils.getPropertyDescriptors(projectionClass)) {
+				if (schema.getField(pd.getName()) != null) {
+					names.add(pd.getName());
+				}
+			}
+		}
+		for (FieldFilter filter : filters) {
+			names.add(filter.getField());
+		}
+		List<Schema.Field> projected = new ArrayList<Schema.Field>();
+		for (Schema.Field f : schema.getFields()) {
+			if (names.contains(f.name())) {
+				projected.add(new Schema.Field(f.name(), f.schema(), f.doc(), f.defaultValue()));
+			}
+		}
+		Schema readSchema = Schema.createRecord(schema.getName(), schema.getDoc(), schema.getNamespace(), false);
+		readSchema.setFields(projected);
+		return readSchema;
+	}
+
+	/**
+	 * Gets a parquet record filter combining all filters supported
+	 * by parquet.
+	 *
+	 * @param schema the read schema
+	 * @return the record filter or null if none of the filters are supported
+	 */
+	UnboundRecordFilter getRecordFilter(Schema schema) {
+		UnboundRecordFilter recordFilter = null;
+		for (FieldFilter filter : filters) {
+			UnboundRecordFilter f = filter.toRecordFilter(schema);
+			if (f != null) {
+				recordFilter = recordFilter == null ? f : AndRecordFilter.and(recordFilter, f);
+			}
+		}
+		return recordFilter;
+	}
+
+	@Override
+	public String toString() {
+		return "DatasetQuery [fields=" + fields + ", projectionClasses=" + projectionClasses + ", filters=" + filters
+				+ "]";
+	}
+
+}
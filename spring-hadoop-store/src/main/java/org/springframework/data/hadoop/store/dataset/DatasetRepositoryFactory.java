@@ -52,6 +52,15 @@ public class DatasetRepositoryFactory implements InitializingBean {
 		this.conf = configuration;
 	}
 
+	/**
+	 * Get the Hadoop configuration.
+	 *
+	 * @return Hadoop configuration
+	 */
+	public Configuration getConf() {
+		return conf;
+	}
+
 	/**
 	 * The base path for the datasets in this repository. This combined with the namespace and the
 	 * Hadoop configuration 'fs.defaultNS' setting determines the actual full path used.
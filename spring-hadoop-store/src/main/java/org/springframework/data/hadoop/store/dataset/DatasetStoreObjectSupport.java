@@ -17,15 +17,13 @@ package org.springframework.data.hadoop.store.dataset;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.springframework.core.task.TaskExecutor;
-import org.springframework.data.hadoop.store.support.IdleTimeoutTrigger;
 import org.springframework.data.hadoop.store.support.LifecycleObjectSupport;
-import org.springframework.data.hadoop.store.support.PollingTaskSupport;
-import org.springframework.scheduling.TaskScheduler;
-import org.springframework.scheduling.Trigger;
+import org.springframework.data.hadoop.store.support.Timeout;
+import org.springframework.data.hadoop.store.support.TimeoutService;
+import org.springframework.data.hadoop.store.support.TimeoutTask;
 
 /**
- * Support class adding timeout poller functionality.
+ * Support class adding timeout functionality.
  *
  * @author Janne Valkealahti
  *
@@ -34,17 +32,11 @@ public class DatasetStoreObjectSupport extends LifecycleObjectSupport {
 
 	private static final Log log = LogFactory.getLog(DatasetStoreObjectSupport.class);
 
-	/** Poller checking idle timeouts */
-	private IdleTimeoutPoller idlePoller;
+	/** Timeout checking idle state */
+	private Timeout idleTimeoutHandle;
 
-	/** Trigger in poller */
-	private volatile IdleTimeoutTrigger idleTrigger;
-
-	/** Poller checking idle timeouts */
-	private CloseTimeoutPoller closePoller;
-
-	/** Trigger in poller */
-	private volatile IdleTimeoutTrigger closeTrigger;
+	/** Timeout closing a store */
+	private Timeout closeTimeoutHandle;
 
 	/**
 	 * In millis last idle time reset. We explicitly use negative value to indicate reset state
@@ -60,42 +52,26 @@ public class DatasetStoreObjectSupport extends LifecycleObjectSupport {
 	private volatile long closeTimeout;
 
 	@Override
-	protected void onInit() throws Exception {
-		// if we have timeout, enable polling by creating it
+	protected void doStart() {
+		TimeoutService timeoutService = getTimeoutService();
 		if (idleTimeout > 0) {
-			idleTrigger = new IdleTimeoutTrigger(idleTimeout);
-			idlePoller = new IdleTimeoutPoller(getTaskScheduler(), getTaskExecutor(), idleTrigger);
-			idlePoller.init();
+			idleTimeoutHandle = timeoutService.schedule(new IdleTimeoutTask(), idleTimeout);
 		}
-		// if we have close timeout, setup trigger with delay
 		if (closeTimeout > 0) {
-			closeTrigger = new IdleTimeoutTrigger(closeTimeout);
-			closeTrigger.setInitialDelay(closeTimeout);
-			closePoller = new CloseTimeoutPoller(getTaskScheduler(), getTaskExecutor(), closeTrigger);
-			closePoller.init();
-		}
-	}
-
-	@Override
-	protected void doStart() {
-		if (idlePoller != null) {
-			idlePoller.start();
-		}
-		if (closePoller != null) {
-			closePoller.start();
+			closeTimeoutHandle = timeoutService.schedule(new CloseTimeoutTask(), closeTimeout);
 		}
 	}
 
 	@Override
 	protected void doStop() {
-		if (idlePoller != null) {
-			idlePoller.stop();
+		if (idleTimeoutHandle != null) {
+			idleTimeoutHandle.cancel();
 		}
-		idlePoller = null;
-		if (closePoller != null) {
-			closePoller.stop();
+		idleTimeoutHandle = null;
+		if (closeTimeoutHandle != null) {
+			closeTimeoutHandle.cancel();
 		}
-		closePoller = null;
+		closeTimeoutHandle = null;
 	}
 
 	/**
@@ -132,64 +108,55 @@ public class DatasetStoreObjectSupport extends LifecycleObjectSupport {
 	}
 
 	/**
-	 * Poller which checks idle timeout by last write and closes a writer if timeout has occurred.
+	 * Task which checks idle timeout by last write and closes a writer if timeout has occurred.
 	 */
-	private class IdleTimeoutPoller extends PollingTaskSupport<Boolean> {
-
-		public IdleTimeoutPoller(TaskScheduler taskScheduler, TaskExecutor taskExecutor, Trigger trigger) {
-			super(taskScheduler, taskExecutor, trigger);
-		}
+	private class IdleTimeoutTask implements TimeoutTask {
 
 		@Override
-		protected Boolean doPoll() {
+		public long run() {
+			long timeout = idleTimeout;
+			long last = lastIdle;
 			if (log.isDebugEnabled()) {
-				log.debug("Polling idle timeout with idleTimeout=" + idleTimeout + " lastIdle=" + lastIdle);
+				log.debug("Checking idle timeout with idleTimeout=" + timeout + " lastIdle=" + last);
 			}
-			// return true if we've been idle too long
-			return idleTimeout > 0 && lastIdle > 0 && lastIdle + idleTimeout < System.currentTimeMillis();
-		}
-
-		@Override
-		protected void onPollResult(Boolean result) {
-			if (result) {
+			if (timeout > 0 && last > 0) {
+				long remaining = last + timeout - System.currentTimeMillis();
+				if (remaining >= 0) {
+					return remaining + 1;
+				}
 				try {
 					if (log.isDebugEnabled()) {
 						log.debug("Idle timeout detected, calling handleTimeout()");
 					}
 					handleTimeout();
 				} catch (Exception e) {
-					// TODO: handle error
 					log.error("error closing", e);
 				} finally {
 					// reset lastIdle so we can wait new timeout
 					lastIdle = Long.MIN_VALUE;
 				}
 			}
+			return timeout;
 		}
 
 	}
 
 	/**
-	 * Poller which gets called by a close timeout and closes a writer.
+	 * Task which gets called by a close timeout and closes a writer.
 	 */
-	private class CloseTimeoutPoller extends PollingTaskSupport<Void> {
-
-		public CloseTimeoutPoller(TaskScheduler taskScheduler, TaskExecutor taskExecutor, Trigger trigger) {
-			super(taskScheduler, taskExecutor, trigger);
-		}
+	private class CloseTimeoutTask implements TimeoutTask {
 
 		@Override
-		protected Void doPoll() {
+		public long run() {
 			try {
 				if (log.isDebugEnabled()) {
 					log.debug("Close timeout detected, calling handleTimeout()");
 				}
 				handleTimeout();
 			} catch (Exception e) {
-				// TODO: handle error
 				log.error("error closing", e);
 			}
-			return null;
+			return closeTimeout;
 		}
 	}
 
@@ -44,7 +44,7 @@ import org.springframework.util.Assert;
  * @author Thomas Risberg
  * @since 2.0
  */
-public class DatasetTemplate implements InitializingBean, DatasetOperations {
+public class DatasetTemplate implements InitializingBean, QueryableDatasetOperations {
 
 	private DatasetRepositoryFactory dsFactory;
 
@@ -162,6 +162,65 @@ public class DatasetTemplate implements InitializingBean, DatasetOperations {
 		}
 	}
 
+	@Override
+	public <T> void read(Class<T> targetClass, RecordCallback<T> callback, DatasetQuery query) {
+		readWithQuery(targetClass, callback, query);
+	}
+
+	@Override
+	public <T> Collection<T> read(Class<T> targetClass, DatasetQuery query) {
+		final List<T> results = new ArrayList<T>();
+		readWithQuery(targetClass, new RecordCallback<T>() {
+
+			@Override
+			public void doInRecord(T record) {
+				results.add(record);
+			}
+		}, query);
+		return results;
+	}
+
+	private <T> void readWithQuery(Class<T> targetClass, RecordCallback<T> callback, DatasetQuery query) {
+		Assert.notNull(query, "Dataset query must be set");
+		DatasetDescriptor descriptor = getDatasetDescriptor(targetClass);
+		if (descriptor == null) {
+			throw new StoreException("Unable to locate dataset for target class " + targetClass.getName());
+		}
+		DatasetDefinition datasetDefinition = getDatasetDefinitionToUseFor(targetClass);
+		if (Formats.PARQUET.equals(descriptor.getFormat())) {
+			ParquetDatasetStoreReader<T> reader = new ParquetDatasetStoreReader<T>(targetClass, dsFactory, datasetDefinition);
+			reader.setQuery(query);
+			try {
+				T t;
+				while ((t = reader.read()) != null) {
+					callback.doInRecord(t);
+				}
+			} catch (IOException e) {
+				throw new StoreException("Error reading " + targetClass.getName(), e);
+			} finally {
+				try {
+					reader.close();
+				} catch (IOException ignore) {}
+			}
+		} else {
+			Dataset<T> dataset = DatasetUtils.getDataset(dsFactory, targetClass);
+			EntityRecordMapper<T> mapper = new EntityRecordMapper<T>(targetClass, descriptor.getSchema());
+			boolean filter = !query.getFilters().isEmpty();
+			// only validates query fields as whole entities are read
+			query.getReadSchema(descriptor.getSchema());
+			DatasetReader<T> reader = dataset.newReader();
+			try {
+				for (T t : reader) {
+					if (!filter || query.matches(mapper.toRecord(t))) {
+						callback.doInRecord(t);
+					}
+				}
+			} finally {
+				reader.close();
+			}
+		}
+	}
+
 	private <T> void readWithCallback(Class<T> targetClass, RecordCallback<T> callback, ViewCallback viewCallback) {
 		Dataset<T> dataset = DatasetUtils.getDataset(dsFactory, targetClass);
 		if (dataset == null) {
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.dataset;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.GenericRecordBuilder;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.SimpleTypeConverter;
+import org.springframework.data.hadoop.store.StoreException;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * A {@code EntityRecordMapper} converts entities into Avro {@link GenericRecord}s
+ * and back using an accessor plan resolved once for an entity class and a schema.
+ * Bean properties matching schema fields are accessed through {@link MethodHandle}s
+ * instead of resolving properties reflectively for every record. Conversion rules
+ * are the same as with a {@code BeanWrapper} and values not directly assignable
+ * to a property are converted using a {@link SimpleTypeConverter} with an
+ * exception of Avro {@code Utf8} strings which are simply converted to {@code String}s.
+ * <p>
+ * Record conversion is thread safe while conversion back to entities uses a
+ * shared type converter and should be used from a single thread.
+ * @param <T> the type of entity
+ */
+public class EntityRecordMapper<T> {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+	private final Class<T> entityClass;
+
+	private final Schema schema;
+
+	private final FieldAccessor[] readers;
+
+	private final FieldAccessor[] writers;
+
+	private final SimpleTypeConverter typeConverter = new SimpleTypeConverter();
+
+	private volatile MethodHandle constructor;
+
+	private volatile RecordPositions recordPositions;
+
+	/**
+	 * Instantiates a new entity record mapper.
+	 *
+	 * @param entityClass the entity class
+	 * @param schema the record schema
+	 */
+	public EntityRecordMapper(Class<T> entityClass, Schema schema) {
+		this.entityClass = entityClass;
+		this.schema = schema;
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		List<FieldAccessor> readers = new ArrayList<FieldAccessor>();
+		List<FieldAccessor> writers = new ArrayList<FieldAccessor>();
+		for (Schema.Field f : schema.getFields()) {
+			PropertyDescriptor pd = BeanUtils.getPropertyDescriptor(entityClass, f.name());
+			if (pd == null) {
+				continue;
+			}
+			Schema fieldSchema = resolveFieldSchema(f);
+			if (pd.getReadMethod() != null) {
+				readers.add(new FieldAccessor(f, fieldSchema, pd.getPropertyType(),
+						unreflect(lookup, pd.getReadMethod()).asType(GETTER_TYPE)));
+			}
+			if (pd.getWriteMethod() != null) {
+				writers.add(new FieldAccessor(f, fieldSchema, pd.getPropertyType(),
+						unreflect(lookup, pd.getWriteMethod()).asType(SETTER_TYPE)));
+			}
+		}
+		this.readers = readers.toArray(new FieldAccessor[readers.size()]);
+		this.writers = writers.toArray(new FieldAccessor[writers.size()]);
+	}
+
+	/**
+	 * Converts an entity into a record.
+	 *
+	 * @param entity the entity
+	 * @return the record
+	 */
+	public GenericRecord toRecord(T entity) {
+		GenericRecordBuilder builder = new GenericRecordBuilder(schema);
+		for (FieldAccessor accessor : readers) {
+			if (accessor.nested) {
+				throw new StoreException("Nested record currently not supported for field: " + accessor.field.name() +
+						" of type: " + accessor.propertyType.getName());
+			}
+			Object value = invokeGetter(accessor.handle, entity);
+			if (accessor.bytes) {
+				if (value == null || value instanceof byte[]) {
+					builder.set(accessor.field, value != null ? ByteBuffer.wrap((byte[]) value) : null);
+				} else {
+					throw new StoreException("Don't know how to handle " + value.getClass() + " for " + accessor.fieldSchema);
+				}
+			} else {
+				builder.set(accessor.field, value);
+			}
+		}
+		try {
+			return builder.build();
+		} catch (ClassCastException e) {
+			throw new StoreException("Failed to write record with schema: " + schema, e);
+		}
+	}
+
+	/**
+	 * Converts a record into a new entity. Record may have a different
+	 * schema than this mapper in which case fields are matched by name
+	 * and fields not in a record schema are left unset.
+	 *
+	 * @param record the record
+	 * @return the entity
+	 */
+	public T toEntity(GenericRecord record) {
+		T entity = newInstance();
+		int[] positions = getPositions(record.getSchema());
+		for (int i = 0; i < writers.length; i++) {
+			if (positions[i] < 0) {
+				continue;
+			}
+			FieldAccessor accessor = writers[i];
+			Object value = record.get(positions[i]);
+			if (!ClassUtils.isAssignableValue(accessor.propertyType, value)) {
+				if (accessor.propertyType == String.class && value instanceof CharSequence) {
+					value = value.toString();
+				} else {
+					value = typeConverter.convertIfNecessary(value, accessor.propertyType);
+				}
+			}
+			invokeSetter(accessor.handle, entity, value);
+		}
+		return entity;
+	}
+
+	/**
+	 * Gets the entity class.
+	 *
+	 * @return the entity class
+	 */
+	public Class<T> getEntityClass() {
+		return entityClass;
+	}
+
+	/**
+	 * Gets the schema.
+	 *
+	 * @return the schema
+	 */
+	public Schema getSchema() {
+		return schema;
+	}
+
+	@SuppressWarnings("unchecked")
+	private T newInstance() {
+		MethodHandle handle = constructor;
+		if (handle == null) {
+			try {
+				Constructor<T> ctor = entityClass.getDeclaredConstructor();
+				ReflectionUtils.makeAccessible(ctor);
+				handle = MethodHandles.lookup().unreflectConstructor(ctor).asType(CONSTRUCTOR_TYPE);
+			} catch (Exception e) {
+				throw new StoreException("Unable to find default constructor for " + entityClass.getName(), e);
+			}
+			constructor = handle;
+		}
+		try {
+			Object entity = (Object) handle.invokeExact();
+			return (T) entity;
+		} catch (Throwable e) {
+			throw rethrow(e);
+		}
+	}
+
+	private int[] getPositions(Schema recordSchema) {
+		RecordPositions p = recordPositions;
+		if (p == null || p.schema != recordSchema) {
+			int[] positions = new int[writers.length];
+			for (int i = 0; i < writers.length; i++) {
+				if (recordSchema == schema) {
+					positions[i] = writers[i].field.pos();
+				} else {
+					Schema.Field f = recordSchema.getField(writers[i].field.name());
+					positions[i] = f != null ? f.pos() : -1;
+				}
+			}
+			p = new RecordPositions(recordSchema, positions);
+			recordPositions = p;
+		}
+		return p.positions;
+	}
+
+	private static Schema resolveFieldSchema(Schema.Field f) {
+		Schema fieldSchema = f.schema();
+		if (fieldSchema.getType().equals(Schema.Type.UNION)) {
+			for (Schema s : f.schema().getTypes()) {
+				if (!s.getName().equals("null")) {
+					fieldSchema = s;
+				}
+			}
+		}
+		return fieldSchema;
+	}
+
+	private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method) {
+		ReflectionUtils.makeAccessible(method);
+		try {
+			return lookup.unreflect(method);
+		} catch (IllegalAccessException e) {
+			throw new StoreException("Unable to access " + method, e);
+		}
+	}
+
+	private static Object invokeGetter(MethodHandle handle, Object entity) {
+		try {
+			return (Object) handle.invokeExact(entity);
+		} catch (Throwable e) {
+			throw rethrow(e);
+		}
+	}
+
+	private static void invokeSetter(MethodHandle handle, Object entity, Object value) {
+		try {
+			handle.invokeExact(entity, value);
+		} catch (Throwable e) {
+			throw rethrow(e);
+		}
+	}
+
+	private static RuntimeException rethrow(Throwable e) {
+		if (e instanceof RuntimeException) {
+			return (RuntimeException) e;
+		} else if (e instanceof Error) {
+			throw (Error) e;
+		}
+		return new StoreException("Failed to access entity property", e);
+	}
+
+	/**
+	 * Field positions resolved for a record schema.
+	 */
+	private static class RecordPositions {
+
+		final Schema schema;
+		final int[] positions;
+
+		RecordPositions(Schema schema, int[] positions) {
+			this.schema = schema;
+			this.positions = positions;
+		}
+	}
+
+	/**
+	 * Resolved access to a single schema field.
+	 */
+	private static class FieldAccessor {
+
+		final Schema.Field field;
+		final Schema fieldSchema;
+		final Class<?> propertyType;
+		final MethodHandle handle;
+		final boolean nested;
+		final boolean bytes;
+
+		FieldAccessor(Schema.Field field, Schema fieldSchema, Class<?> propertyType, MethodHandle handle) {
+			this.field = field;
+			this.fieldSchema = fieldSchema;
+			this.propertyType = propertyType;
+			this.handle = handle;
+			this.nested = fieldSchema.getType().equals(Schema.Type.RECORD);
+			this.bytes = fieldSchema.getType().equals(Schema.Type.BYTES);
+		}
+	}
+
+}
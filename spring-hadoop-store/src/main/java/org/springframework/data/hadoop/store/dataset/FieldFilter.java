@@ -0,0 +1,371 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.dataset;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericEnumSymbol;
+import org.apache.avro.generic.GenericRecord;
+import org.springframework.data.hadoop.store.StoreException;
+import org.springframework.util.Assert;
+
+import parquet.column.ColumnReader;
+import parquet.filter.ColumnPredicates;
+import parquet.filter.ColumnRecordFilter;
+import parquet.filter.UnboundRecordFilter;
+
+/**
+ * A {@code FieldFilter} is a simple predicate against a single top level
+ * field of a dataset record used with a {@link DatasetQuery}.
+ * <p>
+ * Comparisons follow sql semantics where a {@code null} field value never
+ * matches other than {@link #isNull(String)}. Numbers are compared by their
+ * value regardless of an actual number type and Avro strings and enum
+ * symbols are compared as {@code String}s.
+ */
+public class FieldFilter {
+
+	private final String field;
+
+	private final Operator operator;
+
+	private final Object value;
+
+	/**
+	 * Instantiates a new field filter.
+	 *
+	 * @param field the field name
+	 * @param operator the operator
+	 * @param value the value to compare to
+	 */
+	protected FieldFilter(String field, Operator operator, Object value) {
+		Assert.hasText(field, "Field name must be set");
+		Assert.notNull(operator, "Operator must be set");
+		Assert.isTrue(value != null || operator == Operator.IS_NULL || operator == Operator.IS_NOT_NULL,
+				"Value must be set for operator " + operator);
+		this.field = field;
+		this.operator = operator;
+		this.value = value;
+	}
+
+	/**
+	 * Creates a filter matching field values equal to a given value.
+	 *
+	 * @param field the field name
+	 * @param value the value
+	 * @return the field filter
+	 */
+	public static FieldFilter eq(String field, Object value) {
+		return new FieldFilter(field, Operator.EQ, value);
+	}
+
+	/**
+	 * Creates a filter matching field values not equal to a given value.
+	 *
+	 * @param field the field name
+	 * @param value the value
+	 * @return the field filter
+	 */
+	public static FieldFilter ne(String field, Object value) {
+		return new FieldFilter(field, Operator.NE, value);
+	}
+
+	/**
+	 * Creates a filter matching field values less than a given value.
+	 *
+	 * @param field the field name
+	 * @param value the value
+	 * @return the field filter
+	 */
+	public static FieldFilter lt(String field, Object value) {
+		return new FieldFilter(field, Operator.LT, value);
+	}
+
+	/**
+	 * Creates a filter matching field values less than or equal to a given value.
+	 *
+	 * @param field the field name
+	 * @param value the value
+	 * @return the field filter
+	 */
+	public static FieldFilter le(String field, Object value) {
+		return new FieldFilter(field, Operator.LE, value);
+	}
+
+	/**
+	 * Creates a filter matching field values greater than a given value.
+	 *
+	 * @param field the field name
+	 * @param value the value
+	 * @return the field filter
+	 */
+	public static FieldFilter gt(String field, Object value) {
+		return new FieldFilter(field, Operator.GT, value);
+	}
+
+	/**
+	 * Creates a filter matching field values greater than or equal to a given value.
+	 *
+	 * @param field the field name
+	 * @param value the value
+	 * @return the field filter
+	 */
+	public static FieldFilter ge(String field, Object value) {
+		return new FieldFilter(field, Operator.GE, value);
+	}
+
+	/**
+	 * Creates a filter matching null field values.
+	 *
+	 * @param field the field name
+	 * @return the field filter
+	 */
+	public static FieldFilter isNull(String field) {
+		return new FieldFilter(field, Operator.IS_NULL, null);
+	}
+
+	/**
+	 * Creates a filter matching non null field values.
+	 *
+	 * @param field the field name
+	 * @return the field filter
+	 */
+	public static FieldFilter isNotNull(String field) {
+		return new FieldFilter(field, Operator.IS_NOT_NULL, null);
+	}
+
+	/**
+	 * Gets the field name.
+	 *
+	 * @return the field name
+	 */
+	public String getField() {
+		return field;
+	}
+
+	/**
+	 * Gets the operator.
+	 *
+	 * @return the operator
+	 */
+	public Operator getOperator() {
+		return operator;
+	}
+
+	/**
+	 * Gets the value.
+	 *
+	 * @return the value
+	 */
+	public Object getValue() {
+		return value;
+	}
+
+	/**
+	 * Checks if a record matches this filter.
+	 *
+	 * @param record the record
+	 * @return true, if record matches
+	 */
+	public boolean matches(GenericRecord record) {
+		return matchesValue(record.get(field));
+	}
+
+	/**
+	 * Creates a parquet record filter for this filter if a field
+	 * type supports it. Parquet filter is only used to skip records
+	 * before those are materialized and records should still be checked
+	 * with {@link #matches(GenericRecord)}.
+	 *
+	 * @param schema the record schema
+	 * @return the parquet record filter or null if not supported
+	 */
+	UnboundRecordFilter toRecordFilter(Schema schema) {
+		Schema.Field f = schema.getField(field);
+		if (f == null) {
+			throw new StoreException("Filter field " + field + " doesn't exist in schema " + schema.getFullName());
+		}
+		Schema fieldSchema = f.schema();
+		if (fieldSchema.getType() == Schema.Type.UNION) {
+			Schema resolved = null;
+			for (Schema s : fieldSchema.getTypes()) {
+				if (s.getType() != Schema.Type.NULL) {
+					if (resolved != null) {
+						return null;
+					}
+					resolved = s;
+				}
+			}
+			fieldSchema = resolved;
+		}
+		if (fieldSchema == null) {
+			return null;
+		}
+		Schema.Type type = fieldSchema.getType();
+		if (operator != Operator.IS_NULL && operator != Operator.IS_NOT_NULL) {
+			if (type == Schema.Type.STRING || type == Schema.Type.ENUM) {
+				if (!(value instanceof CharSequence)) {
+					return null;
+				}
+			} else if (type == Schema.Type.BOOLEAN) {
+				if (!(value instanceof Boolean)) {
+					return null;
+				}
+			} else if (type == Schema.Type.INT || type == Schema.Type.LONG || type == Schema.Type.FLOAT
+					|| type == Schema.Type.DOUBLE) {
+				if (!(value instanceof Number)) {
+					return null;
+				}
+			} else {
+				return null;
+			}
+		}
+		return ColumnRecordFilter.column(field, new ColumnPredicate(type));
+	}
+
+	@Override
+	public String toString() {
+		return "FieldFilter [field=" + field + ", operator=" + operator + ", value=" + value + "]";
+	}
+
+	private boolean matchesValue(Object actual) {
+		if (operator == Operator.IS_NULL) {
+			return actual == null;
+		} else if (operator == Operator.IS_NOT_NULL) {
+			return actual != null;
+		} else if (actual == null) {
+			return false;
+		}
+		return matchesComparison(compare(actual, value));
+	}
+
+	private boolean matchesComparison(int c) {
+		switch (operator) {
+		case EQ:
+			return c == 0;
+		case NE:
+			return c != 0;
+		case LT:
+			return c < 0;
+		case LE:
+			return c <= 0;
+		case GT:
+			return c > 0;
+		case GE:
+			return c >= 0;
+		default:
+			return false;
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private int compare(Object actual, Object expected) {
+		// enums are compared by a symbol like parquet column predicate does
+		if (actual instanceof GenericEnumSymbol) {
+			actual = actual.toString();
+		} else if (actual instanceof Enum) {
+			actual = ((Enum) actual).name();
+		}
+		if (actual instanceof CharSequence && expected instanceof CharSequence) {
+			return actual.toString().compareTo(expected.toString());
+		} else if (actual instanceof Number && expected instanceof Number) {
+			if (isIntegral((Number) actual) && isIntegral((Number) expected)) {
+				return compareLong(((Number) actual).longValue(), ((Number) expected).longValue());
+			} else {
+				return Double.compare(((Number) actual).doubleValue(), ((Number) expected).doubleValue());
+			}
+		} else if (actual instanceof Comparable && actual.getClass().isInstance(expected)) {
+			return ((Comparable) actual).compareTo(expected);
+		}
+		throw new StoreException("Unable to compare " + actual.getClass().getName() + " to "
+				+ expected.getClass().getName() + " for field " + field);
+	}
+
+	private static boolean isIntegral(Number n) {
+		return n instanceof Long || n instanceof Integer || n instanceof Short || n instanceof Byte;
+	}
+
+	private static int compareLong(long x, long y) {
+		return (x < y) ? -1 : ((x == y) ? 0 : 1);
+	}
+
+	/**
+	 * Parquet column predicate reading values directly from
+	 * a column without materializing a record.
+	 */
+	private class ColumnPredicate implements ColumnPredicates.Predicate {
+
+		private final Schema.Type type;
+
+		ColumnPredicate(Schema.Type type) {
+			this.type = type;
+		}
+
+		@Override
+		public boolean apply(ColumnReader input) {
+			if (input.getCurrentDefinitionLevel() < input.getDescriptor().getMaxDefinitionLevel()) {
+				return matchesValue(null);
+			}
+			switch (type) {
+			case INT:
+				return matchesValue(input.getInteger());
+			case LONG:
+				return matchesValue(input.getLong());
+			case FLOAT:
+				return matchesValue(input.getFloat());
+			case DOUBLE:
+				return matchesValue(input.getDouble());
+			case BOOLEAN:
+				return matchesValue(input.getBoolean());
+			case STRING:
+			case ENUM:
+				return matchesValue(input.getBinary().toStringUsingUTF8());
+			default:
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Supported filter operators.
+	 */
+	public enum Operator {
+
+		/** Field equal to a value */
+		EQ,
+
+		/** Field not equal to a value */
+		NE,
+
+		/** Field less than a value */
+		LT,
+
+		/** Field less than or equal to a value */
+		LE,
+
+		/** Field greater than a value */
+		GT,
+
+		/** Field greater than or equal to a value */
+		GE,
+
+		/** Field is null */
+		IS_NULL,
+
+		/** Field is not null */
+		IS_NOT_NULL
+	}
+
+}
@@ -19,8 +19,8 @@ import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericRecord;
 import org.kitesdk.data.Dataset;
 import org.kitesdk.data.DatasetReader;
-import org.springframework.beans.BeanWrapper;
-import org.springframework.beans.BeanWrapperImpl;
+import org.kitesdk.data.spi.filesystem.FileSystemDataset;
+import org.springframework.data.hadoop.store.StoreException;
 
 /**
  * A {@code DataStoreReader} for reading Datasets using the Parquet format.
@@ -33,6 +33,10 @@ import org.springframework.beans.BeanWrapperImpl;
 public class ParquetDatasetStoreReader<T> extends AbstractDatasetStoreReader<T, GenericRecord> {
 
 	protected volatile Schema schema;
+
+	private volatile EntityRecordMapper<T> recordMapper;
+
+	private DatasetQuery query;
 	
 	/**
 	 * Instantiates a new parquet dataset store reader.
@@ -51,19 +55,46 @@ public class ParquetDatasetStoreReader<T> extends AbstractDatasetStoreReader<T,
 		Dataset<GenericRecord> dataset = DatasetUtils.getOrCreateDataset(getDatasetRepositoryFactory(),
 				getDatasetDefinition(), getEntityClass(), GenericRecord.class);
 		schema = dataset.getDescriptor().getSchema();
-		return dataset.newReader();
+		if (query == null) {
+			return dataset.newReader();
+		}
+		if (!(dataset instanceof FileSystemDataset)) {
+			throw new StoreException("Dataset queries are only supported with file system datasets");
+		}
+		schema = query.getReadSchema(schema);
+		return new ParquetQueryReader(getDatasetRepositoryFactory().getConf(),
+				((FileSystemDataset<GenericRecord>) dataset).pathIterator(), schema, query);
+	}
+
+	/**
+	 * Sets the dataset query. Only columns needed by a query
+	 * projection and filters are read from parquet files and
+	 * only entities matching filters are returned.
+	 *
+	 * @param query the new dataset query
+	 */
+	public void setQuery(DatasetQuery query) {
+		this.query = query;
 	}
 	
-	@SuppressWarnings("unchecked")
 	@Override
 	protected T convertEntity(GenericRecord entity) {
-		BeanWrapper beanWrapper = new BeanWrapperImpl(getEntityClass());
-		for (Schema.Field f : schema.getFields()) {
-			if (beanWrapper.isWritableProperty(f.name())) {
-				beanWrapper.setPropertyValue(f.name(), entity.get(f.name()));
-			}
+		return getRecordMapper().toEntity(entity);
+	}
+
+	/**
+	 * Gets the record mapper for a current schema. Mapper
+	 * is resolved once and re-created if schema changes.
+	 *
+	 * @return the record mapper
+	 */
+	protected EntityRecordMapper<T> getRecordMapper() {
+		EntityRecordMapper<T> mapper = recordMapper;
+		if (mapper == null || mapper.getSchema() != schema) {
+			mapper = new EntityRecordMapper<T>(getEntityClass(), schema);
+			recordMapper = mapper;
 		}
-		return (T) beanWrapper.getWrappedInstance();
+		return mapper;
 	}
 	
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.dataset;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.kitesdk.data.DatasetReader;
+import org.springframework.data.hadoop.store.StoreException;
+
+import parquet.avro.AvroParquetReader;
+import parquet.avro.AvroReadSupport;
+import parquet.filter.UnboundRecordFilter;
+import parquet.hadoop.ParquetFileReader;
+import parquet.hadoop.metadata.BlockMetaData;
+
+/**
+ * A {@link DatasetReader} reading parquet files of a dataset directly with
+ * a {@link DatasetQuery}. Read schema is requested as a parquet projection
+ * and supported filters are pushed down as parquet record filters.
+ * <p>
+ * Filtered parquet reader returns {@code null} for records skipped at the
+ * end of a row group, thus a number of reads is bounded by a row count
+ * from a file footer instead of treating {@code null} as an end of file.
+ */
+class ParquetQueryReader implements DatasetReader<GenericRecord> {
+
+	private final Configuration configuration;
+
+	private final Iterator<Path> paths;
+
+	private final DatasetQuery query;
+
+	private final UnboundRecordFilter recordFilter;
+
+	private AvroParquetReader<GenericRecord> reader;
+
+	private long remaining;
+
+	private GenericRecord next;
+
+	private boolean open = true;
+
+	/**
+	 * Instantiates a new parquet query reader.
+	 *
+	 * @param configuration the hadoop configuration
+	 * @param paths the dataset file paths
+	 * @param readSchema the read schema
+	 * @param query the dataset query
+	 */
+	ParquetQueryReader(Configuration configuration, Iterator<Path> paths, Schema readSchema, DatasetQuery query) {
+		this.configuration = new Configuration(configuration);
+		AvroReadSupport.setRequestedProjection(this.configuration, readSchema);
+		this.paths = paths;
+		this.query = query;
+		this.recordFilter = query.getRecordFilter(readSchema);
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (next == null) {
+			next = advance();
+		}
+		return next != null;
+	}
+
+	@Override
+	public GenericRecord next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		GenericRecord record = next;
+		next = null;
+		return record;
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException("Remove is not supported");
+	}
+
+	@Override
+	public void close() {
+		open = false;
+		closeReader();
+	}
+
+	@Override
+	public boolean isOpen() {
+		return open;
+	}
+
+	@Override
+	public Iterator<GenericRecord> iterator() {
+		return this;
+	}
+
+	private GenericRecord advance() {
+		if (!open) {
+			return null;
+		}
+		try {
+			while (true) {
+				if (reader == null) {
+					if (!paths.hasNext()) {
+						return null;
+					}
+					Path path = paths.next();
+					remaining = getRowCount(path);
+					reader = new AvroParquetReader<GenericRecord>(configuration, path, recordFilter);
+				}
+				if (remaining-- <= 0) {
+					closeReader();
+					continue;
+				}
+				GenericRecord record = reader.read();
+				if (record != null && query.matches(record)) {
+					return record;
+				}
+			}
+		} catch (IOException e) {
+			throw new StoreException("Error reading dataset", e);
+		}
+	}
+
+	private long getRowCount(Path path) throws IOException {
+		long count = 0;
+		for (BlockMetaData block : ParquetFileReader.readFooter(configuration, path).getBlocks()) {
+			count += block.getRowCount();
+		}
+		return count;
+	}
+
+	private void closeReader() {
+		if (reader != null) {
+			try {
+				reader.close();
+			} catch (IOException e) {
+				throw new StoreException("Error closing parquet reader", e);
+			} finally {
+				reader = null;
+			}
+		}
+	}
+
+}
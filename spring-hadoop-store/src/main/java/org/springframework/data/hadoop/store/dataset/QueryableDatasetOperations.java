@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.dataset;
+
+import java.util.Collection;
+
+/**
+ * Extension of {@link DatasetOperations} adding reads with a {@link DatasetQuery}.
+ * Kept separate from {@code DatasetOperations} so that existing implementations
+ * of it don't need to change.
+ */
+public interface QueryableDatasetOperations extends DatasetOperations {
+
+	/**
+	 * Read records in the dataset matching a {@link DatasetQuery} and call the provided callback for each record.
+	 * With a parquet format only columns needed by the query are read.
+	 *
+	 * @param targetClass the class that is stored in the dataset
+	 * @param callback the callback to be called for each record
+	 * @param query the query defining a projection and filters
+	 * @param <T> the class type
+	 */
+	<T> void read(Class<T> targetClass, RecordCallback<T> callback, DatasetQuery query);
+
+	/**
+	 * Read records in the dataset matching a {@link DatasetQuery} and return as a collection.
+	 * With a parquet format only columns needed by the query are read.
+	 *
+	 * @param targetClass the class that is stored in the dataset
+	 * @param query the query defining a projection and filters
+	 * @param <T> the class type
+	 * @return collection containing the records as the specified target class
+	 */
+	<T> Collection<T> read(Class<T> targetClass, DatasetQuery query);
+
+}
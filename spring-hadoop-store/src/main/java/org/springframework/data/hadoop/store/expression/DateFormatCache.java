@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.expression;
+
+import java.text.SimpleDateFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A cache for {@link SimpleDateFormat}s keyed by a pattern. As
+ * {@code SimpleDateFormat} is not thread safe, formats are cached
+ * per thread. Number of cached patterns per thread is bounded.
+ */
+public abstract class DateFormatCache {
+
+	private static final int MAX_PATTERNS = 32;
+
+	private static final ThreadLocal<Map<String, SimpleDateFormat>> formats =
+			new ThreadLocal<Map<String, SimpleDateFormat>>() {
+
+		@Override
+		protected Map<String, SimpleDateFormat> initialValue() {
+			return new LinkedHashMap<String, SimpleDateFormat>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, SimpleDateFormat> eldest) {
+					return size() > MAX_PATTERNS;
+				}
+			};
+		}
+	};
+
+	/**
+	 * Gets a {@link SimpleDateFormat} for a pattern. Returned format
+	 * must only be used from a calling thread and must not be modified.
+	 *
+	 * @param pattern the date pattern
+	 * @return the date format
+	 */
+	public static SimpleDateFormat getFormat(String pattern) {
+		Map<String, SimpleDateFormat> map = formats.get();
+		SimpleDateFormat format = map.get(pattern);
+		if (format == null) {
+			format = new SimpleDateFormat(pattern);
+			map.put(pattern, format);
+		}
+		return format;
+	}
+
+}
@@ -55,7 +55,7 @@ public class DateFormatMethodExecutor implements MethodExecutor {
 	@Override
 	public TypedValue execute(EvaluationContext context, Object target, Object... arguments) throws AccessException {
 		if (key == null) {
-			SimpleDateFormat format = new SimpleDateFormat((String)arguments[0]);
+			SimpleDateFormat format = DateFormatCache.getFormat((String)arguments[0]);
 			//if first argument is Long, then we assume it's a timestamp in milliseconds type format
 			//first argument can also be a Date itself
 			if (arguments[1] instanceof Long || arguments[1] instanceof Date) {
@@ -64,10 +64,10 @@ public class DateFormatMethodExecutor implements MethodExecutor {
 			//if the argument is a String, then assume it's a Date represented as a String.
 			if (arguments[1] instanceof String) {
 				//Assume it's in default formay yyyMMdd
-				SimpleDateFormat fromFormat = new SimpleDateFormat(DEFAULT_FORMAT);
+				SimpleDateFormat fromFormat = DateFormatCache.getFormat(DEFAULT_FORMAT);
 				//if the third argument is present, use it as the from date format
 				if (arguments.length == 3 && arguments[2] instanceof String)
-					fromFormat = new SimpleDateFormat((String)arguments[2]);
+					fromFormat = DateFormatCache.getFormat((String)arguments[2]);
 
 					try {
 						Date parsedDate = fromFormat.parse((String) arguments[1]);
@@ -93,24 +93,24 @@ public class DateFormatMethodExecutor implements MethodExecutor {
 	}
 
 	public static String dateFormat(String pattern, Integer epoch) throws AccessException {
-		SimpleDateFormat format = new SimpleDateFormat(pattern);
+		SimpleDateFormat format = DateFormatCache.getFormat(pattern);
 		return format.format(epoch);
 	}
 
 	public static String dateFormat(String pattern, Long epoch) throws AccessException {
-		SimpleDateFormat format = new SimpleDateFormat(pattern);
+		SimpleDateFormat format = DateFormatCache.getFormat(pattern);
 		return format.format(epoch);
 	}
 
 	public static String dateFormat(String pattern, Date date) throws AccessException {
-		SimpleDateFormat format = new SimpleDateFormat(pattern);
+		SimpleDateFormat format = DateFormatCache.getFormat(pattern);
 		return format.format(date);
 	}
 
 	public static String dateFormat(String pattern, String datestring) throws AccessException {
 		try {
-			SimpleDateFormat format = new SimpleDateFormat(pattern);
-			SimpleDateFormat fromFormat = new SimpleDateFormat(DEFAULT_FORMAT);
+			SimpleDateFormat format = DateFormatCache.getFormat(pattern);
+			SimpleDateFormat fromFormat = DateFormatCache.getFormat(DEFAULT_FORMAT);
 			Date parsedDate = fromFormat.parse(datestring);
 			return format.format(parsedDate);
 		} catch (ParseException e) {
@@ -120,8 +120,8 @@ public class DateFormatMethodExecutor implements MethodExecutor {
 
 	public static String dateFormat(String pattern, String datestring, String dateformat) throws AccessException {
 		try {
-			SimpleDateFormat format = new SimpleDateFormat(pattern);
-			SimpleDateFormat fromFormat = new SimpleDateFormat(dateformat);
+			SimpleDateFormat format = DateFormatCache.getFormat(pattern);
+			SimpleDateFormat fromFormat = DateFormatCache.getFormat(dateformat);
 			Date parsedDate = fromFormat.parse(datestring);
 			return format.format(parsedDate);
 		} catch (ParseException e) {
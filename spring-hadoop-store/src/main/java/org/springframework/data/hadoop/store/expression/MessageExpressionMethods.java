@@ -112,7 +112,7 @@ public class MessageExpressionMethods {
 		}
 
 		public String dateFormat(String pattern) {
-			SimpleDateFormat format = new SimpleDateFormat(pattern);
+			SimpleDateFormat format = DateFormatCache.getFormat(pattern);
 			return format.format(getHeaders().getTimestamp());
 		}
 
@@ -31,14 +31,13 @@ import org.apache.hadoop.io.compress.CompressionCodec;
 import org.apache.hadoop.io.compress.Decompressor;
 import org.apache.hadoop.io.compress.SplitCompressionInputStream;
 import org.apache.hadoop.io.compress.SplittableCompressionCodec;
-import org.apache.hadoop.util.ReflectionUtils;
 import org.springframework.data.hadoop.store.StoreException;
 import org.springframework.data.hadoop.store.codec.CodecInfo;
+import org.springframework.data.hadoop.store.codec.CompressionCodecCache;
 import org.springframework.data.hadoop.store.split.Split;
 import org.springframework.data.hadoop.store.support.InputContext;
 import org.springframework.data.hadoop.store.support.InputStoreObjectSupport;
 import org.springframework.data.hadoop.store.support.StreamsHolder;
-import org.springframework.util.ClassUtils;
 
 /**
  * A {@code AbstractDataStreamReader} is a base implementation handling
@@ -100,11 +99,20 @@ public class AbstractDataStreamReader extends InputStoreObjectSupport {
 				holder.setStream(input);
 			}
 		} else {
-			Class<?> clazz = ClassUtils.resolveClassName(getCodec().getCodecClass(), getClass().getClassLoader());
-			CompressionCodec compressionCodec = (CompressionCodec) ReflectionUtils.newInstance(clazz,
-					getConfiguration());
+			CompressionCodec compressionCodec = CompressionCodecCache.getCodec(getCodec(), getConfiguration());
 			Decompressor decompressor = CodecPool.getDecompressor(compressionCodec);
-			if (getSplit() == null) {
+			holder.setDecompressor(decompressor);
+			if (getSplit() != null && !(compressionCodec instanceof SplittableCompressionCodec)) {
+				if (getSplit().getStart() != 0) {
+					throw new StoreException("Codec " + compressionCodec.getClass().getName()
+							+ " is not splittable, unable to read split " + getSplit());
+				}
+				// split of a whole file with non-splittable codec
+				FSDataInputStream winput = fs.open(p);
+				InputStream input = compressionCodec.createInputStream(winput, decompressor);
+				holder.setWrappedStream(winput);
+				holder.setStream(input);
+			} else if (getSplit() == null) {
 				// with codec, no split
 				FSDataInputStream winput = fs.open(p);
 				InputStream input = compressionCodec.createInputStream(winput, decompressor);
@@ -184,7 +192,7 @@ public class AbstractDataStreamReader extends InputStoreObjectSupport {
 		 */
 		protected void init() throws IOException {
 			reader = createReader(streamsHolder.getStream());
-			if (codec != null && inputSplit != null) {
+			if (codec != null && inputSplit != null && streamsHolder.getStream() instanceof SplitCompressionInputStream) {
 			    inputContext.setStart(((SplitCompressionInputStream)streamsHolder.getStream()).getAdjustedStart());
 			    inputContext.setEnd(((SplitCompressionInputStream)streamsHolder.getStream()).getAdjustedEnd());
 			}
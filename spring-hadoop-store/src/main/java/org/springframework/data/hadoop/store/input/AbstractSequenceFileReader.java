@@ -23,17 +23,31 @@ import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.SequenceFile;
 import org.apache.hadoop.io.SequenceFile.Reader;
+import org.apache.hadoop.io.Writable;
 import org.springframework.data.hadoop.store.codec.CodecInfo;
-import org.springframework.data.hadoop.store.support.StoreObjectSupport;
+import org.springframework.data.hadoop.store.metrics.StoreMetrics;
+import org.springframework.data.hadoop.store.split.Split;
+import org.springframework.data.hadoop.store.support.InputStoreObjectSupport;
 
 /**
  * A {@code AbstractSequenceFileReader} is a base implementation handling
  * reads with a {@code SequenceFile}.
+ * <p>
+ * If a {@link Split} is given, reading starts from a first sync marker
+ * after a split start and stops at a first sync marker after a split end.
+ * Every record is then read by exactly one split, which makes it possible
+ * to process a large file in parallel using any of the store splitters.
  *
  * @author Janne Valkealahti
  *
  */
-public abstract class AbstractSequenceFileReader extends StoreObjectSupport {
+public abstract class AbstractSequenceFileReader extends InputStoreObjectSupport {
+
+	/** End of a split or max value if reading a whole file */
+	private long end = Long.MAX_VALUE;
+
+	/** Flag telling if there are more records in a split */
+	private boolean more = true;
 
 	/**
 	 * Instantiates a new abstract sequence file reader.
@@ -43,12 +57,76 @@ public abstract class AbstractSequenceFileReader extends StoreObjectSupport {
 	 * @param codec the compression codec info
 	 */
 	public AbstractSequenceFileReader(Configuration configuration, Path basePath, CodecInfo codec) {
-		super(configuration, basePath, codec);
+		this(configuration, basePath, codec, null);
+	}
+
+	/**
+	 * Instantiates a new abstract sequence file reader.
+	 *
+	 * @param configuration the hadoop configuration
+	 * @param basePath the hdfs path
+	 * @param codec the compression codec info
+	 * @param split the input split
+	 */
+	public AbstractSequenceFileReader(Configuration configuration, Path basePath, CodecInfo codec, Split split) {
+		super(configuration, basePath, codec, split);
 	}
 
+	/**
+	 * Opens a reader positioned to a beginning of a split
+	 * or a file if split is not set.
+	 *
+	 * @return the sequence file reader
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
 	@SuppressWarnings("deprecation")
 	protected Reader getInput() throws IOException {
 		FileSystem fileSystem = getPath().getFileSystem(getConfiguration());
-		return new SequenceFile.Reader(fileSystem, getPath(), getConfiguration());
+		Reader reader = new SequenceFile.Reader(fileSystem, getPath(), getConfiguration());
+		Split split = getSplit();
+		more = true;
+		if (split != null) {
+			end = split.getEnd();
+			if (split.getStart() > reader.getPosition()) {
+				reader.sync(split.getStart());
+			}
+			getInputContext().setStart(reader.getPosition());
+			more = reader.getPosition() < end;
+		}
+		return reader;
+	}
+
+	/**
+	 * Reads a next record into given key and value instances
+	 * honouring a split end if split is set.
+	 *
+	 * @param reader the reader from {@link #getInput()}
+	 * @param key the key to read into
+	 * @param value the value to read into
+	 * @return true, if a record was read, false if there are no more records
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	protected boolean next(Reader reader, Writable key, Writable value) throws IOException {
+		if (!more) {
+			return false;
+		}
+		long position = reader.getPosition();
+		boolean remaining = reader.next(key, value);
+		// record starting after a split end belongs to a next split
+		// if we've passed a sync marker
+		if (position >= end && reader.syncSeen()) {
+			more = false;
+		} else {
+			more = remaining;
+		}
+		if (more) {
+			getInputContext().setPosition(reader.getPosition());
+			StoreMetrics metrics = getStoreMetrics();
+			if (metrics != null) {
+				metrics.recordRead(1, reader.getPosition() - position);
+			}
+		}
+		return more;
 	}
+
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.input;
+
+import java.io.IOException;
+
+import org.apache.hadoop.fs.Path;
+import org.springframework.data.hadoop.store.DataStoreReader;
+import org.springframework.data.hadoop.store.split.Split;
+
+/**
+ * A factory interface creating a {@link DataStoreReader} for a
+ * file and its {@link Split}.
+ * @param <T> the type of an entity returned by readers
+ */
+public interface DataStoreReaderFactory<T> {
+
+	/**
+	 * Creates a new reader.
+	 *
+	 * @param path the file path
+	 * @param split the split or {@code NULL} to read a whole file
+	 * @return the data store reader
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	DataStoreReader<T> createReader(Path path, Split split) throws IOException;
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.input;
+
+import org.springframework.data.hadoop.store.support.DelimitedFieldTokenizer;
+
+/**
+ * Strategy interface mapping fields of a delimited record into an
+ * entity. Fields are given as a reused {@link DelimitedFieldTokenizer}
+ * which is valid only during a call, thus values should be accessed
+ * with its typed accessors instead of keeping a reference to it.
+ * @param <T> the type of a mapped entity
+ */
+public interface DelimitedFieldMapper<T> {
+
+	/**
+	 * Map fields of a record into an entity.
+	 *
+	 * @param fields the fields of a record
+	 * @return the mapped entity
+	 */
+	T mapFields(DelimitedFieldTokenizer fields);
+
+}
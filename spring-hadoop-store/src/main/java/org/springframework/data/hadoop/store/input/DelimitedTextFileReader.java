@@ -16,20 +16,26 @@
 package org.springframework.data.hadoop.store.input;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.List;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.Text;
 import org.springframework.data.hadoop.store.DataStoreReader;
 import org.springframework.data.hadoop.store.codec.CodecInfo;
 import org.springframework.data.hadoop.store.split.Split;
+import org.springframework.data.hadoop.store.support.DelimitedFieldTokenizer;
 import org.springframework.data.hadoop.store.support.StoreUtils;
-import org.springframework.util.StringUtils;
 
 /**
  * A {@code DelimitedTextFileReader} is a {@code DataStoreReader} implementation
  * able to read {@code String}s from a raw hdfs files as delimited fields.
+ * <p>
+ * Lines are tokenized directly over a line buffer with a
+ * {@link DelimitedFieldTokenizer} handling RFC 4180 quoted fields. Besides
+ * reading fields as a list of {@code String}s, fields can be accessed
+ * with {@link #readFields()} or mapped into typed entities with
+ * {@link #read(DelimitedFieldMapper)} without creating {@code String}s.
  *
  * @author Janne Valkealahti
  *
@@ -46,7 +52,10 @@ public class DelimitedTextFileReader implements DataStoreReader<List<String>> {
 	private TextFileReader textFileReader;
 
 	/** Field delimiter */
-    private final String fieldDelimiter;
+    private final byte[] fieldDelimiter;
+
+	/** Reused tokenizer for delimited fields */
+    private DelimitedFieldTokenizer tokenizer;
 
 	/**
 	 * Instantiates a new delimited text file reader.
@@ -82,14 +91,54 @@ public class DelimitedTextFileReader implements DataStoreReader<List<String>> {
 	 * @param textDelimiter the text delimiter
 	 */
 	public DelimitedTextFileReader(Configuration configuration, Path basePath, CodecInfo codec, Split inputSplit, byte[] fieldDelimiter, byte[] textDelimiter) {
-		this.fieldDelimiter = new String(fieldDelimiter);
+		this.fieldDelimiter = fieldDelimiter;
+		this.tokenizer = new DelimitedFieldTokenizer(fieldDelimiter);
 		this.textFileReader = new TextFileReader(configuration, basePath, codec, inputSplit, textDelimiter);
 	}
 
 	@Override
 	public List<String> read() throws IOException {
-		String line = textFileReader.read();
-		return StringUtils.hasText(line) ? Arrays.asList(line.split(fieldDelimiter)) : null;
+		DelimitedFieldTokenizer fields = readFields();
+		return fields != null ? fields.toList() : null;
+	}
+
+	/**
+	 * Reads a next line and maps its fields into an entity.
+	 *
+	 * @param <T> the type of a mapped entity
+	 * @param mapper the field mapper
+	 * @return the mapped entity or {@code NULL} if there are no more lines
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public <T> T read(DelimitedFieldMapper<T> mapper) throws IOException {
+		DelimitedFieldTokenizer fields = readFields();
+		return fields != null ? mapper.mapFields(fields) : null;
+	}
+
+	/**
+	 * Reads a next line and tokenizes it into fields. Returned tokenizer
+	 * is reused by this reader and is valid until a next read.
+	 *
+	 * @return the tokenized fields or {@code NULL} if there are no more lines
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public DelimitedFieldTokenizer readFields() throws IOException {
+		Text line = textFileReader.readText();
+		if (line == null || !hasText(line.getBytes(), line.getLength())) {
+			return null;
+		}
+		tokenizer.tokenize(line.getBytes(), 0, line.getLength());
+		return tokenizer;
+	}
+
+	/**
+	 * Sets if quoted fields are handled. If disabled, double quotes
+	 * are read as is. Default is true.
+	 *
+	 * @param quoting the new quoting flag
+	 */
+	public void setQuoting(boolean quoting) {
+		this.tokenizer = new DelimitedFieldTokenizer(fieldDelimiter, quoting);
 	}
 
 	@Override
@@ -97,4 +146,13 @@ public class DelimitedTextFileReader implements DataStoreReader<List<String>> {
 		textFileReader.close();
 	}
 
+	private static boolean hasText(byte[] bytes, int length) {
+		for (int i = 0; i < length; i++) {
+			if ((bytes[i] & 0xff) > ' ') {
+				return true;
+			}
+		}
+		return false;
+	}
+
 }
@@ -0,0 +1,494 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.input;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocatedFileStatus;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.hadoop.store.DataStoreReader;
+import org.springframework.data.hadoop.store.StoreException;
+import org.springframework.data.hadoop.store.split.CombinedSplit;
+import org.springframework.data.hadoop.store.split.FileSplit;
+import org.springframework.data.hadoop.store.split.MultiFileSplitter;
+import org.springframework.data.hadoop.store.split.Split;
+import org.springframework.data.hadoop.store.split.Splitter;
+import org.springframework.util.Assert;
+
+/**
+ * A {@code ParallelDataStoreReader} is a {@code DataStoreReader} reading
+ * all files matching a path, which can be a file, a directory or a glob
+ * pattern. Files are split using an optional {@link Splitter} and splits
+ * are read by a pool of workers using readers created by a
+ * {@link DataStoreReaderFactory}. With a {@link MultiFileSplitter} all files
+ * are split at once and parts of a {@link CombinedSplit} are read in order
+ * by a single worker. Records are delivered to a single
+ * consumer through bounded queues.
+ * <p>
+ * By default records are returned in the order workers produce them.
+ * With ordered mode records are returned in split order, files sorted by
+ * path and splits in order returned from a splitter. Workers only read
+ * ahead as many splits as there are workers and a queue for a split is
+ * created when it's started, so there is at most one bounded queue per
+ * worker in memory.
+ * <p>
+ * Files and directories with names starting with {@code _} or {@code .}
+ * are skipped. This reader is meant to be used from a single thread.
+ * @param <T> the type of an entity
+ */
+public class ParallelDataStoreReader<T> implements DataStoreReader<T> {
+
+	private final static Log log = LogFactory.getLog(ParallelDataStoreReader.class);
+
+	/** Default number of workers */
+	public final static int DEFAULT_WORKERS = 4;
+
+	/** Default queue capacity */
+	public final static int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	/** Marker for an end of a split */
+	private final static Object END = new Object();
+
+	private final Configuration configuration;
+
+	private final Path path;
+
+	private final Splitter splitter;
+
+	private final DataStoreReaderFactory<T> readerFactory;
+
+	private TaskExecutor taskExecutor;
+
+	private int workers = DEFAULT_WORKERS;
+
+	private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+	private boolean ordered = false;
+
+	private final AtomicInteger nextTask = new AtomicInteger();
+
+	private List<SplitTask> tasks;
+
+	private BlockingQueue<Object> sharedQueue;
+
+	/** Permits for started but not yet consumed splits in ordered mode */
+	private Semaphore readAhead;
+
+	private int consumed;
+
+	private volatile Throwable error;
+
+	private volatile boolean closed;
+
+	/**
+	 * Instantiates a new parallel data store reader.
+	 *
+	 * @param configuration the hadoop configuration
+	 * @param path the file, directory or glob path
+	 * @param splitter the splitter, {@code NULL} to read files as a whole
+	 * @param readerFactory the factory creating readers for splits
+	 */
+	public ParallelDataStoreReader(Configuration configuration, Path path, Splitter splitter,
+			DataStoreReaderFactory<T> readerFactory) {
+		Assert.notNull(configuration, "Configuration must be set");
+		Assert.notNull(path, "Path must be set");
+		Assert.notNull(readerFactory, "Reader factory must be set");
+		this.configuration = configuration;
+		this.path = path;
+		this.splitter = splitter;
+		this.readerFactory = readerFactory;
+	}
+
+	@Override
+	public T read() throws IOException {
+		if (closed) {
+			return null;
+		}
+		if (tasks == null) {
+			start();
+		}
+		while (true) {
+			checkError();
+			if (ordered) {
+				if (consumed >= tasks.size()) {
+					return null;
+				}
+				SplitTask task = tasks.get(consumed);
+				Object o = take(task.getQueue());
+				if (o == null) {
+					return null;
+				} else if (o == END) {
+					// release split queue for gc and let
+					// workers start a next split
+					task.release();
+					consumed++;
+					readAhead.release();
+				} else {
+					return cast(o);
+				}
+			} else {
+				if (consumed >= tasks.size()) {
+					return null;
+				}
+				Object o = take(sharedQueue);
+				if (o == null) {
+					return null;
+				} else if (o == END) {
+					consumed++;
+				} else {
+					return cast(o);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		closed = true;
+	}
+
+	/**
+	 * Sets the task executor running workers. If not set,
+	 * a {@link SimpleAsyncTaskExecutor} is used.
+	 *
+	 * @param taskExecutor the new task executor
+	 */
+	public void setTaskExecutor(TaskExecutor taskExecutor) {
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Sets the number of workers reading splits in parallel.
+	 *
+	 * @param workers the new number of workers
+	 */
+	public void setWorkers(int workers) {
+		Assert.isTrue(workers > 0, "Workers must be greater than zero");
+		this.workers = workers;
+	}
+
+	/**
+	 * Sets the capacity of a record queue. With ordered mode
+	 * every split being read ahead has a queue with this capacity.
+	 *
+	 * @param queueCapacity the new queue capacity
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+		Assert.isTrue(queueCapacity > 0, "Queue capacity must be greater than zero");
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * Sets if records are returned in split order.
+	 *
+	 * @param ordered the new ordered flag
+	 */
+	public void setOrdered(boolean ordered) {
+		this.ordered = ordered;
+	}
+
+	/**
+	 * Gets the number of splits resolved for reading. Splits
+	 * are resolved with a first read.
+	 *
+	 * @return the split count, negative if not yet resolved
+	 */
+	public int getSplitCount() {
+		return tasks != null ? tasks.size() : -1;
+	}
+
+	private void start() throws IOException {
+		List<SplitTask> list = new ArrayList<SplitTask>();
+		if (splitter instanceof MultiFileSplitter) {
+			for (Split split : ((MultiFileSplitter) splitter).getSplits(listFiles())) {
+				list.add(new SplitTask(split instanceof FileSplit ? ((FileSplit) split).getPath() : null, split));
+			}
+		} else {
+			for (Path file : listFiles()) {
+				if (splitter != null) {
+					for (Split split : splitter.getSplits(file)) {
+						list.add(new SplitTask(file, split));
+					}
+				} else {
+					list.add(new SplitTask(file, null));
+				}
+			}
+		}
+		tasks = list;
+		if (log.isDebugEnabled()) {
+			log.debug("Reading " + tasks.size() + " splits from path=[" + path + "] with " + workers + " workers");
+		}
+		if (ordered) {
+			readAhead = new Semaphore(workers);
+		} else {
+			sharedQueue = new ArrayBlockingQueue<Object>(queueCapacity);
+		}
+		TaskExecutor executor = taskExecutor;
+		if (executor == null) {
+			SimpleAsyncTaskExecutor simpleExecutor = new SimpleAsyncTaskExecutor("parallel-reader-");
+			simpleExecutor.setDaemon(true);
+			executor = simpleExecutor;
+		}
+		for (int i = 0; i < Math.min(workers, tasks.size()); i++) {
+			executor.execute(new Worker());
+		}
+	}
+
+	private List<Path> listFiles() throws IOException {
+		FileSystem fs = path.getFileSystem(configuration);
+		List<Path> files = new ArrayList<Path>();
+		FileStatus[] statuses = fs.globStatus(path);
+		if (statuses == null) {
+			throw new StoreException("Path " + path + " does not exist");
+		}
+		for (FileStatus status : statuses) {
+			if (status.isDirectory()) {
+				RemoteIterator<LocatedFileStatus> iterator = fs.listFiles(status.getPath(), true);
+				while (iterator.hasNext()) {
+					Path file = iterator.next().getPath();
+					if (!isHidden(file, status.getPath())) {
+						files.add(file);
+					}
+				}
+			} else if (!isHidden(status.getPath(), status.getPath().getParent())) {
+				files.add(status.getPath());
+			}
+		}
+		Path[] sorted = files.toArray(new Path[files.size()]);
+		Arrays.sort(sorted);
+		return Arrays.asList(sorted);
+	}
+
+	private static boolean isHidden(Path file, Path root) {
+		// only check path elements under a matched root
+		for (Path p = file; p != null && !p.equals(root); p = p.getParent()) {
+			String name = p.getName();
+			if (name.startsWith("_") || name.startsWith(".")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Takes a next object from a queue returning null if
+	 * this reader was closed while waiting.
+	 */
+	private Object take(BlockingQueue<Object> queue) throws IOException {
+		try {
+			Object o;
+			while ((o = queue.poll(100, TimeUnit.MILLISECONDS)) == null) {
+				// don't wait forever if a worker failed without
+				// being able to publish an end of its split
+				checkError();
+				if (closed) {
+					return null;
+				}
+			}
+			return o;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting records");
+		}
+	}
+
+	private void checkError() throws IOException {
+		Throwable t = error;
+		if (t != null) {
+			closed = true;
+			if (t instanceof IOException) {
+				throw (IOException) t;
+			} else if (t instanceof RuntimeException) {
+				throw (RuntimeException) t;
+			}
+			throw new StoreException("Error reading splits", t);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private T cast(Object o) {
+		return (T) o;
+	}
+
+	/**
+	 * Puts an object into a queue returning false if
+	 * this reader was closed while waiting.
+	 */
+	private boolean put(BlockingQueue<Object> queue, Object o) throws InterruptedException {
+		while (!queue.offer(o, 100, TimeUnit.MILLISECONDS)) {
+			if (closed) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Work item for a single split. A queue used in ordered mode
+	 * is created when either a worker or a consumer first needs it.
+	 */
+	private class SplitTask {
+
+		final Path path;
+		final Split split;
+		private BlockingQueue<Object> queue;
+
+		SplitTask(Path path, Split split) {
+			this.path = path;
+			this.split = split;
+		}
+
+		synchronized BlockingQueue<Object> getQueue() {
+			if (queue == null) {
+				queue = new ArrayBlockingQueue<Object>(queueCapacity);
+			}
+			return queue;
+		}
+
+		synchronized void release() {
+			queue = null;
+		}
+	}
+
+	/**
+	 * Worker taking splits in order and pushing
+	 * records into a queue.
+	 */
+	private class Worker implements Runnable {
+
+		@Override
+		public void run() {
+			SplitTask task;
+			try {
+				task = claimTask();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				error = new InterruptedIOException("Worker interrupted while waiting a split");
+				return;
+			}
+			while (task != null) {
+				BlockingQueue<Object> queue = ordered ? task.getQueue() : sharedQueue;
+				Throwable failure = null;
+				boolean interrupted = false;
+				try {
+					readSplit(task, queue);
+				} catch (InterruptedException e) {
+					interrupted = true;
+					failure = new InterruptedIOException("Worker interrupted while reading split " + task.split);
+				} catch (Throwable t) {
+					failure = t;
+				} finally {
+					if (failure != null) {
+						log.error("Error reading split " + task.split + " from path=[" + task.path + "]", failure);
+						error = failure;
+					}
+					// consumer counts ends of splits so an end is
+					// always published, also to wake up a consumer
+					// which then checks the error
+					publishEnd(queue);
+					if (interrupted) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				if (failure != null || closed) {
+					return;
+				}
+				try {
+					task = claimTask();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					error = new InterruptedIOException("Worker interrupted while waiting a split");
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Claims a next split. In ordered mode waits until a consumer has
+		 * consumed enough splits to keep read ahead bounded.
+		 */
+		private SplitTask claimTask() throws InterruptedException {
+			if (ordered) {
+				while (!readAhead.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+					if (closed) {
+						return null;
+					}
+				}
+			}
+			int index = nextTask.getAndIncrement();
+			if (closed || index >= tasks.size()) {
+				if (ordered) {
+					readAhead.release();
+				}
+				return null;
+			}
+			return tasks.get(index);
+		}
+
+		private void publishEnd(BlockingQueue<Object> queue) {
+			try {
+				put(queue, END);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private boolean readSplit(SplitTask task, BlockingQueue<Object> queue) throws Exception {
+			if (task.split instanceof CombinedSplit) {
+				for (FileSplit split : ((CombinedSplit) task.split).getSplits()) {
+					if (!readSplit(split.getPath(), split, queue)) {
+						return false;
+					}
+				}
+				return true;
+			}
+			return readSplit(task.path, task.split, queue);
+		}
+
+		private boolean readSplit(Path path, Split split, BlockingQueue<Object> queue) throws Exception {
+			DataStoreReader<T> reader = readerFactory.createReader(path, split);
+			try {
+				T entity;
+				while ((entity = reader.read()) != null) {
+					if (!put(queue, entity)) {
+						return false;
+					}
+				}
+			} finally {
+				reader.close();
+			}
+			return true;
+		}
+	}
+
+}
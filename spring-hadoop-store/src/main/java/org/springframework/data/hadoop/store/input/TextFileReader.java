@@ -18,6 +18,8 @@ package org.springframework.data.hadoop.store.input;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
@@ -25,6 +27,7 @@ import org.apache.hadoop.io.Text;
 import org.apache.hadoop.util.LineReader;
 import org.springframework.data.hadoop.store.DataStoreReader;
 import org.springframework.data.hadoop.store.codec.CodecInfo;
+import org.springframework.data.hadoop.store.metrics.StoreMetrics;
 import org.springframework.data.hadoop.store.split.Split;
 
 /**
@@ -36,10 +39,16 @@ import org.springframework.data.hadoop.store.split.Split;
  */
 public class TextFileReader extends AbstractDataStreamReader implements DataStoreReader<String> {
 
-	private ReaderHelper<LineReader, byte[]> readerHelper;
+	private ReaderHelper<LineReader, Text> readerHelper;
 
 	private final byte[] delimiter;
 
+	private final Text line = new Text();
+
+	private ByteBuffer lineBuffer;
+
+	private Charset charset;
+
 	/**
 	 * Instantiates a new text file reader.
 	 *
@@ -90,32 +99,92 @@ public class TextFileReader extends AbstractDataStreamReader implements DataStor
 		}
 	}
 
+	/**
+	 * Reads a next line as a {@code String}. Empty line is
+	 * handled as an end of data and returned as {@code NULL}.
+	 *
+	 * @return the line or {@code NULL} if there are no more lines
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
 	@Override
 	public String read() throws IOException  {
+		Text value = readText();
+		if (value == null || value.getLength() == 0) {
+			return null;
+		}
+		return charset != null ? new String(value.getBytes(), 0, value.getLength(), charset)
+				: new String(value.getBytes(), 0, value.getLength());
+	}
+
+	/**
+	 * Reads a next line into a {@link Text} reused by this reader. Returned
+	 * instance is valid until a next read and its backing array may be longer
+	 * than a line, thus only bytes up to {@link Text#getLength()} are valid.
+	 *
+	 * @return the reused text or {@code NULL} if there are no more lines
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public Text readText() throws IOException {
 		if (readerHelper == null) {
-			readerHelper = new ReaderHelper<LineReader, byte[]>(getInput(), getInputContext(), getSplit(), getCodec()) {
+			final StoreMetrics metrics = getStoreMetrics();
+			readerHelper = new ReaderHelper<LineReader, Text>(getInput(), getInputContext(), getSplit(), getCodec()) {
 				@Override
 				protected LineReader createReader(InputStream inputStream) throws IOException {
 					LineReader lineReader = new LineReader(inputStream, delimiter);
 					if (getContext().getStart() > 0) {
-						processReadCount(lineReader.readLine(new Text()));
+						processReadCount(lineReader.readLine(line));
 					}
 					return lineReader;
 				}
 
 				@Override
-				protected byte[] doRead(LineReader delegate) throws IOException {
-					Text text = new Text();
-					if (!getInputContext().isEndReached()) {
-						processReadCount(delegate.readLine(text));
+				protected Text doRead(LineReader delegate) throws IOException {
+					if (getInputContext().isEndReached()) {
+						return null;
+					}
+					int count = delegate.readLine(line);
+					processReadCount(count);
+					if (metrics != null && count > 0) {
+						metrics.recordRead(1, count);
 					}
-					return text.getBytes();
+					return count > 0 ? line : null;
 				}
 			};
 			readerHelper.init();
 		}
-		byte[] value = readerHelper.read();
-		return value != null && value.length > 0 ? new String(value) : null;
+		return readerHelper.read();
+	}
+
+	/**
+	 * Reads a next line as a {@link ByteBuffer} view over a buffer reused by
+	 * this reader. Buffer position is zero and its limit is a length of a line.
+	 * Returned buffer is valid until a next read.
+	 *
+	 * @return the buffer or {@code NULL} if there are no more lines
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public ByteBuffer readBuffer() throws IOException {
+		Text value = readText();
+		if (value == null) {
+			return null;
+		}
+		if (lineBuffer == null || lineBuffer.array() != value.getBytes()) {
+			lineBuffer = ByteBuffer.wrap(value.getBytes());
+		}
+		lineBuffer.clear();
+		lineBuffer.limit(value.getLength());
+		return lineBuffer;
+	}
+
+	/**
+	 * Sets the charset used to decode lines returned from {@link #read()}.
+	 * If not set, platform default charset is used which matches with
+	 * how {@code TextFileWriter} encodes {@code String}s.
+	 *
+	 * @param charset the new charset
+	 */
+	public void setCharset(Charset charset) {
+		this.charset = charset;
 	}
 
 }
@@ -24,16 +24,22 @@ import org.apache.hadoop.io.SequenceFile.Reader;
 import org.apache.hadoop.io.Text;
 import org.springframework.data.hadoop.store.DataStoreReader;
 import org.springframework.data.hadoop.store.codec.CodecInfo;
+import org.springframework.data.hadoop.store.split.Split;
 
 /**
  * A {@code TextSequenceFileReader} is a {@code DataStoreReader} implementation
- * able to read {@code String}s from a {@code SequenceFile}.
+ * able to read {@code String}s from a {@code SequenceFile}. Key and value
+ * instances are reused for every record.
  *
  * @author Janne Valkealahti
  *
  */
 public class TextSequenceFileReader extends AbstractSequenceFileReader implements DataStoreReader<String> {
 
+	private final Text key = new Text();
+
+	private final Text value = new Text();
+
 	private Reader reader;
 
 	/**
@@ -47,9 +53,24 @@ public class TextSequenceFileReader extends AbstractSequenceFileReader implement
 		super(configuration, basePath, codec);
 	}
 
+	/**
+	 * Instantiates a new text sequence file reader.
+	 *
+	 * @param configuration the hadoop configuration
+	 * @param basePath the hdfs path
+	 * @param codec the compression codec info
+	 * @param split the input split
+	 */
+	public TextSequenceFileReader(Configuration configuration, Path basePath, CodecInfo codec, Split split) {
+		super(configuration, basePath, codec, split);
+	}
+
 	@Override
 	public void close() throws IOException {
-		reader.close();
+		if (reader != null) {
+			reader.close();
+			reader = null;
+		}
 	}
 
 	@Override
@@ -57,13 +78,7 @@ public class TextSequenceFileReader extends AbstractSequenceFileReader implement
 		if (reader == null) {
 			reader = getInput();
 		}
-
-		Text k = new Text();
-		Text v = new Text();
-		reader.next(k, v);
-		byte[] value = v.getBytes();
-		return value != null && value.length > 0 ? new String(value) : null;
+		return next(reader, key, value) ? value.toString() : null;
 	}
 
-
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.input;
+
+import java.io.IOException;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.SequenceFile.Reader;
+import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.springframework.data.hadoop.store.DataStoreReader;
+import org.springframework.data.hadoop.store.StoreException;
+import org.springframework.data.hadoop.store.codec.CodecInfo;
+import org.springframework.data.hadoop.store.split.Split;
+import org.springframework.util.Assert;
+
+/**
+ * A {@code WritableSequenceFileReader} is a {@code DataStoreReader} implementation
+ * able to read {@link Writable} keys and values from a {@code SequenceFile}
+ * written by a {@code WritableSequenceFileWriter}. Compression type and
+ * codec are resolved from a file header and key and value classes are
+ * verified to match with a file.
+ * @param <K> the type of a key
+ * @param <V> the type of a value
+ */
+public class WritableSequenceFileReader<K extends Writable, V extends Writable> extends AbstractSequenceFileReader
+		implements DataStoreReader<V> {
+
+	private final Class<K> keyClass;
+
+	private final Class<V> valueClass;
+
+	private Reader reader;
+
+	private K key;
+
+	/**
+	 * Instantiates a new writable sequence file reader.
+	 *
+	 * @param configuration the hadoop configuration
+	 * @param basePath the hdfs path
+	 * @param codec the compression codec info
+	 * @param keyClass the key class
+	 * @param valueClass the value class
+	 */
+	public WritableSequenceFileReader(Configuration configuration, Path basePath, CodecInfo codec,
+			Class<K> keyClass, Class<V> valueClass) {
+		this(configuration, basePath, codec, null, keyClass, valueClass);
+	}
+
+	/**
+	 * Instantiates a new writable sequence file reader.
+	 *
+	 * @param configuration the hadoop configuration
+	 * @param basePath the hdfs path
+	 * @param codec the compression codec info
+	 * @param split the input split
+	 * @param keyClass the key class
+	 * @param valueClass the value class
+	 */
+	public WritableSequenceFileReader(Configuration configuration, Path basePath, CodecInfo codec, Split split,
+			Class<K> keyClass, Class<V> valueClass) {
+		super(configuration, basePath, codec, split);
+		Assert.notNull(keyClass, "Key class must be set");
+		Assert.notNull(valueClass, "Value class must be set");
+		this.keyClass = keyClass;
+		this.valueClass = valueClass;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (reader != null) {
+			reader.close();
+			reader = null;
+		}
+	}
+
+	/**
+	 * Read a next value. A new value instance is returned for
+	 * every call, use {@link #next(Writable, Writable)} to read
+	 * into existing instances.
+	 *
+	 * @return the value or {@code NULL} if there are no more records
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Override
+	public V read() throws IOException {
+		if (key == null) {
+			key = ReflectionUtils.newInstance(keyClass, getConfiguration());
+		}
+		V value = ReflectionUtils.newInstance(valueClass, getConfiguration());
+		return next(key, value) ? value : null;
+	}
+
+	/**
+	 * Read a next key and value into given instances.
+	 *
+	 * @param key the key to read into
+	 * @param value the value to read into
+	 * @return true, if a record was read, false if there are no more records
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public boolean next(K key, V value) throws IOException {
+		return next(getReader(), key, value);
+	}
+
+	/**
+	 * Checks if a file is block compressed.
+	 *
+	 * @return true, if block compressed
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public boolean isBlockCompressed() throws IOException {
+		return getReader().isBlockCompressed();
+	}
+
+	private Reader getReader() throws IOException {
+		if (reader == null) {
+			Reader r = getInput();
+			if (!keyClass.equals(r.getKeyClass()) || !valueClass.equals(r.getValueClass())) {
+				r.close();
+				throw new StoreException("File has key/value classes " + r.getKeyClassName() + "/"
+						+ r.getValueClassName() + " but expected " + keyClass.getName() + "/" + valueClass.getName());
+			}
+			reader = r;
+		}
+		return reader;
+	}
+
+}
@@ -0,0 +1,510 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.hadoop.fs.Path;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+
+/**
+ * Default implementation of {@link StoreMetrics} keeping counters in
+ * memory. Rates are calculated over a moving window of last
+ * {@link #RATE_WINDOW_SECONDS} seconds, or a time since creation or a last
+ * {@link #reset()} if shorter. Latencies are kept as a count, a total and
+ * a max. Paths of currently open streams are kept to see which files are
+ * open, other counters are totals over all paths.
+ * <p>
+ * This class is annotated for Spring JMX exporting so that registering
+ * it as a bean together with an annotation based {@code MBeanExporter},
+ * i.e. using {@code @EnableMBeanExport}, exposes metrics as an MBean.
+ */
+@ManagedResource(description = "Store writer and reader metrics")
+public class DefaultStoreMetrics implements StoreMetrics {
+
+	/** Length of a moving window rates are calculated over */
+	public final static int RATE_WINDOW_SECONDS = 60;
+
+	private final AtomicLong writtenRecords = new AtomicLong();
+
+	private final AtomicLong writtenBytes = new AtomicLong();
+
+	private final AtomicLong readRecords = new AtomicLong();
+
+	private final AtomicLong readBytes = new AtomicLong();
+
+	private final AtomicLong openStreams = new AtomicLong();
+
+	private final AtomicLong openedStreams = new AtomicLong();
+
+	private final AtomicLong idleTimeouts = new AtomicLong();
+
+	private final AtomicLong evictions = new AtomicLong();
+
+	private final Latency rollovers = new Latency();
+
+	private final Latency renames = new Latency();
+
+	private final Latency flushes = new Latency();
+
+	private final Rate writtenRecordsRate = new Rate();
+
+	private final Rate writtenBytesRate = new Rate();
+
+	private final Rate readRecordsRate = new Rate();
+
+	private final Rate readBytesRate = new Rate();
+
+	/** Currently open paths with a number of streams open for a path */
+	private final ConcurrentHashMap<Path, Integer> openPaths = new ConcurrentHashMap<Path, Integer>();
+
+	private final long origin = System.nanoTime();
+
+	private volatile long startTime = origin;
+
+	@Override
+	public void recordWrite(long records, long bytes) {
+		long second = second(System.nanoTime());
+		writtenRecords.addAndGet(records);
+		writtenRecordsRate.record(second, records);
+		if (bytes > 0) {
+			writtenBytes.addAndGet(bytes);
+			writtenBytesRate.record(second, bytes);
+		}
+	}
+
+	@Override
+	public void recordRead(long records, long bytes) {
+		long second = second(System.nanoTime());
+		readRecords.addAndGet(records);
+		readRecordsRate.record(second, records);
+		if (bytes > 0) {
+			readBytes.addAndGet(bytes);
+			readBytesRate.record(second, bytes);
+		}
+	}
+
+	@Override
+	public void streamOpened(Path path) {
+		openStreams.incrementAndGet();
+		openedStreams.incrementAndGet();
+		if (path != null) {
+			while (true) {
+				Integer count = openPaths.putIfAbsent(path, 1);
+				if (count == null || openPaths.replace(path, count, count + 1)) {
+					break;
+				}
+			}
+		}
+	}
+
+	@Override
+	public void streamClosed(Path path) {
+		openStreams.decrementAndGet();
+		if (path != null) {
+			while (true) {
+				Integer count = openPaths.get(path);
+				if (count == null || (count > 1 ? openPaths.replace(path, count, count - 1)
+						: openPaths.remove(path, count))) {
+					break;
+				}
+			}
+		}
+	}
+
+	@Override
+	public void recordRollover(long nanos) {
+		rollovers.record(nanos);
+	}
+
+	@Override
+	public void recordRename(long nanos) {
+		renames.record(nanos);
+	}
+
+	@Override
+	public void recordFlush(long nanos) {
+		flushes.record(nanos);
+	}
+
+	@Override
+	public void recordIdleTimeout() {
+		idleTimeouts.incrementAndGet();
+	}
+
+	@Override
+	public void recordEviction() {
+		evictions.incrementAndGet();
+	}
+
+	/**
+	 * Resets all counters and rates except currently open streams.
+	 */
+	@ManagedOperation(description = "Resets counters and rates")
+	public void reset() {
+		writtenRecords.set(0);
+		writtenBytes.set(0);
+		readRecords.set(0);
+		readBytes.set(0);
+		openedStreams.set(0);
+		idleTimeouts.set(0);
+		evictions.set(0);
+		rollovers.reset();
+		renames.reset();
+		flushes.reset();
+		writtenRecordsRate.reset();
+		writtenBytesRate.reset();
+		readRecordsRate.reset();
+		readBytesRate.reset();
+		startTime = System.nanoTime();
+	}
+
+	/**
+	 * Gets the number of written records.
+	 *
+	 * @return the written records
+	 */
+	@ManagedAttribute(description = "Number of written records")
+	public long getWrittenRecords() {
+		return writtenRecords.get();
+	}
+
+	/**
+	 * Gets the number of written bytes.
+	 *
+	 * @return the written bytes
+	 */
+	@ManagedAttribute(description = "Number of written bytes")
+	public long getWrittenBytes() {
+		return writtenBytes.get();
+	}
+
+	/**
+	 * Gets the written records per second over a moving window.
+	 *
+	 * @return the written records per second
+	 */
+	@ManagedAttribute(description = "Written records per second over a last minute")
+	public double getWrittenRecordsPerSecond() {
+		return perSecond(writtenRecordsRate);
+	}
+
+	/**
+	 * Gets the written bytes per second over a moving window.
+	 *
+	 * @return the written bytes per second
+	 */
+	@ManagedAttribute(description = "Written bytes per second over a last minute")
+	public double getWrittenBytesPerSecond() {
+		return perSecond(writtenBytesRate);
+	}
+
+	/**
+	 * Gets the number of read records.
+	 *
+	 * @return the read records
+	 */
+	@ManagedAttribute(description = "Number of read records")
+	public long getReadRecords() {
+		return readRecords.get();
+	}
+
+	/**
+	 * Gets the number of read bytes.
+	 *
+	 * @return the read bytes
+	 */
+	@ManagedAttribute(description = "Number of read bytes")
+	public long getReadBytes() {
+		return readBytes.get();
+	}
+
+	/**
+	 * Gets the read records per second over a moving window.
+	 *
+	 * @return the read records per second
+	 */
+	@ManagedAttribute(description = "Read records per second over a last minute")
+	public double getReadRecordsPerSecond() {
+		return perSecond(readRecordsRate);
+	}
+
+	/**
+	 * Gets the read bytes per second over a moving window.
+	 *
+	 * @return the read bytes per second
+	 */
+	@ManagedAttribute(description = "Read bytes per second over a last minute")
+	public double getReadBytesPerSecond() {
+		return perSecond(readBytesRate);
+	}
+
+	/**
+	 * Gets the number of currently open streams.
+	 *
+	 * @return the open streams
+	 */
+	@ManagedAttribute(description = "Number of currently open files")
+	public long getOpenStreams() {
+		return openStreams.get();
+	}
+
+	/**
+	 * Gets the paths of currently open streams.
+	 *
+	 * @return the open paths
+	 */
+	@ManagedAttribute(description = "Paths of currently open files")
+	public String[] getOpenPaths() {
+		List<String> paths = new ArrayList<String>();
+		for (Path path : openPaths.keySet()) {
+			paths.add(path.toString());
+		}
+		Collections.sort(paths);
+		return paths.toArray(new String[paths.size()]);
+	}
+
+	/**
+	 * Gets the number of opened streams.
+	 *
+	 * @return the opened streams
+	 */
+	@ManagedAttribute(description = "Number of opened files")
+	public long getOpenedStreams() {
+		return openedStreams.get();
+	}
+
+	/**
+	 * Gets the number of closes caused by idle timeouts.
+	 *
+	 * @return the idle timeouts
+	 */
+	@ManagedAttribute(description = "Number of idle timeout closes")
+	public long getIdleTimeouts() {
+		return idleTimeouts.get();
+	}
+
+	/**
+	 * Gets the number of evicted partition writers.
+	 *
+	 * @return the evictions
+	 */
+	@ManagedAttribute(description = "Number of evicted partition writers")
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	/**
+	 * Gets the number of rollovers.
+	 *
+	 * @return the rollover count
+	 */
+	@ManagedAttribute(description = "Number of rollovers")
+	public long getRolloverCount() {
+		return rollovers.getCount();
+	}
+
+	/**
+	 * Gets the average rollover time in milliseconds.
+	 *
+	 * @return the average rollover time
+	 */
+	@ManagedAttribute(description = "Average rollover time in milliseconds")
+	public double getRolloverTimeAvg() {
+		return rollovers.getAvgMillis();
+	}
+
+	/**
+	 * Gets the max rollover time in milliseconds.
+	 *
+	 * @return the max rollover time
+	 */
+	@ManagedAttribute(description = "Max rollover time in milliseconds")
+	public double getRolloverTimeMax() {
+		return rollovers.getMaxMillis();
+	}
+
+	/**
+	 * Gets the number of renames.
+	 *
+	 * @return the rename count
+	 */
+	@ManagedAttribute(description = "Number of renames")
+	public long getRenameCount() {
+		return renames.getCount();
+	}
+
+	/**
+	 * Gets the average rename time in milliseconds.
+	 *
+	 * @return the average rename time
+	 */
+	@ManagedAttribute(description = "Average rename time in milliseconds")
+	public double getRenameTimeAvg() {
+		return renames.getAvgMillis();
+	}
+
+	/**
+	 * Gets the max rename time in milliseconds.
+	 *
+	 * @return the max rename time
+	 */
+	@ManagedAttribute(description = "Max rename time in milliseconds")
+	public double getRenameTimeMax() {
+		return renames.getMaxMillis();
+	}
+
+	/**
+	 * Gets the number of flushes.
+	 *
+	 * @return the flush count
+	 */
+	@ManagedAttribute(description = "Number of flushes")
+	public long getFlushCount() {
+		return flushes.getCount();
+	}
+
+	/**
+	 * Gets the average flush time in milliseconds.
+	 *
+	 * @return the average flush time
+	 */
+	@ManagedAttribute(description = "Average flush time in milliseconds")
+	public double getFlushTimeAvg() {
+		return flushes.getAvgMillis();
+	}
+
+	/**
+	 * Gets the max flush time in milliseconds.
+	 *
+	 * @return the max flush time
+	 */
+	@ManagedAttribute(description = "Max flush time in milliseconds")
+	public double getFlushTimeMax() {
+		return flushes.getMaxMillis();
+	}
+
+	@Override
+	public String toString() {
+		return "DefaultStoreMetrics [writtenRecords=" + getWrittenRecords() + ", writtenBytes=" + getWrittenBytes()
+				+ ", readRecords=" + getReadRecords() + ", readBytes=" + getReadBytes() + ", openStreams="
+				+ getOpenStreams() + ", rollovers=" + getRolloverCount() + ", renames=" + getRenameCount()
+				+ ", flushes=" + getFlushCount() + ", idleTimeouts=" + getIdleTimeouts() + ", evictions="
+				+ getEvictions() + "]";
+	}
+
+	private double perSecond(Rate rate) {
+		long now = System.nanoTime();
+		long second = second(now);
+		// window starts from a beginning of an oldest second in it
+		long windowStart = origin + TimeUnit.SECONDS.toNanos(second - RATE_WINDOW_SECONDS + 1);
+		long elapsed = now - Math.max(windowStart, startTime);
+		return elapsed > 0 ? rate.sum(second) * (double) TimeUnit.SECONDS.toNanos(1) / elapsed : 0;
+	}
+
+	private long second(long nanos) {
+		return TimeUnit.NANOSECONDS.toSeconds(nanos - origin);
+	}
+
+	/**
+	 * Lock free ring of per second counts over a rate window. A count
+	 * racing with a bucket moving to a new second may get lost which
+	 * is fine for a rate.
+	 */
+	private static class Rate {
+
+		private final AtomicLongArray counts = new AtomicLongArray(RATE_WINDOW_SECONDS);
+		private final AtomicLongArray seconds = new AtomicLongArray(RATE_WINDOW_SECONDS);
+
+		Rate() {
+			reset();
+		}
+
+		void record(long second, long value) {
+			int i = (int) (second % RATE_WINDOW_SECONDS);
+			long s = seconds.get(i);
+			if (s != second && seconds.compareAndSet(i, s, second)) {
+				counts.set(i, 0);
+			}
+			counts.addAndGet(i, value);
+		}
+
+		long sum(long second) {
+			long sum = 0;
+			for (int i = 0; i < RATE_WINDOW_SECONDS; i++) {
+				long s = seconds.get(i);
+				if (s > second - RATE_WINDOW_SECONDS && s <= second) {
+					sum += counts.get(i);
+				}
+			}
+			return sum;
+		}
+
+		void reset() {
+			for (int i = 0; i < RATE_WINDOW_SECONDS; i++) {
+				seconds.set(i, -1);
+				counts.set(i, 0);
+			}
+		}
+	}
+
+	/**
+	 * Lock free holder for a count, a total and a max of latencies.
+	 */
+	private static class Latency {
+
+		private final AtomicLong count = new AtomicLong();
+		private final AtomicLong total = new AtomicLong();
+		private final AtomicLong max = new AtomicLong();
+
+		void record(long nanos) {
+			count.incrementAndGet();
+			total.addAndGet(nanos);
+			long current = max.get();
+			while (nanos > current && !max.compareAndSet(current, nanos)) {
+				current = max.get();
+			}
+		}
+
+		void reset() {
+			count.set(0);
+			total.set(0);
+			max.set(0);
+		}
+
+		long getCount() {
+			return count.get();
+		}
+
+		double getAvgMillis() {
+			long c = count.get();
+			return c > 0 ? total.get() / (double) c / TimeUnit.MILLISECONDS.toNanos(1) : 0;
+		}
+
+		double getMaxMillis() {
+			return max.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+		}
+	}
+
+}
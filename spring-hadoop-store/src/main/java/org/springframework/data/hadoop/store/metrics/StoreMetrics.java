@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.metrics;
+
+import org.apache.hadoop.fs.Path;
+
+/**
+ * Interface for collecting metrics from store writers and readers. An
+ * instance can be shared among writers and readers to get totals or set
+ * per writer to get metrics of an individual writer. Implementations are
+ * called from a writing and reading threads and need to be thread safe
+ * and fast.
+ */
+public interface StoreMetrics {
+
+	/**
+	 * Records written entities and bytes. Bytes are counted as an
+	 * advance of a stream position which for compressed streams is
+	 * a number of compressed bytes.
+	 *
+	 * @param records the number of written entities
+	 * @param bytes the number of written bytes
+	 */
+	void recordWrite(long records, long bytes);
+
+	/**
+	 * Records read entities and bytes.
+	 *
+	 * @param records the number of read entities
+	 * @param bytes the number of read bytes
+	 */
+	void recordRead(long records, long bytes);
+
+	/**
+	 * Notifies that an output stream was opened.
+	 *
+	 * @param path the path of a stream
+	 */
+	void streamOpened(Path path);
+
+	/**
+	 * Notifies that an output stream was closed.
+	 *
+	 * @param path the path of a stream
+	 */
+	void streamClosed(Path path);
+
+	/**
+	 * Records a time taken to roll over a stream including
+	 * closing and renaming a rolled stream if done inline.
+	 *
+	 * @param nanos the elapsed time in nanoseconds
+	 */
+	void recordRollover(long nanos);
+
+	/**
+	 * Records a time taken to rename a file from its in-writing name.
+	 *
+	 * @param nanos the elapsed time in nanoseconds
+	 */
+	void recordRename(long nanos);
+
+	/**
+	 * Records a time taken to flush a stream including
+	 * a possible {@code hflush}.
+	 *
+	 * @param nanos the elapsed time in nanoseconds
+	 */
+	void recordFlush(long nanos);
+
+	/**
+	 * Notifies that a stream was closed because of an idle timeout.
+	 */
+	void recordIdleTimeout();
+
+	/**
+	 * Notifies that a partition writer was evicted because
+	 * a max number of open partition writers was reached.
+	 */
+	void recordEviction();
+
+}
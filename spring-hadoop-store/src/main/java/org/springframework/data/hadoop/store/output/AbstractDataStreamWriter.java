@@ -15,22 +15,32 @@
  */
 package org.springframework.data.hadoop.store.output;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataOutputStream;
+import org.apache.hadoop.fs.FileAlreadyExistsException;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.compress.CodecPool;
 import org.apache.hadoop.io.compress.CompressionCodec;
-import org.apache.hadoop.util.ReflectionUtils;
+import org.apache.hadoop.io.compress.Compressor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.hadoop.store.StoreException;
 import org.springframework.data.hadoop.store.codec.CodecInfo;
+import org.springframework.data.hadoop.store.codec.CompressionCodecCache;
+import org.springframework.data.hadoop.store.event.FileWrittenEvent;
+import org.springframework.data.hadoop.store.event.StoreEventPublisher;
+import org.springframework.data.hadoop.store.metrics.StoreMetrics;
 import org.springframework.data.hadoop.store.support.OutputStoreObjectSupport;
 import org.springframework.data.hadoop.store.support.StreamsHolder;
-import org.springframework.util.ClassUtils;
 
 /**
  * A {@code AbstractDataStreamWriter} is a base implementation handling streams
@@ -45,10 +55,27 @@ public abstract class AbstractDataStreamWriter extends OutputStoreObjectSupport
 
 	public final static int DEFAULT_MAX_OPEN_ATTEMPTS = 10;
 
+	public final static int DEFAULT_MAX_PENDING_FINALIZATIONS = 4;
+
 	private int maxOpenAttempts = DEFAULT_MAX_OPEN_ATTEMPTS;
 
+	/** Executor finalizing rolled over streams, null means inline */
+	private TaskExecutor rolloverFinalizerExecutor;
+
+	/** Max number of rolled over streams waiting to be finalized */
+	private int maxPendingFinalizations = DEFAULT_MAX_PENDING_FINALIZATIONS;
+
+	/** Permits for pending finalizations, created lazily */
+	private Semaphore finalizationPermits;
+
+	/** First error from background finalizations to be reported on close */
+	private final AtomicReference<IOException> finalizationError = new AtomicReference<IOException>();
+
+	/** Flag enabling optimistic open without existence checks */
+	private boolean optimisticOpen = false;
+
 	/**
-	 * We use this jvm level lock in this class to guard against one
+	 * We use these jvm level locks in this class to guard against one
 	 * scenario. When we try to create a stream a check is first done
 	 * if path exists and then we create a stream. This sync lock would
 	 * not make sense on a global level because exist()/create() is never
@@ -58,9 +85,17 @@ public abstract class AbstractDataStreamWriter extends OutputStoreObjectSupport
 	 * on default takes 5 minutes while vanilla hadoop fails immediately.
 	 * We minimise this risk within a jvm in a way that same leaseholder
 	 * would not try to use same path to create a stream. In different jvm's
-	 * error handling is different because of different leaseholders.
+	 * error handling is different because of different leaseholders. Locks
+	 * are striped by a path so that opens of different paths don't need
+	 * to wait each others.
 	 */
-	private final static Object lock = new Object();
+	private final static Object[] locks = new Object[64];
+
+	static {
+		for (int i = 0; i < locks.length; i++) {
+			locks[i] = new Object();
+		}
+	}
 
 	/**
 	 * Instantiates a new abstract data stream writer.
@@ -84,6 +119,173 @@ public abstract class AbstractDataStreamWriter extends OutputStoreObjectSupport
 		this.maxOpenAttempts = maxOpenAttempts < 1 ? 1 : maxOpenAttempts;
 	}
 
+	/**
+	 * Sets the flag enabling optimistic open. When enabled a stream is
+	 * created directly without checking if a path exists and if it does,
+	 * strategies are rolled and a next path is tried. This brings the
+	 * common case down to a single namenode call and doesn't use locks.
+	 * If in-writing prefix or suffix is used, a final path is still
+	 * checked not to get it overwritten on rename. With optimistic
+	 * open, appendable mode doesn't check if a path exists but falls
+	 * back to create if it doesn't.
+	 *
+	 * @param optimisticOpen the optimistic open flag
+	 */
+	public void setOptimisticOpen(boolean optimisticOpen) {
+		this.optimisticOpen = optimisticOpen;
+	}
+
+	/**
+	 * Checks if optimistic open is enabled.
+	 *
+	 * @return true, if optimistic open is enabled
+	 */
+	public boolean isOptimisticOpen() {
+		return optimisticOpen;
+	}
+
+	/**
+	 * Sets the executor used to finalize rolled over streams. Finalizing
+	 * a stream means closing it, renaming it from its in-writing name and
+	 * publishing a {@link FileWrittenEvent}. When set, a writer hands
+	 * rolled over streams to this executor and continues writing into
+	 * a next file immediately. On default finalization happens inline.
+	 *
+	 * @param rolloverFinalizerExecutor the rollover finalizer executor
+	 */
+	public void setRolloverFinalizerExecutor(TaskExecutor rolloverFinalizerExecutor) {
+		this.rolloverFinalizerExecutor = rolloverFinalizerExecutor;
+	}
+
+	/**
+	 * Gets the executor used to finalize rolled over streams.
+	 *
+	 * @return the rollover finalizer executor or null if not set
+	 */
+	public TaskExecutor getRolloverFinalizerExecutor() {
+		return rolloverFinalizerExecutor;
+	}
+
+	/**
+	 * Sets the max number of rolled over streams which can be pending
+	 * finalization. When this limit is reached a writing thread blocks
+	 * until a previous finalization completes. Only positive values
+	 * are allowed and any attempt to set this to less than 1 will
+	 * automatically reset value to exactly 1.
+	 *
+	 * @param maxPendingFinalizations the new max pending finalizations
+	 */
+	public void setMaxPendingFinalizations(int maxPendingFinalizations) {
+		this.maxPendingFinalizations = maxPendingFinalizations < 1 ? 1 : maxPendingFinalizations;
+	}
+
+	/**
+	 * Finalizes a stream by closing it, renaming it and publishing
+	 * a {@link FileWrittenEvent}.
+	 *
+	 * @param holder the holder for output streams
+	 * @return the final path
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	protected Path finalizeStream(StreamsHolder<OutputStream> holder) throws IOException {
+		holder.close();
+		onStreamClosed(holder.getPath());
+
+		Path path = renameFile(holder.getPath());
+
+		StoreEventPublisher storeEventPublisher = getStoreEventPublisher();
+		if (storeEventPublisher != null) {
+			storeEventPublisher.publishEvent(new FileWrittenEvent(this, path));
+		}
+		return path;
+	}
+
+	/**
+	 * Finalizes a rolled over stream either inline or asynchronously
+	 * if {@link #setRolloverFinalizerExecutor(TaskExecutor)} is set. Caller
+	 * is blocked if there are too many pending finalizations.
+	 *
+	 * @param holder the holder for output streams
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	protected void finalizeRolledStream(final StreamsHolder<OutputStream> holder) throws IOException {
+		if (rolloverFinalizerExecutor == null) {
+			finalizeStream(holder);
+			return;
+		}
+		final Semaphore permits = getFinalizationPermits();
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new StoreException("Interrupted while waiting pending finalizations", e);
+		}
+		try {
+			rolloverFinalizerExecutor.execute(new Runnable() {
+
+				@Override
+				public void run() {
+					try {
+						finalizeStream(holder);
+					} catch (Exception e) {
+						log.error("Error finalizing stream for path " + holder.getPath(), e);
+						recordFinalizationError(e instanceof IOException ? (IOException) e : new IOException(e));
+					} finally {
+						permits.release();
+					}
+				}
+			});
+		} catch (TaskRejectedException e) {
+			permits.release();
+			log.warn("Finalizer executor rejected a task, finalizing inline", e);
+			finalizeStream(holder);
+		}
+	}
+
+	/**
+	 * Waits all pending finalizations of rolled over streams to complete
+	 * and rethrows a first error if any of those failed. Errors from other
+	 * failed finalizations are added to it as suppressed exceptions.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	protected void awaitFinalizations() throws IOException {
+		Semaphore permits = finalizationPermits;
+		if (permits != null) {
+			try {
+				permits.acquire(maxPendingFinalizations);
+				permits.release(maxPendingFinalizations);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new StoreException("Interrupted while waiting pending finalizations", e);
+			}
+		}
+		IOException error = finalizationError.getAndSet(null);
+		if (error != null) {
+			throw error;
+		}
+	}
+
+	private void recordFinalizationError(IOException error) {
+		while (true) {
+			IOException first = finalizationError.get();
+			if (first != null) {
+				first.addSuppressed(error);
+				return;
+			}
+			if (finalizationError.compareAndSet(null, error)) {
+				return;
+			}
+		}
+	}
+
+	private synchronized Semaphore getFinalizationPermits() {
+		if (finalizationPermits == null) {
+			finalizationPermits = new Semaphore(maxPendingFinalizations);
+		}
+		return finalizationPermits;
+	}
+
 	/**
 	 * Gets the output.
 	 *
@@ -108,8 +310,12 @@ public abstract class AbstractDataStreamWriter extends OutputStoreObjectSupport
 		do {
 			boolean rollStrategies = false;
 			try {
-				p = getResolvedPath();
-				synchronized (lock) {
+				p = getResolvedPath(!optimisticOpen);
+				if (optimisticOpen) {
+					wout = openOptimistic(fs, p);
+					break;
+				}
+				synchronized (getPathLock(p)) {
 					boolean exists = fs.exists(p);
 					if (isAppendable() && exists) {
 						wout = fs.append(p);
@@ -123,6 +329,11 @@ public abstract class AbstractDataStreamWriter extends OutputStoreObjectSupport
 						break;
 					}
 				}
+			} catch (FileAlreadyExistsException e) {
+				if (log.isDebugEnabled()) {
+					log.debug("Path " + p + " already exists, rolling strategies");
+				}
+				rollStrategies = true;
 			} catch (Exception e) {
 				rollStrategies = true;
 			}
@@ -140,21 +351,44 @@ public abstract class AbstractDataStreamWriter extends OutputStoreObjectSupport
 
 		log.info("Creating output for path " + p);
 		holder.setPath(p);
+		onStreamOpened(p, wout.getPos());
 
 		if (!isCompressed()) {
 			holder.setStream(wout);
 		} else {
 			// TODO: will isCompressed() really guard for npe against getCodec()
-			Class<?> clazz = ClassUtils.resolveClassName(getCodec().getCodecClass(), getClass().getClassLoader());
-			CompressionCodec compressionCodec = (CompressionCodec) ReflectionUtils.newInstance(clazz,
-					getConfiguration());
-			OutputStream out = compressionCodec.createOutputStream(wout);
+			CompressionCodec compressionCodec = CompressionCodecCache.getCodec(getCodec(), getConfiguration());
+			Compressor compressor = CompressionCodecCache.getCompressor(compressionCodec);
+			OutputStream out;
+			try {
+				out = compressor != null ? compressionCodec.createOutputStream(wout, compressor)
+						: compressionCodec.createOutputStream(wout);
+			} catch (IOException e) {
+				CodecPool.returnCompressor(compressor);
+				throw e;
+			}
+			holder.setCompressor(compressor);
 			holder.setWrappedStream(wout);
 			holder.setStream(out);
 		}
 		return holder;
 	}
 
+	private FSDataOutputStream openOptimistic(FileSystem fs, Path p) throws IOException {
+		if (isAppendable()) {
+			try {
+				return fs.append(p);
+			} catch (FileNotFoundException e) {
+				// nothing to append, create below
+			}
+		}
+		return fs.create(p, isOverwrite());
+	}
+
+	private static Object getPathLock(Path p) {
+		return locks[(p.hashCode() & 0x7fffffff) % locks.length];
+	}
+
 	/**
 	 * Gets the current stream writing position.
 	 *
@@ -16,24 +16,38 @@
 package org.springframework.data.hadoop.store.output;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
 import org.springframework.context.Lifecycle;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.hadoop.store.DataBatchWriter;
 import org.springframework.data.hadoop.store.DataStoreWriter;
 import org.springframework.data.hadoop.store.PartitionDataStoreWriter;
 import org.springframework.data.hadoop.store.StoreException;
 import org.springframework.data.hadoop.store.codec.CodecInfo;
+import org.springframework.data.hadoop.store.metrics.StoreMetrics;
+import org.springframework.data.hadoop.store.partition.PartitionKeyResolver;
 import org.springframework.data.hadoop.store.partition.PartitionStrategy;
 import org.springframework.data.hadoop.store.strategy.naming.FileNamingStrategy;
 import org.springframework.data.hadoop.store.strategy.naming.FileNamingStrategyFactory;
 import org.springframework.data.hadoop.store.strategy.rollover.RolloverStrategy;
 import org.springframework.data.hadoop.store.strategy.rollover.RolloverStrategyFactory;
+import org.springframework.data.hadoop.store.strategy.sync.SyncStrategy;
+import org.springframework.data.hadoop.store.strategy.sync.SyncStrategyFactory;
 import org.springframework.data.hadoop.store.support.LifecycleObjectSupport;
+import org.springframework.data.hadoop.store.support.OutputStoreObjectSupport;
 import org.springframework.util.Assert;
 
 /**
@@ -44,10 +58,14 @@ import org.springframework.util.Assert;
  * @param <T> the type of an entity to write
  * @param <K> the type of a partition key
  */
-public abstract class AbstractPartitionDataStoreWriter<T, K> extends LifecycleObjectSupport implements PartitionDataStoreWriter<T, K> {
+public abstract class AbstractPartitionDataStoreWriter<T, K> extends LifecycleObjectSupport implements PartitionDataStoreWriter<T, K>,
+		DataBatchWriter<T> {
 
 	private final static Log log = LogFactory.getLog(AbstractPartitionDataStoreWriter.class);
 
+	/** Default max number of remembered init index hints */
+	public final static int DEFAULT_MAX_INIT_INDEX_HINTS = 10000;
+
 	/** Hadoop configuration */
 	private final Configuration configuration;
 
@@ -63,8 +81,25 @@ public abstract class AbstractPartitionDataStoreWriter<T, K> extends LifecycleOb
 	/** Current partition writers identified by a path */
 	private final Map<Path, DataStoreWriter<T>> writers = new ConcurrentHashMap<Path, DataStoreWriter<T>>();
 
+	/** Paths of partition writers in access order, eldest first, used with maxOpenWriters */
+	private final Map<Path, Boolean> writerAccessOrder = new LinkedHashMap<Path, Boolean>(16, 0.75f, true);
+
+	/** Last known roll indexes of destroyed partition writers used with incremental init */
+	private final Map<Path, Integer> initIndexHints = new LinkedHashMap<Path, Integer>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Path, Integer> eldest) {
+			return size() > maxInitIndexHints;
+		}
+	};
+
+	/** Count of partition writers evicted because of maxOpenWriters */
+	private final AtomicLong evictedWriters = new AtomicLong();
+
 	/** Writer for unknown partitions */
-	private DataStoreWriter<T> fallbackWriter;
+	private volatile DataStoreWriter<T> fallbackWriter;
 
 	/** Reduced factory interface for naming strategy */
 	private FileNamingStrategyFactory<FileNamingStrategy> fileNamingStrategyFactory;
@@ -72,6 +107,9 @@ public abstract class AbstractPartitionDataStoreWriter<T, K> extends LifecycleOb
 	/** Reduced factory interface for rollover strategy */
 	private RolloverStrategyFactory<RolloverStrategy> rolloverStrategyFactory;
 
+	/** Reduced factory interface for sync strategy */
+	private SyncStrategyFactory<SyncStrategy> syncStrategyFactory;
+
 	/** Idle timeout for writers */
 	private long idleTimeout;
 
@@ -81,6 +119,9 @@ public abstract class AbstractPartitionDataStoreWriter<T, K> extends LifecycleOb
 	/** Flush timeout for writers */
 	private long flushTimeout;
 
+	/** Rollover check interval for writers */
+	private long rolloverCheckInterval;
+
 	/** Append flag for writers */
 	private boolean append = false;
 
@@ -102,6 +143,27 @@ public abstract class AbstractPartitionDataStoreWriter<T, K> extends LifecycleOb
 	/** Flag enabling Syncable hflush*/
 	private boolean syncable = false;
 
+	/** Flag enabling concurrent writes into different partitions */
+	private boolean concurrent = false;
+
+	/** Executor finalizing rolled over streams in partition writers */
+	private TaskExecutor rolloverFinalizerExecutor;
+
+	/** Max number of pending finalizations per partition writer */
+	private int maxPendingFinalizations = AbstractDataStreamWriter.DEFAULT_MAX_PENDING_FINALIZATIONS;
+
+	/** Max number of open partition writers, non-positive means no limit */
+	private int maxOpenWriters = 0;
+
+	/** Flag enabling optimistic open for partition writers */
+	private boolean optimisticOpen = false;
+
+	/** Flag enabling incremental init for partition writers */
+	private boolean incrementalInit = false;
+
+	/** Max number of remembered init index hints */
+	private volatile int maxInitIndexHints = DEFAULT_MAX_INIT_INDEX_HINTS;
+
 	/**
 	 * Instantiates a new abstract data store partition writer.
 	 *
@@ -157,6 +219,9 @@ public abstract class AbstractPartitionDataStoreWriter<T, K> extends LifecycleOb
 			}
 		}
 		writers.clear();
+		synchronized (writerAccessOrder) {
+			writerAccessOrder.clear();
+		}
 		if (fallbackWriter != null) {
 			try {
 				fallbackWriter.close();
@@ -168,27 +233,243 @@ public abstract class AbstractPartitionDataStoreWriter<T, K> extends LifecycleOb
 	}
 
 	@Override
-	public synchronized void write(T entity, K partitionKey) throws IOException {
+	public void write(T entity, K partitionKey) throws IOException {
+		if (concurrent) {
+			doWrite(entity, partitionKey);
+		} else {
+			synchronized (this) {
+				doWrite(entity, partitionKey);
+			}
+		}
+	}
+
+	/**
+	 * Write a batch of entities resolving a partition key for every entity.
+	 * Entities are grouped by a resolved partition path and every group is
+	 * passed to its partition writer as a batch if writer is a
+	 * {@link DataBatchWriter}. Order of entities within a partition is kept.
+	 *
+	 * @param entities the entities to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public void writeBatch(Collection<? extends T> entities) throws IOException {
+		if (concurrent) {
+			doWriteBatch(entities, null, true);
+		} else {
+			synchronized (this) {
+				doWriteBatch(entities, null, true);
+			}
+		}
+	}
+
+	/**
+	 * Write a batch of entities into a partition resolved from a given
+	 * partition key.
+	 *
+	 * @param entities the entities to write
+	 * @param partitionKey the partition key
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void writeBatch(Collection<? extends T> entities, K partitionKey) throws IOException {
+		if (concurrent) {
+			doWriteBatch(entities, partitionKey, false);
+		} else {
+			synchronized (this) {
+				doWriteBatch(entities, partitionKey, false);
+			}
+		}
+	}
+
+	/**
+	 * Resolves a partition writer and writes an entity into it. With
+	 * concurrent mode this method is entered without holding a lock on
+	 * this writer and only threads writing into a same partition contend
+	 * on a partition writer itself.
+	 *
+	 * @param entity the entity to write
+	 * @param partitionKey the partition key
+	 * @throws IOException if an I/O error occurs
+	 */
+	private void doWrite(T entity, K partitionKey) throws IOException {
 		if (isClosed()) {
 			throw new StoreException("This writer is already closed");
 		}
-		DataStoreWriter<T> writer = null;
-		Path path = null;
+		writeToPartition(resolvePath(partitionKey), entity);
+	}
 
-		// double sync for destroyWriter
-		synchronized (writers) {
-			if (partitionKey != null) {
-				path = partitionStrategy.getPartitionResolver().resolvePath(partitionKey);
-				writer = writers.get(path);
-			} else if (fallbackWriter == null) {
-				fallbackWriter = writer = createWriter(getConfiguration(), null, getCodec());
+	private void doWriteBatch(Collection<? extends T> entities, K partitionKey, boolean resolveKeys)
+			throws IOException {
+		if (isClosed()) {
+			throw new StoreException("This writer is already closed");
+		}
+		if (entities.isEmpty()) {
+			return;
+		}
+		if (resolveKeys) {
+			PartitionKeyResolver<T, K> keyResolver = partitionStrategy.getPartitionKeyResolver();
+			Map<Path, List<T>> groups = new LinkedHashMap<Path, List<T>>();
+			for (T entity : entities) {
+				Path path = resolvePath(keyResolver.resolvePartitionKey(entity));
+				List<T> group = groups.get(path);
+				if (group == null) {
+					group = new ArrayList<T>();
+					groups.put(path, group);
+				}
+				group.add(entity);
 			}
+			for (Entry<Path, List<T>> entry : groups.entrySet()) {
+				writeBatchToPartition(entry.getKey(), entry.getValue());
+			}
+		} else {
+			writeBatchToPartition(resolvePath(partitionKey), entities);
+		}
+	}
+
+	/**
+	 * Writes an entity into a partition writer. A resolved writer may get
+	 * closed by an eviction, an idle timeout or a rollover in an other
+	 * thread before it's written, in which case it throws
+	 * {@link WriterClosedException} and a writer is resolved again.
+	 */
+	private void writeToPartition(Path path, T entity) throws IOException {
+		while (true) {
+			try {
+				resolveWriter(path).write(entity);
+				return;
+			} catch (WriterClosedException e) {
+				checkNotClosed();
+			}
+		}
+	}
+
+	private void writeBatchToPartition(Path path, Collection<? extends T> entities) throws IOException {
+		while (true) {
+			DataStoreWriter<T> writer = resolveWriter(path);
+			if (!(writer instanceof DataBatchWriter)) {
+				for (T entity : entities) {
+					writeToPartition(path, entity);
+				}
+				return;
+			}
+			try {
+				@SuppressWarnings("unchecked")
+				DataBatchWriter<T> batchWriter = (DataBatchWriter<T>) writer;
+				batchWriter.writeBatch(entities);
+				return;
+			} catch (WriterClosedException e) {
+				checkNotClosed();
+			}
+		}
+	}
+
+	private void checkNotClosed() {
+		if (isClosed()) {
+			throw new StoreException("This writer is already closed");
+		}
+	}
+
+	private Path resolvePath(K partitionKey) {
+		return partitionKey != null ? partitionStrategy.getPartitionResolver().resolvePath(partitionKey) : null;
+	}
+
+	/**
+	 * Resolves a writer for a partition path creating it if needed. Null
+	 * path resolves to a fallback writer.
+	 *
+	 * @param path the partition path
+	 * @return the writer
+	 */
+	private DataStoreWriter<T> resolveWriter(Path path) {
+		DataStoreWriter<T> writer;
+		if (path != null) {
+			writer = writers.get(path);
+			if (writer == null) {
+				DataStoreWriter<T> evicted = null;
+				// double sync for destroyWriter
+				synchronized (writers) {
+					writer = writers.get(path);
+					if (writer == null) {
+						if (maxOpenWriters > 0 && writers.size() >= maxOpenWriters) {
+							evicted = removeLeastRecentlyUsedWriter();
+						}
+						writer = createWriter(getConfiguration(), path, getCodec());
+						writers.put(path, writer);
+						if (maxOpenWriters > 0) {
+							synchronized (writerAccessOrder) {
+								writerAccessOrder.put(path, Boolean.TRUE);
+							}
+						}
+					}
+				}
+				// close outside of a lock so that flush and
+				// rename don't block writes to other partitions
+				if (evicted != null) {
+					closeEvictedWriter(evicted);
+				}
+			}
+			if (maxOpenWriters > 0) {
+				touchWriter(path);
+			}
+		} else {
+			writer = fallbackWriter;
 			if (writer == null) {
-				writer = createWriter(getConfiguration(), path, getCodec());
-				writers.put(path, writer);
+				synchronized (writers) {
+					writer = fallbackWriter;
+					if (writer == null) {
+						fallbackWriter = writer = createWriter(getConfiguration(), null, getCodec());
+					}
+				}
 			}
 		}
-		writer.write(entity);
+		return writer;
+	}
+
+	/**
+	 * Removes a least recently used partition writer. Needs to be called
+	 * while holding a lock on writers.
+	 *
+	 * @return the removed writer or null if nothing was removed
+	 */
+	private DataStoreWriter<T> removeLeastRecentlyUsedWriter() {
+		Path eldestPath;
+		synchronized (writerAccessOrder) {
+			Iterator<Path> iterator = writerAccessOrder.keySet().iterator();
+			if (!iterator.hasNext()) {
+				return null;
+			}
+			eldestPath = iterator.next();
+			iterator.remove();
+		}
+		DataStoreWriter<T> writer = writers.remove(eldestPath);
+		if (writer != null) {
+			evictedWriters.incrementAndGet();
+			StoreMetrics metrics = getStoreMetrics();
+			if (metrics != null) {
+				metrics.recordEviction();
+			}
+			if (log.isDebugEnabled()) {
+				log.debug("Evicting writer with path=[" + eldestPath + "] maxOpenWriters=" + maxOpenWriters);
+			}
+		}
+		return writer;
+	}
+
+	private void closeEvictedWriter(DataStoreWriter<T> writer) {
+		try {
+			writer.flush();
+			writer.close();
+		} catch (Exception e) {
+			log.warn("Evicted writer caused exception in close", e);
+		}
+	}
+
+	private void touchWriter(Path path) {
+		// get moves an entry last in access order, already
+		// evicted or destroyed paths are not added back
+		synchronized (writerAccessOrder) {
+			writerAccessOrder.get(path);
+		}
 	}
 
 	@Override
@@ -260,6 +541,25 @@ public abstract class AbstractPartitionDataStoreWriter<T, K> extends LifecycleOb
 		return rolloverStrategyFactory;
 	}
 
+	/**
+	 * Sets the sync strategy factory. Every partition writer
+	 * gets its own sync strategy instance.
+	 *
+	 * @param syncStrategyFactory the new sync strategy factory
+	 */
+	public void setSyncStrategyFactory(SyncStrategyFactory<SyncStrategy> syncStrategyFactory) {
+		this.syncStrategyFactory = syncStrategyFactory;
+	}
+
+	/**
+	 * Gets the sync strategy factory.
+	 *
+	 * @return the sync strategy factory
+	 */
+	public SyncStrategyFactory<SyncStrategy> getSyncStrategyFactory() {
+		return syncStrategyFactory;
+	}
+
 	/**
 	 * Sets the idle timeout.
 	 *
@@ -287,6 +587,15 @@ public abstract class AbstractPartitionDataStoreWriter<T, K> extends LifecycleOb
 		this.flushTimeout = flushTimeout;
 	}
 
+	/**
+	 * Sets the rollover check interval.
+	 *
+	 * @param rolloverCheckInterval the new rollover check interval
+	 */
+	public void setRolloverCheckInterval(long rolloverCheckInterval) {
+		this.rolloverCheckInterval = rolloverCheckInterval;
+	}
+
     /**
      * Sets the in writing suffix.
      *
@@ -383,6 +692,180 @@ public abstract class AbstractPartitionDataStoreWriter<T, K> extends LifecycleOb
 		this.syncable = syncable;
 	}
 
+	/**
+	 * Checks if concurrent mode is enabled.
+	 *
+	 * @return true, if concurrent mode is enabled
+	 */
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Sets the concurrent mode. By default all writes are serialized
+	 * through this writer. Enabling concurrent mode allows writes into
+	 * different partitions to proceed in parallel and only writes into
+	 * a same partition path contend with each others. Used
+	 * {@link PartitionStrategy} needs to be thread safe when this mode
+	 * is enabled.
+	 *
+	 * @param concurrent the concurrent flag
+	 */
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
+	/**
+	 * Sets the executor used by partition writers to finalize
+	 * rolled over streams.
+	 *
+	 * @param rolloverFinalizerExecutor the rollover finalizer executor
+	 * @see AbstractDataStreamWriter#setRolloverFinalizerExecutor(TaskExecutor)
+	 */
+	public void setRolloverFinalizerExecutor(TaskExecutor rolloverFinalizerExecutor) {
+		this.rolloverFinalizerExecutor = rolloverFinalizerExecutor;
+	}
+
+	/**
+	 * Gets the executor used by partition writers to finalize
+	 * rolled over streams.
+	 *
+	 * @return the rollover finalizer executor
+	 */
+	public TaskExecutor getRolloverFinalizerExecutor() {
+		return rolloverFinalizerExecutor;
+	}
+
+	/**
+	 * Sets the max number of pending finalizations per partition writer.
+	 *
+	 * @param maxPendingFinalizations the new max pending finalizations
+	 * @see AbstractDataStreamWriter#setMaxPendingFinalizations(int)
+	 */
+	public void setMaxPendingFinalizations(int maxPendingFinalizations) {
+		this.maxPendingFinalizations = maxPendingFinalizations;
+	}
+
+	/**
+	 * Gets the max number of pending finalizations per partition writer.
+	 *
+	 * @return the max pending finalizations
+	 */
+	public int getMaxPendingFinalizations() {
+		return maxPendingFinalizations;
+	}
+
+	/**
+	 * Sets the max number of open partition writers. When a new partition
+	 * writer is needed and this limit has been reached, a least recently
+	 * used partition writer is flushed and closed before a new one is
+	 * created. Zero or negative value disables the limit which is the
+	 * default.
+	 *
+	 * @param maxOpenWriters the new max open writers
+	 */
+	public void setMaxOpenWriters(int maxOpenWriters) {
+		this.maxOpenWriters = maxOpenWriters;
+	}
+
+	/**
+	 * Gets the max number of open partition writers.
+	 *
+	 * @return the max open writers
+	 */
+	public int getMaxOpenWriters() {
+		return maxOpenWriters;
+	}
+
+	/**
+	 * Sets the flag enabling optimistic open for partition writers.
+	 *
+	 * @param optimisticOpen the optimistic open flag
+	 * @see AbstractDataStreamWriter#setOptimisticOpen(boolean)
+	 */
+	public void setOptimisticOpen(boolean optimisticOpen) {
+		this.optimisticOpen = optimisticOpen;
+	}
+
+	/**
+	 * Checks if optimistic open is enabled.
+	 *
+	 * @return true, if optimistic open is enabled
+	 */
+	public boolean isOptimisticOpen() {
+		return optimisticOpen;
+	}
+
+	/**
+	 * Sets the flag enabling incremental init for partition writers. When
+	 * enabled a partition writer doesn't list its directory to initialise
+	 * naming strategies but probes paths instead. A last known roll index
+	 * of a closed partition writer is remembered and used as a starting
+	 * point when a writer for a same partition is created again.
+	 *
+	 * @param incrementalInit the incremental init flag
+	 * @see OutputStoreObjectSupport#setIncrementalInit(boolean)
+	 */
+	public void setIncrementalInit(boolean incrementalInit) {
+		this.incrementalInit = incrementalInit;
+	}
+
+	/**
+	 * Checks if incremental init is enabled.
+	 *
+	 * @return true, if incremental init is enabled
+	 */
+	public boolean isIncrementalInit() {
+		return incrementalInit;
+	}
+
+	/**
+	 * Sets the max number of remembered init index hints. A hint
+	 * of a least recently used partition is forgotten if this
+	 * limit is reached.
+	 *
+	 * @param maxInitIndexHints the max init index hints
+	 */
+	public void setMaxInitIndexHints(int maxInitIndexHints) {
+		this.maxInitIndexHints = maxInitIndexHints;
+	}
+
+	/**
+	 * Gets the roll index where an incremental init of a partition
+	 * writer for a given path should start probing.
+	 *
+	 * @param path the partition path
+	 * @return the init index hint
+	 */
+	protected int getInitIndexHint(Path path) {
+		if (path == null) {
+			return 0;
+		}
+		synchronized (initIndexHints) {
+			Integer hint = initIndexHints.get(path);
+			return hint != null ? hint : 0;
+		}
+	}
+
+	/**
+	 * Gets the number of currently open partition writers.
+	 *
+	 * @return the open writer count
+	 */
+	public int getOpenWriterCount() {
+		return writers.size();
+	}
+
+	/**
+	 * Gets the total number of partition writers evicted
+	 * because of {@link #setMaxOpenWriters(int)}.
+	 *
+	 * @return the evicted writer count
+	 */
+	public long getEvictedWriterCount() {
+		return evictedWriters.get();
+	}
+
 	/**
 	 * Gets the idle timeout.
 	 *
@@ -410,6 +893,15 @@ public abstract class AbstractPartitionDataStoreWriter<T, K> extends LifecycleOb
 		return flushTimeout;
 	}
 
+	/**
+	 * Gets the rollover check interval.
+	 *
+	 * @return the rollover check interval
+	 */
+	public long getRolloverCheckInterval() {
+		return rolloverCheckInterval;
+	}
+
 	/**
 	 * Gets the hadoop configuration.
 	 *
@@ -465,7 +957,10 @@ public abstract class AbstractPartitionDataStoreWriter<T, K> extends LifecycleOb
 	}
 
 	/**
-	 * Need to be implemented by a subclass for an actual writer.
+	 * Need to be implemented by a subclass for an actual writer. A created
+	 * writer is removed with {@link #destroyWriter(Path, DataStoreWriter)}
+	 * when it's closed and it should then fail further writes with
+	 * {@link WriterClosedException}, as an other thread may still hold it.
 	 *
 	 * @param configuration the configuration
 	 * @param basePath the base path
@@ -482,15 +977,39 @@ public abstract class AbstractPartitionDataStoreWriter<T, K> extends LifecycleOb
 	 * @param path the path
 	 */
 	protected void destroyWriter(Path path) {
+		destroyWriter(path, null);
+	}
+
+	/**
+	 * Destroys a writer with a given {@link Path} if exist and if it
+	 * is the given writer instance. This guards against removing a new
+	 * writer created for a same path after a previous writer for that
+	 * path has already been evicted. This method expects subclass to
+	 * close and flush writer before call of this.
+	 *
+	 * @param path the path
+	 * @param writer the writer to destroy, null matches any writer
+	 */
+	protected void destroyWriter(Path path, DataStoreWriter<T> writer) {
 		log.info("Trying to destoy writer with path=[" + path + "]");
 		if (path == null) {
 			return;
 		}
+		if (incrementalInit && writer instanceof OutputStoreObjectSupport) {
+			int hint = ((OutputStoreObjectSupport) writer).getOutputContext().getRollIndex();
+			synchronized (initIndexHints) {
+				initIndexHints.put(path, hint);
+			}
+		}
 		// sync with writer create in write()
 		synchronized (writers) {
-			DataStoreWriter<T> writer = writers.remove(path);
-			if (writer != null) {
-				log.info("Removed writer=[" + writer + "]");
+			DataStoreWriter<T> existing = writers.get(path);
+			if (existing != null && (writer == null || existing == writer)) {
+				synchronized (writerAccessOrder) {
+					writerAccessOrder.remove(path);
+				}
+				writers.remove(path);
+				log.info("Removed writer=[" + existing + "]");
 			} else {
 				log.info("Writer with path=[" + path + "] didn't exist anymore");
 			}
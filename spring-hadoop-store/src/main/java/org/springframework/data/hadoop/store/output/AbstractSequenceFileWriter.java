@@ -19,18 +19,17 @@ package org.springframework.data.hadoop.store.output;
 import java.io.IOException;
 
 import org.apache.hadoop.conf.Configuration;
-import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.SequenceFile;
 import org.apache.hadoop.io.SequenceFile.CompressionType;
 import org.apache.hadoop.io.SequenceFile.Writer;
 import org.apache.hadoop.io.Text;
 import org.apache.hadoop.io.compress.CompressionCodec;
-import org.apache.hadoop.util.ReflectionUtils;
 import org.springframework.data.hadoop.store.codec.CodecInfo;
+import org.springframework.data.hadoop.store.codec.CompressionCodecCache;
+import org.springframework.data.hadoop.store.metrics.StoreMetrics;
 import org.springframework.data.hadoop.store.support.OutputStoreObjectSupport;
 import org.springframework.data.hadoop.store.support.SequenceFileWriterHolder;
-import org.springframework.util.ClassUtils;
 
 /**
  * A {@code AbstractSequenceFileWriter} is a base implementation handling
@@ -41,6 +40,15 @@ import org.springframework.util.ClassUtils;
  */
 public abstract class AbstractSequenceFileWriter extends OutputStoreObjectSupport {
 
+	/** Hadoop config key for a buffer size used in block compression */
+	private static final String COMPRESS_BLOCKSIZE_KEY = "io.seqfile.compress.blocksize";
+
+	private CompressionType compressionType;
+
+	private int compressionBlockSize = -1;
+
+	private Configuration writerConfiguration;
+
 	/**
 	 * Instantiates a new abstract sequence file writer.
 	 *
@@ -53,36 +61,113 @@ public abstract class AbstractSequenceFileWriter extends OutputStoreObjectSuppor
 	}
 
 	/**
-	 * Gets the output.
+	 * Gets the output using {@code Text} as key and value classes.
 	 *
 	 * @return the output
 	 * @throws IOException Signals that an I/O exception has occurred.
 	 */
-	@SuppressWarnings("deprecation")
 	protected SequenceFileWriterHolder<Writer> getOutput() throws IOException {
-		FileSystem fs = FileSystem.get(getConfiguration());
+		return getOutput(Text.class, Text.class);
+	}
 
-		SequenceFileWriterHolder<Writer> holder;
-		Writer writer;
+	/**
+	 * Gets the output for given key and value classes. If codec is set
+	 * {@link CompressionType#RECORD} is used unless other compression
+	 * type has been set.
+	 *
+	 * @param keyClass the key class
+	 * @param valueClass the value class
+	 * @return the output
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	protected SequenceFileWriterHolder<Writer> getOutput(Class<?> keyClass, Class<?> valueClass)
+			throws IOException {
 		CodecInfo codecInfo = getCodec();
 		Path p = getResolvedPath();
-		if (codecInfo == null) {
-			writer = SequenceFile.createWriter(
-					fs, getConfiguration(), getResolvedPath(),
-					Text.class, Text.class, CompressionType.NONE, (CompressionCodec) null);
-			holder = new SequenceFileWriterHolder<SequenceFile.Writer>(writer, p);
+		Writer writer;
+		if (codecInfo == null || compressionType == CompressionType.NONE) {
+			writer = SequenceFile.createWriter(getConfiguration(), Writer.file(p), Writer.keyClass(keyClass),
+					Writer.valueClass(valueClass), Writer.compression(CompressionType.NONE));
 		}
 		else {
-			Class<?> clazz = ClassUtils.resolveClassName(codecInfo.getCodecClass(), getClass().getClassLoader());
-			CompressionCodec compressionCodec = (CompressionCodec) ReflectionUtils.newInstance(clazz,
-					getConfiguration());
-			writer = SequenceFile.createWriter(fs,
-					getConfiguration(), getResolvedPath(),
-					Text.class, Text.class, CompressionType.RECORD, compressionCodec);
-			holder = new SequenceFileWriterHolder<SequenceFile.Writer>(writer, p);
+			CompressionCodec compressionCodec = CompressionCodecCache.getCodec(codecInfo, getConfiguration());
+			CompressionType type = compressionType != null ? compressionType : CompressionType.RECORD;
+			writer = SequenceFile.createWriter(getWriterConfiguration(), Writer.file(p), Writer.keyClass(keyClass),
+					Writer.valueClass(valueClass), Writer.compression(type, compressionCodec));
+		}
+		onStreamOpened(p, 0);
+		return new SequenceFileWriterHolder<SequenceFile.Writer>(writer, p);
+	}
+
+	/**
+	 * Sets the compression type used when codec is set. If
+	 * not set, {@link CompressionType#RECORD} is used.
+	 *
+	 * @param compressionType the new compression type
+	 */
+	public void setCompressionType(CompressionType compressionType) {
+		this.compressionType = compressionType;
+	}
+
+	/**
+	 * Gets the compression type.
+	 *
+	 * @return the compression type
+	 */
+	public CompressionType getCompressionType() {
+		return compressionType;
+	}
+
+	/**
+	 * Sets the size of a buffer in bytes collecting records before a
+	 * block is compressed with {@link CompressionType#BLOCK}. If not set,
+	 * value from a hadoop configuration is used.
+	 *
+	 * @param compressionBlockSize the new compression block size
+	 */
+	public synchronized void setCompressionBlockSize(int compressionBlockSize) {
+		this.compressionBlockSize = compressionBlockSize;
+		this.writerConfiguration = null;
+	}
+
+	/**
+	 * Gets the compression block size.
+	 *
+	 * @return the compression block size, negative if not set
+	 */
+	public int getCompressionBlockSize() {
+		return compressionBlockSize;
+	}
+
+	private synchronized Configuration getWriterConfiguration() {
+		if (compressionBlockSize < 1) {
+			return getConfiguration();
 		}
+		if (writerConfiguration == null) {
+			Configuration conf = new Configuration(getConfiguration());
+			conf.setInt(COMPRESS_BLOCKSIZE_KEY, compressionBlockSize);
+			writerConfiguration = conf;
+		}
+		return writerConfiguration;
+	}
 
-		return holder;
+	/**
+	 * Syncs a given writer if a sync strategy has a pending sync. With
+	 * {@link CompressionType#BLOCK} only records already flushed from
+	 * a compression buffer are covered by a sync.
+	 *
+	 * @param writer the sequence file writer
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	protected void syncIfDue(Writer writer) throws IOException {
+		if (writer != null && isSyncDue()) {
+			long start = System.nanoTime();
+			sync(writer);
+			StoreMetrics metrics = getStoreMetrics();
+			if (metrics != null) {
+				metrics.recordFlush(System.nanoTime() - start);
+			}
+		}
 	}
 
 	protected long getPosition(Writer writer) throws IOException {
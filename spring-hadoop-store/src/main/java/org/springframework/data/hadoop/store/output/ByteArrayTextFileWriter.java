@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.output;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.springframework.data.hadoop.store.DataStoreWriter;
+import org.springframework.data.hadoop.store.codec.CodecInfo;
+import org.springframework.data.hadoop.store.support.StoreUtils;
+import org.springframework.util.Assert;
+
+/**
+ * A {@code ByteArrayTextFileWriter} is a {@code DataStoreWriter} implementation
+ * able to write already serialized records as {@code byte[]}s or
+ * {@code ByteBuffer}s into raw hdfs files. Every record is followed by
+ * a delimiter same way as with {@link TextFileWriter}.
+ */
+public class ByteArrayTextFileWriter implements DataStoreWriter<byte[]> {
+
+	/** Underlying text writer */
+	private final TextFileWriter textFileWriter;
+
+	/**
+	 * Instantiates a new byte array text file writer.
+	 *
+	 * @param configuration the hadoop configuration
+	 * @param basePath the hdfs path
+	 * @param codec the compression codec info
+	 */
+	public ByteArrayTextFileWriter(Configuration configuration, Path basePath, CodecInfo codec) {
+		this(configuration, basePath, codec, StoreUtils.getUTF8DefaultDelimiter());
+	}
+
+	/**
+	 * Instantiates a new byte array text file writer.
+	 *
+	 * @param configuration the hadoop configuration
+	 * @param basePath the hdfs path
+	 * @param codec the compression codec info
+	 * @param delimiter the record delimiter
+	 */
+	public ByteArrayTextFileWriter(Configuration configuration, Path basePath, CodecInfo codec, byte[] delimiter) {
+		this(new TextFileWriter(configuration, basePath, codec, delimiter));
+	}
+
+	/**
+	 * Instantiates a new byte array text file writer delegating to
+	 * an existing {@link TextFileWriter}. This allows to configure
+	 * strategies and timeouts for an underlying writer.
+	 *
+	 * @param textFileWriter the text file writer
+	 */
+	public ByteArrayTextFileWriter(TextFileWriter textFileWriter) {
+		Assert.notNull(textFileWriter, "TextFileWriter must be set");
+		this.textFileWriter = textFileWriter;
+	}
+
+	@Override
+	public void write(byte[] entity) throws IOException {
+		textFileWriter.write(entity, 0, entity.length);
+	}
+
+	/**
+	 * Write an entity from a part of a given byte array.
+	 *
+	 * @param entity the entity bytes
+	 * @param offset the offset in entity bytes
+	 * @param length the number of bytes to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void write(byte[] entity, int offset, int length) throws IOException {
+		textFileWriter.write(entity, offset, length);
+	}
+
+	/**
+	 * Write an entity from remaining bytes of a given buffer.
+	 *
+	 * @param entity the entity buffer
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void write(ByteBuffer entity) throws IOException {
+		textFileWriter.write(entity);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		textFileWriter.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		textFileWriter.close();
+	}
+
+	/**
+	 * Gets the underlying text file writer.
+	 *
+	 * @return the text file writer
+	 */
+	public TextFileWriter getTextFileWriter() {
+		return textFileWriter;
+	}
+
+}
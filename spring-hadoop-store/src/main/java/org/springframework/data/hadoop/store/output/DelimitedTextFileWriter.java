@@ -22,11 +22,16 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
 import org.springframework.data.hadoop.store.DataStoreWriter;
 import org.springframework.data.hadoop.store.codec.CodecInfo;
+import org.springframework.data.hadoop.store.support.DelimitedFieldEncoder;
 import org.springframework.data.hadoop.store.support.StoreUtils;
+import org.springframework.data.hadoop.store.support.Utf8FieldEncoder;
 
 /**
  * A {@code DelimitedTextFileWriter} is a {@code DataStoreWriter} implementation
  * able to write {@code String}s into raw hdfs files as delimited fields.
+ * Fields containing a field delimiter or a double quote are quoted as
+ * described in RFC 4180. Fields containing a line break are rejected
+ * because a record is read back as a single line.
  *
  * @author Janne Valkealahti
  *
@@ -43,7 +48,10 @@ public class DelimitedTextFileWriter implements DataStoreWriter<List<String>> {
 	private TextFileWriter textFileWriter;
 
 	/** Field delimiter */
-    private final String fieldDelimiter;
+    private final byte[] fieldDelimiter;
+
+	/** Reused encoder for delimited fields */
+    private Utf8FieldEncoder encoder;
 
 	/**
 	 * Instantiates a new delimited text file writer.
@@ -65,7 +73,8 @@ public class DelimitedTextFileWriter implements DataStoreWriter<List<String>> {
 	 * @param fieldDelimiter the field delimiter
 	 */
 	public DelimitedTextFileWriter(Configuration configuration, Path basePath, CodecInfo codec, byte[] fieldDelimiter) {
-		this.fieldDelimiter = new String(fieldDelimiter);
+		this.fieldDelimiter = fieldDelimiter;
+		this.encoder = new DelimitedFieldEncoder(fieldDelimiter);
 		this.textFileWriter = new TextFileWriter(configuration, basePath, codec);
 	}
 
@@ -79,20 +88,28 @@ public class DelimitedTextFileWriter implements DataStoreWriter<List<String>> {
 	 * @param textDelimiter the text delimiter
 	 */
 	public DelimitedTextFileWriter(Configuration configuration, Path basePath, CodecInfo codec, byte[] fieldDelimiter, byte[] textDelimiter) {
-		this.fieldDelimiter = new String(fieldDelimiter);
+		this.fieldDelimiter = fieldDelimiter;
+		this.encoder = new DelimitedFieldEncoder(fieldDelimiter);
 		this.textFileWriter = new TextFileWriter(configuration, basePath, codec, textDelimiter);
 	}
 
 	@Override
-	public void write(final List<String> entity) throws IOException {
-		StringBuilder buf = new StringBuilder();
+	public synchronized void write(final List<String> entity) throws IOException {
+		encoder.reset();
 		for (int i = 0; i < entity.size(); i++) {
-			buf.append(entity.get(i));
-			if (i < (entity.size() - 1)) {
-				buf.append(fieldDelimiter);
-			}
+			encoder.field(entity.get(i));
 		}
-		textFileWriter.write(buf.toString());
+		textFileWriter.write(encoder.getBuffer(), 0, encoder.getLength());
+	}
+
+	/**
+	 * Sets if fields are quoted when needed. If disabled, fields
+	 * are written as is. Default is true.
+	 *
+	 * @param quoting the new quoting flag
+	 */
+	public synchronized void setQuoting(boolean quoting) {
+		this.encoder = quoting ? new DelimitedFieldEncoder(fieldDelimiter) : new Utf8FieldEncoder(fieldDelimiter);
 	}
 
 	@Override
@@ -27,6 +27,7 @@ import org.springframework.data.hadoop.store.DataStoreWriter;
 import org.springframework.data.hadoop.store.codec.CodecInfo;
 import org.springframework.data.hadoop.store.event.FileWrittenEvent;
 import org.springframework.data.hadoop.store.event.StoreEventPublisher;
+import org.springframework.data.hadoop.store.metrics.StoreMetrics;
 import org.springframework.data.hadoop.store.support.OutputContext;
 import org.springframework.data.hadoop.store.support.StreamsHolder;
 
@@ -57,13 +58,17 @@ public class OutputStreamWriter extends AbstractDataStreamWriter implements Data
 	@Override
 	public void flush() throws IOException {
 		if (streamsHolder != null) {
+			long start = System.nanoTime();
 			streamsHolder.getStream().flush();
+			recordFlush(start);
 		}
 	}
 
     public synchronized  void hflush() throws IOException {
         if (streamsHolder != null) {
+            long start = System.nanoTime();
             ((Syncable)streamsHolder.getStream()).hflush();
+            recordFlush(start);
         }
     }
 
@@ -71,6 +76,7 @@ public class OutputStreamWriter extends AbstractDataStreamWriter implements Data
 	public synchronized void close() throws IOException {
 		if (streamsHolder != null) {
 			streamsHolder.close();
+			onStreamClosed(streamsHolder.getPath());
 
 			Path path = renameFile(streamsHolder.getPath());
 
@@ -91,15 +97,40 @@ public class OutputStreamWriter extends AbstractDataStreamWriter implements Data
 		OutputStream out = streamsHolder.getStream();
 		out.write(entity);
 
-		setWritePosition(getPosition(streamsHolder));
+		setWritePosition(getPosition(streamsHolder), 1);
+		rollIfNeeded();
+	}
+
+	@Override
+	protected synchronized void rolloverCheck() {
+		if (streamsHolder != null) {
+			try {
+				rollIfNeeded();
+			} catch (IOException e) {
+				log.error("Error rolling stream", e);
+			}
+		}
+	}
 
+	private void rollIfNeeded() throws IOException {
 		OutputContext context = getOutputContext();
 		if (context.getRolloverState()) {
-			log.info("After write, rollover state is true");
+			log.info("Rollover state is true");
+			long start = System.nanoTime();
 			close();
 			context.rollStrategies();
+			StoreMetrics metrics = getStoreMetrics();
+			if (metrics != null) {
+				metrics.recordRollover(System.nanoTime() - start);
+			}
 		}
+	}
 
+	private void recordFlush(long start) {
+		StoreMetrics metrics = getStoreMetrics();
+		if (metrics != null) {
+			metrics.recordFlush(System.nanoTime() - start);
+		}
 	}
 
 	@Override
@@ -16,6 +16,7 @@
 package org.springframework.data.hadoop.store.output;
 
 import java.io.IOException;
+import java.util.Collection;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
@@ -51,15 +52,39 @@ public class PartitionTextFileWriter<K> extends AbstractPartitionDataStoreWriter
 	@Override
 	protected DataStoreWriter<String> createWriter(Configuration configuration, final Path path, CodecInfo codec) {
 		TextFileWriter writer = new TextFileWriter(getConfiguration(), path != null ? new Path(getBasePath(), path) : getBasePath(), codec) {
+
+			// closed partition writer must not reopen a stream
+			// which nobody would track, fallback writer is kept
+			private boolean retired;
+
+			@Override
+			public synchronized void write(byte[] entity, int offset, int length) throws IOException {
+				checkRetired();
+				super.write(entity, offset, length);
+			}
+
+			@Override
+			public synchronized void writeBatch(Collection<? extends String> entities) throws IOException {
+				checkRetired();
+				super.writeBatch(entities);
+			}
+
 			@Override
 			public synchronized void close() throws IOException {
 				// catch close() and destroy from parent
 				// this needs to happen before we pass
 				// close() to writer
-				destroyWriter(path);
+				retired = path != null;
+				destroyWriter(path, this);
 				super.close();
 				stop();
 			}
+
+			private void checkRetired() {
+				if (retired) {
+					throw new WriterClosedException("Partition writer for path=[" + path + "] is closed");
+				}
+			}
 		};
 		if (getBeanFactory() != null) {
 			writer.setBeanFactory(getBeanFactory());
@@ -75,21 +100,38 @@ public class PartitionTextFileWriter<K> extends AbstractPartitionDataStoreWriter
 		if (getStoreEventPublisher() != null) {
 			writer.setStoreEventPublisher(getStoreEventPublisher());
 		}
+		if (getStoreMetrics() != null) {
+			writer.setStoreMetrics(getStoreMetrics());
+		}
 		if (getFileNamingStrategyFactory() != null) {
 			writer.setFileNamingStrategy(getFileNamingStrategyFactory().createInstance());
 		}
 		if (getRolloverStrategyFactory() != null) {
 			writer.setRolloverStrategy(getRolloverStrategyFactory().createInstance());
 		}
+		if (getSyncStrategyFactory() != null) {
+			writer.setSyncStrategy(getSyncStrategyFactory().createInstance());
+		}
+		writer.setTimeoutService(getTimeoutService());
 		writer.setIdleTimeout(getIdleTimeout());
 		writer.setCloseTimeout(getCloseTimeout());
 		writer.setFlushTimeout(getFlushTimeout());
+		writer.setRolloverCheckInterval(getRolloverCheckInterval());
 		writer.setOverwrite(isOverwrite());
 		writer.setAppendable(isAppendable());
 		writer.setSyncable(isSyncable());
 		writer.setInWritingPrefix(getInWritingPrefix());
 		writer.setInWritingSuffix(getInWritingSuffix());
 		writer.setMaxOpenAttempts(getMaxOpenAttempts());
+		writer.setOptimisticOpen(isOptimisticOpen());
+		if (isIncrementalInit()) {
+			writer.setIncrementalInit(true);
+			writer.setInitIndexHint(getInitIndexHint(path));
+		}
+		if (getRolloverFinalizerExecutor() != null) {
+			writer.setRolloverFinalizerExecutor(getRolloverFinalizerExecutor());
+		}
+		writer.setMaxPendingFinalizations(getMaxPendingFinalizations());
 		writer.afterPropertiesSet();
 		writer.start();
 		return writer;
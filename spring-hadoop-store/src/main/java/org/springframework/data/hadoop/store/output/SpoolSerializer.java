@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.output;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A {@code SpoolSerializer} converts entities to and from bytes
+ * kept in a local spool of a {@link SpoolingDataStoreWriter}.
+ * @param <T> the type of an entity
+ */
+public interface SpoolSerializer<T> {
+
+	/**
+	 * Serialize an entity.
+	 *
+	 * @param entity the entity
+	 * @param out the output to write to
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	void serialize(T entity, DataOutput out) throws IOException;
+
+	/**
+	 * Deserialize an entity.
+	 *
+	 * @param in the input to read from
+	 * @return the entity
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	T deserialize(DataInput in) throws IOException;
+
+}
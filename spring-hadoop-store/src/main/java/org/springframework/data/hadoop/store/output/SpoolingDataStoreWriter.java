@@ -0,0 +1,752 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.output;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.io.DataInputBuffer;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.springframework.data.hadoop.store.DataStoreWriter;
+import org.springframework.data.hadoop.store.StoreException;
+import org.springframework.data.hadoop.store.support.LifecycleObjectSupport;
+import org.springframework.data.hadoop.store.support.Timeout;
+import org.springframework.data.hadoop.store.support.TimeoutTask;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.util.Assert;
+
+/**
+ * A {@code SpoolingDataStoreWriter} is a {@code DataStoreWriter} spooling
+ * entities into local segment files and writing them into a delegating
+ * writer from a background thread. Callers of {@link #write(Object)} are
+ * then not blocked while hdfs is slow, e.g. during a datanode pipeline
+ * recovery.
+ * <p>
+ * Entities are appended into a current segment which is sealed when it
+ * reaches a segment size, when a seal interval has passed or when this
+ * writer is flushed. Sealed segments are written into a delegate in order
+ * and deleted after a delegate has been flushed. If retries are exhausted
+ * or a segment can't be read, draining stops and further writes, flushes
+ * and a close fail with that error. Segments still on a disk, i.e. after
+ * a crash or a failed drain, are replayed from their start when this writer
+ * is started again with a same spool directory.
+ * <p>
+ * Delivery is at-least-once. Failed delegate writes are retried and a
+ * replayed segment may have been partially written already, thus an entity
+ * may be written more than once. A segment having a corrupted, truncated
+ * or mismatching frame is drained up to that frame and then renamed with
+ * a {@code .corrupt} suffix instead of deleted, so that it's not replayed
+ * but its remaining entities can still be recovered manually.
+ * <p>
+ * Total size of spooled segments is bounded and {@link #write(Object)}
+ * blocks when a budget is used until a background thread has drained
+ * enough data. A {@link #flush()} waits until everything written before it
+ * has been drained and flushed into a delegate.
+ * @param <T> the type of an entity to write
+ */
+@ManagedResource(description = "Local spool in front of a store writer")
+public class SpoolingDataStoreWriter<T> extends LifecycleObjectSupport implements DataStoreWriter<T> {
+
+	private static final Log log = LogFactory.getLog(SpoolingDataStoreWriter.class);
+
+	private static final String SEGMENT_PREFIX = "segment-";
+
+	private static final String SEGMENT_SUFFIX = ".spool";
+
+	private static final String CORRUPT_SUFFIX = ".corrupt";
+
+	private static final long MAX_RETRY_INTERVAL = 30000;
+
+	private final DataStoreWriter<T> delegate;
+
+	private final File spoolDirectory;
+
+	private final SpoolSerializer<T> serializer;
+
+	/** Lock guarding a current segment */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/** Monitor guarding spool size and drained segments */
+	private final Object spoolMonitor = new Object();
+
+	private final BlockingQueue<Segment> sealedSegments = new LinkedBlockingQueue<Segment>();
+
+	private final DataOutputBuffer frameBuffer = new DataOutputBuffer();
+
+	private final CRC32 crc = new CRC32();
+
+	private final CRC32 drainCrc = new CRC32();
+
+	private final AtomicLong drainedEntities = new AtomicLong();
+
+	private final AtomicLong corruptSegments = new AtomicLong();
+
+	private long segmentSize = 64 * 1024 * 1024;
+
+	private long maxSpoolSize = 1024 * 1024 * 1024;
+
+	private long sealInterval = 1000;
+
+	private long retryInterval = 1000;
+
+	private int maxRetries = 10;
+
+	private long drainTimeout = 60000;
+
+	private Segment currentSegment;
+
+	private DataOutputStream currentOutput;
+
+	private long nextSequence;
+
+	private long lastSealedSequence = -1;
+
+	private long lastDrainedSequence = -1;
+
+	private long spoolSize;
+
+	private volatile boolean draining;
+
+	/** Error which stopped a drainer */
+	private volatile Throwable drainError;
+
+	private Thread drainer;
+
+	private Timeout sealTimeout;
+
+	/**
+	 * Instantiates a new spooling data store writer.
+	 *
+	 * @param delegate the writer spooled entities are written to
+	 * @param spoolDirectory the local spool directory
+	 * @param serializer the entity serializer
+	 */
+	public SpoolingDataStoreWriter(DataStoreWriter<T> delegate, File spoolDirectory, SpoolSerializer<T> serializer) {
+		Assert.notNull(delegate, "Delegate writer must be set");
+		Assert.notNull(spoolDirectory, "Spool directory must be set");
+		Assert.notNull(serializer, "Spool serializer must be set");
+		this.delegate = delegate;
+		this.spoolDirectory = spoolDirectory;
+		this.serializer = serializer;
+	}
+
+	@Override
+	protected void doStart() {
+		lock.lock();
+		try {
+			init();
+		} catch (IOException e) {
+			throw new StoreException("Unable to start spooling writer", e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	protected void doStop() {
+		try {
+			close();
+		} catch (IOException e) {
+			log.error("Error closing spooling writer", e);
+		}
+	}
+
+	@Override
+	public void write(T entity) throws IOException {
+		lock.lock();
+		try {
+			init();
+			checkDrainError();
+			frameBuffer.reset();
+			serializer.serialize(entity, frameBuffer);
+			int length = frameBuffer.getLength();
+			reserve(length + 8);
+			if (currentOutput == null) {
+				openSegment();
+			}
+			crc.reset();
+			crc.update(frameBuffer.getData(), 0, length);
+			currentOutput.writeInt(length);
+			currentOutput.write(frameBuffer.getData(), 0, length);
+			currentOutput.writeInt((int) crc.getValue());
+			currentSegment.size += length + 8;
+			if (currentSegment.size >= segmentSize) {
+				sealSegment();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Seals a current segment and waits until all spooled
+	 * entities have been written and flushed into a delegate.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Override
+	public void flush() throws IOException {
+		long sequence;
+		lock.lock();
+		try {
+			init();
+			checkDrainError();
+			sealSegment();
+			sequence = lastSealedSequence;
+		} finally {
+			lock.unlock();
+		}
+		if (!awaitDrained(sequence, drainTimeout)) {
+			throw new StoreException("Spooled data not written within " + drainTimeout + " millis");
+		}
+	}
+
+	/**
+	 * Waits until spooled entities have been drained up to a drain timeout
+	 * and closes a delegate. Segments not yet drained are kept on a disk
+	 * and replayed when this writer is started again. If draining has
+	 * failed, a delegate is closed without waiting and an error is thrown.
+	 *
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Override
+	public void close() throws IOException {
+		lock.lock();
+		Throwable error = null;
+		try {
+			if (drainer != null) {
+				sealSegment();
+				error = drainError;
+				if (error == null) {
+					try {
+						if (!awaitDrained(lastSealedSequence, drainTimeout)) {
+							log.warn("Spooled data not written within " + drainTimeout + " millis, "
+									+ sealedSegments.size() + " segments are kept in " + spoolDirectory);
+						}
+					} catch (StoreException e) {
+						// drainer failed while waiting
+						error = drainError;
+					}
+				}
+				stopDrainer();
+			}
+			delegate.close();
+		} finally {
+			lock.unlock();
+		}
+		if (error != null) {
+			throw new StoreException("Spooled data not written, segments are kept in " + spoolDirectory, error);
+		}
+	}
+
+	/**
+	 * Sets the segment size. Current segment is sealed
+	 * when it reaches this size. Default is 64MB.
+	 *
+	 * @param segmentSize the new segment size in bytes
+	 */
+	public void setSegmentSize(long segmentSize) {
+		Assert.isTrue(segmentSize > 0, "Segment size must be positive");
+		this.segmentSize = segmentSize;
+	}
+
+	/**
+	 * Sets the max spool size. Writes block if spooled segments
+	 * would use more disk space. Default is 1GB.
+	 *
+	 * @param maxSpoolSize the new max spool size in bytes
+	 */
+	public void setMaxSpoolSize(long maxSpoolSize) {
+		Assert.isTrue(maxSpoolSize > 0, "Max spool size must be positive");
+		this.maxSpoolSize = maxSpoolSize;
+	}
+
+	/**
+	 * Sets the seal interval. A non-empty current segment is sealed when it
+	 * is older than this interval which bounds a latency before entities are
+	 * written into a delegate. Default is 1000 millis.
+	 *
+	 * @param sealInterval the new seal interval in millis
+	 */
+	public void setSealInterval(long sealInterval) {
+		this.sealInterval = sealInterval;
+	}
+
+	/**
+	 * Sets the interval before a first retry of a failed delegate write
+	 * or flush. Interval is doubled after every failed retry up to 30
+	 * seconds. Default is 1000 millis.
+	 *
+	 * @param retryInterval the new retry interval in millis
+	 */
+	public void setRetryInterval(long retryInterval) {
+		this.retryInterval = retryInterval;
+	}
+
+	/**
+	 * Sets the max number of retries of a failed delegate write or
+	 * flush before draining is stopped. Default is 10.
+	 *
+	 * @param maxRetries the new max retries
+	 */
+	public void setMaxRetries(int maxRetries) {
+		Assert.isTrue(maxRetries >= 0, "Max retries must not be negative");
+		this.maxRetries = maxRetries;
+	}
+
+	/**
+	 * Sets the max time {@link #flush()} and {@link #close()} wait for
+	 * spooled data to be written. Zero waits forever. Default is 60000 millis.
+	 *
+	 * @param drainTimeout the new drain timeout in millis
+	 */
+	public void setDrainTimeout(long drainTimeout) {
+		this.drainTimeout = drainTimeout;
+	}
+
+	/**
+	 * Gets the size of spooled data not yet written into a delegate.
+	 *
+	 * @return the spool size in bytes
+	 */
+	@ManagedAttribute(description = "Bytes spooled and not yet written")
+	public long getSpoolSize() {
+		synchronized (spoolMonitor) {
+			return spoolSize;
+		}
+	}
+
+	/**
+	 * Gets the number of segments not yet written into a delegate
+	 * including a current segment.
+	 *
+	 * @return the pending segment count
+	 */
+	@ManagedAttribute(description = "Segments spooled and not yet written")
+	public long getPendingSegments() {
+		synchronized (spoolMonitor) {
+			return nextSequence - lastDrainedSequence - 1;
+		}
+	}
+
+	/**
+	 * Gets the number of entities written into a delegate.
+	 *
+	 * @return the drained entity count
+	 */
+	@ManagedAttribute(description = "Entities written from a spool")
+	public long getDrainedEntities() {
+		return drainedEntities.get();
+	}
+
+	/**
+	 * Gets the number of segments having an unreadable frame which
+	 * were kept with a {@code .corrupt} suffix.
+	 *
+	 * @return the corrupt segments
+	 */
+	@ManagedAttribute(description = "Segments kept because of unreadable frames")
+	public long getCorruptSegments() {
+		return corruptSegments.get();
+	}
+
+	private void init() throws IOException {
+		if (drainer != null) {
+			return;
+		}
+		if (!spoolDirectory.isDirectory() && !spoolDirectory.mkdirs()) {
+			throw new StoreException("Unable to create spool directory " + spoolDirectory);
+		}
+		File[] files = spoolDirectory.listFiles(new FilenameFilter() {
+
+			@Override
+			public boolean accept(File dir, String name) {
+				return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+			}
+		});
+		Arrays.sort(files);
+		sealedSegments.clear();
+		synchronized (spoolMonitor) {
+			spoolSize = 0;
+			for (File file : files) {
+				String name = file.getName();
+				long sequence = Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+						name.length() - SEGMENT_SUFFIX.length()));
+				Segment segment = new Segment(file, sequence);
+				segment.size = file.length();
+				sealedSegments.add(segment);
+				spoolSize += segment.size;
+				nextSequence = sequence + 1;
+			}
+			lastSealedSequence = nextSequence - 1;
+			lastDrainedSequence = files.length > 0 ? sealedSegments.peek().sequence - 1 : lastSealedSequence;
+		}
+		if (files.length > 0) {
+			log.info("Replaying " + files.length + " spooled segments from " + spoolDirectory);
+		}
+		drainError = null;
+		draining = true;
+		drainer = new Thread(new Drainer(), "store-spool-drainer");
+		drainer.setDaemon(true);
+		drainer.start();
+		if (sealInterval > 0) {
+			sealTimeout = getTimeoutService().schedule(new SealTask(), sealInterval);
+		}
+	}
+
+	private void stopDrainer() {
+		if (sealTimeout != null) {
+			sealTimeout.cancel();
+			sealTimeout = null;
+		}
+		// don't interrupt a drainer which may be in
+		// hdfs i/o, it stops after a current entity
+		draining = false;
+		try {
+			drainer.join(drainTimeout > 0 ? drainTimeout : 0);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (drainer.isAlive()) {
+			log.warn("Spool drainer didn't stop within " + drainTimeout + " millis");
+		}
+		drainer = null;
+	}
+
+	private void reserve(long size) throws IOException {
+		while (true) {
+			synchronized (spoolMonitor) {
+				if (spoolSize == 0 || spoolSize + size <= maxSpoolSize) {
+					spoolSize += size;
+					return;
+				}
+				// nothing is released anymore if drainer has failed
+				checkDrainError();
+				if (currentOutput == null) {
+					try {
+						spoolMonitor.wait();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new InterruptedIOException("Interrupted waiting spool space");
+					}
+					continue;
+				}
+			}
+			// budget is used by a current segment, let it drain
+			sealSegment();
+		}
+	}
+
+	private void openSegment() throws IOException {
+		String name = String.format("%s%020d%s", SEGMENT_PREFIX, nextSequence, SEGMENT_SUFFIX);
+		currentSegment = new Segment(new File(spoolDirectory, name), nextSequence);
+		currentSegment.created = System.nanoTime();
+		currentOutput = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(currentSegment.file), 65536));
+		synchronized (spoolMonitor) {
+			nextSequence++;
+		}
+	}
+
+	private void sealSegment() throws IOException {
+		if (currentOutput == null) {
+			return;
+		}
+		currentOutput.close();
+		currentOutput = null;
+		synchronized (spoolMonitor) {
+			lastSealedSequence = currentSegment.sequence;
+		}
+		sealedSegments.add(currentSegment);
+		currentSegment = null;
+	}
+
+	private boolean awaitDrained(long sequence, long timeout) throws IOException {
+		long deadline = System.currentTimeMillis() + timeout;
+		synchronized (spoolMonitor) {
+			while (lastDrainedSequence < sequence) {
+				checkDrainError();
+				long wait = 0;
+				if (timeout > 0) {
+					wait = deadline - System.currentTimeMillis();
+					if (wait <= 0) {
+						return false;
+					}
+				}
+				try {
+					spoolMonitor.wait(wait);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new InterruptedIOException("Interrupted waiting spool to drain");
+				}
+			}
+		}
+		return true;
+	}
+
+	private void checkDrainError() {
+		Throwable error = drainError;
+		if (error != null) {
+			releaseSegments();
+			throw new StoreException("Spool drainer failed, segments are kept in " + spoolDirectory, error);
+		}
+	}
+
+	/**
+	 * Releases budget of segments which are not drained anymore. Files
+	 * of those are kept and replayed when this writer is started again.
+	 */
+	private void releaseSegments() {
+		Segment segment;
+		while ((segment = sealedSegments.poll()) != null) {
+			synchronized (spoolMonitor) {
+				spoolSize -= segment.size;
+				spoolMonitor.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Drains a segment into a delegate. Budget of a segment is released
+	 * also if it fails, in which case its file is kept and replayed when
+	 * this writer is started again.
+	 */
+	private void drain(Segment segment) throws IOException, InterruptedException {
+		boolean drained = false;
+		try {
+			boolean complete = drainEntities(segment);
+			flushDelegate();
+			drained = true;
+			if (!complete) {
+				quarantine(segment);
+			}
+		} finally {
+			if (drained && segment.file.exists() && !segment.file.delete()) {
+				log.warn("Unable to delete drained segment " + segment.file);
+			}
+			synchronized (spoolMonitor) {
+				spoolSize -= segment.size;
+				if (drained) {
+					lastDrainedSequence = segment.sequence;
+				}
+				spoolMonitor.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Keeps a segment having an unreadable frame with a corrupt suffix
+	 * so that it's neither replayed nor silently deleted.
+	 */
+	private void quarantine(Segment segment) {
+		corruptSegments.incrementAndGet();
+		File target = new File(segment.file.getPath() + CORRUPT_SUFFIX);
+		if (segment.file.renameTo(target)) {
+			log.error("Segment " + segment.file + " had an unreadable frame, entities after it are kept in " + target);
+		} else {
+			log.error("Segment " + segment.file + " had an unreadable frame and renaming it to " + target
+					+ " failed, entities after it are lost");
+		}
+	}
+
+	/**
+	 * Writes entities of a segment into a delegate.
+	 *
+	 * @return false if an unreadable frame ended a segment early
+	 */
+	private boolean drainEntities(Segment segment) throws IOException, InterruptedException {
+		DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(segment.file), 65536));
+		DataInputBuffer entityInput = new DataInputBuffer();
+		byte[] buffer = new byte[1024];
+		try {
+			while (true) {
+				if (!draining) {
+					throw new InterruptedException("Spool draining stopped");
+				}
+				int length;
+				try {
+					length = input.readInt();
+				} catch (EOFException e) {
+					return true;
+				}
+				if (length < 0 || length > maxSpoolSize) {
+					log.warn("Corrupted frame in segment " + segment.file);
+					return false;
+				}
+				if (buffer.length < length) {
+					buffer = new byte[Math.max(length, buffer.length << 1)];
+				}
+				int checksum;
+				try {
+					input.readFully(buffer, 0, length);
+					checksum = input.readInt();
+				} catch (EOFException e) {
+					log.warn("Truncated frame in segment " + segment.file);
+					return false;
+				}
+				drainCrc.reset();
+				drainCrc.update(buffer, 0, length);
+				if ((int) drainCrc.getValue() != checksum) {
+					log.warn("Checksum mismatch in segment " + segment.file);
+					return false;
+				}
+				entityInput.reset(buffer, length);
+				writeDelegate(serializer.deserialize(entityInput));
+				drainedEntities.incrementAndGet();
+			}
+		} finally {
+			input.close();
+		}
+	}
+
+	private void writeDelegate(T entity) throws IOException, InterruptedException {
+		long interval = retryInterval;
+		for (int retry = 0; ; retry++) {
+			try {
+				delegate.write(entity);
+				return;
+			} catch (Exception e) {
+				if (retry >= maxRetries) {
+					throw new StoreException("Error writing spooled entity after " + retry + " retries", e);
+				}
+				log.warn("Error writing spooled entity, retrying in " + interval + " millis", e);
+			}
+			interval = backoff(interval);
+		}
+	}
+
+	private void flushDelegate() throws IOException, InterruptedException {
+		long interval = retryInterval;
+		for (int retry = 0; ; retry++) {
+			try {
+				delegate.flush();
+				return;
+			} catch (Exception e) {
+				if (retry >= maxRetries) {
+					throw new StoreException("Error flushing spooled entities after " + retry + " retries", e);
+				}
+				log.warn("Error flushing spooled entities, retrying in " + interval + " millis", e);
+			}
+			interval = backoff(interval);
+		}
+	}
+
+	/**
+	 * Sleeps a given interval unless draining is stopped
+	 * and returns a next interval.
+	 */
+	private long backoff(long interval) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + interval;
+		long wait;
+		while ((wait = deadline - System.currentTimeMillis()) > 0) {
+			if (!draining) {
+				throw new InterruptedException("Spool draining stopped");
+			}
+			Thread.sleep(Math.min(wait, 100));
+		}
+		return Math.min(Math.max(interval, 1) * 2, MAX_RETRY_INTERVAL);
+	}
+
+	/**
+	 * Background task writing sealed segments into a delegate.
+	 */
+	private class Drainer implements Runnable {
+
+		@Override
+		public void run() {
+			try {
+				while (draining) {
+					Segment segment = sealedSegments.poll(100, TimeUnit.MILLISECONDS);
+					if (segment != null) {
+						drain(segment);
+					}
+				}
+			} catch (InterruptedException e) {
+				// segment being drained is replayed on restart
+			} catch (Throwable t) {
+				log.error("Error draining spool, segments are kept in " + spoolDirectory, t);
+				synchronized (spoolMonitor) {
+					drainError = t;
+					// wake up writes and flushes waiting a drainer
+					spoolMonitor.notifyAll();
+				}
+				releaseSegments();
+			}
+		}
+	}
+
+	/**
+	 * Task sealing a current segment after a seal interval.
+	 */
+	private class SealTask implements TimeoutTask {
+
+		@Override
+		public long run() {
+			// never block a timeout thread behind a writer waiting for space
+			if (lock.tryLock()) {
+				try {
+					if (currentSegment != null
+							&& System.nanoTime() - currentSegment.created >= TimeUnit.MILLISECONDS.toNanos(sealInterval)) {
+						sealSegment();
+					}
+				} catch (IOException e) {
+					log.error("Error sealing spool segment", e);
+				} finally {
+					lock.unlock();
+				}
+			}
+			return sealInterval;
+		}
+	}
+
+	/**
+	 * Spool segment file.
+	 */
+	private static class Segment {
+
+		final File file;
+
+		final long sequence;
+
+		long size;
+
+		long created;
+
+		Segment(File file, long sequence) {
+			this.file = file;
+			this.sequence = sequence;
+		}
+	}
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.output;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.apache.hadoop.io.Text;
+
+/**
+ * A {@link SpoolSerializer} for {@code String}s encoded as UTF-8.
+ */
+public class StringSpoolSerializer implements SpoolSerializer<String> {
+
+	@Override
+	public void serialize(String entity, DataOutput out) throws IOException {
+		Text.writeString(out, entity);
+	}
+
+	@Override
+	public String deserialize(DataInput in) throws IOException {
+		return Text.readString(in);
+	}
+
+}
@@ -17,16 +17,18 @@ package org.springframework.data.hadoop.store.output;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Collection;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.Syncable;
+import org.springframework.data.hadoop.store.DataBatchWriter;
 import org.springframework.data.hadoop.store.DataStoreWriter;
 import org.springframework.data.hadoop.store.codec.CodecInfo;
-import org.springframework.data.hadoop.store.event.FileWrittenEvent;
-import org.springframework.data.hadoop.store.event.StoreEventPublisher;
+import org.springframework.data.hadoop.store.metrics.StoreMetrics;
 import org.springframework.data.hadoop.store.support.OutputContext;
 import org.springframework.data.hadoop.store.support.StoreUtils;
 import org.springframework.data.hadoop.store.support.StreamsHolder;
@@ -39,7 +41,7 @@ import org.springframework.data.hadoop.store.support.StreamsHolder;
  * @author Rodrigo Meneses
  *
  */
-public class TextFileWriter extends AbstractDataStreamWriter implements DataStoreWriter<String> {
+public class TextFileWriter extends AbstractDataStreamWriter implements DataStoreWriter<String>, DataBatchWriter<String> {
 
 	private final static Log log = LogFactory.getLog(TextFileWriter.class);
 
@@ -47,6 +49,9 @@ public class TextFileWriter extends AbstractDataStreamWriter implements DataStor
 
 	private final byte[] delimiter;
 
+	/** Reused copy buffer for entities from direct byte buffers */
+	private byte[] directBuffer;
+
 	/**
 	 * Instantiates a new text file writer.
 	 *
@@ -89,11 +94,20 @@ public class TextFileWriter extends AbstractDataStreamWriter implements DataStor
 	@Override
 	public synchronized void flush() throws IOException {
 		if (streamsHolder != null) {
+			long start = System.nanoTime();
 			OutputStream stream = streamsHolder.getStream();
 			stream.flush();
-			if ((isAppendable() || isSyncable()) && stream instanceof Syncable) {
+			if (getSyncStrategy() != null) {
+				if (isSyncDue()) {
+					sync(streamsHolder);
+				}
+			} else if (stream instanceof Syncable && (isAppendable() || isSyncable())) {
 				((Syncable)stream).hflush();
 			}
+			StoreMetrics metrics = getStoreMetrics();
+			if (metrics != null) {
+				metrics.recordFlush(System.nanoTime() - start);
+			}
 		}
 	}
 
@@ -106,14 +120,7 @@ public class TextFileWriter extends AbstractDataStreamWriter implements DataStor
 			// operations not to fail
 			IOException rethrow = null;
 			try {
-				streamsHolder.close();
-
-				Path path = renameFile(streamsHolder.getPath());
-
-				StoreEventPublisher storeEventPublisher = getStoreEventPublisher();
-				if (storeEventPublisher != null) {
-					storeEventPublisher.publishEvent(new FileWrittenEvent(this, path));
-				}
+				finalizeStream(streamsHolder);
 			} catch (IOException e) {
 				rethrow = e;
 				log.error("Error in close", e);
@@ -124,23 +131,131 @@ public class TextFileWriter extends AbstractDataStreamWriter implements DataStor
 				throw rethrow;
 			}
 		}
+		awaitFinalizations();
 	}
 
 	@Override
 	public synchronized void write(String entity) throws IOException {
+		byte[] bytes = entity.getBytes();
+		write(bytes, 0, bytes.length);
+	}
+
+	/**
+	 * Write an already encoded entity from a given byte array. This
+	 * method doesn't keep a reference to a given array so the same array
+	 * can be reused by a caller. A delimiter is added after an entity.
+	 *
+	 * @param entity the entity bytes
+	 * @param offset the offset in entity bytes
+	 * @param length the number of bytes to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	public synchronized void write(byte[] entity, int offset, int length) throws IOException {
 		if (streamsHolder == null) {
 			streamsHolder = getOutput();
 		}
 		OutputStream out = streamsHolder.getStream();
-		out.write(entity.getBytes());
+		out.write(entity, offset, length);
 		out.write(delimiter);
-		setWritePosition(getPosition(streamsHolder));
+		afterWrite(1);
+	}
+
+	@Override
+	public synchronized void writeBatch(Collection<? extends String> entities) throws IOException {
+		if (entities.isEmpty()) {
+			return;
+		}
+		if (streamsHolder == null) {
+			streamsHolder = getOutput();
+		}
+		OutputStream out = streamsHolder.getStream();
+		for (String entity : entities) {
+			out.write(entity.getBytes());
+			out.write(delimiter);
+		}
+		afterWrite(entities.size());
+	}
+
+	/**
+	 * Syncs a stream of a given holder. A compressed stream is not syncable
+	 * itself, so its underlying stream is synced, covering only data already
+	 * flushed from a compression buffer. Sync strategy is reset even if there
+	 * is nothing to sync so that a sync is not due with every write.
+	 *
+	 * @param holder the streams holder
+	 * @throws IOException if an I/O error occurs
+	 */
+	private void sync(StreamsHolder<OutputStream> holder) throws IOException {
+		if (holder.getStream() instanceof Syncable) {
+			sync((Syncable) holder.getStream());
+		} else if (holder.getWrappedStream() instanceof Syncable) {
+			sync((Syncable) holder.getWrappedStream());
+		} else {
+			getSyncStrategy().reset();
+		}
+	}
+
+	/**
+	 * Updates write position and handles rollover after
+	 * an entity or a batch of entities has been written.
+	 *
+	 * @param count the number of written entities
+	 * @throws IOException if an I/O error occurs
+	 */
+	private void afterWrite(int count) throws IOException {
+		setWritePosition(getPosition(streamsHolder), count);
+		if (isSyncDue()) {
+			flush();
+		}
+		rollIfNeeded();
+	}
 
+	/**
+	 * Rolls a current stream if rollover state is true.
+	 *
+	 * @throws IOException if an I/O error occurs
+	 */
+	private void rollIfNeeded() throws IOException {
 		OutputContext context = getOutputContext();
 		if (context.getRolloverState()) {
-			log.info("After write, rollover state is true");
-			close();
+			log.info("Rollover state is true");
+			long start = System.nanoTime();
+			if (getRolloverFinalizerExecutor() != null) {
+				// hand over current stream and continue
+				// with a new one on a next write
+				StreamsHolder<OutputStream> holder = streamsHolder;
+				streamsHolder = null;
+				finalizeRolledStream(holder);
+			} else {
+				close();
+			}
 			context.rollStrategies();
+			StoreMetrics metrics = getStoreMetrics();
+			if (metrics != null) {
+				metrics.recordRollover(System.nanoTime() - start);
+			}
+		}
+	}
+
+	/**
+	 * Write an already encoded entity from remaining bytes of a given
+	 * buffer. Buffer position is advanced to its limit. A delimiter is
+	 * added after an entity.
+	 *
+	 * @param entity the entity buffer
+	 * @throws IOException if an I/O error occurs
+	 */
+	public synchronized void write(ByteBuffer entity) throws IOException {
+		int length = entity.remaining();
+		if (entity.hasArray()) {
+			write(entity.array(), entity.arrayOffset() + entity.position(), length);
+			entity.position(entity.limit());
+		} else {
+			if (directBuffer == null || directBuffer.length < length) {
+				directBuffer = new byte[Math.max(length, StoreUtils.BUFFER_SIZE)];
+			}
+			entity.get(directBuffer, 0, length);
+			write(directBuffer, 0, length);
 		}
 	}
 
@@ -156,6 +271,17 @@ public class TextFileWriter extends AbstractDataStreamWriter implements DataStor
 		getOutputContext().rollStrategies();
 	}
 
+	@Override
+	protected synchronized void rolloverCheck() {
+		if (streamsHolder != null) {
+			try {
+				rollIfNeeded();
+			} catch (IOException e) {
+				log.error("Error rolling stream", e);
+			}
+		}
+	}
+
 	@Override
 	protected void flushTimeout() {
 		try {
@@ -16,6 +16,7 @@
 package org.springframework.data.hadoop.store.output;
 
 import java.io.IOException;
+import java.util.Collection;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -23,10 +24,12 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.SequenceFile.Writer;
 import org.apache.hadoop.io.Text;
+import org.springframework.data.hadoop.store.DataBatchWriter;
 import org.springframework.data.hadoop.store.DataStoreWriter;
 import org.springframework.data.hadoop.store.codec.CodecInfo;
 import org.springframework.data.hadoop.store.event.FileWrittenEvent;
 import org.springframework.data.hadoop.store.event.StoreEventPublisher;
+import org.springframework.data.hadoop.store.metrics.StoreMetrics;
 import org.springframework.data.hadoop.store.support.OutputContext;
 import org.springframework.data.hadoop.store.support.SequenceFileWriterHolder;
 
@@ -37,7 +40,8 @@ import org.springframework.data.hadoop.store.support.SequenceFileWriterHolder;
  * @author Janne Valkealahti
  *
  */
-public class TextSequenceFileWriter extends AbstractSequenceFileWriter implements DataStoreWriter<String> {
+public class TextSequenceFileWriter extends AbstractSequenceFileWriter implements DataStoreWriter<String>,
+		DataBatchWriter<String> {
 
 	private final static Log log = LogFactory.getLog(TextSequenceFileWriter.class);
 
@@ -45,6 +49,9 @@ public class TextSequenceFileWriter extends AbstractSequenceFileWriter implement
 
 	private final static Text NULL_KEY = new Text(new byte[0]);
 
+	/** Reused value encoding entities as UTF-8 */
+	private final Text value = new Text();
+
 	/**
 	 * Instantiates a new text sequence file writer.
 	 *
@@ -57,8 +64,10 @@ public class TextSequenceFileWriter extends AbstractSequenceFileWriter implement
 	}
 
 	@Override
-	public void flush() throws IOException {
-    	// nothing to do
+	public synchronized void flush() throws IOException {
+		if (holder != null) {
+			syncIfDue(holder.getWriter());
+		}
 	}
 
     public synchronized  void hflush() throws IOException {
@@ -69,6 +78,7 @@ public class TextSequenceFileWriter extends AbstractSequenceFileWriter implement
 	public synchronized void close() throws IOException {
 		if (holder != null) {
 			holder.close();
+			onStreamClosed(holder.getPath());
 
 			Path path = renameFile(holder.getPath());
 
@@ -86,17 +96,56 @@ public class TextSequenceFileWriter extends AbstractSequenceFileWriter implement
 		if (holder == null) {
 			holder = getOutput();
 		}
-		holder.getWriter().append(NULL_KEY, new Text(entity.getBytes()));
+		value.set(entity);
+		holder.getWriter().append(NULL_KEY, value);
+		afterWrite(1);
+	}
+
+	@Override
+	public synchronized void writeBatch(Collection<? extends String> entities) throws IOException {
+		if (entities.isEmpty()) {
+			return;
+		}
+		if (holder == null) {
+			holder = getOutput();
+		}
+		Writer writer = holder.getWriter();
+		for (String entity : entities) {
+			value.set(entity);
+			writer.append(NULL_KEY, value);
+		}
+		afterWrite(entities.size());
+	}
 
-		setWritePosition(getPosition(holder.getWriter()));
+	private void afterWrite(int count) throws IOException {
+		setWritePosition(getPosition(holder.getWriter()), count);
+		syncIfDue(holder.getWriter());
+		rollIfNeeded();
+	}
 
+	private void rollIfNeeded() throws IOException {
 		OutputContext context = getOutputContext();
 		if (context.getRolloverState()) {
-			log.info("After write, rollover state is true");
+			log.info("Rollover state is true");
+			long start = System.nanoTime();
 			close();
 			context.rollStrategies();
+			StoreMetrics metrics = getStoreMetrics();
+			if (metrics != null) {
+				metrics.recordRollover(System.nanoTime() - start);
+			}
 		}
+	}
 
+	@Override
+	protected synchronized void rolloverCheck() {
+		if (holder != null) {
+			try {
+				rollIfNeeded();
+			} catch (IOException e) {
+				log.error("Error rolling stream", e);
+			}
+		}
 	}
 
 	@Override
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.output;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.io.SequenceFile.CompressionType;
+import org.apache.hadoop.io.SequenceFile.ValueBytes;
+import org.apache.hadoop.io.SequenceFile.Writer;
+import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.springframework.data.hadoop.store.DataStoreWriter;
+import org.springframework.data.hadoop.store.StoreException;
+import org.springframework.data.hadoop.store.codec.CodecInfo;
+import org.springframework.data.hadoop.store.event.FileWrittenEvent;
+import org.springframework.data.hadoop.store.event.StoreEventPublisher;
+import org.springframework.data.hadoop.store.metrics.StoreMetrics;
+import org.springframework.data.hadoop.store.support.OutputContext;
+import org.springframework.data.hadoop.store.support.SequenceFileWriterHolder;
+import org.springframework.util.Assert;
+
+/**
+ * A {@code WritableSequenceFileWriter} is a {@code DataStoreWriter} implementation
+ * able to write {@link Writable} keys and values into a {@code SequenceFile}.
+ * Already serialized keys and values can be written with
+ * {@link #appendRaw(byte[], int, int, byte[], int, int)}.
+ * <p>
+ * Writing only a value with {@link #write(Writable)} uses an empty key
+ * instance similarly to {@link TextSequenceFileWriter}. With small records
+ * {@link CompressionType#BLOCK} usually gives much better compression
+ * ratio than a default {@link CompressionType#RECORD}.
+ * @param <K> the type of a key
+ * @param <V> the type of a value
+ */
+public class WritableSequenceFileWriter<K extends Writable, V extends Writable> extends AbstractSequenceFileWriter
+		implements DataStoreWriter<V> {
+
+	private final static Log log = LogFactory.getLog(WritableSequenceFileWriter.class);
+
+	private final Class<K> keyClass;
+
+	private final Class<V> valueClass;
+
+	private final RawValueBytes rawValue = new RawValueBytes();
+
+	private SequenceFileWriterHolder<Writer> holder;
+
+	private K emptyKey;
+
+	/**
+	 * Instantiates a new writable sequence file writer.
+	 *
+	 * @param configuration the hadoop configuration
+	 * @param basePath the hdfs path
+	 * @param codec the compression codec info
+	 * @param keyClass the key class
+	 * @param valueClass the value class
+	 */
+	public WritableSequenceFileWriter(Configuration configuration, Path basePath, CodecInfo codec,
+			Class<K> keyClass, Class<V> valueClass) {
+		super(configuration, basePath, codec);
+		Assert.notNull(keyClass, "Key class must be set");
+		Assert.notNull(valueClass, "Value class must be set");
+		this.keyClass = keyClass;
+		this.valueClass = valueClass;
+	}
+
+	@Override
+	public synchronized void flush() throws IOException {
+		if (holder != null) {
+			syncIfDue(holder.getWriter());
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (holder != null) {
+			holder.close();
+			onStreamClosed(holder.getPath());
+
+			Path path = renameFile(holder.getPath());
+
+			StoreEventPublisher storeEventPublisher = getStoreEventPublisher();
+			if (storeEventPublisher != null) {
+				storeEventPublisher.publishEvent(new FileWrittenEvent(this, path));
+			}
+
+			holder = null;
+		}
+	}
+
+	/**
+	 * Write a value with an empty key.
+	 *
+	 * @param value the value
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	@Override
+	public synchronized void write(V value) throws IOException {
+		write(getEmptyKey(), value);
+	}
+
+	/**
+	 * Write a key and a value.
+	 *
+	 * @param key the key
+	 * @param value the value
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public synchronized void write(K key, V value) throws IOException {
+		if (holder == null) {
+			holder = getOutput(keyClass, valueClass);
+		}
+		holder.getWriter().append(key, value);
+		afterWrite();
+	}
+
+	/**
+	 * Append already serialized key and value. Bytes need to be in a format
+	 * written by key and value classes. This is not supported with
+	 * {@link CompressionType#RECORD} which expects values to be already
+	 * compressed.
+	 *
+	 * @param key the serialized key
+	 * @param keyOffset the key offset
+	 * @param keyLength the key length
+	 * @param value the serialized value
+	 * @param valueOffset the value offset
+	 * @param valueLength the value length
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	public synchronized void appendRaw(byte[] key, int keyOffset, int keyLength, byte[] value, int valueOffset,
+			int valueLength) throws IOException {
+		if (getCodec() != null && (getCompressionType() == null || getCompressionType() == CompressionType.RECORD)) {
+			throw new StoreException("Raw values can't be appended with record compression");
+		}
+		if (holder == null) {
+			holder = getOutput(keyClass, valueClass);
+		}
+		rawValue.set(value, valueOffset, valueLength);
+		holder.getWriter().appendRaw(key, keyOffset, keyLength, rawValue);
+		afterWrite();
+	}
+
+	/**
+	 * Gets the key class.
+	 *
+	 * @return the key class
+	 */
+	public Class<K> getKeyClass() {
+		return keyClass;
+	}
+
+	/**
+	 * Gets the value class.
+	 *
+	 * @return the value class
+	 */
+	public Class<V> getValueClass() {
+		return valueClass;
+	}
+
+	@Override
+	protected synchronized void rolloverCheck() {
+		if (holder != null) {
+			try {
+				rollIfNeeded();
+			} catch (IOException e) {
+				log.error("Error rolling stream", e);
+			}
+		}
+	}
+
+	@Override
+	protected void handleTimeout() {
+		try {
+			log.info("Timeout detected for this writer, closing stream");
+			close();
+		} catch (IOException e) {
+			log.error("Error closing", e);
+		}
+		getOutputContext().rollStrategies();
+	}
+
+	private void afterWrite() throws IOException {
+		setWritePosition(getPosition(holder.getWriter()), 1);
+		syncIfDue(holder.getWriter());
+		rollIfNeeded();
+	}
+
+	private void rollIfNeeded() throws IOException {
+		OutputContext context = getOutputContext();
+		if (context.getRolloverState()) {
+			log.info("Rollover state is true");
+			long start = System.nanoTime();
+			close();
+			context.rollStrategies();
+			StoreMetrics metrics = getStoreMetrics();
+			if (metrics != null) {
+				metrics.recordRollover(System.nanoTime() - start);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private K getEmptyKey() {
+		if (emptyKey == null) {
+			if (keyClass == NullWritable.class) {
+				emptyKey = (K) NullWritable.get();
+			} else {
+				emptyKey = ReflectionUtils.newInstance(keyClass, getConfiguration());
+			}
+		}
+		return emptyKey;
+	}
+
+	/**
+	 * {@link ValueBytes} backed by an uncompressed byte array.
+	 */
+	private static class RawValueBytes implements ValueBytes {
+
+		private byte[] data;
+		private int offset;
+		private int length;
+
+		void set(byte[] data, int offset, int length) {
+			this.data = data;
+			this.offset = offset;
+			this.length = length;
+		}
+
+		@Override
+		public void writeUncompressedBytes(DataOutputStream outStream) throws IOException {
+			outStream.write(data, offset, length);
+		}
+
+		@Override
+		public void writeCompressedBytes(DataOutputStream outStream) throws IllegalArgumentException, IOException {
+			throw new StoreException("Raw values can't be appended with record compression");
+		}
+
+		@Override
+		public int getSize() {
+			return length;
+		}
+	}
+
+}
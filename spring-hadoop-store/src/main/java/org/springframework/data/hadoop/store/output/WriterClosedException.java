@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.output;
+
+import org.springframework.data.hadoop.store.StoreException;
+
+/**
+ * Exception thrown when writing into a partition writer which has already
+ * been closed and removed from its {@link AbstractPartitionDataStoreWriter}
+ * by an eviction, an idle timeout or a rollover. Partition writer catches
+ * this and writes into a newly resolved writer instead.
+ */
+public class WriterClosedException extends StoreException {
+
+	private static final long serialVersionUID = 5203468611347032125L;
+
+	/**
+	 * Instantiates a new writer closed exception.
+	 *
+	 * @param msg the message
+	 */
+	public WriterClosedException(String msg) {
+		super(msg);
+	}
+
+}
@@ -16,17 +16,11 @@
 package org.springframework.data.hadoop.store.partition;
 
 import java.util.Map;
+import java.util.TimeZone;
 
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
-import org.apache.hadoop.fs.Path;
-import org.springframework.data.hadoop.store.expression.MapExpressionMethods;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.SpelCompilerMode;
-import org.springframework.expression.spel.SpelParserConfiguration;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 /**
@@ -37,8 +31,6 @@ import org.springframework.expression.spel.support.StandardEvaluationContext;
  */
 public class DefaultPartitionStrategy<T extends Object> extends AbstractPartitionStrategy<T,Map<String,Object>> {
 
-	private final static Log log = LogFactory.getLog(DefaultPartitionStrategy.class);
-
 	/**
 	 * Instantiates a new default partition strategy.
 	 *
@@ -92,37 +84,35 @@ public class DefaultPartitionStrategy<T extends Object> extends AbstractPartitio
 	}
 
 	/**
-	 * A {@link PartitionResolver} which uses an {@link Expression} together with
-	 * {@link MapExpressionMethods} to evaluate new {@link Path}s.
+	 * Sets the timestamp bucket length in milliseconds for memoizing
+	 * resolved paths. Should only be used if partition expression
+	 * depends only on a timestamp.
+	 *
+	 * @param timestampBucket the new timestamp bucket
+	 * @see MapPartitionResolver#setTimestampBucket(long)
 	 */
-	private static class MapPartitionResolver implements PartitionResolver<Map<String,Object>> {
-
-		private final Expression expression;
-		private final MapExpressionMethods methods;
-
-		public MapPartitionResolver(String expression, StandardEvaluationContext evaluationContext, ExpressionParser expressionParser) {
-			if (expressionParser == null) {
-				// default to mixed mode
-				expressionParser = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED, null));
-			}
-			if (evaluationContext == null) {
-				evaluationContext = new StandardEvaluationContext();
-			}
-			this.expression = expressionParser.parseExpression(expression);
-			this.methods = new MapExpressionMethods(evaluationContext, true, false);
-		}
-
-		public MapPartitionResolver(Expression expression, EvaluationContext evaluationContext) {
-			this.expression = expression;
-			this.methods = new MapExpressionMethods(evaluationContext);
-			log.info("Using expression=[" + this.expression.getExpressionString() + "]");
-		}
+	public void setTimestampBucket(long timestampBucket) {
+		((MapPartitionResolver) getPartitionResolver()).setTimestampBucket(timestampBucket);
+	}
 
-		@Override
-		public Path resolvePath(Map<String,Object> partitionKey) {
-			return new Path(methods.getValue(expression, partitionKey, String.class));
-		}
+	/**
+	 * Sets the time zone timestamp buckets are aligned to.
+	 *
+	 * @param timeZone the new time zone
+	 * @see MapPartitionResolver#setTimeZone(TimeZone)
+	 */
+	public void setTimeZone(TimeZone timeZone) {
+		((MapPartitionResolver) getPartitionResolver()).setTimeZone(timeZone);
+	}
 
+	/**
+	 * Sets the maximum number of cached paths.
+	 *
+	 * @param cacheSize the new cache size
+	 * @see MapPartitionResolver#setCacheSize(int)
+	 */
+	public void setPathCacheSize(int cacheSize) {
+		((MapPartitionResolver) getPartitionResolver()).setCacheSize(cacheSize);
 	}
 
 	/**
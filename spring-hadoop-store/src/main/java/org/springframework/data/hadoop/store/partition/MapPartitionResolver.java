@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.partition;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TimeZone;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.fs.Path;
+import org.springframework.data.hadoop.store.expression.MapExpressionMethods;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link PartitionResolver} which uses an {@link Expression} together with
+ * {@link MapExpressionMethods} to evaluate new {@link Path}s.
+ * <p>
+ * Expression is parsed once and if parsed by this resolver, spel compiler
+ * is used in mixed mode so that an expression is compiled once it has been
+ * interpreted and falls back to interpreted mode if compilation fails.
+ * Evaluated {@code String}s are mapped to {@link Path}s using a bounded
+ * least recently used cache which saves parsing of a {@code Path}, an
+ * expression itself is still evaluated for every partition key.
+ * <p>
+ * If an expression only depends on a {@link DefaultPartitionKey#KEY_TIMESTAMP}
+ * a timestamp bucket can be set which then memoizes resolved paths per bucket
+ * skipping an expression evaluation altogether. Buckets are aligned to a wall
+ * clock time of a time zone used to format dates, which defaults to a JVM
+ * default time zone. Bucket length needs to divide a granularity of formatted
+ * dates, i.e. an hour for {@code yyyy/MM/dd/HH} or a day for {@code yyyy/MM/dd}.
+ */
+public class MapPartitionResolver implements PartitionResolver<Map<String, Object>> {
+
+	private final static Log log = LogFactory.getLog(MapPartitionResolver.class);
+
+	/** Default size of a path cache */
+	public final static int DEFAULT_CACHE_SIZE = 1024;
+
+	private final Expression expression;
+
+	private final MapExpressionMethods methods;
+
+	private final PathCache<String> pathCache = new PathCache<String>();
+
+	private final PathCache<Long> bucketCache = new PathCache<Long>();
+
+	private volatile int cacheSize = DEFAULT_CACHE_SIZE;
+
+	private volatile long timestampBucket = 0;
+
+	private volatile TimeZone timeZone = TimeZone.getDefault();
+
+	/**
+	 * Instantiates a new map partition resolver.
+	 *
+	 * @param expression the expression
+	 * @param evaluationContext the evaluation context
+	 * @param expressionParser the expression parser
+	 */
+	public MapPartitionResolver(String expression, StandardEvaluationContext evaluationContext,
+			ExpressionParser expressionParser) {
+		if (expressionParser == null) {
+			// default to mixed mode
+			expressionParser = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED, null));
+		}
+		if (evaluationContext == null) {
+			evaluationContext = new StandardEvaluationContext();
+		}
+		this.expression = expressionParser.parseExpression(expression);
+		this.methods = new MapExpressionMethods(evaluationContext, true, false);
+	}
+
+	/**
+	 * Instantiates a new map partition resolver.
+	 *
+	 * @param expression the expression
+	 * @param evaluationContext the evaluation context
+	 */
+	public MapPartitionResolver(Expression expression, EvaluationContext evaluationContext) {
+		this.expression = expression;
+		this.methods = new MapExpressionMethods(evaluationContext);
+		log.info("Using expression=[" + this.expression.getExpressionString() + "]");
+	}
+
+	@Override
+	public Path resolvePath(Map<String, Object> partitionKey) {
+		long bucket = timestampBucket;
+		if (bucket > 0) {
+			Object timestamp = partitionKey.get(DefaultPartitionKey.KEY_TIMESTAMP);
+			if (timestamp instanceof Long) {
+				Long index = bucketIndex((Long) timestamp, bucket);
+				Path path = bucketCache.get(index);
+				if (path == null) {
+					path = evaluatePath(partitionKey);
+					bucketCache.put(index, path);
+				}
+				return path;
+			}
+		}
+		return evaluatePath(partitionKey);
+	}
+
+	/**
+	 * Sets the maximum number of cached paths.
+	 *
+	 * @param cacheSize the new cache size
+	 */
+	public void setCacheSize(int cacheSize) {
+		this.cacheSize = cacheSize;
+	}
+
+	/**
+	 * Gets the maximum number of cached paths.
+	 *
+	 * @return the cache size
+	 */
+	public int getCacheSize() {
+		return cacheSize;
+	}
+
+	/**
+	 * Sets the timestamp bucket length in milliseconds. Setting bucket
+	 * enables memoizing of paths per bucket and should only be used if
+	 * expression depends only on a timestamp.
+	 *
+	 * @param timestampBucket the new timestamp bucket
+	 */
+	public void setTimestampBucket(long timestampBucket) {
+		this.timestampBucket = timestampBucket;
+		bucketCache.clear();
+	}
+
+	/**
+	 * Gets the timestamp bucket length in milliseconds.
+	 *
+	 * @return the timestamp bucket
+	 */
+	public long getTimestampBucket() {
+		return timestampBucket;
+	}
+
+	/**
+	 * Sets the time zone timestamp buckets are aligned to. Needs to be
+	 * a same time zone an expression uses to format dates, defaults
+	 * to a JVM default time zone.
+	 *
+	 * @param timeZone the new time zone
+	 */
+	public void setTimeZone(TimeZone timeZone) {
+		Assert.notNull(timeZone, "Time zone must be set");
+		this.timeZone = timeZone;
+		bucketCache.clear();
+	}
+
+	/**
+	 * Gets the time zone timestamp buckets are aligned to.
+	 *
+	 * @return the time zone
+	 */
+	public TimeZone getTimeZone() {
+		return timeZone;
+	}
+
+	private long bucketIndex(long timestamp, long bucket) {
+		// align to a wall clock time so that i.e. day buckets
+		// start from a local midnight, also over dst changes
+		long local = timestamp + timeZone.getOffset(timestamp);
+		long index = local / bucket;
+		return local < 0 && local % bucket != 0 ? index - 1 : index;
+	}
+
+	private Path evaluatePath(Map<String, Object> partitionKey) {
+		String value = methods.getValue(expression, partitionKey, String.class);
+		Path path = pathCache.get(value);
+		if (path == null) {
+			path = new Path(value);
+			pathCache.put(value, path);
+		}
+		return path;
+	}
+
+	/**
+	 * A least recently used cache of paths bounded by a cache size.
+	 */
+	private class PathCache<K> {
+
+		private final LinkedHashMap<K, Path> map = new LinkedHashMap<K, Path>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Path> eldest) {
+				return size() > cacheSize;
+			}
+		};
+
+		synchronized Path get(K key) {
+			return map.get(key);
+		}
+
+		synchronized void put(K key, Path path) {
+			map.put(key, path);
+		}
+
+		synchronized void clear() {
+			map.clear();
+		}
+	}
+
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.reactive;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.data.hadoop.store.DataStoreReader;
+import org.springframework.util.Assert;
+
+/**
+ * A reactive streams {@link Publisher} emitting entities read from
+ * a {@link DataStoreReader}. Publisher is unicast and can be subscribed
+ * only once as a reader can't be rewound.
+ * <p>
+ * Entities are read ahead on a given {@link Executor} up to a prefetch
+ * count, and reading is resumed when half of prefetched entities have been
+ * emitted, so that blocking reads never happen on a subscriber's thread
+ * and a slow subscriber never causes unbounded buffering. Publisher completes
+ * when a reader returns {@code null} and fails if a read throws an exception.
+ * Reader is closed when it's exhausted, has failed or a subscription is
+ * cancelled.
+ * @param <T> the type of an entity to read
+ */
+public class DataStoreReaderPublisher<T> implements Publisher<T> {
+
+	private static final Log log = LogFactory.getLog(DataStoreReaderPublisher.class);
+
+	private static final int DEFAULT_PREFETCH = 256;
+
+	private final DataStoreReader<T> reader;
+
+	private final Executor executor;
+
+	private final int prefetch;
+
+	private final AtomicBoolean subscribed = new AtomicBoolean();
+
+	/**
+	 * Instantiates a new data store reader publisher with
+	 * a prefetch of 256 entities.
+	 *
+	 * @param reader the data store reader
+	 * @param executor the executor reading entities
+	 */
+	public DataStoreReaderPublisher(DataStoreReader<T> reader, Executor executor) {
+		this(reader, executor, DEFAULT_PREFETCH);
+	}
+
+	/**
+	 * Instantiates a new data store reader publisher.
+	 *
+	 * @param reader the data store reader
+	 * @param executor the executor reading entities
+	 * @param prefetch the max number of entities read ahead
+	 */
+	public DataStoreReaderPublisher(DataStoreReader<T> reader, Executor executor, int prefetch) {
+		Assert.notNull(reader, "Reader must be set");
+		Assert.notNull(executor, "Executor must be set");
+		Assert.isTrue(prefetch > 0, "Prefetch must be positive");
+		this.reader = reader;
+		this.executor = executor;
+		this.prefetch = prefetch;
+	}
+
+	@Override
+	public void subscribe(Subscriber<? super T> s) {
+		if (s == null) {
+			throw new NullPointerException("Subscriber must not be null");
+		}
+		if (!subscribed.compareAndSet(false, true)) {
+			s.onSubscribe(EmptySubscription.INSTANCE);
+			s.onError(new IllegalStateException("Publisher allows only a single subscriber"));
+			return;
+		}
+		s.onSubscribe(new ReaderSubscription(s));
+	}
+
+	/**
+	 * Subscription reading ahead from a reader and emitting
+	 * entities to a subscriber as requested.
+	 */
+	private class ReaderSubscription implements Subscription, Runnable {
+
+		private final Subscriber<? super T> actual;
+
+		private final Queue<T> queue = new ConcurrentLinkedQueue<T>();
+
+		private final AtomicInteger queued = new AtomicInteger();
+
+		private final AtomicLong requested = new AtomicLong();
+
+		private final AtomicInteger wip = new AtomicInteger();
+
+		private final AtomicBoolean reading = new AtomicBoolean();
+
+		private final AtomicBoolean closed = new AtomicBoolean();
+
+		private volatile boolean readerDone;
+
+		private volatile Throwable readerError;
+
+		private volatile boolean cancelled;
+
+		private volatile Throwable requestError;
+
+		/** Terminal state only accessed within a drain loop */
+		private boolean terminated;
+
+		ReaderSubscription(Subscriber<? super T> actual) {
+			this.actual = actual;
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				requestError = new IllegalArgumentException("Requested amount must be positive but was " + n);
+			} else {
+				long r;
+				long u;
+				do {
+					r = requested.get();
+					u = r + n;
+					if (u < 0) {
+						u = Long.MAX_VALUE;
+					}
+				} while (!requested.compareAndSet(r, u));
+				scheduleRead();
+			}
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			// only close here if read task is not running, otherwise it closes itself
+			if (reading.compareAndSet(false, true)) {
+				closeReader();
+			}
+		}
+
+		@Override
+		public void run() {
+			try {
+				int count = prefetch - queued.get();
+				for (int i = 0; i < count && !cancelled; i++) {
+					T entity = reader.read();
+					if (entity == null) {
+						readerDone = true;
+						break;
+					}
+					queue.offer(entity);
+					queued.incrementAndGet();
+				}
+			} catch (Throwable e) {
+				readerError = e;
+				readerDone = true;
+			}
+			if (readerDone) {
+				closeReader();
+			}
+			reading.set(false);
+			if (cancelled && reading.compareAndSet(false, true)) {
+				closeReader();
+			}
+			drain();
+		}
+
+		private void scheduleRead() {
+			if (readerDone || cancelled || queued.get() > prefetch / 2) {
+				return;
+			}
+			if (reading.compareAndSet(false, true)) {
+				try {
+					executor.execute(this);
+				} catch (RejectedExecutionException e) {
+					readerError = e;
+					readerDone = true;
+					reading.set(false);
+					closeReader();
+				}
+			}
+		}
+
+		private void drain() {
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+			int missed = 1;
+			do {
+				if (terminated || cancelled) {
+					queue.clear();
+				} else if (requestError != null) {
+					terminated = true;
+					cancel();
+					actual.onError(requestError);
+				} else {
+					emit();
+				}
+				missed = wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		private void emit() {
+			long r = requested.get();
+			long e = 0;
+			while (!cancelled) {
+				// check done before polling so that an empty queue really is empty
+				boolean d = readerDone;
+				if (e == r) {
+					if (d && queue.isEmpty()) {
+						terminate();
+					}
+					break;
+				}
+				T entity = queue.poll();
+				if (entity == null) {
+					if (d) {
+						terminate();
+					}
+					break;
+				}
+				queued.decrementAndGet();
+				actual.onNext(entity);
+				e++;
+			}
+			if (e != 0 && r != Long.MAX_VALUE) {
+				requested.addAndGet(-e);
+			}
+			if (!terminated && requested.get() > 0) {
+				scheduleRead();
+			}
+		}
+
+		private void terminate() {
+			terminated = true;
+			Throwable e = readerError;
+			if (e != null) {
+				actual.onError(e);
+			} else {
+				actual.onComplete();
+			}
+		}
+
+		private void closeReader() {
+			if (closed.compareAndSet(false, true)) {
+				try {
+					reader.close();
+				} catch (Exception e) {
+					log.warn("Error closing reader", e);
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Subscription given to rejected subscribers.
+	 */
+	private static class EmptySubscription implements Subscription {
+
+		static final EmptySubscription INSTANCE = new EmptySubscription();
+
+		@Override
+		public void request(long n) {
+		}
+
+		@Override
+		public void cancel() {
+		}
+
+	}
+
+}
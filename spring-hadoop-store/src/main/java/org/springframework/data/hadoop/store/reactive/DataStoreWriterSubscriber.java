@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.data.hadoop.store.DataBatchWriter;
+import org.springframework.data.hadoop.store.DataStoreWriter;
+import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+/**
+ * A reactive streams {@link Subscriber} writing received entities into
+ * a {@link DataStoreWriter}. As a {@code PartitionDataStoreWriter} is also
+ * a {@code DataStoreWriter}, entities can be written into partitions
+ * resolved by its partition strategy.
+ * <p>
+ * Received entities are buffered and written in micro-batches on a given
+ * {@link Executor}, so that a publisher is never blocked by a writer. At most
+ * a buffer size of entities is requested up front and demand is replenished
+ * only after entities have been written, thus a slow writer slows down
+ * a publisher instead of growing a buffer. Batches are written with
+ * {@link DataBatchWriter#writeBatch(java.util.Collection)} if a writer
+ * supports it. Rollover of a writer happens between batches.
+ * <p>
+ * When a publisher completes, a writer is closed after buffered entities
+ * have been written, or only flushed if {@link #setCloseOnComplete(boolean)}
+ * is disabled. A failed write cancels a subscription and closes a writer. An
+ * outcome is available from {@link #getCompletion()}.
+ * @param <T> the type of an entity to write
+ */
+public class DataStoreWriterSubscriber<T> implements Subscriber<T> {
+
+	private static final Log log = LogFactory.getLog(DataStoreWriterSubscriber.class);
+
+	private static final int DEFAULT_BUFFER_SIZE = 256;
+
+	private static final int DEFAULT_BATCH_SIZE = 64;
+
+	private final DataStoreWriter<T> writer;
+
+	private final Executor executor;
+
+	private final int bufferSize;
+
+	private final int batchSize;
+
+	private final Queue<T> buffer = new ConcurrentLinkedQueue<T>();
+
+	private final AtomicInteger wip = new AtomicInteger();
+
+	private final SettableListenableFuture<Void> completion = new SettableListenableFuture<Void>();
+
+	private final Runnable drainTask = new Runnable() {
+
+		@Override
+		public void run() {
+			drainLoop();
+		}
+	};
+
+	/** Batch only accessed within a drain loop */
+	private final List<T> batch;
+
+	/** Terminal state only accessed within a drain loop */
+	private boolean finished;
+
+	private volatile Subscription subscription;
+
+	private volatile boolean done;
+
+	private volatile Throwable error;
+
+	private volatile boolean closeOnComplete = true;
+
+	/**
+	 * Instantiates a new data store writer subscriber with
+	 * a buffer of 256 entities written in batches of 64.
+	 *
+	 * @param writer the data store writer
+	 * @param executor the executor writing entities
+	 */
+	public DataStoreWriterSubscriber(DataStoreWriter<T> writer, Executor executor) {
+		this(writer, executor, DEFAULT_BUFFER_SIZE, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Instantiates a new data store writer subscriber.
+	 *
+	 * @param writer the data store writer
+	 * @param executor the executor writing entities
+	 * @param bufferSize the max number of requested and not yet written entities
+	 * @param batchSize the max number of entities written at once
+	 */
+	public DataStoreWriterSubscriber(DataStoreWriter<T> writer, Executor executor, int bufferSize, int batchSize) {
+		Assert.notNull(writer, "Writer must be set");
+		Assert.notNull(executor, "Executor must be set");
+		Assert.isTrue(bufferSize > 0, "Buffer size must be positive");
+		Assert.isTrue(batchSize > 0, "Batch size must be positive");
+		this.writer = writer;
+		this.executor = executor;
+		this.bufferSize = bufferSize;
+		this.batchSize = Math.min(batchSize, bufferSize);
+		this.batch = new ArrayList<T>(this.batchSize);
+	}
+
+	@Override
+	public void onSubscribe(Subscription s) {
+		if (s == null) {
+			throw new NullPointerException("Subscription must not be null");
+		}
+		if (subscription != null) {
+			s.cancel();
+			return;
+		}
+		subscription = s;
+		s.request(bufferSize);
+	}
+
+	@Override
+	public void onNext(T t) {
+		if (t == null) {
+			throw new NullPointerException("Entity must not be null");
+		}
+		buffer.offer(t);
+		schedule();
+	}
+
+	@Override
+	public void onError(Throwable t) {
+		if (t == null) {
+			throw new NullPointerException("Throwable must not be null");
+		}
+		error = t;
+		done = true;
+		schedule();
+	}
+
+	@Override
+	public void onComplete() {
+		done = true;
+		schedule();
+	}
+
+	/**
+	 * Gets the completion which is done when all entities have been
+	 * written and a writer closed, or failed if a publisher or a writer
+	 * failed.
+	 *
+	 * @return the completion future
+	 */
+	public ListenableFuture<Void> getCompletion() {
+		return completion;
+	}
+
+	/**
+	 * Sets if a writer is closed when a publisher completes. If disabled,
+	 * a writer is only flushed and can still be used. Writer is always
+	 * closed on errors. Default is true.
+	 *
+	 * @param closeOnComplete the new close on complete flag
+	 */
+	public void setCloseOnComplete(boolean closeOnComplete) {
+		this.closeOnComplete = closeOnComplete;
+	}
+
+	private void schedule() {
+		if (wip.getAndIncrement() == 0) {
+			try {
+				executor.execute(drainTask);
+			} catch (RejectedExecutionException e) {
+				subscription.cancel();
+				error = e;
+				done = true;
+				drainLoop();
+			}
+		}
+	}
+
+	private void drainLoop() {
+		int missed = 1;
+		do {
+			if (finished) {
+				buffer.clear();
+			} else {
+				drain();
+			}
+			missed = wip.addAndGet(-missed);
+		} while (missed != 0);
+	}
+
+	private void drain() {
+		while (true) {
+			// check done before polling so that an empty buffer really is empty
+			boolean d = done;
+			T entity = buffer.poll();
+			if (entity == null) {
+				if (d) {
+					finish(error);
+				}
+				return;
+			}
+			batch.add(entity);
+			while (batch.size() < batchSize && (entity = buffer.poll()) != null) {
+				batch.add(entity);
+			}
+			int count = batch.size();
+			try {
+				write(batch);
+			} catch (Exception e) {
+				subscription.cancel();
+				finish(e);
+				return;
+			} finally {
+				batch.clear();
+			}
+			if (!done) {
+				subscription.request(count);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void write(List<T> entities) throws Exception {
+		if (writer instanceof DataBatchWriter) {
+			((DataBatchWriter<T>) writer).writeBatch(entities);
+		} else {
+			for (int i = 0; i < entities.size(); i++) {
+				writer.write(entities.get(i));
+			}
+		}
+	}
+
+	private void finish(Throwable failure) {
+		finished = true;
+		buffer.clear();
+		try {
+			if (failure != null || closeOnComplete) {
+				writer.close();
+			} else {
+				writer.flush();
+			}
+		} catch (Exception e) {
+			if (failure == null) {
+				failure = e;
+			} else {
+				log.warn("Error closing writer after a failure", e);
+			}
+		}
+		if (failure != null) {
+			completion.setException(failure);
+		} else {
+			completion.set(null);
+		}
+	}
+
+}
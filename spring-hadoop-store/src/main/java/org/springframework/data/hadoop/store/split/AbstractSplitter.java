@@ -86,7 +86,8 @@ public abstract class AbstractSplitter implements Splitter {
 	}
 
 	/**
-	 * Gets the block index.
+	 * Gets the block index. Blocks are expected to be ordered
+	 * by their offsets and index is found using a binary search.
 	 *
 	 * @param blocks the blk locations
 	 * @param offset the offset
@@ -94,9 +95,17 @@ public abstract class AbstractSplitter implements Splitter {
 	 * @throws IllegalArgumentException if offset is outside of blocks
 	 */
 	protected int getBlockIndex(BlockLocation[] blocks, long offset) {
-		for (int i = 0; i < blocks.length; i++) {
-			if ((blocks[i].getOffset() <= offset) && (offset < blocks[i].getOffset() + blocks[i].getLength())) {
-				return i;
+		int low = 0;
+		int high = blocks.length - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			BlockLocation block = blocks[mid];
+			if (offset < block.getOffset()) {
+				high = mid - 1;
+			} else if (offset >= block.getOffset() + block.getLength()) {
+				low = mid + 1;
+			} else {
+				return mid;
 			}
 		}
 		BlockLocation block = blocks[blocks.length - 1];
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.split;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@code CombinedSplit} is a {@link Split} combining whole files, or
+ * their splits, into a single unit of work. Start of a combined split is
+ * always zero and its length is a sum of combined split lengths.
+ * Locations are hosts having most of the combined bytes.
+ */
+public class CombinedSplit implements Split, SplitLocation {
+
+	private static final int MAX_LOCATIONS = 3;
+
+	private final List<FileSplit> splits;
+
+	private final long length;
+
+	private final String[] locations;
+
+	/**
+	 * Instantiates a new combined split.
+	 *
+	 * @param splits the combined file splits
+	 */
+	public CombinedSplit(List<FileSplit> splits) {
+		Assert.notEmpty(splits, "Combined splits must be set");
+		this.splits = Collections.unmodifiableList(new ArrayList<FileSplit>(splits));
+		long total = 0;
+		for (FileSplit split : splits) {
+			total += split.getLength();
+		}
+		this.length = total;
+		this.locations = resolveLocations(splits);
+	}
+
+	/**
+	 * Gets the combined file splits.
+	 *
+	 * @return the file splits
+	 */
+	public List<FileSplit> getSplits() {
+		return splits;
+	}
+
+	@Override
+	public long getStart() {
+		return 0;
+	}
+
+	@Override
+	public long getLength() {
+		return length;
+	}
+
+	@Override
+	public long getEnd() {
+		return length;
+	}
+
+	@Override
+	public String[] getLocations() {
+		return locations;
+	}
+
+	@Override
+	public String toString() {
+		return "CombinedSplit [splits=" + splits.size() + ", length=" + length + "]";
+	}
+
+	private static String[] resolveLocations(List<FileSplit> splits) {
+		final Map<String, Long> bytes = new HashMap<String, Long>();
+		for (FileSplit split : splits) {
+			if (split.getLocations() != null) {
+				for (String host : split.getLocations()) {
+					Long current = bytes.get(host);
+					bytes.put(host, (current != null ? current : 0l) + split.getLength());
+				}
+			}
+		}
+		List<String> hosts = new ArrayList<String>(bytes.keySet());
+		Collections.sort(hosts, new Comparator<String>() {
+
+			@Override
+			public int compare(String o1, String o2) {
+				return bytes.get(o2).compareTo(bytes.get(o1));
+			}
+		});
+		List<String> top = hosts.subList(0, Math.min(MAX_LOCATIONS, hosts.size()));
+		return top.toArray(new String[top.size()]);
+	}
+
+}
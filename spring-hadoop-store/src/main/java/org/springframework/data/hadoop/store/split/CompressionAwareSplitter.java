@@ -0,0 +1,253 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.split;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.BlockLocation;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionCodecFactory;
+import org.apache.hadoop.io.compress.SplittableCompressionCodec;
+import org.springframework.data.hadoop.store.codec.CodecInfo;
+
+/**
+ * A {@code CompressionAwareSplitter} is a {@link Splitter} which never
+ * creates splits a reader would not be able to read. Compression codec
+ * of a file is resolved from its suffix using a {@link CompressionCodecFactory}
+ * or from a configured {@link CodecInfo}.
+ * <p>
+ * Files compressed with a non-splittable codec are returned as a single
+ * split. With splittable codecs, like bzip2, split sizes are rounded up
+ * to full blocks so that split boundaries align with block boundaries
+ * and every split is large enough to contain a start of a compressed
+ * block. Uncompressed files are split like with {@link SlopBlockSplitter}.
+ * <p>
+ * When used as a {@link MultiFileSplitter}, files smaller than a combine
+ * threshold are packed into {@link CombinedSplit}s up to a maximum
+ * combined size, preferring files sharing a same primary host, to keep
+ * a number of splits sane with many small files.
+ */
+public class CompressionAwareSplitter extends SlopBlockSplitter implements MultiFileSplitter {
+
+	/** Default threshold for files to combine, 16MB */
+	public static final long DEFAULT_COMBINE_THRESHOLD = 16l * 1024 * 1024;
+
+	/** Default maximum size of a combined split, 128MB */
+	public static final long DEFAULT_MAX_COMBINED_SIZE = 128l * 1024 * 1024;
+
+	private long combineThreshold = DEFAULT_COMBINE_THRESHOLD;
+
+	private long maxCombinedSize = DEFAULT_MAX_COMBINED_SIZE;
+
+	private CodecInfo codec;
+
+	private CompressionCodecFactory codecFactory;
+
+	/**
+	 * Instantiates a new compression aware splitter.
+	 */
+	public CompressionAwareSplitter() {
+		super();
+	}
+
+	/**
+	 * Instantiates a new compression aware splitter.
+	 *
+	 * @param configuration the configuration
+	 */
+	public CompressionAwareSplitter(Configuration configuration) {
+		super(configuration);
+	}
+
+	/**
+	 * Instantiates a new compression aware splitter.
+	 *
+	 * @param configuration the configuration
+	 * @param minSplitSize the min split size
+	 * @param maxSplitSize the max split size
+	 */
+	public CompressionAwareSplitter(Configuration configuration, long minSplitSize, long maxSplitSize) {
+		super(configuration, minSplitSize, maxSplitSize);
+	}
+
+	@Override
+	public List<Split> getSplits(Path path) throws IOException {
+		FileSystem fs = path.getFileSystem(getConfiguration());
+		FileStatus status = fs.getFileStatus(path);
+		return new ArrayList<Split>(getFileSplits(fs, path, status));
+	}
+
+	@Override
+	public List<Split> getSplits(List<Path> paths) throws IOException {
+		List<Split> splits = new ArrayList<Split>();
+		List<FileSplit> small = new ArrayList<FileSplit>();
+		for (Path path : paths) {
+			FileSystem fs = path.getFileSystem(getConfiguration());
+			FileStatus status = fs.getFileStatus(path);
+			List<FileSplit> fileSplits = getFileSplits(fs, path, status);
+			if (status.getLen() < combineThreshold && fileSplits.size() == 1) {
+				small.add(fileSplits.get(0));
+			} else {
+				splits.addAll(fileSplits);
+			}
+		}
+		splits.addAll(combine(small));
+		return splits;
+	}
+
+	/**
+	 * Sets the threshold for a file length under which
+	 * files are combined into a {@link CombinedSplit}.
+	 * Setting it to zero disables combining.
+	 *
+	 * @param combineThreshold the new combine threshold
+	 */
+	public void setCombineThreshold(long combineThreshold) {
+		this.combineThreshold = combineThreshold;
+	}
+
+	/**
+	 * Sets the maximum total length of a {@link CombinedSplit}.
+	 *
+	 * @param maxCombinedSize the new max combined size
+	 */
+	public void setMaxCombinedSize(long maxCombinedSize) {
+		this.maxCombinedSize = maxCombinedSize;
+	}
+
+	/**
+	 * Sets the codec used for all files instead of resolving
+	 * a codec from a file suffix. Files are considered to be
+	 * splittable if {@link CodecInfo#isSplittable()} is true.
+	 *
+	 * @param codec the new codec info
+	 */
+	public void setCodec(CodecInfo codec) {
+		this.codec = codec;
+	}
+
+	/**
+	 * Checks if a file is compressed with any codec.
+	 *
+	 * @param path the file path
+	 * @return true, if file is compressed
+	 */
+	protected boolean isCompressed(Path path) {
+		return codec != null || getCompressionCodec(path) != null;
+	}
+
+	/**
+	 * Checks if a file can be split. Uncompressed files and files
+	 * compressed with a {@link SplittableCompressionCodec} are splittable.
+	 *
+	 * @param path the file path
+	 * @return true, if file is splittable
+	 */
+	protected boolean isSplittable(Path path) {
+		if (codec != null) {
+			return codec.isSplittable();
+		}
+		CompressionCodec compressionCodec = getCompressionCodec(path);
+		return compressionCodec == null || compressionCodec instanceof SplittableCompressionCodec;
+	}
+
+	private List<FileSplit> getFileSplits(FileSystem fs, Path path, FileStatus status) throws IOException {
+		List<FileSplit> splits = new ArrayList<FileSplit>();
+		long length = status.getLen();
+		if (length == 0) {
+			return splits;
+		}
+		BlockLocation[] blocks = fs.getFileBlockLocations(status, 0, length);
+
+		if (!isSplittable(path)) {
+			splits.add(new FileSplit(path, 0, length, blocks[0].getHosts()));
+			return splits;
+		}
+
+		long blockSize = status.getBlockSize();
+		long splitSize = computeSplitSize(blockSize, getMinSplitSize(), getMaxSplitSize());
+		if (isCompressed(path) && blockSize > 0) {
+			// round up to full blocks
+			splitSize = Math.max(1, (splitSize + blockSize - 1) / blockSize) * blockSize;
+		}
+
+		long remaining = length;
+		while (((double) remaining) / splitSize > getSlop()) {
+			int i = getBlockIndex(blocks, length - remaining);
+			splits.add(new FileSplit(path, length - remaining, splitSize, blocks[i].getHosts()));
+			remaining -= splitSize;
+		}
+		if (remaining != 0) {
+			int i = getBlockIndex(blocks, length - remaining);
+			splits.add(new FileSplit(path, length - remaining, remaining, blocks[i].getHosts()));
+		}
+		return splits;
+	}
+
+	private List<Split> combine(List<FileSplit> small) {
+		List<Split> splits = new ArrayList<Split>();
+		if (small.isEmpty()) {
+			return splits;
+		}
+		// stable sort keeps path order within a host
+		Collections.sort(small, new Comparator<FileSplit>() {
+
+			@Override
+			public int compare(FileSplit o1, FileSplit o2) {
+				return primaryHost(o1).compareTo(primaryHost(o2));
+			}
+		});
+		List<FileSplit> current = new ArrayList<FileSplit>();
+		long currentLength = 0;
+		for (FileSplit split : small) {
+			if (!current.isEmpty() && currentLength + split.getLength() > maxCombinedSize) {
+				splits.add(toSplit(current));
+				current = new ArrayList<FileSplit>();
+				currentLength = 0;
+			}
+			current.add(split);
+			currentLength += split.getLength();
+		}
+		splits.add(toSplit(current));
+		return splits;
+	}
+
+	private static Split toSplit(List<FileSplit> splits) {
+		return splits.size() == 1 ? splits.get(0) : new CombinedSplit(splits);
+	}
+
+	private static String primaryHost(FileSplit split) {
+		String[] hosts = split.getLocations();
+		return hosts != null && hosts.length > 0 ? hosts[0] : "";
+	}
+
+	private CompressionCodec getCompressionCodec(Path path) {
+		if (codecFactory == null) {
+			codecFactory = new CompressionCodecFactory(
+					getConfiguration() != null ? getConfiguration() : new Configuration());
+		}
+		return codecFactory.getCodec(path);
+	}
+
+}
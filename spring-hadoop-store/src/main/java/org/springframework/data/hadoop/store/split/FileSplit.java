@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.split;
+
+import org.apache.hadoop.fs.Path;
+
+/**
+ * A {@code FileSplit} is a {@link GenericSplit} which knows
+ * a path of a file it belongs to.
+ */
+public class FileSplit extends GenericSplit {
+
+	private Path path;
+
+	/**
+	 * Instantiates a new file split.
+	 */
+	public FileSplit() {
+	}
+
+	/**
+	 * Instantiates a new file split.
+	 *
+	 * @param path the file path
+	 * @param start the split start
+	 * @param length the split length
+	 * @param locations the split locations
+	 */
+	public FileSplit(Path path, long start, long length, String[] locations) {
+		super(start, length, locations);
+		this.path = path;
+	}
+
+	/**
+	 * Gets the file path.
+	 *
+	 * @return the file path
+	 */
+	public Path getPath() {
+		return path;
+	}
+
+	/**
+	 * Sets the file path.
+	 *
+	 * @param path the new file path
+	 */
+	public void setPath(Path path) {
+		this.path = path;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = super.hashCode();
+		result = prime * result + ((path == null) ? 0 : path.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (!super.equals(obj))
+			return false;
+		FileSplit other = (FileSplit) obj;
+		if (path == null) {
+			if (other.path != null)
+				return false;
+		} else if (!path.equals(other.path))
+			return false;
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return "FileSplit [path=" + path + ", start=" + getStart() + ", length=" + getLength() + "]";
+	}
+
+}
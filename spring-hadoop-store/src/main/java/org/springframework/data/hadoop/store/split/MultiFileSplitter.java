@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.split;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.hadoop.fs.Path;
+
+/**
+ * A {@code MultiFileSplitter} is a {@link Splitter} able to split
+ * a set of files at once, possibly combining splits of different
+ * files into a {@link CombinedSplit}. Other returned splits are
+ * {@link FileSplit}s.
+ */
+public interface MultiFileSplitter extends Splitter {
+
+	/**
+	 * Gets the input splits for a list of files.
+	 *
+	 * @param paths the file paths
+	 * @return the input splits
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	List<Split> getSplits(List<Path> paths) throws IOException;
+
+}
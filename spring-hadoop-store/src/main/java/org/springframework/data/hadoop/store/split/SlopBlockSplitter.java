@@ -159,6 +159,15 @@ public class SlopBlockSplitter extends AbstractSplitter {
 		this.maxSplitSize = maxSplitSize;
 	}
 
+	/**
+	 * Gets the slop factor.
+	 *
+	 * @return the slop factor
+	 */
+	public double getSlop() {
+		return slop;
+	}
+
 	/**
 	 * Sets the slop factor.
 	 *
@@ -24,12 +24,14 @@ import org.springframework.data.hadoop.store.codec.CodecInfo;
 import org.springframework.data.hadoop.store.support.OrderedComposite;
 
 /**
- * A {@code FileNamingStrategy} chaining other strategies.
+ * A {@code FileNamingStrategy} chaining other strategies. Seeking is
+ * delegated to strategies implementing {@link SeekableFileNamingStrategy},
+ * others are reset and rolled forward.
  *
  * @author Janne Valkealahti
  *
  */
-public class ChainedFileNamingStrategy implements FileNamingStrategy {
+public class ChainedFileNamingStrategy implements SeekableFileNamingStrategy {
 
 	/** List of ordered composite strategies */
 	private final OrderedComposite<FileNamingStrategy> strategies;
@@ -73,6 +75,21 @@ public class ChainedFileNamingStrategy implements FileNamingStrategy {
 		}
 	}
 
+	@Override
+	public void seek(int index) {
+		for (Iterator<? extends FileNamingStrategy> iterator = strategies.iterator(); iterator.hasNext();) {
+			FileNamingStrategy strategy = iterator.next();
+			if (strategy instanceof SeekableFileNamingStrategy) {
+				((SeekableFileNamingStrategy) strategy).seek(index);
+			} else {
+				strategy.reset();
+				for (int i = 0; i < index; i++) {
+					strategy.next();
+				}
+			}
+		}
+	}
+
 	@Override
 	public Path init(Path path) {
 		for (Iterator<? extends FileNamingStrategy> iterator = strategies.iterator(); iterator.hasNext();) {
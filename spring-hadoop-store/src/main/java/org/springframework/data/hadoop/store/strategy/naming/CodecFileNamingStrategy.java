@@ -27,7 +27,7 @@ import org.springframework.util.StringUtils;
  * @author Janne Valkealahti
  *
  */
-public class CodecFileNamingStrategy extends AbstractFileNamingStrategy {
+public class CodecFileNamingStrategy extends AbstractFileNamingStrategy implements SeekableFileNamingStrategy {
 
 	private final static Log log = LogFactory.getLog(CodecFileNamingStrategy.class);
 
@@ -62,6 +62,12 @@ public class CodecFileNamingStrategy extends AbstractFileNamingStrategy {
 	public void next() {
 	}
 
+	@Override
+	public void seek(int index) {
+		// rolling doesn't change a state
+		reset();
+	}
+
 	@Override
 	public Path init(Path path) {
 		path = super.init(path);
@@ -29,7 +29,7 @@ import org.springframework.util.StringUtils;
  * @author Janne Valkealahti
  *
  */
-public class RollingFileNamingStrategy extends AbstractFileNamingStrategy {
+public class RollingFileNamingStrategy extends AbstractFileNamingStrategy implements SeekableFileNamingStrategy {
 
 	private final static Log log = LogFactory.getLog(RollingFileNamingStrategy.class);
 
@@ -58,6 +58,11 @@ public class RollingFileNamingStrategy extends AbstractFileNamingStrategy {
 		counter = 0;
 	}
 
+	@Override
+	public void seek(int index) {
+		counter = index;
+	}
+
 	@Override
 	public Path init(Path path) {
 		path = super.init(path);
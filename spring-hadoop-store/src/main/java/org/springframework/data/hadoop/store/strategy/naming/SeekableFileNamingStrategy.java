@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.strategy.naming;
+
+/**
+ * Extension of {@link FileNamingStrategy} which can be moved to a given roll
+ * index without replaying {@link #next()}. Kept separate from
+ * {@code FileNamingStrategy} so that existing implementations of it don't
+ * need to change.
+ */
+public interface SeekableFileNamingStrategy extends FileNamingStrategy {
+
+	/**
+	 * Moves the strategy to a state it would have after {@link #reset()}
+	 * and a given number of calls to {@link #next()}.
+	 *
+	 * @param index the number of rolls from a reset state
+	 */
+	void seek(int index);
+
+}
@@ -26,7 +26,7 @@ import org.springframework.util.StringUtils;
  * @author Janne Valkealahti
  *
  */
-public class StaticFileNamingStrategy extends AbstractFileNamingStrategy {
+public class StaticFileNamingStrategy extends AbstractFileNamingStrategy implements SeekableFileNamingStrategy {
 
 	private final static Log log = LogFactory.getLog(StaticFileNamingStrategy.class);
 
@@ -76,6 +76,12 @@ public class StaticFileNamingStrategy extends AbstractFileNamingStrategy {
 		// we're static, nothing to do
 	}
 
+	@Override
+	public void seek(int index) {
+		// rolling doesn't change a state
+		reset();
+	}
+
 	@Override
 	public Path init(Path path) {
 		path = super.init(path);
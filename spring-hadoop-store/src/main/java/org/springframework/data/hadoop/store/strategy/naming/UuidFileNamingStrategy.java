@@ -30,7 +30,7 @@ import org.springframework.util.StringUtils;
  * @author Janne Valkealahti
  *
  */
-public class UuidFileNamingStrategy extends AbstractFileNamingStrategy {
+public class UuidFileNamingStrategy extends AbstractFileNamingStrategy implements SeekableFileNamingStrategy {
 
 	private final static Log log = LogFactory.getLog(UuidFileNamingStrategy.class);
 
@@ -103,6 +103,12 @@ public class UuidFileNamingStrategy extends AbstractFileNamingStrategy {
 	public void next() {
 	}
 
+	@Override
+	public void seek(int index) {
+		// rolling doesn't change a state
+		reset();
+	}
+
 	@Override
 	public UuidFileNamingStrategy createInstance() {
 		UuidFileNamingStrategy instance = new UuidFileNamingStrategy(uuid, isEnabled());
@@ -27,7 +27,7 @@ import org.springframework.data.hadoop.store.support.OrderedComposite;
  * @author Janne Valkealahti
  *
  */
-public class ChainedRolloverStrategy implements RolloverStrategy {
+public class ChainedRolloverStrategy implements RolloverStrategy, WriteCountAware {
 
 	/** List of ordered composite strategies */
 	private OrderedComposite<RolloverStrategy> strategies;
@@ -73,6 +73,16 @@ public class ChainedRolloverStrategy implements RolloverStrategy {
 		}
 	}
 
+	@Override
+	public void addWriteCount(long count) {
+		for (Iterator<RolloverStrategy> iterator = strategies.iterator(); iterator.hasNext();) {
+			RolloverStrategy strategy = iterator.next();
+			if (strategy instanceof WriteCountAware) {
+				((WriteCountAware) strategy).addWriteCount(count);
+			}
+		}
+	}
+
 	@Override
 	public ChainedRolloverStrategy createInstance() {
 		ChainedRolloverStrategy instance = new ChainedRolloverStrategy();
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.strategy.rollover;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * A {@code RolloverStrategy} using a number of written entities limiting
+ * a rollover operation.
+ */
+public class RecordCountRolloverStrategy extends AbstractRolloverStrategy implements WriteCountAware {
+
+	private final static Log log = LogFactory.getLog(RecordCountRolloverStrategy.class);
+
+	private static final long DEFAULT_MAX_COUNT = 1000000;
+
+	private long rolloverCount;
+
+	private volatile long count;
+
+	/**
+	 * Instantiates a new record count rollover strategy.
+	 */
+	public RecordCountRolloverStrategy() {
+		this(DEFAULT_MAX_COUNT);
+	}
+
+	/**
+	 * Instantiates a new record count rollover strategy.
+	 *
+	 * @param rolloverCount the rollover count
+	 */
+	public RecordCountRolloverStrategy(long rolloverCount) {
+		this.rolloverCount = rolloverCount;
+	}
+
+	@Override
+	public boolean hasRolled() {
+		if (log.isDebugEnabled()) {
+			log.debug("Checking rolloverCount=" + rolloverCount + " against currentCount=" + count);
+		}
+		return rolloverCount <= count;
+	}
+
+	@Override
+	public void addWriteCount(long count) {
+		this.count += count;
+	}
+
+	@Override
+	public void reset() {
+		count = 0;
+	}
+
+	@Override
+	public RecordCountRolloverStrategy createInstance() {
+		RecordCountRolloverStrategy instance = new RecordCountRolloverStrategy(rolloverCount);
+		instance.setOrder(getOrder());
+		return instance;
+	}
+
+	/**
+	 * Sets the rollover count.
+	 *
+	 * @param rolloverCount the new rollover count
+	 */
+	public void setRolloverCount(long rolloverCount) {
+		this.rolloverCount = rolloverCount;
+	}
+
+	/**
+	 * Gets the number of entities written since last reset.
+	 *
+	 * @return the write count
+	 */
+	public long getCount() {
+		return count;
+	}
+
+}
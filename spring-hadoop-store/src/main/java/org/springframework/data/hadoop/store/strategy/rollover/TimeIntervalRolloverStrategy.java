@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.strategy.rollover;
+
+import java.util.TimeZone;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.Assert;
+
+/**
+ * A {@code RolloverStrategy} doing a rollover on a wall-clock boundaries
+ * aligned to a given interval. For example with an interval of five minutes
+ * a file opened at 10:03 is rolled at 10:05 and a next one at 10:10 regardless
+ * of when files were opened. Boundaries are aligned in a given time zone which
+ * makes intervals like one day to roll at midnight.
+ * <p>
+ * Boundary is calculated when a first write position is set after a reset,
+ * thus a strategy state doesn't change if nothing is written. As this strategy
+ * depends on a time instead of writes, a writer should check its rollover state
+ * periodically for files to get rolled on time if no further writes happen.
+ */
+public class TimeIntervalRolloverStrategy extends AbstractRolloverStrategy {
+
+	private final static Log log = LogFactory.getLog(TimeIntervalRolloverStrategy.class);
+
+	private static final long SECOND = 1000;
+
+	private static final long MINUTE = 60 * SECOND;
+
+	private static final long HOUR = 60 * MINUTE;
+
+	private static final long DAY = 24 * HOUR;
+
+	private static final Pattern VALUE_PATTERN = Pattern.compile("([0-9]+)\\s*(ms|s|m|h|d)?", Pattern.CASE_INSENSITIVE);
+
+	private final long interval;
+
+	private TimeZone timeZone = TimeZone.getDefault();
+
+	/** Next boundary in millis, negative if not yet resolved */
+	private volatile long rolloverTime = -1;
+
+	/**
+	 * Instantiates a new time interval rollover strategy.
+	 *
+	 * @param interval the interval in millis
+	 */
+	public TimeIntervalRolloverStrategy(long interval) {
+		Assert.isTrue(interval > 0, "Interval must be positive");
+		this.interval = interval;
+	}
+
+	/**
+	 * Instantiates a new time interval rollover strategy. Supported
+	 * string representations of an interval are, 100ms, 30s, 5m, 1h
+	 * and 1d where numeric part can be changed. Value without a unit
+	 * is in millis.
+	 *
+	 * @param interval the interval
+	 */
+	public TimeIntervalRolloverStrategy(String interval) {
+		this(parseValue(interval));
+	}
+
+	@Override
+	public boolean hasRolled() {
+		long time = rolloverTime;
+		if (time < 0) {
+			return false;
+		}
+		long now = getCurrentTime();
+		if (log.isDebugEnabled()) {
+			log.debug("Checking rolloverTime=" + time + " against currentTime=" + now);
+		}
+		return time <= now;
+	}
+
+	@Override
+	public void setWritePosition(long position) {
+		super.setWritePosition(position);
+		if (rolloverTime < 0) {
+			rolloverTime = nextBoundary(getCurrentTime());
+		}
+	}
+
+	@Override
+	public void reset() {
+		rolloverTime = -1;
+	}
+
+	@Override
+	public TimeIntervalRolloverStrategy createInstance() {
+		TimeIntervalRolloverStrategy instance = new TimeIntervalRolloverStrategy(interval);
+		instance.setTimeZone(timeZone);
+		instance.setOrder(getOrder());
+		return instance;
+	}
+
+	/**
+	 * Sets the time zone used to align boundaries. Default
+	 * is a system default time zone.
+	 *
+	 * @param timeZone the new time zone
+	 */
+	public void setTimeZone(TimeZone timeZone) {
+		Assert.notNull(timeZone, "Time zone must be set");
+		this.timeZone = timeZone;
+	}
+
+	/**
+	 * Gets the interval.
+	 *
+	 * @return the interval in millis
+	 */
+	public long getInterval() {
+		return interval;
+	}
+
+	/**
+	 * Gets the time of a next rollover.
+	 *
+	 * @return the rollover time in millis, negative if not yet known
+	 */
+	public long getRolloverTime() {
+		return rolloverTime;
+	}
+
+	/**
+	 * Gets the current time in millis.
+	 *
+	 * @return the current time
+	 */
+	protected long getCurrentTime() {
+		return System.currentTimeMillis();
+	}
+
+	private long nextBoundary(long now) {
+		long offset = timeZone.getOffset(now);
+		long local = now + offset;
+		return local - (local % interval) + interval - offset;
+	}
+
+	private static long parseValue(String string) {
+		Matcher matcher = VALUE_PATTERN.matcher(string.trim());
+		if (!matcher.matches()) {
+			throw new IllegalArgumentException("Unable to parse interval: " + string);
+		}
+		long value = Long.parseLong(matcher.group(1));
+		String units = matcher.group(2);
+		if (units == null || units.equalsIgnoreCase("ms")) {
+			return value;
+		} else if (units.equalsIgnoreCase("s")) {
+			return value * SECOND;
+		} else if (units.equalsIgnoreCase("m")) {
+			return value * MINUTE;
+		} else if (units.equalsIgnoreCase("h")) {
+			return value * HOUR;
+		} else {
+			return value * DAY;
+		}
+	}
+
+}
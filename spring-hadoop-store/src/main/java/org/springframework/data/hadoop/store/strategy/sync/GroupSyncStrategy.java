@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.strategy.sync;
+
+/**
+ * A {@link SyncStrategy} grouping syncs until a given number of entities,
+ * bytes or milliseconds since a last sync is reached, whichever comes
+ * first. Limits less than one are disabled. If all limits are disabled
+ * every write is synced.
+ * <p>
+ * Limits define how much data can be lost if a writer dies before data is
+ * synced. Time limit is checked on writes and flushes, so with idle
+ * writers a flush timeout should be set at most to a same value.
+ */
+public class GroupSyncStrategy implements SyncStrategy {
+
+	private long maxRecords;
+
+	private long maxBytes;
+
+	private long interval;
+
+	private boolean hsync;
+
+	private long records;
+
+	private long position;
+
+	private long syncPosition;
+
+	private long syncTime = System.nanoTime();
+
+	/**
+	 * Instantiates a new group sync strategy syncing every write.
+	 */
+	public GroupSyncStrategy() {
+	}
+
+	/**
+	 * Instantiates a new group sync strategy.
+	 *
+	 * @param maxRecords the max number of unsynced entities
+	 * @param maxBytes the max number of unsynced bytes
+	 * @param interval the max time in millis between syncs
+	 */
+	public GroupSyncStrategy(long maxRecords, long maxBytes, long interval) {
+		this.maxRecords = maxRecords;
+		this.maxBytes = maxBytes;
+		this.interval = interval;
+	}
+
+	@Override
+	public SyncStrategy createInstance() {
+		GroupSyncStrategy instance = new GroupSyncStrategy(maxRecords, maxBytes, interval);
+		instance.setHsync(hsync);
+		return instance;
+	}
+
+	@Override
+	public synchronized void setWritePosition(long position, long count) {
+		this.position = position;
+		this.records += count;
+	}
+
+	@Override
+	public synchronized boolean shouldSync() {
+		if (records == 0 && position == syncPosition) {
+			return false;
+		}
+		if (maxRecords < 1 && maxBytes < 1 && interval < 1) {
+			return true;
+		}
+		return (maxRecords > 0 && records >= maxRecords)
+				|| (maxBytes > 0 && position - syncPosition >= maxBytes)
+				|| (interval > 0 && System.nanoTime() - syncTime >= interval * 1000000l);
+	}
+
+	@Override
+	public synchronized void reset() {
+		records = 0;
+		syncPosition = position;
+		syncTime = System.nanoTime();
+	}
+
+	@Override
+	public boolean isHsync() {
+		return hsync;
+	}
+
+	/**
+	 * Sets if data is synced with {@code hsync} which also
+	 * asks datanodes to persist data into a disk instead of
+	 * only making it visible to readers.
+	 *
+	 * @param hsync the hsync flag
+	 */
+	public void setHsync(boolean hsync) {
+		this.hsync = hsync;
+	}
+
+	/**
+	 * Sets the max number of entities written between syncs.
+	 *
+	 * @param maxRecords the new max records
+	 */
+	public void setMaxRecords(long maxRecords) {
+		this.maxRecords = maxRecords;
+	}
+
+	/**
+	 * Gets the max number of entities written between syncs.
+	 *
+	 * @return the max records
+	 */
+	public long getMaxRecords() {
+		return maxRecords;
+	}
+
+	/**
+	 * Sets the max number of bytes written between syncs.
+	 *
+	 * @param maxBytes the new max bytes
+	 */
+	public void setMaxBytes(long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Gets the max number of bytes written between syncs.
+	 *
+	 * @return the max bytes
+	 */
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * Sets the max time in millis between syncs.
+	 *
+	 * @param interval the new interval
+	 */
+	public void setInterval(long interval) {
+		this.interval = interval;
+	}
+
+	/**
+	 * Gets the max time in millis between syncs.
+	 *
+	 * @return the interval
+	 */
+	public long getInterval() {
+		return interval;
+	}
+
+	/**
+	 * Gets the number of entities written since a last sync.
+	 *
+	 * @return the unsynced records
+	 */
+	public synchronized long getUnsyncedRecords() {
+		return records;
+	}
+
+	/**
+	 * Gets the number of bytes written since a last sync.
+	 *
+	 * @return the unsynced bytes
+	 */
+	public synchronized long getUnsyncedBytes() {
+		return position - syncPosition;
+	}
+
+}
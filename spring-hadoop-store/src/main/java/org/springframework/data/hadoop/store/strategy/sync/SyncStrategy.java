@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.strategy.sync;
+
+/**
+ * A strategy interface used for writers to determine when written data
+ * should be made durable with {@code hflush} or {@code hsync}. Grouping
+ * syncs trades a window of unsynced data for a much higher write
+ * throughput compared to syncing every write.
+ */
+public interface SyncStrategy extends SyncStrategyFactory<SyncStrategy> {
+
+	/**
+	 * Notifies a strategy about written entities and a
+	 * current write position.
+	 *
+	 * @param position the new write position
+	 * @param count the number of written entities
+	 */
+	void setWritePosition(long position, long count);
+
+	/**
+	 * Checks if written data should be synced.
+	 *
+	 * @return true, if sync should happen
+	 */
+	boolean shouldSync();
+
+	/**
+	 * Checks if a sync should use {@code hsync} instead of {@code hflush}.
+	 *
+	 * @return true, if hsync should be used
+	 */
+	boolean isHsync();
+
+	/**
+	 * Reset the strategy state. Called after data has been
+	 * synced or a new stream has been opened.
+	 */
+	void reset();
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.support;
+
+import java.util.Arrays;
+
+/**
+ * A {@code DelimitedFieldEncoder} is a {@link Utf8FieldEncoder} quoting
+ * fields as described in RFC 4180. A field containing a field delimiter
+ * or a double quote is enclosed in double quotes and double quotes within
+ * it are escaped by another double quote. Other fields are written as is,
+ * so quoting only costs a scan over an already encoded field. A field
+ * containing a line break is rejected because a record is read back as
+ * a single line, after which an encoder needs to be reset. This class is
+ * not thread safe.
+ */
+public class DelimitedFieldEncoder extends Utf8FieldEncoder {
+
+	private static final byte QUOTE = '"';
+
+	private final byte[] fieldDelimiter;
+
+	private byte[] scratch = new byte[64];
+
+	private int fieldStart;
+
+	/**
+	 * Instantiates a new delimited field encoder.
+	 *
+	 * @param fieldDelimiter the field delimiter
+	 */
+	public DelimitedFieldEncoder(byte[] fieldDelimiter) {
+		super(fieldDelimiter);
+		this.fieldDelimiter = fieldDelimiter;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws IllegalArgumentException if value contains a line break
+	 */
+	@Override
+	public DelimitedFieldEncoder field(CharSequence value) {
+		super.field(value);
+		quoteIfNeeded();
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws IllegalArgumentException if value contains a line break
+	 */
+	@Override
+	public DelimitedFieldEncoder field(byte[] value, int offset, int len) {
+		super.field(value, offset, len);
+		quoteIfNeeded();
+		return this;
+	}
+
+	@Override
+	protected void beginField() {
+		super.beginField();
+		fieldStart = getLength();
+	}
+
+	private void quoteIfNeeded() {
+		byte[] buf = getBuffer();
+		int end = getLength();
+		if (!needsQuoting(buf, fieldStart, end)) {
+			return;
+		}
+		int len = end - fieldStart;
+		if (scratch.length < len) {
+			scratch = Arrays.copyOf(scratch, Math.max(len, scratch.length << 1));
+		}
+		System.arraycopy(buf, fieldStart, scratch, 0, len);
+		setLength(fieldStart);
+		append('"');
+		int from = 0;
+		for (int i = 0; i < len; i++) {
+			if (scratch[i] == QUOTE) {
+				append(scratch, from, i + 1 - from);
+				append('"');
+				from = i + 1;
+			}
+		}
+		append(scratch, from, len - from);
+		append('"');
+	}
+
+	private boolean needsQuoting(byte[] buf, int start, int end) {
+		byte first = fieldDelimiter[0];
+		for (int i = start; i < end; i++) {
+			byte b = buf[i];
+			if (b == '\n' || b == '\r') {
+				throw new IllegalArgumentException("Field can't contain a line break");
+			}
+			if (b == QUOTE) {
+				return true;
+			}
+			if (b == first && i + fieldDelimiter.length <= end && startsWithDelimiter(buf, i)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean startsWithDelimiter(byte[] buf, int pos) {
+		for (int i = 1; i < fieldDelimiter.length; i++) {
+			if (buf[pos + i] != fieldDelimiter[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.support;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@code DelimitedFieldTokenizer} splits a single delimited record into
+ * fields directly over a byte buffer as described in RFC 4180. Fields may
+ * be enclosed in double quotes in which case delimiters within a field
+ * are part of it and a double quote is escaped by another double quote.
+ * <p>
+ * Tokenizer doesn't copy data, instead it keeps start and length of every
+ * field in arrays reused for every record. Quoted fields are unescaped in
+ * place, thus a given buffer is modified. Field values can be accessed as
+ * bytes or mapped to typed values without creating intermediate
+ * {@code String}s. Fields are valid until a next call to
+ * {@link #tokenize(byte[], int, int)}.
+ * <p>
+ * As a record is a single line, line breaks within quoted fields are not
+ * supported. Tokenizer is lenient with malformed input, an unterminated
+ * quoted field extends to the end of a record and characters after a
+ * closing quote are appended to a field. This class is not thread safe.
+ */
+public class DelimitedFieldTokenizer {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private static final byte QUOTE = '"';
+
+	private static final byte[] TRUE = "true".getBytes(UTF8);
+
+	private final byte[] fieldDelimiter;
+
+	private final boolean quoting;
+
+	private byte[] buffer;
+
+	private int[] starts = new int[16];
+
+	private int[] lengths = new int[16];
+
+	private int fields;
+
+	/**
+	 * Instantiates a new delimited field tokenizer handling quoted fields.
+	 *
+	 * @param fieldDelimiter the field delimiter
+	 */
+	public DelimitedFieldTokenizer(byte[] fieldDelimiter) {
+		this(fieldDelimiter, true);
+	}
+
+	/**
+	 * Instantiates a new delimited field tokenizer.
+	 *
+	 * @param fieldDelimiter the field delimiter
+	 * @param quoting the flag if quoted fields are handled
+	 */
+	public DelimitedFieldTokenizer(byte[] fieldDelimiter, boolean quoting) {
+		Assert.isTrue(fieldDelimiter != null && fieldDelimiter.length > 0, "Field delimiter must be set");
+		this.fieldDelimiter = fieldDelimiter;
+		this.quoting = quoting;
+	}
+
+	/**
+	 * Tokenizes a record. Previous fields are discarded.
+	 *
+	 * @param data the record bytes
+	 * @param offset the offset in data
+	 * @param length the record length
+	 * @return the number of fields
+	 */
+	public int tokenize(byte[] data, int offset, int length) {
+		buffer = data;
+		fields = 0;
+		int end = offset + length;
+		int pos = offset;
+		while (true) {
+			if (quoting && pos < end && data[pos] == QUOTE) {
+				pos = quotedField(data, pos + 1, end);
+			} else {
+				int next = indexOfDelimiter(data, pos, end);
+				addField(pos, next - pos);
+				pos = next;
+			}
+			if (pos >= end) {
+				break;
+			}
+			pos += fieldDelimiter.length;
+		}
+		return fields;
+	}
+
+	/**
+	 * Gets the number of fields in a current record.
+	 *
+	 * @return the field count
+	 */
+	public int getFieldCount() {
+		return fields;
+	}
+
+	/**
+	 * Gets the buffer fields refer to.
+	 *
+	 * @return the buffer
+	 */
+	public byte[] getBuffer() {
+		return buffer;
+	}
+
+	/**
+	 * Gets the start of a field in a buffer.
+	 *
+	 * @param index the field index
+	 * @return the field start
+	 */
+	public int getStart(int index) {
+		checkIndex(index);
+		return starts[index];
+	}
+
+	/**
+	 * Gets the length of a field in bytes.
+	 *
+	 * @param index the field index
+	 * @return the field length
+	 */
+	public int getLength(int index) {
+		checkIndex(index);
+		return lengths[index];
+	}
+
+	/**
+	 * Checks if a field is empty.
+	 *
+	 * @param index the field index
+	 * @return true, if field is empty
+	 */
+	public boolean isEmpty(int index) {
+		return getLength(index) == 0;
+	}
+
+	/**
+	 * Gets a field decoded from UTF-8.
+	 *
+	 * @param index the field index
+	 * @return the field value
+	 */
+	public String getString(int index) {
+		checkIndex(index);
+		return new String(buffer, starts[index], lengths[index], UTF8);
+	}
+
+	/**
+	 * Gets a field parsed as a decimal {@code long}.
+	 *
+	 * @param index the field index
+	 * @return the field value
+	 * @throws NumberFormatException if field is not a valid number
+	 */
+	public long getLong(int index) {
+		checkIndex(index);
+		int pos = starts[index];
+		int end = pos + lengths[index];
+		if (pos == end) {
+			throw new NumberFormatException("Empty field " + index);
+		}
+		boolean negative = buffer[pos] == '-';
+		if (negative || buffer[pos] == '+') {
+			if (++pos == end) {
+				throw new NumberFormatException("Invalid number in field " + index);
+			}
+		}
+		// accumulate negatively to be able to parse Long.MIN_VALUE
+		long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long result = 0;
+		for (; pos < end; pos++) {
+			int digit = buffer[pos] - '0';
+			if (digit < 0 || digit > 9) {
+				throw new NumberFormatException("Invalid number in field " + index);
+			}
+			if (result < (limit + digit) / 10) {
+				throw new NumberFormatException("Number out of range in field " + index);
+			}
+			result = result * 10 - digit;
+		}
+		return negative ? result : -result;
+	}
+
+	/**
+	 * Gets a field parsed as a decimal {@code int}.
+	 *
+	 * @param index the field index
+	 * @return the field value
+	 * @throws NumberFormatException if field is not a valid number
+	 */
+	public int getInt(int index) {
+		long value = getLong(index);
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw new NumberFormatException("Number out of range in field " + index);
+		}
+		return (int) value;
+	}
+
+	/**
+	 * Gets a field parsed as a {@code double}. Unlike other typed
+	 * accessors this decodes a field into a {@code String} first.
+	 *
+	 * @param index the field index
+	 * @return the field value
+	 * @throws NumberFormatException if field is not a valid number
+	 */
+	public double getDouble(int index) {
+		return Double.parseDouble(getString(index));
+	}
+
+	/**
+	 * Gets a field as a {@code boolean} which is true if a
+	 * field is {@code true} ignoring case.
+	 *
+	 * @param index the field index
+	 * @return the field value
+	 */
+	public boolean getBoolean(int index) {
+		checkIndex(index);
+		if (lengths[index] != TRUE.length) {
+			return false;
+		}
+		int start = starts[index];
+		for (int i = 0; i < TRUE.length; i++) {
+			if ((buffer[start + i] | 0x20) != TRUE[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets all fields as {@code String}s.
+	 *
+	 * @return the list of fields
+	 */
+	public List<String> toList() {
+		List<String> list = new ArrayList<String>(fields);
+		for (int i = 0; i < fields; i++) {
+			list.add(new String(buffer, starts[i], lengths[i], UTF8));
+		}
+		return list;
+	}
+
+	private int quotedField(byte[] data, int start, int end) {
+		int write = start;
+		int pos = start;
+		boolean closed = false;
+		while (pos < end) {
+			byte b = data[pos++];
+			if (b == QUOTE) {
+				if (pos < end && data[pos] == QUOTE) {
+					pos++;
+				} else {
+					closed = true;
+					break;
+				}
+			}
+			data[write++] = b;
+		}
+		if (closed) {
+			int next = indexOfDelimiter(data, pos, end);
+			if (next > pos) {
+				System.arraycopy(data, pos, data, write, next - pos);
+				write += next - pos;
+			}
+			pos = next;
+		}
+		addField(start, write - start);
+		return pos;
+	}
+
+	private int indexOfDelimiter(byte[] data, int pos, int end) {
+		byte first = fieldDelimiter[0];
+		if (fieldDelimiter.length == 1) {
+			while (pos < end && data[pos] != first) {
+				pos++;
+			}
+			return pos;
+		}
+		int last = end - fieldDelimiter.length;
+		for (; pos <= last; pos++) {
+			if (data[pos] == first && matches(data, pos)) {
+				return pos;
+			}
+		}
+		return end;
+	}
+
+	private boolean matches(byte[] data, int pos) {
+		for (int i = 1; i < fieldDelimiter.length; i++) {
+			if (data[pos + i] != fieldDelimiter[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void addField(int start, int length) {
+		if (fields == starts.length) {
+			starts = Arrays.copyOf(starts, fields << 1);
+			lengths = Arrays.copyOf(lengths, fields << 1);
+		}
+		starts[fields] = start;
+		lengths[fields++] = length;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= fields) {
+			throw new IndexOutOfBoundsException("Field " + index + " doesn't exist, field count is " + fields);
+		}
+	}
+
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.support;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link TimeoutService} backed by a hashed timer wheel. A single worker
+ * thread advances the wheel once per tick and timeouts expired during a tick
+ * are handed to an {@link Executor} in batches of a bounded size, so a slow
+ * task only delays timeouts in its own batch. Without a given executor,
+ * batches are run by a fixed number of daemon threads owned by this service.
+ * A view running timeouts with a different executor while sharing a same
+ * wheel is available from {@link #withExecutor(Executor)}.
+ * <p>
+ * Scheduling is a constant time operation which only adds a timeout into
+ * a queue drained by the worker thread. Timeouts are never expired early
+ * and at most one tick late. Cancelled timeouts are dropped lazily when
+ * the wheel passes them. A task can re-arm itself by returning a new
+ * delay which avoids rescheduling every time a deadline moves forward,
+ * e.g. on every write resetting an idle timeout.
+ * <p>
+ * Worker thread is started on a first scheduled timeout. A service shared
+ * by all store objects in a jvm is available from {@link #getSharedInstance()}.
+ */
+public class HashedWheelTimeoutService implements TimeoutService, DisposableBean {
+
+	private static final Log log = LogFactory.getLog(HashedWheelTimeoutService.class);
+
+	private static final long DEFAULT_TICK_DURATION = 100;
+
+	private static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+	private static final int DEFAULT_BATCH_SIZE = 64;
+
+	private static final int DEFAULT_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+	private final long tickDuration;
+
+	private final List<Entry>[] wheel;
+
+	private final int mask;
+
+	private final Queue<Entry> pendingEntries = new ConcurrentLinkedQueue<Entry>();
+
+	private final Executor executor;
+
+	private final ExecutorService ownedExecutor;
+
+	private final Object lock = new Object();
+
+	private volatile Thread workerThread;
+
+	private volatile boolean stopped;
+
+	private volatile int batchSize = DEFAULT_BATCH_SIZE;
+
+	/** Start of a first tick in nanos, only accessed by a worker after start */
+	private long startTime;
+
+	/** Current tick, only accessed by a worker */
+	private long tick;
+
+	/**
+	 * Instantiates a new hashed wheel timeout service with
+	 * a tick of 100 millis and a wheel of 512 ticks.
+	 */
+	public HashedWheelTimeoutService() {
+		this(DEFAULT_TICK_DURATION, DEFAULT_TICKS_PER_WHEEL, null);
+	}
+
+	/**
+	 * Instantiates a new hashed wheel timeout service. If executor is not
+	 * given, expired timeouts are run by a fixed number of daemon threads
+	 * owned by this service.
+	 *
+	 * @param tickDuration the tick duration in millis
+	 * @param ticksPerWheel the number of ticks in a wheel, rounded up to a power of two
+	 * @param executor the executor running expired timeouts
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public HashedWheelTimeoutService(long tickDuration, int ticksPerWheel, Executor executor) {
+		Assert.isTrue(tickDuration > 0, "Tick duration must be positive");
+		Assert.isTrue(ticksPerWheel > 0 && ticksPerWheel <= 1 << 30, "Ticks per wheel must be between 1 and 2^30");
+		int size = 1;
+		while (size < ticksPerWheel) {
+			size <<= 1;
+		}
+		this.tickDuration = TimeUnit.MILLISECONDS.toNanos(tickDuration);
+		this.wheel = new List[size];
+		for (int i = 0; i < size; i++) {
+			wheel[i] = new ArrayList<Entry>();
+		}
+		this.mask = size - 1;
+		if (executor != null) {
+			this.executor = executor;
+			this.ownedExecutor = null;
+		} else {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("store-timeout-");
+			threadFactory.setDaemon(true);
+			this.ownedExecutor = Executors.newFixedThreadPool(DEFAULT_THREADS, threadFactory);
+			this.executor = ownedExecutor;
+		}
+	}
+
+	/**
+	 * Gets the timeout service shared within a jvm.
+	 *
+	 * @return the shared timeout service
+	 */
+	public static HashedWheelTimeoutService getSharedInstance() {
+		return SharedInstanceHolder.INSTANCE;
+	}
+
+	@Override
+	public Timeout schedule(TimeoutTask task, long delay) {
+		return schedule(task, delay, executor);
+	}
+
+	/**
+	 * Gets a view of this service which runs expired timeouts with a given
+	 * executor instead of an executor of this service. Timeouts are still
+	 * tracked by a wheel of this service.
+	 *
+	 * @param executor the executor running expired timeouts
+	 * @return the timeout service
+	 */
+	public TimeoutService withExecutor(final Executor executor) {
+		Assert.notNull(executor, "Executor must be set");
+		return new TimeoutService() {
+
+			@Override
+			public Timeout schedule(TimeoutTask task, long delay) {
+				return HashedWheelTimeoutService.this.schedule(task, delay, executor);
+			}
+		};
+	}
+
+	/**
+	 * Sets the max number of expired timeouts handed to
+	 * an executor as a single task. Default is 64.
+	 *
+	 * @param batchSize the new batch size
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "Batch size must be positive");
+		this.batchSize = batchSize;
+	}
+
+	@Override
+	public void destroy() {
+		if (this == SharedInstanceHolder.INSTANCE) {
+			return;
+		}
+		stopped = true;
+		Thread thread = workerThread;
+		if (thread != null) {
+			thread.interrupt();
+		}
+		if (ownedExecutor != null) {
+			ownedExecutor.shutdown();
+		}
+	}
+
+	private Timeout schedule(TimeoutTask task, long delay, Executor executor) {
+		Assert.notNull(task, "Timeout task must be set");
+		if (stopped) {
+			throw new IllegalStateException("Timeout service has been stopped");
+		}
+		if (workerThread == null) {
+			startWorker();
+		}
+		Entry entry = new Entry(task, executor);
+		enqueue(entry, delay);
+		return entry;
+	}
+
+	private void startWorker() {
+		synchronized (lock) {
+			if (workerThread == null) {
+				startTime = System.nanoTime();
+				Thread thread = new Thread(new Worker(), "store-timeout-wheel");
+				thread.setDaemon(true);
+				thread.start();
+				workerThread = thread;
+			}
+		}
+	}
+
+	private void enqueue(Entry entry, long delay) {
+		entry.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(delay, 0));
+		pendingEntries.add(entry);
+	}
+
+	private void transferPending() {
+		Entry entry;
+		while ((entry = pendingEntries.poll()) != null) {
+			if (entry.cancelled) {
+				continue;
+			}
+			long calculated = (entry.deadline - startTime) / tickDuration;
+			entry.rounds = (calculated - tick) / wheel.length;
+			wheel[(int) (Math.max(calculated, tick) & mask)].add(entry);
+		}
+	}
+
+	private void expireBucket(List<Entry> bucket, List<Entry> expired) {
+		int size = bucket.size();
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			Entry entry = bucket.get(i);
+			if (entry.cancelled) {
+				continue;
+			}
+			if (entry.rounds > 0) {
+				entry.rounds--;
+				bucket.set(kept++, entry);
+			} else {
+				expired.add(entry);
+			}
+		}
+		for (int i = size - 1; i >= kept; i--) {
+			bucket.remove(i);
+		}
+	}
+
+	/**
+	 * Hands expired timeouts to their executors in batches. Entries are
+	 * grouped per executor, views of this service sharing an executor
+	 * share batches.
+	 */
+	private void dispatch(List<Entry> expired) {
+		int size = batchSize;
+		Map<Executor, Batch> batches = new IdentityHashMap<Executor, Batch>();
+		for (int i = 0; i < expired.size(); i++) {
+			Entry entry = expired.get(i);
+			Batch batch = batches.get(entry.executor);
+			if (batch == null) {
+				batch = new Batch(entry.executor, size);
+				batches.put(entry.executor, batch);
+			}
+			batch.entries.add(entry);
+			if (batch.entries.size() >= size) {
+				batch.dispatch();
+				batches.remove(entry.executor);
+			}
+		}
+		for (Batch batch : batches.values()) {
+			batch.dispatch();
+		}
+	}
+
+	private void waitForNextTick() throws InterruptedException {
+		long deadline = startTime + (tick + 1) * tickDuration;
+		long sleep;
+		while ((sleep = deadline - System.nanoTime()) > 0) {
+			Thread.sleep(TimeUnit.NANOSECONDS.toMillis(sleep + 999999));
+		}
+	}
+
+	/**
+	 * Worker advancing the wheel.
+	 */
+	private class Worker implements Runnable {
+
+		@Override
+		public void run() {
+			List<Entry> expired = new ArrayList<Entry>();
+			while (!stopped) {
+				try {
+					waitForNextTick();
+				} catch (InterruptedException e) {
+					continue;
+				}
+				transferPending();
+				expireBucket(wheel[(int) (tick & mask)], expired);
+				tick++;
+				if (!expired.isEmpty()) {
+					dispatch(expired);
+					expired.clear();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Expired timeouts run by an executor as a single task.
+	 */
+	private static class Batch implements Runnable {
+
+		private final Executor executor;
+
+		private final List<Entry> entries;
+
+		Batch(Executor executor, int size) {
+			this.executor = executor;
+			this.entries = new ArrayList<Entry>(size);
+		}
+
+		void dispatch() {
+			try {
+				executor.execute(this);
+			} catch (RejectedExecutionException e) {
+				log.error("Unable to run " + entries.size() + " expired timeouts, tasks are not run again", e);
+			}
+		}
+
+		@Override
+		public void run() {
+			for (int i = 0; i < entries.size(); i++) {
+				entries.get(i).run();
+			}
+		}
+	}
+
+	/**
+	 * Scheduled timeout which is also its own handle.
+	 */
+	private class Entry implements Timeout {
+
+		private final TimeoutTask task;
+
+		private final Executor executor;
+
+		private volatile boolean cancelled;
+
+		private long deadline;
+
+		private long rounds;
+
+		Entry(TimeoutTask task, Executor executor) {
+			this.task = task;
+			this.executor = executor;
+		}
+
+		void run() {
+			if (cancelled) {
+				return;
+			}
+			long next = 0;
+			try {
+				next = task.run();
+			} catch (Exception e) {
+				log.error("Error running timeout task, task is not run again", e);
+			}
+			if (next > 0 && !cancelled && !stopped) {
+				enqueue(this, next);
+			}
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return cancelled;
+		}
+	}
+
+	private static class SharedInstanceHolder {
+		private static final HashedWheelTimeoutService INSTANCE = new HashedWheelTimeoutService();
+	}
+
+}
@@ -27,6 +27,7 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.SmartLifecycle;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.hadoop.store.event.StoreEventPublisher;
+import org.springframework.data.hadoop.store.metrics.StoreMetrics;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.util.Assert;
 
@@ -61,6 +62,15 @@ public abstract class LifecycleObjectSupport implements InitializingBean, SmartL
 	/** Context application event publisher if exist */
 	private volatile StoreEventPublisher storeEventPublisher;
 
+	/** Store metrics if exist */
+	private volatile StoreMetrics storeMetrics;
+
+	/** Flag telling if store metrics has been looked up from a bean factory */
+	private volatile boolean storeMetricsResolved;
+
+	/** Service tracking timeouts */
+	private volatile TimeoutService timeoutService;
+
 	@Override
 	public final void afterPropertiesSet() {
 		try {
@@ -249,6 +259,65 @@ public abstract class LifecycleObjectSupport implements InitializingBean, SmartL
 		this.storeEventPublisher = storeEventPublisher;
 	}
 
+	/**
+	 * Gets the store metrics. Bean factory is checked only once
+	 * because metrics are accessed on every write.
+	 *
+	 * @return the store metrics or null if not set
+	 */
+	public StoreMetrics getStoreMetrics() {
+		if (!storeMetricsResolved && getBeanFactory() != null) {
+			if (storeMetrics == null) {
+				if (log.isDebugEnabled()) {
+					log.debug("getting storeMetrics service from bean factory " + getBeanFactory());
+				}
+				storeMetrics = StoreContextUtils.getStoreMetrics(getBeanFactory());
+			}
+			storeMetricsResolved = true;
+		}
+		return storeMetrics;
+	}
+
+	/**
+	 * Sets the store metrics.
+	 *
+	 * @param storeMetrics the new store metrics
+	 */
+	public void setStoreMetrics(StoreMetrics storeMetrics) {
+		Assert.notNull(storeMetrics, "StoreMetrics cannot be null");
+		this.storeMetrics = storeMetrics;
+		this.storeMetricsResolved = true;
+	}
+
+	/**
+	 * Gets the timeout service. If not set, a service shared within a jvm
+	 * is used and expired timeouts are run with a {@link TaskExecutor} if
+	 * one is set or found from a bean factory. A {@link TaskScheduler} is
+	 * not used for timeouts as a shared service has its own wheel thread.
+	 *
+	 * @return the timeout service
+	 */
+	public TimeoutService getTimeoutService() {
+		TimeoutService service = timeoutService;
+		if (service == null) {
+			TaskExecutor executor = getTaskExecutor();
+			service = executor != null ? HashedWheelTimeoutService.getSharedInstance().withExecutor(executor)
+					: HashedWheelTimeoutService.getSharedInstance();
+		}
+		return service;
+	}
+
+	/**
+	 * Sets the timeout service used to track idle, close and
+	 * flush timeouts and rollover checks.
+	 *
+	 * @param timeoutService the new timeout service
+	 */
+	public void setTimeoutService(TimeoutService timeoutService) {
+		Assert.notNull(timeoutService, "TimeoutService cannot be null");
+		this.timeoutService = timeoutService;
+	}
+
 	/**
 	 * Gets the defined {@link TaskExecutor}.
 	 *
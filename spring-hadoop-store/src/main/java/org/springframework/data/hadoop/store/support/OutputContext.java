@@ -20,7 +20,9 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.fs.Path;
 import org.springframework.data.hadoop.store.codec.CodecInfo;
 import org.springframework.data.hadoop.store.strategy.naming.FileNamingStrategy;
+import org.springframework.data.hadoop.store.strategy.naming.SeekableFileNamingStrategy;
 import org.springframework.data.hadoop.store.strategy.rollover.RolloverStrategy;
+import org.springframework.data.hadoop.store.strategy.rollover.WriteCountAware;
 
 /**
  * Context strategy keeping output state.
@@ -36,6 +38,8 @@ public class OutputContext {
 
 	private RolloverStrategy rolloverStrategy;
 
+	private volatile int rollIndex;
+
 	/**
 	 * Instantiates a new strategy context.
 	 */
@@ -53,6 +57,17 @@ public class OutputContext {
 		}
 	}
 
+	/**
+	 * Adds a number of written entities.
+	 *
+	 * @param count the number of written entities
+	 */
+	public void addWriteCount(long count) {
+		if (rolloverStrategy instanceof WriteCountAware) {
+			((WriteCountAware) rolloverStrategy).addWriteCount(count);
+		}
+	}
+
 	/**
 	 * Gets the rollover state.
 	 *
@@ -76,6 +91,37 @@ public class OutputContext {
 		if (fileNamingStrategy != null) {
 			fileNamingStrategy.next();
 		}
+		rollIndex++;
+	}
+
+	/**
+	 * Moves a naming strategy to a given roll index. Index is a number of
+	 * rolls done from a naming strategy's reset state. A strategy which
+	 * isn't a {@link SeekableFileNamingStrategy} is reset and rolled forward.
+	 *
+	 * @param index the roll index
+	 */
+	public void seek(int index) {
+		if (fileNamingStrategy instanceof SeekableFileNamingStrategy) {
+			((SeekableFileNamingStrategy) fileNamingStrategy).seek(index);
+		} else if (fileNamingStrategy != null) {
+			fileNamingStrategy.reset();
+			for (int i = 0; i < index; i++) {
+				fileNamingStrategy.next();
+			}
+		}
+		rollIndex = index;
+	}
+
+	/**
+	 * Gets the roll index. Index is a number of rolls done
+	 * after this context was created or {@link #seek(int)}
+	 * was called.
+	 *
+	 * @return the roll index
+	 */
+	public int getRollIndex() {
+		return rollIndex;
 	}
 
 	/**
@@ -122,6 +168,15 @@ public class OutputContext {
 		}
 	}
 
+	/**
+	 * Checks if this context has a file naming strategy.
+	 *
+	 * @return true, if file naming strategy is set
+	 */
+	public boolean hasFileNamingStrategy() {
+		return fileNamingStrategy != null;
+	}
+
 	/**
 	 * Sets the file naming strategy.
 	 *
@@ -25,10 +25,13 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.Syncable;
 import org.springframework.data.hadoop.store.StoreException;
 import org.springframework.data.hadoop.store.codec.CodecInfo;
+import org.springframework.data.hadoop.store.metrics.StoreMetrics;
 import org.springframework.data.hadoop.store.strategy.naming.FileNamingStrategy;
 import org.springframework.data.hadoop.store.strategy.rollover.RolloverStrategy;
+import org.springframework.data.hadoop.store.strategy.sync.SyncStrategy;
 import org.springframework.util.StringUtils;
 
 /**
@@ -63,6 +66,18 @@ public abstract class OutputStoreObjectSupport extends StoreObjectSupport {
 	/** Flag enabling Syncable hflush*/
 	private boolean syncable = false;
 
+	/** Flag enabling init by probing paths instead of listing */
+	private boolean incrementalInit = false;
+
+	/** Roll index where incremental init starts probing */
+	private int initIndexHint = 0;
+
+	/** Last stream position reported to metrics */
+	private long metricsPosition;
+
+	/** Strategy deciding when written data is synced */
+	private SyncStrategy syncStrategy;
+
 	/**
 	 * Instantiates a new abstract output store support.
 	 *
@@ -90,6 +105,13 @@ public abstract class OutputStoreObjectSupport extends StoreObjectSupport {
 		if (internalInitDone) {
 			return;
 		}
+		if (incrementalInit) {
+			if (outputContext.hasFileNamingStrategy()) {
+				outputContext.seek(probeInitIndex(initIndexHint));
+			}
+			internalInitDone = true;
+			return;
+		}
 		for (FileStatus status : findInitFiles(getPath())) {
 			String name = status.getPath().getName();
 			if (StringUtils.hasText(prefix) && name.startsWith(prefix)) {
@@ -122,6 +144,86 @@ public abstract class OutputStoreObjectSupport extends StoreObjectSupport {
 		}
 	}
 
+	/**
+	 * Finds a first free roll index starting from a given index without
+	 * listing a base directory. Existing paths are probed with steps doubling
+	 * in size until a free path is found and a first free index is then
+	 * searched between a last existing and a free path. This expects existing
+	 * files to have contiguous indexes, possible gaps are handled when
+	 * output is opened by rolling over existing paths.
+	 *
+	 * @param start the index to start probing
+	 * @return the first free index
+	 * @throws IOException if an I/O error occurs
+	 */
+	protected int probeInitIndex(int start) throws IOException {
+		FileSystem fs = getPath().getFileSystem(getConfiguration());
+		if (!indexExists(fs, start)) {
+			return start;
+		}
+		Path first = resolveIndexPath(start);
+		if (first.equals(resolveIndexPath(start + 1))) {
+			// naming strategy doesn't roll, nothing to probe
+			return start;
+		}
+		int low = start;
+		int high;
+		int step = 1;
+		while (true) {
+			high = low + step;
+			if (high < 0) {
+				throw new StoreException("Unable to find free index starting from " + start);
+			}
+			if (!indexExists(fs, high)) {
+				break;
+			}
+			low = high;
+			step <<= 1;
+		}
+		// low exists, high is free
+		while (high - low > 1) {
+			int mid = (low + high) >>> 1;
+			if (indexExists(fs, mid)) {
+				low = mid;
+			} else {
+				high = mid;
+			}
+		}
+		log.info("Probed first free index " + high + " starting from " + start);
+		return high;
+	}
+
+	/**
+	 * Sets the flag enabling an incremental init. Instead of listing
+	 * a base directory to initialise naming strategies, paths are
+	 * probed starting from {@link #setInitIndexHint(int)}. This is
+	 * faster with directories containing a lot of files.
+	 *
+	 * @param incrementalInit the incremental init flag
+	 */
+	public void setIncrementalInit(boolean incrementalInit) {
+		this.incrementalInit = incrementalInit;
+	}
+
+	/**
+	 * Checks if incremental init is enabled.
+	 *
+	 * @return true, if incremental init is enabled
+	 */
+	public boolean isIncrementalInit() {
+		return incrementalInit;
+	}
+
+	/**
+	 * Sets the roll index where incremental init starts probing.
+	 * Usually this is a last known roll index for a same path.
+	 *
+	 * @param initIndexHint the init index hint
+	 */
+	public void setInitIndexHint(int initIndexHint) {
+		this.initIndexHint = initIndexHint;
+	}
+
 	/**
 	 * Gets the strategy context.
 	 *
@@ -159,6 +261,27 @@ public abstract class OutputStoreObjectSupport extends StoreObjectSupport {
 		outputContext.setRolloverStrategy(rolloverStrategy);
 	}
 
+	/**
+	 * Sets the sync strategy. If set, written data is synced with
+	 * {@code hflush} or {@code hsync} when a strategy says so regardless
+	 * of {@link #setSyncable(boolean)}, and a flush only syncs if
+	 * a strategy has a pending sync.
+	 *
+	 * @param syncStrategy the new sync strategy
+	 */
+	public void setSyncStrategy(SyncStrategy syncStrategy) {
+		this.syncStrategy = syncStrategy;
+	}
+
+	/**
+	 * Gets the sync strategy.
+	 *
+	 * @return the sync strategy or null if not set
+	 */
+	public SyncStrategy getSyncStrategy() {
+		return syncStrategy;
+	}
+
 	/**
 	 * Sets the in writing suffix.
 	 *
@@ -243,24 +366,39 @@ public abstract class OutputStoreObjectSupport extends StoreObjectSupport {
 	 * @return the resolved path
 	 */
 	protected Path getResolvedPath() {
-		Path p;
-		if (outputContext != null) {
-			p = outputContext.resolvePath(getPath());
-		} else {
-			p = getPath();
-		}
+		return getResolvedPath(true);
+	}
+
+	/**
+	 * Gets the resolved path. If in-writing path is not checked, a caller
+	 * is responsible to handle a case where a returned path already exists.
+	 * A final path without in-writing prefix and suffix is always checked
+	 * if it differs from an in-writing path because it would otherwise get
+	 * overwritten when a file is renamed.
+	 *
+	 * @param checkInWritingPath the flag to check if in-writing path exists
+	 * @return the resolved path
+	 */
+	protected Path getResolvedPath(boolean checkInWritingPath) {
+		// make sure context is initialised before
+		// first path is resolved
+		Path p = getOutputContext().resolvePath(getPath());
+		boolean inWriting = StringUtils.hasText(prefix) || StringUtils.hasText(suffix);
 
 		// check for file without inuse prefix/suffix
-		if (isFileWriteable(p)) {
+		if ((checkInWritingPath || inWriting) && isFileWriteable(p)) {
 			throw new StoreException("Path [" + p + "] exists and overwritten not allowed");
 		}
+		if (!inWriting) {
+			return p;
+		}
 
 		String name = (StringUtils.hasText(prefix) ? prefix : "") + p.getName()
 				+ (StringUtils.hasText(suffix) ? suffix : "");
 
 		p = new Path(p.getParent(), name);
 		// check for file with inuse prefix/suffix
-		if (isFileWriteable(p)) {
+		if (checkInWritingPath && isFileWriteable(p)) {
 			throw new StoreException("Path [" + p + "] exists and overwritten not allowed");
 		}
 		return p;
@@ -280,6 +418,85 @@ public abstract class OutputStoreObjectSupport extends StoreObjectSupport {
 		resetIdleTimeout();
 	}
 
+	/**
+	 * Sets the write position and adds a number
+	 * of entities written since last call.
+	 *
+	 * @param position the new write position
+	 * @param count the number of written entities
+	 */
+	protected void setWritePosition(long position, long count) {
+		outputContext.addWriteCount(count);
+		setWritePosition(position);
+		if (syncStrategy != null) {
+			syncStrategy.setWritePosition(position, count);
+		}
+		StoreMetrics metrics = getStoreMetrics();
+		if (metrics != null) {
+			metrics.recordWrite(count, position > metricsPosition ? position - metricsPosition : 0);
+			metricsPosition = position;
+		}
+	}
+
+	/**
+	 * Notifies that a new output stream has been opened. Written bytes
+	 * are counted from a given position onwards.
+	 *
+	 * @param path the path of a stream
+	 * @param position the initial stream position
+	 */
+	protected void onStreamOpened(Path path, long position) {
+		metricsPosition = position;
+		if (syncStrategy != null) {
+			syncStrategy.setWritePosition(position, 0);
+			syncStrategy.reset();
+		}
+		StoreMetrics metrics = getStoreMetrics();
+		if (metrics != null) {
+			metrics.streamOpened(path);
+		}
+	}
+
+	/**
+	 * Notifies that an output stream has been closed.
+	 *
+	 * @param path the path of a stream
+	 */
+	protected void onStreamClosed(Path path) {
+		StoreMetrics metrics = getStoreMetrics();
+		if (metrics != null) {
+			metrics.streamClosed(path);
+		}
+	}
+
+	/**
+	 * Checks if a sync strategy is set and it has a pending sync.
+	 *
+	 * @return true, if data should be synced
+	 */
+	protected boolean isSyncDue() {
+		return syncStrategy != null && syncStrategy.shouldSync();
+	}
+
+	/**
+	 * Syncs written data with {@code hsync} if a sync strategy asks
+	 * for it and otherwise with {@code hflush}. Sync strategy is
+	 * reset after a sync.
+	 *
+	 * @param syncable the syncable stream or writer
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	protected void sync(Syncable syncable) throws IOException {
+		if (syncStrategy != null && syncStrategy.isHsync()) {
+			syncable.hsync();
+		} else {
+			syncable.hflush();
+		}
+		if (syncStrategy != null) {
+			syncStrategy.reset();
+		}
+	}
+
 	/**
 	 * Rename file using prefix and suffix settings.
 	 *
@@ -304,6 +521,7 @@ public abstract class OutputStoreObjectSupport extends StoreObjectSupport {
 			FileSystem fs = path.getFileSystem(getConfiguration());
 
 			boolean succeed;
+			long start = System.nanoTime();
 			try {
 				fs.delete(toPath, false);
 				log.info("Renaming path=[" + path + "] toPath=[" + toPath + "]");
@@ -311,6 +529,10 @@ public abstract class OutputStoreObjectSupport extends StoreObjectSupport {
 			} catch (Exception e) {
 				throw new StoreException("Failed renaming from " + path + " to " + toPath, e);
 			}
+			StoreMetrics metrics = getStoreMetrics();
+			if (metrics != null) {
+				metrics.recordRename(System.nanoTime() - start);
+			}
 			if (!succeed) {
 				throw new StoreException("Failed renaming from " + path + " to " + toPath + " because hdfs returned false");
 			}
@@ -322,6 +544,24 @@ public abstract class OutputStoreObjectSupport extends StoreObjectSupport {
 		return toPath;
 	}
 
+	private Path resolveIndexPath(int index) {
+		outputContext.seek(index);
+		return outputContext.resolvePath(getPath());
+	}
+
+	private boolean indexExists(FileSystem fs, int index) throws IOException {
+		Path p = resolveIndexPath(index);
+		if (fs.exists(p)) {
+			return true;
+		}
+		if (StringUtils.hasText(prefix) || StringUtils.hasText(suffix)) {
+			String name = (StringUtils.hasText(prefix) ? prefix : "") + p.getName()
+					+ (StringUtils.hasText(suffix) ? suffix : "");
+			return fs.exists(new Path(p.getParent(), name));
+		}
+		return false;
+	}
+
 	private boolean pathExists(Path path) {
 		try {
 			return path.getFileSystem(getConfiguration()).exists(path);
@@ -19,6 +19,7 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.hadoop.store.StoreSystemConstants;
 import org.springframework.data.hadoop.store.event.StoreEventPublisher;
+import org.springframework.data.hadoop.store.metrics.StoreMetrics;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.util.Assert;
 
@@ -67,6 +68,16 @@ public class StoreContextUtils {
 				StoreEventPublisher.class);
 	}
 
+	/**
+	 * Return the {@link StoreMetrics} bean whose name is "storeMetrics" if available.
+	 *
+	 * @param beanFactory BeanFactory for lookup, must not be null.
+	 * @return the store metrics
+	 */
+	public static StoreMetrics getStoreMetrics(BeanFactory beanFactory) {
+		return getBeanOfType(beanFactory, StoreSystemConstants.DEFAULT_ID_STORE_METRICS, StoreMetrics.class);
+	}
+
 	/**
 	 * Gets a bean from a factory with a given name and type.
 	 *
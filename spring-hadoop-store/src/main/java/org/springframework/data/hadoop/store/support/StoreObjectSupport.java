@@ -19,10 +19,8 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
-import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.hadoop.store.codec.CodecInfo;
-import org.springframework.scheduling.TaskScheduler;
-import org.springframework.scheduling.Trigger;
+import org.springframework.data.hadoop.store.metrics.StoreMetrics;
 
 /**
  * Base implementation of a store objects sharing a common functionality among store formats.
@@ -43,23 +41,17 @@ public abstract class StoreObjectSupport extends LifecycleObjectSupport {
 	/** Hdfs path into a store */
 	private final Path basePath;
 
-	/** Poller checking idle timeouts */
-	private IdleTimeoutPoller idlePoller;
+	/** Timeout checking idle state */
+	private Timeout idleTimeoutHandle;
 
-	/** Trigger in poller */
-	private volatile IdleTimeoutTrigger idleTrigger;
+	/** Timeout closing a store */
+	private Timeout closeTimeoutHandle;
 
-	/** Poller checking idle timeouts */
-	private CloseTimeoutPoller closePoller;
+	/** Timeout flushing a store */
+	private Timeout flushTimeoutHandle;
 
-	/** Trigger in poller */
-	private volatile IdleTimeoutTrigger closeTrigger;
-
-	/** Poller checking flush timeouts */
-	private FlushTimeoutPoller flushPoller;
-
-	/** Trigger in flush poller */
-	private volatile IdleTimeoutTrigger flushTrigger;
+	/** Timeout checking rollover state */
+	private Timeout rolloverCheckHandle;
 
 	/**
 	 * In millis last idle time reset. We explicitly use negative value to indicate reset state
@@ -77,6 +69,9 @@ public abstract class StoreObjectSupport extends LifecycleObjectSupport {
 	/** In millis a flush timeout for writer/reader. */
 	private volatile long flushTimeout;
 
+	/** In millis an interval checking rollover state. */
+	private volatile long rolloverCheckInterval;
+
 	/**
 	 * Instantiates a new abstract store support.
 	 *
@@ -91,57 +86,42 @@ public abstract class StoreObjectSupport extends LifecycleObjectSupport {
 	}
 
 	@Override
-	protected void onInit() throws Exception {
-		// if we have idle timeout, enable polling by creating it
+	protected void doStart() {
+		// all timeouts are tracked by a shared service instead
+		// of having a scheduled task per store and timeout type
+		TimeoutService timeoutService = getTimeoutService();
 		if (idleTimeout > 0) {
-			idleTrigger = new IdleTimeoutTrigger(idleTimeout);
-			idlePoller = new IdleTimeoutPoller(getTaskScheduler(), getTaskExecutor(), idleTrigger);
-			idlePoller.init();
+			idleTimeoutHandle = timeoutService.schedule(new IdleTimeoutTask(), idleTimeout);
 		}
-		// if we have close timeout, setup trigger with delay
 		if (closeTimeout > 0) {
-			closeTrigger = new IdleTimeoutTrigger(closeTimeout);
-			closeTrigger.setInitialDelay(closeTimeout);
-			closePoller = new CloseTimeoutPoller(getTaskScheduler(), getTaskExecutor(), closeTrigger);
-			closePoller.init();
+			closeTimeoutHandle = timeoutService.schedule(new CloseTimeoutTask(), closeTimeout);
 		}
-		// if we have flush timeout, setup trigger with delay
 		if (flushTimeout > 0) {
-			flushTrigger = new IdleTimeoutTrigger(flushTimeout);
-			flushTrigger.setInitialDelay(flushTimeout);
-			flushPoller = new FlushTimeoutPoller(getTaskScheduler(), getTaskExecutor(), flushTrigger);
-			flushPoller.init();
-		}
-	}
-
-	@Override
-	protected void doStart() {
-		if (idlePoller != null) {
-			idlePoller.start();
-		}
-		if (closePoller != null) {
-			closePoller.start();
+			flushTimeoutHandle = timeoutService.schedule(new FlushTimeoutTask(), flushTimeout);
 		}
-		if (flushPoller != null) {
-			flushPoller.start();
+		if (rolloverCheckInterval > 0) {
+			rolloverCheckHandle = timeoutService.schedule(new RolloverCheckTask(), rolloverCheckInterval);
 		}
 	}
 
 	@Override
 	protected void doStop() {
-		// stop flush before others
-		if (flushPoller != null) {
-			flushPoller.stop();
+		if (flushTimeoutHandle != null) {
+			flushTimeoutHandle.cancel();
 		}
-		flushPoller = null;
-		if (idlePoller != null) {
-			idlePoller.stop();
+		flushTimeoutHandle = null;
+		if (rolloverCheckHandle != null) {
+			rolloverCheckHandle.cancel();
 		}
-		idlePoller = null;
-		if (closePoller != null) {
-			closePoller.stop();
+		rolloverCheckHandle = null;
+		if (idleTimeoutHandle != null) {
+			idleTimeoutHandle.cancel();
 		}
-		closePoller = null;
+		idleTimeoutHandle = null;
+		if (closeTimeoutHandle != null) {
+			closeTimeoutHandle.cancel();
+		}
+		closeTimeoutHandle = null;
 	}
 
 	/**
@@ -207,6 +187,17 @@ public abstract class StoreObjectSupport extends LifecycleObjectSupport {
 		this.flushTimeout = flushTimeout;
 	}
 
+	/**
+	 * Sets the rollover check interval. If set, rollover state is
+	 * checked periodically for rollover strategies which depend
+	 * on time instead of writes.
+	 *
+	 * @param rolloverCheckInterval the new rollover check interval
+	 */
+	public void setRolloverCheckInterval(long rolloverCheckInterval) {
+		this.rolloverCheckInterval = rolloverCheckInterval;
+	}
+
 	/**
 	 * Reset idle timeout.
 	 */
@@ -231,88 +222,104 @@ public abstract class StoreObjectSupport extends LifecycleObjectSupport {
 	}
 
 	/**
-	 * Poller which checks idle timeout by last write and closes a writer if timeout has occurred.
+	 * Handle rollover check. This method should be overriden
+	 * to be notified of rollover checks. Default implementation
+	 * doesn't do anything.
 	 */
-	private class IdleTimeoutPoller extends PollingTaskSupport<Boolean> {
+	protected void rolloverCheck() {
+	}
 
-		public IdleTimeoutPoller(TaskScheduler taskScheduler, TaskExecutor taskExecutor, Trigger trigger) {
-			super(taskScheduler, taskExecutor, trigger);
-		}
+	/**
+	 * Task which checks idle timeout by last write and closes a writer if timeout has occurred.
+	 * Writes only move {@code lastIdle} forward and a task re-arms itself to a new deadline.
+	 */
+	private class IdleTimeoutTask implements TimeoutTask {
 
 		@Override
-		protected Boolean doPoll() {
+		public long run() {
+			long timeout = idleTimeout;
+			long last = lastIdle;
 			if (log.isDebugEnabled()) {
-				log.debug("Polling idle timeout with idleTimeout=" + idleTimeout + " lastIdle=" + lastIdle);
+				log.debug("Checking idle timeout with idleTimeout=" + timeout + " lastIdle=" + last);
 			}
-			// return true if we've been idle too long
-			return idleTimeout > 0 && lastIdle > 0 && lastIdle + idleTimeout < System.currentTimeMillis();
-		}
-
-		@Override
-		protected void onPollResult(Boolean result) {
-			if (result) {
+			if (timeout > 0 && last > 0) {
+				long remaining = last + timeout - System.currentTimeMillis();
+				if (remaining >= 0) {
+					// not idle long enough, wait until new deadline
+					return remaining + 1;
+				}
 				try {
 					if (log.isDebugEnabled()) {
 						log.debug("Idle timeout detected, calling handleTimeout()");
 					}
+					StoreMetrics metrics = getStoreMetrics();
+					if (metrics != null) {
+						metrics.recordIdleTimeout();
+					}
 					handleTimeout();
 				} catch (Exception e) {
-					// TODO: handle error
 					log.error("error closing", e);
 				} finally {
 					// reset lastIdle so we can wait new timeout
 					lastIdle = Long.MIN_VALUE;
 				}
 			}
+			return timeout;
 		}
 
 	}
 
 	/**
-	 * Poller which gets called by a close timeout and closes a writer.
+	 * Task which gets called by a close timeout and closes a writer.
 	 */
-	private class CloseTimeoutPoller extends PollingTaskSupport<Void> {
-
-		public CloseTimeoutPoller(TaskScheduler taskScheduler, TaskExecutor taskExecutor, Trigger trigger) {
-			super(taskScheduler, taskExecutor, trigger);
-		}
+	private class CloseTimeoutTask implements TimeoutTask {
 
 		@Override
-		protected Void doPoll() {
+		public long run() {
 			try {
 				if (log.isDebugEnabled()) {
 					log.debug("Close timeout detected, calling handleTimeout()");
 				}
 				handleTimeout();
 			} catch (Exception e) {
-				// TODO: handle error
 				log.error("error closing", e);
 			}
-			return null;
+			return closeTimeout;
 		}
 	}
 
 	/**
-	 * Poller which gets called by a flush timeout and flushes a writer.
+	 * Task which gets called by a flush timeout and flushes a writer.
 	 */
-	private class FlushTimeoutPoller extends PollingTaskSupport<Void> {
-
-		public FlushTimeoutPoller(TaskScheduler taskScheduler, TaskExecutor taskExecutor, Trigger trigger) {
-			super(taskScheduler, taskExecutor, trigger);
-		}
+	private class FlushTimeoutTask implements TimeoutTask {
 
 		@Override
-		protected Void doPoll() {
+		public long run() {
 			try {
 				if (log.isDebugEnabled()) {
 					log.debug("Flush timeout detected, calling flushTimeout()");
 				}
 				flushTimeout();
 			} catch (Exception e) {
-				// TODO: handle error
 				log.error("error flushing", e);
 			}
-			return null;
+			return flushTimeout;
+		}
+	}
+
+	/**
+	 * Task which gets called by a rollover check interval.
+	 */
+	private class RolloverCheckTask implements TimeoutTask {
+
+		@Override
+		public long run() {
+			try {
+				rolloverCheck();
+			} catch (Exception e) {
+				log.error("error checking rollover", e);
+			}
+			return rolloverCheckInterval;
 		}
 	}
 
@@ -21,12 +21,17 @@ import java.io.InputStream;
 import java.io.OutputStream;
 
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.compress.CodecPool;
+import org.apache.hadoop.io.compress.Compressor;
+import org.apache.hadoop.io.compress.Decompressor;
 import org.springframework.util.Assert;
 
 /**
  * Holder object for streams. Mostly concept of a wrapped streams are used with
  * a compressed streams in a hadoop where some information still needs to
- * be accessed from an underlying stream.
+ * be accessed from an underlying stream. Possible {@link Compressor} or
+ * {@link Decompressor} borrowed from a {@link CodecPool} is returned back
+ * to a pool when this holder is closed.
  *
  * @param <T> a type of a stream
  * @author Janne Valkealahti
@@ -40,6 +45,10 @@ public class StreamsHolder<T extends Closeable> implements Closeable {
 
 	private Path path;
 
+	private Compressor compressor;
+
+	private Decompressor decompressor;
+
 	/**
 	 * Instantiates a new streams holder.
 	 */
@@ -78,19 +87,24 @@ public class StreamsHolder<T extends Closeable> implements Closeable {
 	 */
 	@Override
 	public void close() throws IOException {
-		if (stream != null) {
-			stream.close();
-		}
-		if (wrappedStream != null) {
-			try {
-				wrappedStream.close();
+		try {
+			if (stream != null) {
+				stream.close();
 			}
-			catch (IOException e) {
-				// try to close but eat IOException because it was
-				// already closed by the main stream or something
-				// else happened what we should not care about
+			if (wrappedStream != null) {
+				try {
+					wrappedStream.close();
+				}
+				catch (IOException e) {
+					// try to close but eat IOException because it was
+					// already closed by the main stream or something
+					// else happened what we should not care about
+				}
 			}
 		}
+		finally {
+			returnToPool();
+		}
 	}
 
 	/**
@@ -147,4 +161,53 @@ public class StreamsHolder<T extends Closeable> implements Closeable {
 		this.path = path;
 	}
 
+	/**
+	 * Gets the compressor borrowed from a {@link CodecPool}.
+	 *
+	 * @return the compressor
+	 */
+	public Compressor getCompressor() {
+		return compressor;
+	}
+
+	/**
+	 * Sets the compressor borrowed from a {@link CodecPool}. Compressor
+	 * is returned back to a pool when this holder is closed.
+	 *
+	 * @param compressor the new compressor
+	 */
+	public void setCompressor(Compressor compressor) {
+		this.compressor = compressor;
+	}
+
+	/**
+	 * Gets the decompressor borrowed from a {@link CodecPool}.
+	 *
+	 * @return the decompressor
+	 */
+	public Decompressor getDecompressor() {
+		return decompressor;
+	}
+
+	/**
+	 * Sets the decompressor borrowed from a {@link CodecPool}. Decompressor
+	 * is returned back to a pool when this holder is closed.
+	 *
+	 * @param decompressor the new decompressor
+	 */
+	public void setDecompressor(Decompressor decompressor) {
+		this.decompressor = decompressor;
+	}
+
+	private void returnToPool() {
+		if (compressor != null) {
+			CodecPool.returnCompressor(compressor);
+			compressor = null;
+		}
+		if (decompressor != null) {
+			CodecPool.returnDecompressor(decompressor);
+			decompressor = null;
+		}
+	}
+
 }
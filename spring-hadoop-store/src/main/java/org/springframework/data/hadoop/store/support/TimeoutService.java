@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.support;
+
+/**
+ * A {@code TimeoutService} runs {@link TimeoutTask}s after a given delay.
+ * It is meant to be shared among store objects so that timeouts of all
+ * writers are tracked without a scheduled task per writer and timeout type.
+ */
+public interface TimeoutService {
+
+	/**
+	 * Schedules a task to be run after a given delay. Task is
+	 * rescheduled as long as it returns a positive delay.
+	 *
+	 * @param task the timeout task
+	 * @param delay the delay in millis
+	 * @return the timeout handle
+	 */
+	Timeout schedule(TimeoutTask task, long delay);
+
+}
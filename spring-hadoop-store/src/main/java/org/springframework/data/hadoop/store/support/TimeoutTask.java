@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.support;
+
+/**
+ * A task run by a {@link TimeoutService} when its timeout expires.
+ */
+public interface TimeoutTask {
+
+	/**
+	 * Called when a timeout expires. Returned value is a delay in millis
+	 * until a task should be run again which makes it possible to re-arm
+	 * a timeout without touching a {@link TimeoutService} every time
+	 * a deadline moves.
+	 *
+	 * @return the delay until next run, zero or negative to not run again
+	 */
+	long run();
+
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.support;
+
+import java.util.Arrays;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@code Utf8FieldEncoder} encodes fields of a single record as UTF-8
+ * directly into a reusable byte buffer. Fields are separated with a
+ * given delimiter which is added automatically between fields.
+ * <p>
+ * Encoder is meant to be reused for every record by calling
+ * {@link #reset()} which makes it possible to write records without
+ * creating intermediate {@code String}s or byte arrays. This class
+ * is not thread safe.
+ */
+public class Utf8FieldEncoder {
+
+	private static final int DEFAULT_CAPACITY = 256;
+
+	private static final byte[] MIN_LONG = "-9223372036854775808".getBytes();
+
+	private final byte[] fieldDelimiter;
+
+	private byte[] buffer;
+
+	private int length;
+
+	private int fields;
+
+	/**
+	 * Instantiates a new utf8 field encoder.
+	 *
+	 * @param fieldDelimiter the field delimiter
+	 */
+	public Utf8FieldEncoder(byte[] fieldDelimiter) {
+		this(fieldDelimiter, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Instantiates a new utf8 field encoder.
+	 *
+	 * @param fieldDelimiter the field delimiter
+	 * @param initialCapacity the initial buffer capacity
+	 */
+	public Utf8FieldEncoder(byte[] fieldDelimiter, int initialCapacity) {
+		Assert.notNull(fieldDelimiter, "Field delimiter must be set");
+		this.fieldDelimiter = fieldDelimiter;
+		this.buffer = new byte[Math.max(16, initialCapacity)];
+	}
+
+	/**
+	 * Resets this encoder for a new record. Underlying buffer
+	 * is kept and reused.
+	 *
+	 * @return this encoder for chaining
+	 */
+	public Utf8FieldEncoder reset() {
+		length = 0;
+		fields = 0;
+		return this;
+	}
+
+	/**
+	 * Adds a field encoded as UTF-8. Null value is
+	 * written as an empty field.
+	 *
+	 * @param value the field value
+	 * @return this encoder for chaining
+	 */
+	public Utf8FieldEncoder field(CharSequence value) {
+		beginField();
+		if (value != null) {
+			encode(value);
+		}
+		return this;
+	}
+
+	/**
+	 * Adds a field as a decimal number.
+	 *
+	 * @param value the field value
+	 * @return this encoder for chaining
+	 */
+	public Utf8FieldEncoder field(long value) {
+		beginField();
+		if (value == Long.MIN_VALUE) {
+			append(MIN_LONG, 0, MIN_LONG.length);
+			return this;
+		}
+		if (value < 0) {
+			ensureCapacity(1);
+			buffer[length++] = '-';
+			value = -value;
+		}
+		int digits = 1;
+		for (long v = value; v >= 10; v /= 10) {
+			digits++;
+		}
+		ensureCapacity(digits);
+		for (int i = length + digits - 1; i >= length; i--) {
+			buffer[i] = (byte) ('0' + (value % 10));
+			value /= 10;
+		}
+		length += digits;
+		return this;
+	}
+
+	/**
+	 * Adds a field from already encoded bytes.
+	 *
+	 * @param value the field bytes
+	 * @param offset the offset in value
+	 * @param len the number of bytes
+	 * @return this encoder for chaining
+	 */
+	public Utf8FieldEncoder field(byte[] value, int offset, int len) {
+		beginField();
+		append(value, offset, len);
+		return this;
+	}
+
+	/**
+	 * Appends bytes into a current field without
+	 * adding a field delimiter.
+	 *
+	 * @param value the bytes
+	 * @param offset the offset in value
+	 * @param len the number of bytes
+	 * @return this encoder for chaining
+	 */
+	public Utf8FieldEncoder append(byte[] value, int offset, int len) {
+		ensureCapacity(len);
+		System.arraycopy(value, offset, buffer, length, len);
+		length += len;
+		return this;
+	}
+
+	/**
+	 * Appends a single ascii character into a current
+	 * field without adding a field delimiter.
+	 *
+	 * @param c the ascii character
+	 * @return this encoder for chaining
+	 */
+	public Utf8FieldEncoder append(char c) {
+		Assert.isTrue(c < 0x80, "Only ascii characters can be appended directly");
+		ensureCapacity(1);
+		buffer[length++] = (byte) c;
+		return this;
+	}
+
+	/**
+	 * Gets the underlying buffer. Valid data is from
+	 * zero to {@link #getLength()}.
+	 *
+	 * @return the buffer
+	 */
+	public byte[] getBuffer() {
+		return buffer;
+	}
+
+	/**
+	 * Gets the length of encoded data.
+	 *
+	 * @return the length
+	 */
+	public int getLength() {
+		return length;
+	}
+
+	/**
+	 * Gets the number of fields in a current record.
+	 *
+	 * @return the field count
+	 */
+	public int getFieldCount() {
+		return fields;
+	}
+
+	/**
+	 * Sets the length of encoded data, used to truncate
+	 * already encoded bytes.
+	 *
+	 * @param length the new length
+	 */
+	protected void setLength(int length) {
+		Assert.isTrue(length >= 0 && length <= this.length, "Length can only be truncated");
+		this.length = length;
+	}
+
+	/**
+	 * Marks a beginning of a new field adding a
+	 * delimiter if this is not a first field.
+	 */
+	protected void beginField() {
+		if (fields++ > 0) {
+			append(fieldDelimiter, 0, fieldDelimiter.length);
+		}
+	}
+
+	private void encode(CharSequence value) {
+		int len = value.length();
+		// worst case is three bytes per char, surrogate
+		// pairs take four bytes for two chars
+		ensureCapacity(len * 3);
+		byte[] buf = buffer;
+		int pos = length;
+		for (int i = 0; i < len; i++) {
+			char c = value.charAt(i);
+			if (c < 0x80) {
+				buf[pos++] = (byte) c;
+			} else if (c < 0x800) {
+				buf[pos++] = (byte) (0xc0 | (c >> 6));
+				buf[pos++] = (byte) (0x80 | (c & 0x3f));
+			} else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(value.charAt(i + 1))) {
+				int cp = Character.toCodePoint(c, value.charAt(++i));
+				buf[pos++] = (byte) (0xf0 | (cp >> 18));
+				buf[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+				buf[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+				buf[pos++] = (byte) (0x80 | (cp & 0x3f));
+			} else if (Character.isSurrogate(c)) {
+				// malformed input, same replacement as String.getBytes()
+				buf[pos++] = '?';
+			} else {
+				buf[pos++] = (byte) (0xe0 | (c >> 12));
+				buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+				buf[pos++] = (byte) (0x80 | (c & 0x3f));
+			}
+		}
+		length = pos;
+	}
+
+	private void ensureCapacity(int needed) {
+		int required = length + needed;
+		if (required > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length << 1));
+		}
+	}
+
+}
@@ -18,6 +18,7 @@ package org.springframework.data.hadoop.store;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -25,8 +26,10 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Test;
+import org.springframework.data.hadoop.store.input.DelimitedFieldMapper;
 import org.springframework.data.hadoop.store.input.DelimitedTextFileReader;
 import org.springframework.data.hadoop.store.output.DelimitedTextFileWriter;
+import org.springframework.data.hadoop.store.support.DelimitedFieldTokenizer;
 import org.springframework.data.hadoop.test.context.HadoopDelegatingSmartContextLoader;
 import org.springframework.data.hadoop.test.context.MiniHadoopCluster;
 import org.springframework.test.context.ContextConfiguration;
@@ -76,4 +79,66 @@ public class DelimitedTextFileStoreTests extends AbstractStoreTests {
 		assertThat(list.get(2).size(), is(10));
 	}
 
+	@Test
+	public void testWriteReadQuotedFields() throws IOException {
+
+		List<List<String>> data = new ArrayList<List<String>>();
+		data.add(Arrays.asList("a,b", "say \"hi\"", "", "plain"));
+		data.add(Arrays.asList("x", "", ""));
+
+		DelimitedTextFileWriter writer = new DelimitedTextFileWriter(getConfiguration(), testDefaultPath, null);
+		TestUtils.writeData(writer, data);
+
+		DelimitedTextFileReader reader = new DelimitedTextFileReader(getConfiguration(), testDefaultPath, null);
+		List<List<String>> list = TestUtils.readDataList(reader);
+		assertThat(list, is(data));
+	}
+
+	@Test
+	public void testLineBreakInFieldRejected() throws IOException {
+
+		DelimitedTextFileWriter writer = new DelimitedTextFileWriter(getConfiguration(), testDefaultPath, null);
+		writer.write(Arrays.asList("a", "b"));
+		try {
+			writer.write(Arrays.asList("line\nbreak", "c"));
+			fail("Line break should be rejected");
+		} catch (IllegalArgumentException e) {
+		}
+		writer.write(Arrays.asList("d", "e"));
+		writer.close();
+
+		DelimitedTextFileReader reader = new DelimitedTextFileReader(getConfiguration(), testDefaultPath, null);
+		List<List<String>> list = TestUtils.readDataList(reader);
+		List<List<String>> expected = new ArrayList<List<String>>();
+		expected.add(Arrays.asList("a", "b"));
+		expected.add(Arrays.asList("d", "e"));
+		assertThat(list, is(expected));
+	}
+
+	@Test
+	public void testReadMappedFields() throws IOException {
+
+		List<List<String>> data = new ArrayList<List<String>>();
+		data.add(Arrays.asList("1", "foo", "10"));
+		data.add(Arrays.asList("2", "bar", "-20"));
+
+		DelimitedTextFileWriter writer = new DelimitedTextFileWriter(getConfiguration(), testDefaultPath, null,
+				DelimitedTextFileWriter.TAB);
+		TestUtils.writeData(writer, data);
+
+		DelimitedTextFileReader reader = new DelimitedTextFileReader(getConfiguration(), testDefaultPath, null,
+				DelimitedTextFileReader.TAB);
+		DelimitedFieldMapper<Long> mapper = new DelimitedFieldMapper<Long>() {
+
+			@Override
+			public Long mapFields(DelimitedFieldTokenizer fields) {
+				return fields.getInt(0) * fields.getLong(2);
+			}
+		};
+		assertThat(reader.read(mapper), is(10l));
+		assertThat(reader.read(mapper), is(-40l));
+		assertThat(reader.read(mapper), is((Long) null));
+		reader.close();
+	}
+
 }
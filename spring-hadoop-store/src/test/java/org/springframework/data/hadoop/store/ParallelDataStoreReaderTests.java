@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.hadoop.fs.Path;
+import org.junit.Test;
+import org.springframework.data.hadoop.store.input.DataStoreReaderFactory;
+import org.springframework.data.hadoop.store.input.ParallelDataStoreReader;
+import org.springframework.data.hadoop.store.input.TextFileReader;
+import org.springframework.data.hadoop.store.output.TextFileWriter;
+import org.springframework.data.hadoop.store.split.CompressionAwareSplitter;
+import org.springframework.data.hadoop.store.split.Split;
+import org.springframework.data.hadoop.store.split.StaticLengthSplitter;
+import org.springframework.data.hadoop.test.context.HadoopDelegatingSmartContextLoader;
+import org.springframework.data.hadoop.test.context.MiniHadoopCluster;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Tests for {@link ParallelDataStoreReader}.
+ */
+@ContextConfiguration(loader=HadoopDelegatingSmartContextLoader.class)
+@MiniHadoopCluster
+public class ParallelDataStoreReaderTests extends AbstractStoreTests {
+
+	@org.springframework.context.annotation.Configuration
+	static class Config {
+		// just empty to survive without xml configs
+	}
+
+	@Test
+	public void testReadDirectoryUnordered() throws IOException {
+		List<String> expected = writeFiles();
+		ParallelDataStoreReader<String> reader = new ParallelDataStoreReader<String>(getConfiguration(),
+				testDefaultPath, new StaticLengthSplitter(getConfiguration(), 100l), new TextFileReaderFactory());
+		reader.setWorkers(3);
+		reader.setQueueCapacity(4);
+		List<String> data = TestUtils.readData(reader);
+		reader.close();
+
+		assertThat(reader.getSplitCount() > 3, is(true));
+		Collections.sort(data);
+		Collections.sort(expected);
+		assertThat(data, is(expected));
+	}
+
+	@Test
+	public void testReadDirectoryOrdered() throws IOException {
+		List<String> expected = writeFiles();
+		ParallelDataStoreReader<String> reader = new ParallelDataStoreReader<String>(getConfiguration(),
+				testDefaultPath, new StaticLengthSplitter(getConfiguration(), 100l), new TextFileReaderFactory());
+		reader.setWorkers(3);
+		reader.setQueueCapacity(4);
+		reader.setOrdered(true);
+		List<String> data = TestUtils.readData(reader);
+		reader.close();
+
+		assertThat(data, is(expected));
+	}
+
+	@Test
+	public void testReadGlobWithoutSplitter() throws IOException {
+		writeFiles();
+		ParallelDataStoreReader<String> reader = new ParallelDataStoreReader<String>(getConfiguration(),
+				new Path(testDefaultPath, "[ab]"), null, new TextFileReaderFactory());
+		reader.setOrdered(true);
+		List<String> data = TestUtils.readData(reader);
+		reader.close();
+
+		assertThat(reader.getSplitCount(), is(2));
+		assertThat(data.size(), is(60));
+	}
+
+	@Test
+	public void testReadCombinedSplitsOrdered() throws IOException {
+		List<String> expected = writeFiles();
+		CompressionAwareSplitter splitter = new CompressionAwareSplitter(getConfiguration());
+		splitter.setMaxCombinedSize(300);
+		ParallelDataStoreReader<String> reader = new ParallelDataStoreReader<String>(getConfiguration(),
+				testDefaultPath, splitter, new TextFileReaderFactory());
+		reader.setOrdered(true);
+		List<String> data = TestUtils.readData(reader);
+		assertThat(reader.getSplitCount(), is(2));
+		assertThat(data, is(expected));
+	}
+
+	@Test(expected = IOException.class)
+	public void testReaderErrorPropagated() throws IOException {
+		writeFiles();
+		ParallelDataStoreReader<String> reader = new ParallelDataStoreReader<String>(getConfiguration(),
+				testDefaultPath, null, new DataStoreReaderFactory<String>() {
+
+					@Override
+					public DataStoreReader<String> createReader(Path path, Split split) throws IOException {
+						throw new IOException("Simulated error");
+					}
+				});
+		TestUtils.readData(reader);
+	}
+
+	@Test(timeout = 30000, expected = IOException.class)
+	public void testInterruptedWorkerDoesNotBlockConsumer() throws Exception {
+		writeFiles();
+		final AtomicReference<Thread> worker = new AtomicReference<Thread>();
+		final CountDownLatch started = new CountDownLatch(1);
+		ParallelDataStoreReader<String> reader = new ParallelDataStoreReader<String>(getConfiguration(),
+				testDefaultPath, null, new DataStoreReaderFactory<String>() {
+
+					@Override
+					public DataStoreReader<String> createReader(Path path, Split split) throws IOException {
+						worker.compareAndSet(null, Thread.currentThread());
+						started.countDown();
+						return new TextFileReader(getConfiguration(), path, null, split, null);
+					}
+				});
+		reader.setWorkers(1);
+		reader.setQueueCapacity(1);
+		assertThat(reader.read(), notNullValue());
+		assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+		// worker is now blocked on a full queue
+		Thread.sleep(200);
+		worker.get().interrupt();
+		TestUtils.readData(reader);
+	}
+
+	@Test
+	public void testReadAheadBoundedByWorkersOrdered() throws Exception {
+		List<String> expected = writeFiles();
+		final AtomicInteger created = new AtomicInteger();
+		ParallelDataStoreReader<String> reader = new ParallelDataStoreReader<String>(getConfiguration(),
+				testDefaultPath, new StaticLengthSplitter(getConfiguration(), 100l), new DataStoreReaderFactory<String>() {
+
+					@Override
+					public DataStoreReader<String> createReader(Path path, Split split) throws IOException {
+						created.incrementAndGet();
+						return new TextFileReader(getConfiguration(), path, null, split, null);
+					}
+				});
+		reader.setWorkers(2);
+		reader.setQueueCapacity(100);
+		reader.setOrdered(true);
+		List<String> data = new ArrayList<String>();
+		data.add(reader.read());
+		// queues could hold everything, give workers time to read ahead
+		Thread.sleep(500);
+		assertThat(created.get(), is(2));
+		data.addAll(TestUtils.readData(reader));
+		reader.close();
+
+		assertThat(reader.getSplitCount() > 2, is(true));
+		assertThat(created.get(), is(reader.getSplitCount()));
+		assertThat(data, is(expected));
+	}
+
+	private List<String> writeFiles() throws IOException {
+		List<String> all = new ArrayList<String>();
+		for (String name : new String[] { "a", "b", "c" }) {
+			String[] data = new String[30];
+			for (int i = 0; i < data.length; i++) {
+				data[i] = name + "-" + (i < 10 ? "0" : "") + i;
+				all.add(data[i]);
+			}
+			TextFileWriter writer = new TextFileWriter(getConfiguration(), new Path(testDefaultPath, name), null);
+			TestUtils.writeData(writer, data);
+		}
+		// hidden files are not read
+		TextFileWriter writer = new TextFileWriter(getConfiguration(), new Path(testDefaultPath, "_SUCCESS"), null);
+		TestUtils.writeData(writer, new String[] { "hidden" });
+		return all;
+	}
+
+	private class TextFileReaderFactory implements DataStoreReaderFactory<String> {
+
+		@Override
+		public DataStoreReader<String> createReader(Path path, Split split) throws IOException {
+			return new TextFileReader(getConfiguration(), path, null, split, null);
+		}
+	}
+
+}
@@ -16,18 +16,27 @@
 package org.springframework.data.hadoop.store;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.io.IOException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.junit.Test;
 import org.springframework.data.hadoop.store.input.TextFileReader;
+import org.springframework.data.hadoop.store.metrics.DefaultStoreMetrics;
 import org.springframework.data.hadoop.store.output.PartitionTextFileWriter;
 import org.springframework.data.hadoop.store.partition.DefaultPartitionStrategy;
 import org.springframework.data.hadoop.store.partition.MessagePartitionStrategy;
@@ -275,6 +284,241 @@ public class PartitionTextFileWriterTests extends AbstractStoreTests {
 
 	}
 
+	@Test
+	public void testConcurrentWritesIntoManyPartitions() throws Exception {
+		final String[] customers = new String[] { "customer1", "customer2", "customer3" };
+		final int threads = 6;
+		final int count = 100;
+		CustomerPartitionStrategy strategy = new CustomerPartitionStrategy();
+		final PartitionTextFileWriter<String> writer =
+				new PartitionTextFileWriter<String>(getConfiguration(), testDefaultPath, null, strategy);
+		writer.setConcurrent(true);
+
+		final CountDownLatch latch = new CountDownLatch(1);
+		final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		ArrayList<Thread> joins = new ArrayList<Thread>();
+		for (int i = 0; i < threads; i++) {
+			final String customer = customers[i % customers.length];
+			Thread t = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						latch.await();
+						for (int j = 0; j < count; j++) {
+							writer.write(customer + "-" + j);
+						}
+					} catch (Throwable e) {
+						failure.compareAndSet(null, e);
+					}
+				}
+			});
+			joins.add(t);
+			t.start();
+		}
+		latch.countDown();
+		for (Thread t : joins) {
+			t.join();
+		}
+		assertThat(failure.get(), nullValue());
+
+		Map<Path, DataStoreWriter<String>> writers = TestUtils.readField("writers", writer);
+		assertThat(writers.size(), is(customers.length));
+		writer.flush();
+		writer.close();
+
+		for (String customer : customers) {
+			TextFileReader reader = new TextFileReader(getConfiguration(), new Path(testDefaultPath, customer), null);
+			List<String> data = TestUtils.readData(reader);
+			assertThat(data.size(), is(threads / customers.length * count));
+		}
+	}
+
+	@Test
+	public void testMaxOpenWritersEvictsLeastRecentlyUsed() throws Exception {
+		String[] dataArray1 = new String[] { "customer1-1", "customer1-2" };
+		String[] dataArray2 = new String[] { "customer2-1" };
+		String[] dataArray3 = new String[] { "customer3-1" };
+		CustomerPartitionStrategy strategy = new CustomerPartitionStrategy();
+		PartitionTextFileWriter<String> writer =
+				new PartitionTextFileWriter<String>(getConfiguration(), testDefaultPath, null, strategy);
+		writer.setMaxOpenWriters(2);
+
+		writer.write(dataArray1[0]);
+		writer.write(dataArray2[0]);
+		writer.write(dataArray1[1]);
+		writer.write(dataArray3[0]);
+
+		Map<Path, DataStoreWriter<String>> writers = TestUtils.readField("writers", writer);
+		assertThat(writers.size(), is(2));
+		assertThat(writers.containsKey(new Path("customer2")), is(false));
+		assertThat(writer.getEvictedWriterCount(), is(1l));
+
+		// evicted writer is already closed and readable
+		TextFileReader reader2 = new TextFileReader(getConfiguration(), new Path(testDefaultPath, "customer2"), null);
+		TestUtils.readDataAndAssert(reader2, dataArray2);
+
+		writer.flush();
+		writer.close();
+
+		TextFileReader reader1 = new TextFileReader(getConfiguration(), new Path(testDefaultPath, "customer1"), null);
+		TestUtils.readDataAndAssert(reader1, dataArray1);
+		TextFileReader reader3 = new TextFileReader(getConfiguration(), new Path(testDefaultPath, "customer3"), null);
+		TestUtils.readDataAndAssert(reader3, dataArray3);
+	}
+
+	@Test
+	public void testEvictionWhileOtherThreadsWrite() throws Exception {
+		final String[] customers = new String[] { "customer1", "customer2" };
+		final int threads = 4;
+		final int count = 25;
+		CustomerPartitionStrategy strategy = new CustomerPartitionStrategy();
+		final PartitionTextFileWriter<String> writer =
+				new PartitionTextFileWriter<String>(getConfiguration(), testDefaultPath, null, strategy);
+		writer.setFileNamingStrategyFactory(new RollingFileNamingStrategy());
+		writer.setInWritingSuffix(".tmp");
+		writer.setIncrementalInit(true);
+		writer.setConcurrent(true);
+		// every write into other partition evicts a writer
+		// which an other thread may still be writing into
+		writer.setMaxOpenWriters(1);
+
+		final CountDownLatch latch = new CountDownLatch(1);
+		final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		ArrayList<Thread> joins = new ArrayList<Thread>();
+		for (int i = 0; i < threads; i++) {
+			final String customer = customers[i % customers.length];
+			Thread t = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						latch.await();
+						for (int j = 0; j < count; j++) {
+							writer.write(customer + "-" + j);
+						}
+					} catch (Throwable e) {
+						failure.compareAndSet(null, e);
+					}
+				}
+			});
+			joins.add(t);
+			t.start();
+		}
+		latch.countDown();
+		for (Thread t : joins) {
+			t.join();
+		}
+		writer.flush();
+		writer.close();
+		assertThat(failure.get(), nullValue());
+		assertThat(writer.getEvictedWriterCount() > 0, is(true));
+
+		// every stream opened by an evicted writer is renamed and
+		// none of the written entities is lost into untracked files
+		FileSystem fs = FileSystem.get(getConfiguration());
+		for (String customer : customers) {
+			int lines = 0;
+			for (FileStatus status : fs.listStatus(new Path(testDefaultPath, customer))) {
+				assertThat(status.getPath().getName().endsWith(".tmp"), is(false));
+				TextFileReader reader = new TextFileReader(getConfiguration(), status.getPath(), null);
+				lines += TestUtils.readData(reader).size();
+			}
+			assertThat(lines, is(threads / customers.length * count));
+		}
+	}
+
+	@Test
+	public void testMetricsSharedWithPartitionWriters() throws Exception {
+		DefaultStoreMetrics metrics = new DefaultStoreMetrics();
+		CustomerPartitionStrategy strategy = new CustomerPartitionStrategy();
+		PartitionTextFileWriter<String> writer =
+				new PartitionTextFileWriter<String>(getConfiguration(), testDefaultPath, null, strategy);
+		writer.setMaxOpenWriters(2);
+		writer.setStoreMetrics(metrics);
+
+		writer.write("customer1-1");
+		writer.write("customer2-1");
+		assertThat(metrics.getOpenStreams(), is(2l));
+		writer.write("customer3-1");
+		assertThat(metrics.getOpenStreams(), is(2l));
+		assertThat(metrics.getEvictions(), is(1l));
+
+		writer.flush();
+		writer.close();
+		assertThat(metrics.getOpenStreams(), is(0l));
+		assertThat(metrics.getOpenedStreams(), is(3l));
+		assertThat(metrics.getWrittenRecords(), is(3l));
+		assertThat(metrics.getWrittenBytes(), is(36l));
+	}
+
+	@Test
+	public void testIncrementalInitWithEvictedWriters() throws Exception {
+		CustomerPartitionStrategy strategy = new CustomerPartitionStrategy();
+		PartitionTextFileWriter<String> writer =
+				new PartitionTextFileWriter<String>(getConfiguration(), testDefaultPath, null, strategy);
+		writer.setFileNamingStrategyFactory(new RollingFileNamingStrategy());
+		writer.setMaxOpenWriters(1);
+		writer.setIncrementalInit(true);
+
+		// every write evicts a writer from other partition and
+		// re-created writer continues from a remembered index
+		writer.write("customer1-1");
+		writer.write("customer2-1");
+		writer.write("customer1-2");
+		writer.write("customer2-2");
+		writer.write("customer1-3");
+		writer.flush();
+		writer.close();
+		assertThat(writer.getEvictedWriterCount(), is(4l));
+
+		for (int i = 0; i < 3; i++) {
+			TextFileReader reader = new TextFileReader(getConfiguration(),
+					new Path(testDefaultPath, "customer1/" + i), null);
+			TestUtils.readDataAndAssert(reader, new String[] { "customer1-" + (i + 1) });
+		}
+		for (int i = 0; i < 2; i++) {
+			TextFileReader reader = new TextFileReader(getConfiguration(),
+					new Path(testDefaultPath, "customer2/" + i), null);
+			TestUtils.readDataAndAssert(reader, new String[] { "customer2-" + (i + 1) });
+		}
+	}
+
+	@Test
+	public void testInitIndexHintsEvictLeastRecentlyUsed() throws Exception {
+		CustomerPartitionStrategy strategy = new CustomerPartitionStrategy();
+		HintExposingWriter writer = new HintExposingWriter(getConfiguration(), testDefaultPath, strategy);
+		writer.setFileNamingStrategyFactory(new RollingFileNamingStrategy());
+		writer.setMaxOpenWriters(1);
+		writer.setIncrementalInit(true);
+		writer.setMaxInitIndexHints(2);
+
+		writer.write("customer1-1");
+		writer.write("customer2-1");
+		writer.write("customer1-2");
+		writer.write("customer2-2");
+		writer.write("customer1-3");
+		writer.write("customer3-1");
+		// limit reached with a last eviction, both hints are kept
+		assertThat(writer.getInitIndexHint("customer1"), is(2));
+		assertThat(writer.getInitIndexHint("customer2"), is(1));
+
+		// customer2 is now least recently used and only its hint is forgotten
+		writer.write("customer1-4");
+		assertThat(writer.getInitIndexHint("customer1"), is(2));
+		assertThat(writer.getInitIndexHint("customer2"), is(0));
+		writer.close();
+	}
+
+	private static class HintExposingWriter extends PartitionTextFileWriter<String> {
+
+		HintExposingWriter(Configuration configuration, Path basePath, CustomerPartitionStrategy strategy) {
+			super(configuration, basePath, null, strategy);
+		}
+
+		int getInitIndexHint(String partition) {
+			return getInitIndexHint(new Path(partition));
+		}
+	}
+
 	private static class CustomerPartitionStrategy implements PartitionStrategy<String, String> {
 
 		CustomerPartitionResolver partitionResolver = new CustomerPartitionResolver();
@@ -314,4 +558,23 @@ public class PartitionTextFileWriterTests extends AbstractStoreTests {
 		}
 	}
 
+	@Test
+	public void testWriteBatchIntoManyPartitions() throws Exception {
+		String[] dataArray1 = new String[] { "customer1-1", "customer1-2", "customer1-3" };
+		String[] dataArray2 = new String[] { "customer2-1", "customer2-2" };
+		CustomerPartitionStrategy strategy = new CustomerPartitionStrategy();
+		PartitionTextFileWriter<String> writer =
+				new PartitionTextFileWriter<String>(getConfiguration(), testDefaultPath, null, strategy);
+
+		writer.writeBatch(Arrays.asList(dataArray1[0], dataArray2[0], dataArray1[1]));
+		writer.writeBatch(Arrays.asList(dataArray2[1], dataArray1[2]));
+		writer.flush();
+		writer.close();
+
+		TextFileReader reader1 = new TextFileReader(getConfiguration(), new Path(testDefaultPath, "customer1"), null);
+		TestUtils.readDataAndAssert(reader1, dataArray1);
+		TextFileReader reader2 = new TextFileReader(getConfiguration(), new Path(testDefaultPath, "customer2"), null);
+		TestUtils.readDataAndAssert(reader2, dataArray2);
+	}
+
 }
@@ -21,12 +21,14 @@ import static org.junit.Assert.assertThat;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import org.apache.hadoop.fs.Path;
 import org.junit.Test;
 import org.springframework.data.hadoop.store.codec.Codecs;
 import org.springframework.data.hadoop.store.input.TextFileReader;
+import org.springframework.data.hadoop.store.output.ByteArrayTextFileWriter;
 import org.springframework.data.hadoop.store.output.OutputStreamWriter;
 import org.springframework.data.hadoop.store.strategy.naming.ChainedFileNamingStrategy;
 import org.springframework.data.hadoop.store.strategy.naming.CodecFileNamingStrategy;
@@ -68,6 +70,24 @@ public class RawStreamStoreTests extends AbstractStoreTests {
 		TestUtils.readDataAndAssert(reader, dataArray);
 	}
 
+	@Test
+	public void testWriteReadByteArraysAndBuffers() throws IOException {
+		String[] dataArray = new String[] { DATA10, DATA11, DATA12 };
+
+		ByteArrayTextFileWriter writer = new ByteArrayTextFileWriter(getConfiguration(), testDefaultPath, null);
+		writer.write(DATA10.getBytes());
+		byte[] padded = ("xx" + DATA11 + "yy").getBytes();
+		writer.write(padded, 2, DATA11.length());
+		ByteBuffer direct = ByteBuffer.allocateDirect(32);
+		direct.put(DATA12.getBytes());
+		direct.flip();
+		writer.write(direct);
+		writer.close();
+
+		TextFileReader reader = new TextFileReader(getConfiguration(), testDefaultPath, null);
+		TestUtils.readDataAndAssert(reader, dataArray);
+	}
+
 	@Test
 	public void testStreamSmall() throws IOException {
 		ByteArrayInputStream stream = new ByteArrayInputStream(DATA10.getBytes());
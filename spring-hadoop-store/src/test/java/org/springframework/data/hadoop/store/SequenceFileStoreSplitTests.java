@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.SequenceFile.CompressionType;
+import org.junit.Test;
+import org.springframework.data.hadoop.store.codec.Codecs;
+import org.springframework.data.hadoop.store.input.TextSequenceFileReader;
+import org.springframework.data.hadoop.store.input.WritableSequenceFileReader;
+import org.springframework.data.hadoop.store.output.TextSequenceFileWriter;
+import org.springframework.data.hadoop.store.output.WritableSequenceFileWriter;
+import org.springframework.data.hadoop.store.split.Split;
+import org.springframework.data.hadoop.store.split.Splitter;
+import org.springframework.data.hadoop.store.split.StaticLengthSplitter;
+import org.springframework.data.hadoop.test.context.HadoopDelegatingSmartContextLoader;
+import org.springframework.data.hadoop.test.context.MiniHadoopCluster;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Tests for reading sequence files using splits.
+ */
+@ContextConfiguration(loader=HadoopDelegatingSmartContextLoader.class)
+@MiniHadoopCluster
+public class SequenceFileStoreSplitTests extends AbstractStoreTests {
+
+	@org.springframework.context.annotation.Configuration
+	static class Config {
+		// just empty to survive without xml configs
+	}
+
+	@Test
+	public void testReadTextWithSplits() throws IOException {
+		List<String> expected = new ArrayList<String>();
+		TextSequenceFileWriter writer = new TextSequenceFileWriter(getConfiguration(), testDefaultPath, null);
+		for (int i = 0; i < 1000; i++) {
+			String line = "line-" + i;
+			expected.add(line);
+			writer.write(line);
+		}
+		writer.close();
+
+		Splitter splitter = new StaticLengthSplitter(getConfiguration(), 5000l);
+		List<Split> inputSplits = splitter.getSplits(testDefaultPath);
+		assertThat(inputSplits.size(), greaterThan(2));
+
+		List<String> read = new ArrayList<String>();
+		for (Split split : inputSplits) {
+			TextSequenceFileReader reader = new TextSequenceFileReader(getConfiguration(), testDefaultPath, null, split);
+			List<String> data = TestUtils.readData(reader);
+			assertThat(data.size(), greaterThan(0));
+			read.addAll(data);
+		}
+		assertThat(read, is(expected));
+	}
+
+	@Test
+	public void testReadBlockCompressedWritablesWithSplits() throws IOException {
+		WritableSequenceFileWriter<LongWritable, LongWritable> writer =
+				new WritableSequenceFileWriter<LongWritable, LongWritable>(getConfiguration(), testDefaultPath,
+						Codecs.BZIP2.getCodecInfo(), LongWritable.class, LongWritable.class);
+		writer.setCompressionType(CompressionType.BLOCK);
+		writer.setCompressionBlockSize(1024);
+		for (long i = 0; i < 5000; i++) {
+			writer.write(new LongWritable(i), new LongWritable(i * 2));
+		}
+		writer.close();
+
+		Splitter splitter = new StaticLengthSplitter(getConfiguration(), 2000l);
+		List<Split> inputSplits = splitter.getSplits(testDefaultPath);
+		assertThat(inputSplits.size(), greaterThan(2));
+
+		LongWritable key = new LongWritable();
+		LongWritable value = new LongWritable();
+		long expectedKey = 0;
+		for (Split split : inputSplits) {
+			WritableSequenceFileReader<LongWritable, LongWritable> reader =
+					new WritableSequenceFileReader<LongWritable, LongWritable>(getConfiguration(), testDefaultPath,
+							null, split, LongWritable.class, LongWritable.class);
+			while (reader.next(key, value)) {
+				assertThat(key.get(), is(expectedKey));
+				assertThat(value.get(), is(expectedKey * 2));
+				expectedKey++;
+			}
+			reader.close();
+		}
+		assertThat(expectedKey, is(5000l));
+	}
+
+}
@@ -19,13 +19,20 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.DataOutputBuffer;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.SequenceFile.CompressionType;
+import org.apache.hadoop.io.Text;
 import org.junit.Test;
 import org.springframework.data.hadoop.store.codec.Codecs;
 import org.springframework.data.hadoop.store.input.TextSequenceFileReader;
+import org.springframework.data.hadoop.store.input.WritableSequenceFileReader;
 import org.springframework.data.hadoop.store.output.TextSequenceFileWriter;
+import org.springframework.data.hadoop.store.output.WritableSequenceFileWriter;
 import org.springframework.data.hadoop.store.strategy.naming.RollingFileNamingStrategy;
 import org.springframework.data.hadoop.store.strategy.rollover.SizeRolloverStrategy;
 import org.springframework.data.hadoop.test.context.HadoopDelegatingSmartContextLoader;
@@ -67,6 +74,31 @@ public class SequenceFileStoreTests extends AbstractStoreTests {
 		TestUtils.readDataAndAssert(reader, DATA09ARRAY);
 	}
 
+	@Test
+	public void testWriteReadSequenceFileBatches() throws IOException {
+		TextSequenceFileWriter writer = new TextSequenceFileWriter(getConfiguration(), testDefaultPath, null);
+		writer.writeBatch(Arrays.asList(DATA09ARRAY).subList(0, 5));
+		writer.writeBatch(Arrays.asList(DATA09ARRAY).subList(5, DATA09ARRAY.length));
+		writer.flush();
+		writer.close();
+
+		TextSequenceFileReader reader = new TextSequenceFileReader(getConfiguration(), testDefaultPath, null);
+		TestUtils.readDataAndAssert(reader, DATA09ARRAY);
+	}
+
+	@Test
+	public void testWriteAndWriteBatchEncodeSameBytes() throws IOException {
+		String[] dataArray = new String[] { "\u00e4\u20ac-1", "\u00e4\u20ac-2", "\u00e4\u20ac-3" };
+		TextSequenceFileWriter writer = new TextSequenceFileWriter(getConfiguration(), testDefaultPath, null);
+		writer.write(dataArray[0]);
+		writer.writeBatch(Arrays.asList(dataArray).subList(1, 3));
+		writer.flush();
+		writer.close();
+
+		TextSequenceFileReader reader = new TextSequenceFileReader(getConfiguration(), testDefaultPath, null);
+		TestUtils.readDataAndAssert(reader, dataArray);
+	}
+
 	// TODO: SequenceFile needs native stuff for codec
 //	@Test
 //	public void testWriteReadManyLinesWithGzip() throws IOException {
@@ -90,6 +122,83 @@ public class SequenceFileStoreTests extends AbstractStoreTests {
 		TestUtils.readDataAndAssert(reader, DATA09ARRAY);
 	}
 
+	@Test
+	public void testWriteReadManyLinesWithBzip2BlockCompression() throws IOException {
+		TextSequenceFileWriter writer = new TextSequenceFileWriter(getConfiguration(), testDefaultPath,
+				Codecs.BZIP2.getCodecInfo());
+		writer.setCompressionType(CompressionType.BLOCK);
+		TestUtils.writeData(writer, DATA09ARRAY);
+
+		TextSequenceFileReader reader = new TextSequenceFileReader(getConfiguration(), testDefaultPath,
+				Codecs.BZIP2.getCodecInfo());
+		TestUtils.readDataAndAssert(reader, DATA09ARRAY);
+	}
+
+	@Test
+	public void testWriteReadWritablesWithBlockCompression() throws IOException {
+		WritableSequenceFileWriter<LongWritable, Text> writer = new WritableSequenceFileWriter<LongWritable, Text>(
+				getConfiguration(), testDefaultPath, Codecs.BZIP2.getCodecInfo(), LongWritable.class, Text.class);
+		writer.setCompressionType(CompressionType.BLOCK);
+		writer.setCompressionBlockSize(1024);
+		LongWritable key = new LongWritable();
+		Text value = new Text();
+		for (int i = 0; i < 1000; i++) {
+			key.set(i);
+			value.set(DATA09ARRAY[i % DATA09ARRAY.length]);
+			writer.write(key, value);
+		}
+		writer.close();
+
+		WritableSequenceFileReader<LongWritable, Text> reader = new WritableSequenceFileReader<LongWritable, Text>(
+				getConfiguration(), testDefaultPath, Codecs.BZIP2.getCodecInfo(), LongWritable.class, Text.class);
+		assertThat(reader.isBlockCompressed(), is(true));
+		int count = 0;
+		while (reader.next(key, value)) {
+			assertThat(key.get(), is((long) count));
+			assertThat(value.toString(), is(DATA09ARRAY[count % DATA09ARRAY.length]));
+			count++;
+		}
+		reader.close();
+		assertThat(count, is(1000));
+	}
+
+	@Test
+	public void testAppendRawWritables() throws IOException {
+		WritableSequenceFileWriter<LongWritable, Text> writer = new WritableSequenceFileWriter<LongWritable, Text>(
+				getConfiguration(), testDefaultPath, null, LongWritable.class, Text.class);
+		DataOutputBuffer keyBuffer = new DataOutputBuffer();
+		DataOutputBuffer valueBuffer = new DataOutputBuffer();
+		for (int i = 0; i < DATA09ARRAY.length; i++) {
+			keyBuffer.reset();
+			valueBuffer.reset();
+			new LongWritable(i).write(keyBuffer);
+			new Text(DATA09ARRAY[i]).write(valueBuffer);
+			writer.appendRaw(keyBuffer.getData(), 0, keyBuffer.getLength(), valueBuffer.getData(), 0,
+					valueBuffer.getLength());
+		}
+		writer.close();
+
+		WritableSequenceFileReader<LongWritable, Text> reader = new WritableSequenceFileReader<LongWritable, Text>(
+				getConfiguration(), testDefaultPath, null, LongWritable.class, Text.class);
+		Text value;
+		int count = 0;
+		while ((value = reader.read()) != null) {
+			assertThat(value.toString(), is(DATA09ARRAY[count++]));
+		}
+		reader.close();
+		assertThat(count, is(DATA09ARRAY.length));
+	}
+
+	@Test(expected = StoreException.class)
+	public void testReadWithWrongTypesFails() throws IOException {
+		TextSequenceFileWriter writer = new TextSequenceFileWriter(getConfiguration(), testDefaultPath, null);
+		TestUtils.writeData(writer, DATA09ARRAY);
+
+		WritableSequenceFileReader<LongWritable, Text> reader = new WritableSequenceFileReader<LongWritable, Text>(
+				getConfiguration(), testDefaultPath, null, LongWritable.class, Text.class);
+		reader.read();
+	}
+
 	@Test
 	public void testWriteReadManyLinesWithNamingAndRollover() throws IOException {
 		TextSequenceFileWriter writer = new TextSequenceFileWriter(getConfiguration(), testDefaultPath, null);
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.IntWritable;
+import org.apache.hadoop.io.Text;
+import org.junit.Test;
+import org.springframework.data.hadoop.store.input.TextFileReader;
+import org.springframework.data.hadoop.store.input.WritableSequenceFileReader;
+import org.springframework.data.hadoop.store.metrics.DefaultStoreMetrics;
+import org.springframework.data.hadoop.store.output.TextFileWriter;
+import org.springframework.data.hadoop.store.output.WritableSequenceFileWriter;
+import org.springframework.data.hadoop.store.strategy.naming.RollingFileNamingStrategy;
+import org.springframework.data.hadoop.store.strategy.rollover.RecordCountRolloverStrategy;
+import org.springframework.data.hadoop.test.context.HadoopDelegatingSmartContextLoader;
+import org.springframework.data.hadoop.test.context.MiniHadoopCluster;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Tests for store metrics collected from writers and readers.
+ */
+@ContextConfiguration(loader=HadoopDelegatingSmartContextLoader.class)
+@MiniHadoopCluster
+public class StoreMetricsTests extends AbstractStoreTests {
+
+	@org.springframework.context.annotation.Configuration
+	static class Config {
+		// just empty to survive without xml configs
+	}
+
+	@Test
+	public void testTextFileWriterAndReader() throws IOException {
+		DefaultStoreMetrics metrics = new DefaultStoreMetrics();
+		TextFileWriter writer = new TextFileWriter(getConfiguration(), testDefaultPath, null);
+		writer.setFileNamingStrategy(new RollingFileNamingStrategy());
+		writer.setRolloverStrategy(new RecordCountRolloverStrategy(3));
+		writer.setInWritingSuffix(".tmp");
+		writer.setStoreMetrics(metrics);
+
+		for (int i = 0; i < 8; i++) {
+			writer.write(DATA10);
+		}
+		assertThat(metrics.getOpenStreams(), is(1l));
+		writer.flush();
+		writer.close();
+
+		assertThat(metrics.getWrittenRecords(), is(8l));
+		assertThat(metrics.getWrittenBytes(), is(88l));
+		assertThat(metrics.getOpenedStreams(), is(3l));
+		assertThat(metrics.getOpenStreams(), is(0l));
+		assertThat(metrics.getRolloverCount(), is(2l));
+		assertThat(metrics.getRenameCount(), is(3l));
+		assertThat(metrics.getFlushCount(), is(1l));
+
+		TextFileReader reader = new TextFileReader(getConfiguration(), new Path(testDefaultPath, "0"), null);
+		reader.setStoreMetrics(metrics);
+		TestUtils.readDataAndAssert(reader, new String[] { DATA10, DATA10, DATA10 });
+		assertThat(metrics.getReadRecords(), is(3l));
+		assertThat(metrics.getReadBytes(), is(33l));
+	}
+
+	@Test
+	public void testSequenceFileWriterAndReader() throws IOException {
+		DefaultStoreMetrics metrics = new DefaultStoreMetrics();
+		WritableSequenceFileWriter<IntWritable, Text> writer = new WritableSequenceFileWriter<IntWritable, Text>(
+				getConfiguration(), testDefaultPath, null, IntWritable.class, Text.class);
+		writer.setStoreMetrics(metrics);
+		for (int i = 0; i < 10; i++) {
+			writer.write(new IntWritable(i), new Text(DATA10));
+		}
+		writer.close();
+		assertThat(metrics.getWrittenRecords(), is(10l));
+		assertThat(metrics.getOpenedStreams(), is(1l));
+		assertThat(metrics.getOpenStreams(), is(0l));
+		long written = metrics.getWrittenBytes();
+		assertThat(written > 0, is(true));
+
+		WritableSequenceFileReader<IntWritable, Text> reader = new WritableSequenceFileReader<IntWritable, Text>(
+				getConfiguration(), testDefaultPath, null, IntWritable.class, Text.class);
+		reader.setStoreMetrics(metrics);
+		IntWritable key = new IntWritable();
+		Text value = new Text();
+		while (reader.next(key, value)) {
+		}
+		reader.close();
+		assertThat(metrics.getReadRecords(), is(10l));
+		assertThat(metrics.getReadBytes() > 0, is(true));
+		assertThat(metrics.getReadBytes() <= written, is(true));
+	}
+
+}
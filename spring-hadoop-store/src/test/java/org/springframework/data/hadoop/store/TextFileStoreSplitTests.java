@@ -22,10 +22,12 @@ import static org.junit.Assert.assertNotNull;
 import java.io.IOException;
 import java.util.List;
 
+import org.apache.hadoop.fs.Path;
 import org.junit.Test;
 import org.springframework.data.hadoop.store.codec.Codecs;
 import org.springframework.data.hadoop.store.input.TextFileReader;
 import org.springframework.data.hadoop.store.output.TextFileWriter;
+import org.springframework.data.hadoop.store.split.CompressionAwareSplitter;
 import org.springframework.data.hadoop.store.split.Split;
 import org.springframework.data.hadoop.store.split.Splitter;
 import org.springframework.data.hadoop.store.split.StaticLengthSplitter;
@@ -102,4 +104,22 @@ public class TextFileStoreSplitTests extends AbstractStoreTests {
 		assertThat(readData1.size()+readData2.size()+readData3.size(), is(30));
 	}
 
+	@Test
+	public void testWriteReadGzipWithCompressionAwareSplitter() throws IOException {
+		Path path = testDefaultPath.suffix(".gz");
+		TextFileWriter writer = new TextFileWriter(getConfiguration(), path, Codecs.GZIP.getCodecInfo());
+		TestUtils.writeData(writer, DATA09ARRAY, false);
+		TestUtils.writeData(writer, DATA09ARRAY, false);
+		TestUtils.writeData(writer, DATA09ARRAY, true);
+
+		Splitter splitter = new CompressionAwareSplitter(getConfiguration(), 10l, 10l);
+		List<Split> inputSplits = splitter.getSplits(path);
+		assertNotNull(inputSplits);
+		assertThat(inputSplits.size(), is(1));
+
+		TextFileReader reader = new TextFileReader(getConfiguration(), path, Codecs.GZIP.getCodecInfo(), inputSplits.get(0), null);
+		List<String> readData = TestUtils.readData(reader);
+		assertThat(readData.size(), is(30));
+	}
+
 }
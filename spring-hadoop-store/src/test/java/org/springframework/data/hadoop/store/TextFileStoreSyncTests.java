@@ -15,6 +15,9 @@
  */
 package org.springframework.data.hadoop.store;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
 import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -23,11 +26,14 @@ import java.util.Map;
 
 import org.apache.hadoop.fs.Path;
 import org.junit.Test;
+import org.springframework.data.hadoop.store.codec.Codecs;
 import org.springframework.data.hadoop.store.input.TextFileReader;
+import org.springframework.data.hadoop.store.metrics.DefaultStoreMetrics;
 import org.springframework.data.hadoop.store.output.PartitionTextFileWriter;
 import org.springframework.data.hadoop.store.output.TextFileWriter;
 import org.springframework.data.hadoop.store.partition.DefaultPartitionStrategy;
 import org.springframework.data.hadoop.store.strategy.naming.StaticFileNamingStrategy;
+import org.springframework.data.hadoop.store.strategy.sync.GroupSyncStrategy;
 import org.springframework.data.hadoop.test.context.HadoopDelegatingSmartContextLoader;
 import org.springframework.data.hadoop.test.context.MiniHadoopCluster;
 import org.springframework.test.context.ContextConfiguration;
@@ -52,6 +58,55 @@ public class TextFileStoreSyncTests extends AbstractStoreTests {
 		writer.close();
 	}
 
+	@Test
+	public void testGroupSyncReadBeforeClosing() throws IOException {
+		DefaultStoreMetrics metrics = new DefaultStoreMetrics();
+		TextFileWriter writer = new TextFileWriter(getConfiguration(), testDefaultPath, null);
+		GroupSyncStrategy syncStrategy = new GroupSyncStrategy(3, 0, 0);
+		writer.setSyncStrategy(syncStrategy);
+		writer.setStoreMetrics(metrics);
+
+		for (int i = 0; i < 7; i++) {
+			writer.write(DATA10);
+		}
+		assertThat(metrics.getFlushCount(), is(2l));
+		TextFileReader reader = new TextFileReader(getConfiguration(), testDefaultPath, null);
+		TestUtils.readDataAndAssert(reader, new String[] { DATA10, DATA10, DATA10, DATA10, DATA10, DATA10 });
+		reader.close();
+
+		// flush syncs only when a group is full
+		assertThat(syncStrategy.getUnsyncedRecords(), is(1l));
+		writer.flush();
+		assertThat(syncStrategy.getUnsyncedRecords(), is(1l));
+		writer.write(DATA10);
+		writer.write(DATA10);
+		assertThat(syncStrategy.getUnsyncedRecords(), is(0l));
+		writer.close();
+	}
+
+	@Test
+	public void testGroupSyncWithCodec() throws IOException {
+		DefaultStoreMetrics metrics = new DefaultStoreMetrics();
+		TextFileWriter writer = new TextFileWriter(getConfiguration(), testDefaultPath, Codecs.GZIP.getCodecInfo());
+		GroupSyncStrategy syncStrategy = new GroupSyncStrategy(3, 0, 0);
+		writer.setSyncStrategy(syncStrategy);
+		writer.setStoreMetrics(metrics);
+
+		// compressed stream is not syncable but a sync
+		// still needs to reset strategy
+		for (int i = 0; i < 7; i++) {
+			writer.write(DATA10);
+		}
+		assertThat(metrics.getFlushCount(), is(2l));
+		assertThat(syncStrategy.getUnsyncedRecords(), is(1l));
+		writer.close();
+
+		TextFileReader reader = new TextFileReader(getConfiguration(), testDefaultPath, Codecs.GZIP.getCodecInfo());
+		TestUtils.readDataAndAssert(reader,
+				new String[] { DATA10, DATA10, DATA10, DATA10, DATA10, DATA10, DATA10 });
+		reader.close();
+	}
+
 	@Test
 	public void testPartitionWriteSyncReadBeforeClosing() throws IOException {
 		String expression = "path(region,dateFormat('yyyy/MM',timestamp),hash(region,1),list(region,{{'jee','foo'}}),range(range,{10}))";
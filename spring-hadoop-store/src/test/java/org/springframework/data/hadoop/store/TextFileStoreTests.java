@@ -17,25 +17,43 @@ package org.springframework.data.hadoop.store;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.io.compress.CodecPool;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.DefaultCodec;
 import org.junit.Test;
+import org.springframework.data.hadoop.store.codec.CodecInfo;
 import org.springframework.data.hadoop.store.codec.Codecs;
+import org.springframework.data.hadoop.store.codec.CompressionCodecCache;
+import org.springframework.data.hadoop.store.codec.DefaultCodecInfo;
 import org.springframework.data.hadoop.store.input.TextFileReader;
 import org.springframework.data.hadoop.store.output.TextFileWriter;
 import org.springframework.data.hadoop.store.strategy.naming.ChainedFileNamingStrategy;
 import org.springframework.data.hadoop.store.strategy.naming.CodecFileNamingStrategy;
 import org.springframework.data.hadoop.store.strategy.naming.RollingFileNamingStrategy;
 import org.springframework.data.hadoop.store.strategy.naming.StaticFileNamingStrategy;
+import org.springframework.data.hadoop.store.strategy.rollover.RecordCountRolloverStrategy;
 import org.springframework.data.hadoop.store.strategy.rollover.SizeRolloverStrategy;
+import org.springframework.data.hadoop.store.strategy.rollover.TimeIntervalRolloverStrategy;
 import org.springframework.data.hadoop.test.context.HadoopDelegatingSmartContextLoader;
 import org.springframework.data.hadoop.test.context.MiniHadoopCluster;
 import org.springframework.data.hadoop.test.tests.Assume;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.test.context.ContextConfiguration;
 
 /**
@@ -73,6 +91,31 @@ public class TextFileStoreTests extends AbstractStoreTests {
 		TestUtils.readDataAndAssert(reader, DATA09ARRAY);
 	}
 
+	@Test
+	public void testReadLinesWithReusedBuffers() throws IOException {
+		String[] dataArray = new String[] { DATA10 + DATA11, "ab", "", DATA12 };
+		TextFileWriter writer = new TextFileWriter(getConfiguration(), testDefaultPath, null);
+		TestUtils.writeData(writer, dataArray);
+
+		TextFileReader reader = new TextFileReader(getConfiguration(), testDefaultPath, null);
+		Text text = reader.readText();
+		assertThat(text.toString(), is(DATA10 + DATA11));
+		assertThat(reader.readText(), sameInstance(text));
+		assertThat(text.getLength(), is(2));
+		assertThat(text.toString(), is("ab"));
+		ByteBuffer buffer = reader.readBuffer();
+		assertThat(buffer.remaining(), is(0));
+		buffer = reader.readBuffer();
+		assertThat(new String(buffer.array(), buffer.position(), buffer.remaining(), "UTF-8"), is(DATA12));
+		assertThat(reader.readBuffer(), nullValue());
+		reader.close();
+
+		reader = new TextFileReader(getConfiguration(), testDefaultPath, null);
+		assertThat(reader.read(), is(DATA10 + DATA11));
+		assertThat(reader.read(), is("ab"));
+		reader.close();
+	}
+
 	@Test
 	public void testWriteReadManyLinesWithGzip() throws IOException {
 		TextFileWriter writer = new TextFileWriter(getConfiguration(), testDefaultPath,
@@ -84,6 +127,24 @@ public class TextFileStoreTests extends AbstractStoreTests {
 		TestUtils.readDataAndAssert(reader, DATA09ARRAY);
 	}
 
+	@Test
+	public void testCompressorsReturnedToPool() throws IOException {
+		CodecInfo codecInfo = new DefaultCodecInfo(DefaultCodec.class.getName(), false, "deflate");
+		CompressionCodec codec = CompressionCodecCache.getCodec(codecInfo, getConfiguration());
+		assertThat(CompressionCodecCache.getCodec(codecInfo, getConfiguration()), sameInstance(codec));
+
+		TextFileWriter writer = new TextFileWriter(getConfiguration(), testDefaultPath, codecInfo);
+		writer.setFileNamingStrategy(new RollingFileNamingStrategy());
+		writer.setRolloverStrategy(new SizeRolloverStrategy(40));
+		TestUtils.writeData(writer, DATA09ARRAY);
+		assertThat(CodecPool.getLeasedCompressorsCount(codec), is(0));
+
+		TextFileReader reader = new TextFileReader(getConfiguration(), new Path(testDefaultPath, "0"), codecInfo);
+		assertThat(TestUtils.readData(reader).size(), greaterThan(0));
+		reader.close();
+		assertThat(CodecPool.getLeasedDecompressorsCount(codec), is(0));
+	}
+
 	@Test
 	public void testWriteReadManyLinesWithBzip2() throws IOException {
 		TextFileWriter writer = new TextFileWriter(getConfiguration(), testDefaultPath,
@@ -148,6 +209,121 @@ public class TextFileStoreTests extends AbstractStoreTests {
 		assertThat(splitData1.size() + splitData2.size() + splitData3.size(), is(DATA09ARRAY.length));
 	}
 
+	@Test
+	public void testWriteReadManyLinesWithBatches() throws IOException {
+		TextFileWriter writer = new TextFileWriter(getConfiguration(), testDefaultPath, null);
+		writer.writeBatch(Arrays.asList(DATA09ARRAY).subList(0, 5));
+		writer.writeBatch(Arrays.asList(DATA09ARRAY).subList(5, DATA09ARRAY.length));
+		writer.flush();
+		writer.close();
+
+		TextFileReader reader = new TextFileReader(getConfiguration(), testDefaultPath, null);
+		TestUtils.readDataAndAssert(reader, DATA09ARRAY);
+	}
+
+	@Test
+	public void testWriteReadBatchesWithRecordCountRollover() throws IOException {
+		TextFileWriter writer = new TextFileWriter(getConfiguration(), testDefaultPath, null);
+		writer.setFileNamingStrategy(new RollingFileNamingStrategy());
+		writer.setRolloverStrategy(new RecordCountRolloverStrategy(4));
+
+		// count is checked once per batch
+		writer.write(DATA09ARRAY[0]);
+		writer.writeBatch(Arrays.asList(DATA09ARRAY).subList(1, 4));
+		writer.writeBatch(Arrays.asList(DATA09ARRAY).subList(4, 9));
+		writer.write(DATA09ARRAY[9]);
+		writer.close();
+
+		TextFileReader reader1 = new TextFileReader(getConfiguration(), new Path(testDefaultPath, "0"), null);
+		assertThat(TestUtils.readData(reader1).size(), is(4));
+		TextFileReader reader2 = new TextFileReader(getConfiguration(), new Path(testDefaultPath, "1"), null);
+		assertThat(TestUtils.readData(reader2).size(), is(5));
+		TextFileReader reader3 = new TextFileReader(getConfiguration(), new Path(testDefaultPath, "2"), null);
+		assertThat(TestUtils.readData(reader3).size(), is(1));
+	}
+
+	@Test
+	public void testTimeIntervalRolloverWithoutWrites() throws Exception {
+		TextFileWriter writer = new TextFileWriter(getConfiguration(), testDefaultPath, null);
+		writer.setFileNamingStrategy(new RollingFileNamingStrategy());
+		writer.setRolloverStrategy(new TimeIntervalRolloverStrategy(500));
+		writer.setInWritingSuffix(".tmp");
+		writer.setRolloverCheckInterval(100);
+		writer.setTaskExecutor(new ConcurrentTaskExecutor());
+		writer.setTaskScheduler(new ConcurrentTaskScheduler());
+		writer.afterPropertiesSet();
+		writer.start();
+
+		writer.write(DATA10);
+		writer.write(DATA11);
+
+		// file is rolled by a scheduled check, not by a write
+		Path path = new Path(testDefaultPath, "0");
+		FileSystem fs = path.getFileSystem(getConfiguration());
+		for (int i = 0; i < 30 && !fs.exists(path); i++) {
+			Thread.sleep(100);
+		}
+		assertThat(fs.exists(path), is(true));
+		TextFileReader reader = new TextFileReader(getConfiguration(), path, null);
+		TestUtils.readDataAndAssert(reader, new String[] { DATA10, DATA11 });
+
+		writer.write(DATA12);
+		writer.stop();
+		writer.close();
+		reader = new TextFileReader(getConfiguration(), new Path(testDefaultPath, "1"), null);
+		TestUtils.readDataAndAssert(reader, new String[] { DATA12 });
+	}
+
+	@Test
+	public void testWriteReadBatchesWithNamingAndRollover() throws IOException {
+		TextFileWriter writer = new TextFileWriter(getConfiguration(), testDefaultPath, null);
+		writer.setFileNamingStrategy(new RollingFileNamingStrategy());
+		writer.setRolloverStrategy(new SizeRolloverStrategy(40));
+		writer.setIdleTimeout(10000);
+
+		// rollover is checked once per batch
+		writer.writeBatch(Arrays.asList(DATA09ARRAY).subList(0, 5));
+		writer.writeBatch(Arrays.asList(DATA09ARRAY).subList(5, DATA09ARRAY.length));
+		writer.flush();
+		writer.close();
+
+		TextFileReader reader1 = new TextFileReader(getConfiguration(), new Path(testDefaultPath, "0"), null);
+		List<String> splitData1 = TestUtils.readData(reader1);
+		TextFileReader reader2 = new TextFileReader(getConfiguration(), new Path(testDefaultPath, "1"), null);
+		List<String> splitData2 = TestUtils.readData(reader2);
+
+		assertThat(splitData1.size(), is(5));
+		assertThat(splitData2.size(), is(DATA09ARRAY.length - 5));
+	}
+
+	@Test
+	public void testWriteReadManyLinesWithNamingAndAsyncRollover() throws IOException {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(2);
+		executor.afterPropertiesSet();
+
+		TextFileWriter writer = new TextFileWriter(getConfiguration(), testDefaultPath, null);
+		writer.setFileNamingStrategy(new RollingFileNamingStrategy());
+		writer.setRolloverStrategy(new SizeRolloverStrategy(40));
+		writer.setInWritingSuffix(".tmp");
+		writer.setRolloverFinalizerExecutor(executor);
+		writer.setMaxPendingFinalizations(1);
+
+		TestUtils.writeData(writer, DATA09ARRAY);
+		executor.shutdown();
+
+		TextFileReader reader1 = new TextFileReader(getConfiguration(), new Path(testDefaultPath, "0"), null);
+		List<String> splitData1 = TestUtils.readData(reader1);
+
+		TextFileReader reader2 = new TextFileReader(getConfiguration(), new Path(testDefaultPath, "1"), null);
+		List<String> splitData2 = TestUtils.readData(reader2);
+
+		TextFileReader reader3 = new TextFileReader(getConfiguration(), new Path(testDefaultPath, "2"), null);
+		List<String> splitData3 = TestUtils.readData(reader3);
+
+		assertThat(splitData1.size() + splitData2.size() + splitData3.size(), is(DATA09ARRAY.length));
+	}
+
 	@Test
 	public void testWriteReadManyLinesWithNamingAndRolloverWithGzip() throws IOException {
 
@@ -271,6 +447,90 @@ public class TextFileStoreTests extends AbstractStoreTests {
 		assertThat(splitData1.size() + splitData2.size() + splitData3.size(), is(3));
 	}
 
+	@Test
+	public void testContinueStrategiesWithIncrementalInit() throws Exception {
+		// files data-0 to data-10 with one line each
+		TextFileWriter writer = new TextFileWriter(getConfiguration(), testDefaultPath, null);
+		ChainedFileNamingStrategy fileNamingStrategy = new ChainedFileNamingStrategy();
+		fileNamingStrategy.register(new StaticFileNamingStrategy("data"));
+		fileNamingStrategy.register(new RollingFileNamingStrategy());
+		writer.setFileNamingStrategy(fileNamingStrategy);
+		writer.setRolloverStrategy(new RecordCountRolloverStrategy(1));
+		for (int i = 0; i < 11; i++) {
+			writer.write(DATA10);
+		}
+		writer.close();
+
+		writer = new TextFileWriter(getConfiguration(), testDefaultPath, null);
+		fileNamingStrategy = new ChainedFileNamingStrategy();
+		fileNamingStrategy.register(new StaticFileNamingStrategy("data"));
+		fileNamingStrategy.register(new RollingFileNamingStrategy());
+		writer.setFileNamingStrategy(fileNamingStrategy);
+		writer.setInWritingSuffix(".tmp");
+		writer.setIncrementalInit(true);
+		writer.afterPropertiesSet();
+		assertThat(writer.getOutputContext().getRollIndex(), is(11));
+		writer.write(DATA11);
+		assertThat(testDefaultPath.getFileSystem(getConfiguration()).exists(new Path(testDefaultPath, "data-11.tmp")), is(true));
+		writer.close();
+
+		// probing from a hint past existing files
+		writer = new TextFileWriter(getConfiguration(), testDefaultPath, null);
+		fileNamingStrategy = new ChainedFileNamingStrategy();
+		fileNamingStrategy.register(new StaticFileNamingStrategy("data"));
+		fileNamingStrategy.register(new RollingFileNamingStrategy());
+		writer.setFileNamingStrategy(fileNamingStrategy);
+		writer.setIncrementalInit(true);
+		writer.setInitIndexHint(5);
+		writer.write(DATA12);
+		writer.close();
+
+		TextFileReader reader = new TextFileReader(getConfiguration(), new Path(testDefaultPath, "data-11"), null);
+		TestUtils.readDataAndAssert(reader, new String[] { DATA11 });
+		reader = new TextFileReader(getConfiguration(), new Path(testDefaultPath, "data-12"), null);
+		TestUtils.readDataAndAssert(reader, new String[] { DATA12 });
+	}
+
+	@Test
+	public void testOptimisticOpenRollsOverExistingPaths() throws Exception {
+		TextFileWriter writer = new TextFileWriter(getConfiguration(), testDefaultPath, null);
+		writer.setFileNamingStrategy(new RollingFileNamingStrategy());
+		writer.setOptimisticOpen(true);
+		writer.afterPropertiesSet();
+
+		// paths appear after writer has been initialised
+		FileSystem fs = testDefaultPath.getFileSystem(getConfiguration());
+		fs.create(new Path(testDefaultPath, "0")).close();
+		fs.create(new Path(testDefaultPath, "1")).close();
+
+		TestUtils.writeData(writer, DATA09ARRAY);
+
+		assertThat(fs.getFileStatus(new Path(testDefaultPath, "0")).getLen(), is(0l));
+		assertThat(fs.getFileStatus(new Path(testDefaultPath, "1")).getLen(), is(0l));
+		TextFileReader reader = new TextFileReader(getConfiguration(), new Path(testDefaultPath, "2"), null);
+		TestUtils.readDataAndAssert(reader, DATA09ARRAY);
+	}
+
+	@Test
+	public void testOptimisticOpenDoesntOverwriteFinalPath() throws Exception {
+		TextFileWriter writer = new TextFileWriter(getConfiguration(), testDefaultPath, null);
+		writer.setFileNamingStrategy(new RollingFileNamingStrategy());
+		writer.setInWritingSuffix(".tmp");
+		writer.setOptimisticOpen(true);
+		writer.afterPropertiesSet();
+
+		FileSystem fs = testDefaultPath.getFileSystem(getConfiguration());
+		fs.create(new Path(testDefaultPath, "0")).close();
+		fs.create(new Path(testDefaultPath, "1.tmp")).close();
+
+		TestUtils.writeData(writer, DATA09ARRAY);
+
+		assertThat(fs.getFileStatus(new Path(testDefaultPath, "0")).getLen(), is(0l));
+		assertThat(fs.getFileStatus(new Path(testDefaultPath, "1.tmp")).getLen(), is(0l));
+		TextFileReader reader = new TextFileReader(getConfiguration(), new Path(testDefaultPath, "2"), null);
+		TestUtils.readDataAndAssert(reader, DATA09ARRAY);
+	}
+
 	@Test
 	public void testHdfsAvailableAfterWriterInits() throws Exception {
 		Configuration failConfiguration = new Configuration();
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.codec;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.apache.hadoop.conf.Configurable;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.compress.CodecPool;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.Compressor;
+import org.apache.hadoop.io.compress.DefaultCodec;
+import org.apache.hadoop.io.compress.Lz4Codec;
+import org.apache.hadoop.io.compress.zlib.ZlibCompressor.CompressionLevel;
+import org.apache.hadoop.io.compress.zlib.ZlibFactory;
+import org.junit.Test;
+import org.springframework.data.hadoop.store.StoreException;
+
+/**
+ * Tests for {@link CompressionCodecCache}.
+ */
+public class CompressionCodecCacheTests {
+
+	private final static CodecInfo DEFLATE = new DefaultCodecInfo(DefaultCodec.class.getName(), false, "deflate");
+
+	@Test
+	public void testSameInstanceForSameInfo() {
+		Configuration configuration = new Configuration();
+		CompressionCodec codec1 = CompressionCodecCache.getCodec(DEFLATE, configuration);
+		CompressionCodec codec2 = CompressionCodecCache.getCodec(
+				new DefaultCodecInfo(DefaultCodec.class.getName(), false, "deflate"), configuration);
+		assertThat(codec1, sameInstance(codec2));
+		assertThat(CompressionCodecCache.getCodec(DEFLATE, new Configuration()), not(sameInstance(codec1)));
+		assertThat(CompressionCodecCache.getCodec(new DefaultCodecInfo(DEFLATE, 1, null), configuration),
+				not(sameInstance(codec1)));
+	}
+
+	@Test
+	public void testPlainCodecInfoWithoutTunables() {
+		CodecInfo plain = new CodecInfo() {
+
+			@Override
+			public boolean isSplittable() {
+				return false;
+			}
+
+			@Override
+			public String getCodecClass() {
+				return DefaultCodec.class.getName();
+			}
+
+			@Override
+			public String getDefaultSuffix() {
+				return "deflate";
+			}
+		};
+		Configuration configuration = new Configuration();
+		assertThat(CompressionCodecCache.getCodec(plain, configuration),
+				sameInstance(CompressionCodecCache.getCodec(DEFLATE, configuration)));
+	}
+
+	@Test
+	public void testCacheIsBounded() {
+		Configuration configuration = new Configuration();
+		CompressionCodec codec = CompressionCodecCache.getCodec(DEFLATE, configuration);
+		// codecs reference their configurations so only a bounded
+		// number of configurations may be kept reachable
+		for (int i = 0; i < CompressionCodecCache.MAX_CACHED_CODECS * 2; i++) {
+			CompressionCodecCache.getCodec(DEFLATE, new Configuration(false));
+			assertThat(CompressionCodecCache.size() <= CompressionCodecCache.MAX_CACHED_CODECS, is(true));
+		}
+		assertThat(CompressionCodecCache.getCodec(DEFLATE, configuration), not(sameInstance(codec)));
+	}
+
+	@Test
+	public void testTunablesApplied() {
+		Configuration configuration = new Configuration();
+		CompressionCodec codec = CompressionCodecCache.getCodec(new DefaultCodecInfo(DEFLATE, 9, 8192),
+				configuration);
+		Configuration conf = ((Configurable) codec).getConf();
+		assertThat(ZlibFactory.getCompressionLevel(conf), is(CompressionLevel.BEST_COMPRESSION));
+		assertThat(conf.getInt("io.file.buffer.size", 0), is(8192));
+		// original configuration is not touched
+		assertThat(ZlibFactory.getCompressionLevel(configuration), is(CompressionLevel.DEFAULT_COMPRESSION));
+
+		codec = CompressionCodecCache.getCodec(new DefaultCodecInfo(Codecs.LZ4.getCodecInfo(), 9, 65536),
+				configuration);
+		conf = ((Configurable) codec).getConf();
+		assertThat(codec, instanceOf(Lz4Codec.class));
+		assertThat(conf.getBoolean("io.compression.codec.lz4.use.lz4hc", false), is(true));
+		assertThat(conf.getInt("io.compression.codec.lz4.buffersize", 0), is(65536));
+	}
+
+	@Test
+	public void testCompressionLevelAffectsOutput() throws IOException {
+		Configuration configuration = new Configuration();
+		byte[] data = new byte[64 * 1024];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = (byte) ('a' + (i % 7));
+		}
+		int stored = compress(CompressionCodecCache.getCodec(new DefaultCodecInfo(DEFLATE, 0, null), configuration),
+				data);
+		int best = compress(CompressionCodecCache.getCodec(new DefaultCodecInfo(DEFLATE, 9, null), configuration),
+				data);
+		assertThat(stored, greaterThan(data.length));
+		assertThat(stored, greaterThan(best * 10));
+	}
+
+	@Test
+	public void testNewCodecsRegistered() {
+		assertThat(Codecs.get("lz4"), is(Codecs.LZ4));
+		assertThat(Codecs.get("zstandard"), is(Codecs.ZSTD));
+		assertThat(Codecs.getCodecInfo("zstd").getDefaultSuffix(), is("zst"));
+		assertThat(Codecs.LZ4.isAvailable(), is(true));
+	}
+
+	@Test
+	public void testMissingCodecClassFailsClearly() {
+		try {
+			CompressionCodecCache.getCodec(new DefaultCodecInfo("com.example.NoSuchCodec", false, "x"),
+					new Configuration());
+			fail("Missing codec class should fail");
+		} catch (StoreException e) {
+			assertThat(e.getMessage(), containsString("com.example.NoSuchCodec"));
+		}
+	}
+
+	@Test
+	public void testZstdNeedsNewerHadoop() {
+		assumeThat(Codecs.ZSTD.isAvailable(), is(false));
+		try {
+			CompressionCodecCache.getCodec(Codecs.ZSTD.getCodecInfo(), new Configuration());
+			fail("ZStandard codec should not be available");
+		} catch (StoreException e) {
+			assertThat(e.getMessage(), containsString("hadoop 2.9"));
+		}
+	}
+
+	private static int compress(CompressionCodec codec, byte[] data) throws IOException {
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		Compressor compressor = CompressionCodecCache.getCompressor(codec);
+		try {
+			OutputStream out = codec.createOutputStream(bout, compressor);
+			out.write(data);
+			out.close();
+		} finally {
+			CodecPool.returnCompressor(compressor);
+		}
+		return bout.size();
+	}
+
+}
@@ -22,6 +22,7 @@ import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Test;
@@ -30,6 +31,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.hadoop.config.annotation.EnableHadoop;
 import org.springframework.data.hadoop.config.annotation.SpringHadoopConfigurerAdapter;
 import org.springframework.data.hadoop.config.annotation.builders.HadoopConfigConfigurer;
@@ -41,6 +43,14 @@ import org.springframework.data.hadoop.store.output.PartitionTextFileWriter;
 import org.springframework.data.hadoop.store.partition.PartitionKeyResolver;
 import org.springframework.data.hadoop.store.partition.PartitionResolver;
 import org.springframework.data.hadoop.store.partition.PartitionStrategy;
+import org.springframework.data.hadoop.store.strategy.rollover.ChainedRolloverStrategy;
+import org.springframework.data.hadoop.store.strategy.rollover.RecordCountRolloverStrategy;
+import org.springframework.data.hadoop.store.strategy.rollover.RolloverStrategy;
+import org.springframework.data.hadoop.store.strategy.rollover.SizeRolloverStrategy;
+import org.springframework.data.hadoop.store.strategy.rollover.TimeIntervalRolloverStrategy;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
 
 public class SpringTextWriterConfigurationTests {
 
@@ -48,6 +58,7 @@ public class SpringTextWriterConfigurationTests {
 	private final static String WRITER1_ID_ALIAS = "dataStoreWriter1Alias";
 	private final static String WRITER2_ID = "dataStoreWriter2";
 	private final static String WRITER5_ID = "dataStoreWriter5";
+	private final static String WRITER6_ID = "dataStoreWriter6";
 
 	@Test
 	public void testBaseConfigWithHadoopConfiguration() throws Exception {
@@ -130,6 +141,27 @@ public class SpringTextWriterConfigurationTests {
 		ctx.close();
 	}
 
+	@Test
+	public void testRolloverStrategies() throws Exception {
+		AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext(Config6.class,
+				ConfigurationConfig.class);
+		Object writer = ctx.getBean(WRITER6_ID);
+		assertNotNull(writer);
+		Object context = TestUtils.readField("outputContext", writer);
+		Object strategy = TestUtils.readField("rolloverStrategy", context);
+		assertThat(strategy, instanceOf(ChainedRolloverStrategy.class));
+		List<? extends RolloverStrategy> strategies = ((ChainedRolloverStrategy) strategy).getStrategies();
+		assertThat(strategies.size(), is(3));
+		assertThat(strategies.get(0), instanceOf(SizeRolloverStrategy.class));
+		// a second size replaces a first one
+		assertThat(TestUtils.<Long>readField("rolloverSize", strategies.get(0)), is(2048l));
+		assertThat(strategies.get(1), instanceOf(TimeIntervalRolloverStrategy.class));
+		assertThat(strategies.get(2), instanceOf(RecordCountRolloverStrategy.class));
+		Long checkInterval = TestUtils.readField("rolloverCheckInterval", writer);
+		assertThat(checkInterval, is(1000l));
+		ctx.close();
+	}
+
 	@Configuration
 	@EnableDataStoreTextWriter(name={WRITER1_ID, WRITER1_ID_ALIAS})
 	static class Config1 extends SpringDataStoreTextWriterConfigurerAdapter {
@@ -178,6 +210,33 @@ public class SpringTextWriterConfigurationTests {
 
 	}
 
+	@Configuration
+	@EnableDataStoreTextWriter(name=WRITER6_ID)
+	static class Config6 extends SpringDataStoreTextWriterConfigurerAdapter {
+
+		@Override
+		public void configure(DataStoreTextWriterConfigurer config) throws Exception {
+			config
+				.basePath("/tmp/foo6")
+				.withRolloverStrategy()
+					.size(1024)
+					.interval("5m")
+					.records(1000)
+					.size(2048);
+		}
+
+		@Bean
+		public TaskScheduler taskScheduler() {
+			return new ConcurrentTaskScheduler();
+		}
+
+		@Bean
+		public TaskExecutor taskExecutor() {
+			return new ConcurrentTaskExecutor();
+		}
+
+	}
+
 	@Configuration
 	@EnableDataStorePartitionTextWriter(name=WRITER5_ID)
 	static class Config5 extends SpringDataStoreTextWriterConfigurerAdapter {
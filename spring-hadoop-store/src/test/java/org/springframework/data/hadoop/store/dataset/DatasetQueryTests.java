@@ -0,0 +1,246 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.dataset;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.reflect.ReflectData;
+import org.apache.avro.util.Utf8;
+import org.apache.hadoop.conf.Configuration;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.hadoop.store.StoreException;
+
+/**
+ * Tests for {@link DatasetQuery} using a local file system repository.
+ */
+public class DatasetQueryTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testParquetProjection() throws Exception {
+		DatasetTemplate template = createTemplate("parquet");
+		Collection<SimplePojo> results = template.read(SimplePojo.class, new DatasetQuery().select("id"));
+		assertThat(results.size(), is(100));
+		for (SimplePojo pojo : results) {
+			assertThat(pojo.getId(), notNullValue());
+			assertThat(pojo.getName(), nullValue());
+			assertThat(pojo.getBirthDate(), nullValue());
+		}
+	}
+
+	@Test
+	public void testParquetFilters() throws Exception {
+		DatasetTemplate template = createTemplate("parquet");
+		Collection<SimplePojo> results = template.read(SimplePojo.class,
+				new DatasetQuery().select("id").where(FieldFilter.ge("id", 10)).where(FieldFilter.lt("id", 20L)));
+		assertThat(results.size(), is(10));
+		for (SimplePojo pojo : results) {
+			assertThat(pojo.getId() >= 10 && pojo.getId() < 20, is(true));
+			assertThat(pojo.getName(), nullValue());
+		}
+
+		results = template.read(SimplePojo.class, new DatasetQuery().where(FieldFilter.eq("name", "name42")));
+		assertThat(results.size(), is(1));
+		SimplePojo pojo = results.iterator().next();
+		assertThat(pojo.getId(), is(42L));
+		assertThat(pojo.getName(), is("name42"));
+		assertThat(pojo.getBirthDate(), is(42000L));
+	}
+
+	@Test
+	public void testParquetNullFilters() throws Exception {
+		DatasetTemplate template = createTemplate("parquet");
+		Collection<SimplePojo> results = template.read(SimplePojo.class,
+				new DatasetQuery().select("id").where(FieldFilter.isNull("birthDate")));
+		assertThat(results.size(), is(50));
+		results = template.read(SimplePojo.class, new DatasetQuery().where(FieldFilter.gt("birthDate", 0)));
+		assertThat(results.size(), is(49));
+		results = template.read(SimplePojo.class, new DatasetQuery().where(FieldFilter.eq("name", "nomatch")));
+		assertThat(results.size(), is(0));
+	}
+
+	@Test
+	public void testAvroQuery() throws Exception {
+		DatasetTemplate template = createTemplate("avro");
+		final List<SimplePojo> results = new ArrayList<SimplePojo>();
+		template.read(SimplePojo.class, new RecordCallback<SimplePojo>() {
+
+			@Override
+			public void doInRecord(SimplePojo record) {
+				results.add(record);
+			}
+		}, new DatasetQuery().select(ProjectionPojo.class).where(FieldFilter.lt("id", 5)));
+		assertThat(results.size(), is(5));
+		for (SimplePojo pojo : results) {
+			assertThat(pojo.getId() < 5, is(true));
+			assertThat(pojo.getName(), notNullValue());
+		}
+	}
+
+	@Test
+	public void testParquetEnumFilter() throws Exception {
+		assertEnumFilter(createColorTemplate("parquet"));
+	}
+
+	@Test
+	public void testAvroEnumFilter() throws Exception {
+		assertEnumFilter(createColorTemplate("avro"));
+	}
+
+	@Test(expected = StoreException.class)
+	public void testUnknownField() throws Exception {
+		DatasetTemplate template = createTemplate("parquet");
+		template.read(SimplePojo.class, new DatasetQuery().select("foo"));
+	}
+
+	@Test
+	public void testFieldFilterMatches() {
+		Schema schema = ReflectData.AllowNull.get().getSchema(SimplePojo.class);
+		GenericRecord record = new GenericData.Record(schema);
+		record.put("id", 10L);
+		record.put("name", new Utf8("jee"));
+		assertThat(FieldFilter.eq("id", 10).matches(record), is(true));
+		assertThat(FieldFilter.lt("id", 10.5d).matches(record), is(true));
+		assertThat(FieldFilter.ne("id", 10L).matches(record), is(false));
+		assertThat(FieldFilter.eq("name", "jee").matches(record), is(true));
+		assertThat(FieldFilter.gt("name", "jed").matches(record), is(true));
+		assertThat(FieldFilter.isNull("birthDate").matches(record), is(true));
+		assertThat(FieldFilter.ne("birthDate", 1L).matches(record), is(false));
+
+		Schema colorSchema = ReflectData.get().getSchema(ColorPojo.class);
+		GenericRecord colorRecord = new GenericData.Record(colorSchema);
+		colorRecord.put("color", new GenericData.EnumSymbol(colorSchema.getField("color").schema(), "GREEN"));
+		assertThat(FieldFilter.eq("color", "GREEN").matches(colorRecord), is(true));
+		assertThat(FieldFilter.ne("color", "GREEN").matches(colorRecord), is(false));
+	}
+
+	@Test
+	public void testReadSchema() {
+		Schema schema = ReflectData.AllowNull.get().getSchema(SimplePojo.class);
+		Schema readSchema = new DatasetQuery().select("name").where(FieldFilter.eq("id", 1)).getReadSchema(schema);
+		assertThat(readSchema.getFields().size(), is(2));
+		assertThat(readSchema.getFields().get(0).name(), is("id"));
+		assertThat(readSchema.getFields().get(1).name(), is("name"));
+		assertThat(new DatasetQuery().where(FieldFilter.eq("id", 1)).getReadSchema(schema), is(schema));
+	}
+
+	private void assertEnumFilter(DatasetTemplate template) {
+		Collection<ColorPojo> results = template.read(ColorPojo.class,
+				new DatasetQuery().where(FieldFilter.eq("color", "GREEN")));
+		assertThat(results.size(), is(10));
+		for (ColorPojo pojo : results) {
+			assertThat(pojo.getColor(), is(Color.GREEN));
+		}
+		results = template.read(ColorPojo.class, new DatasetQuery().where(FieldFilter.ne("color", "GREEN")));
+		assertThat(results.size(), is(20));
+	}
+
+	private DatasetTemplate createColorTemplate(String format) throws Exception {
+		DatasetTemplate template = createTemplate(format, false);
+		List<ColorPojo> records = new ArrayList<ColorPojo>();
+		for (long i = 0; i < 30; i++) {
+			records.add(new ColorPojo(i, Color.values()[(int) (i % 3)]));
+		}
+		template.write(records);
+		return template;
+	}
+
+	private DatasetTemplate createTemplate(String format) throws Exception {
+		DatasetTemplate template = createTemplate(format, true);
+		List<SimplePojo> records = new ArrayList<SimplePojo>();
+		for (long i = 0; i < 100; i++) {
+			records.add(new SimplePojo(i, "name" + i, i % 2 == 0 ? i * 1000 : null));
+		}
+		template.write(records);
+		return template;
+	}
+
+	private DatasetTemplate createTemplate(String format, boolean allowNullValues) throws Exception {
+		DatasetRepositoryFactory factory = new DatasetRepositoryFactory();
+		Configuration configuration = new Configuration();
+		configuration.set("fs.defaultFS", "file:///");
+		factory.setConf(configuration);
+		factory.setBasePath(folder.getRoot().toURI().toString());
+		factory.setNamespace("test");
+		factory.afterPropertiesSet();
+		DatasetTemplate template = new DatasetTemplate(factory, new DatasetDefinition(allowNullValues, format));
+		template.afterPropertiesSet();
+		return template;
+	}
+
+	public enum Color {
+		RED, GREEN, BLUE
+	}
+
+	public static class ColorPojo {
+
+		private Long id;
+
+		private Color color;
+
+		public ColorPojo() {
+		}
+
+		public ColorPojo(Long id, Color color) {
+			this.id = id;
+			this.color = color;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public Color getColor() {
+			return color;
+		}
+
+		public void setColor(Color color) {
+			this.color = color;
+		}
+	}
+
+	public static class ProjectionPojo {
+
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+}
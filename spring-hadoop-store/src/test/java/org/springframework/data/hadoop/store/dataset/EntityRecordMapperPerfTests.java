@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.dataset;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.GenericRecordBuilder;
+import org.apache.avro.reflect.ReflectData;
+import org.junit.Test;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.hadoop.test.tests.Assume;
+import org.springframework.data.hadoop.test.tests.TestGroup;
+import org.springframework.util.StopWatch;
+
+/**
+ * Performance tests for {@link EntityRecordMapper} compared to
+ * converting entities with a {@link BeanWrapper}.
+ */
+public class EntityRecordMapperPerfTests {
+
+	private final int COUNT = 1000000;
+
+	@Test
+	public void testToRecord() {
+		Assume.group(TestGroup.PERFORMANCE);
+		Schema schema = ReflectData.AllowNull.get().getSchema(SimplePojo.class);
+		EntityRecordMapper<SimplePojo> mapper = new EntityRecordMapper<SimplePojo>(SimplePojo.class, schema);
+		SimplePojo pojo = new SimplePojo(1L, "name", 2L);
+
+		StopWatch sw = new StopWatch("testToRecord");
+		sw.start("beanWrapper");
+		for (int i = 0; i < COUNT; i++) {
+			GenericRecordBuilder builder = new GenericRecordBuilder(schema);
+			BeanWrapper beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(pojo);
+			for (Schema.Field f : schema.getFields()) {
+				if (beanWrapper.isReadableProperty(f.name())) {
+					builder.set(f.name(), beanWrapper.getPropertyValue(f.name()));
+				}
+			}
+			builder.build();
+		}
+		sw.stop();
+		sw.start("mapper");
+		for (int i = 0; i < COUNT; i++) {
+			mapper.toRecord(pojo);
+		}
+		sw.stop();
+		System.out.println(sw.prettyPrint());
+	}
+
+	@Test
+	public void testToEntity() {
+		Assume.group(TestGroup.PERFORMANCE);
+		Schema schema = ReflectData.AllowNull.get().getSchema(SimplePojo.class);
+		EntityRecordMapper<SimplePojo> mapper = new EntityRecordMapper<SimplePojo>(SimplePojo.class, schema);
+		GenericRecord record = mapper.toRecord(new SimplePojo(1L, "name", 2L));
+
+		StopWatch sw = new StopWatch("testToEntity");
+		sw.start("beanWrapper");
+		for (int i = 0; i < COUNT; i++) {
+			SimplePojo pojo = new SimplePojo();
+			BeanWrapper beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(pojo);
+			for (Schema.Field f : schema.getFields()) {
+				if (beanWrapper.isWritableProperty(f.name())) {
+					beanWrapper.setPropertyValue(f.name(), record.get(f.name()));
+				}
+			}
+		}
+		sw.stop();
+		sw.start("mapper");
+		for (int i = 0; i < COUNT; i++) {
+			mapper.toEntity(record);
+		}
+		sw.stop();
+		System.out.println(sw.prettyPrint());
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.dataset;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.nio.ByteBuffer;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.reflect.ReflectData;
+import org.apache.avro.util.Utf8;
+import org.junit.Test;
+import org.springframework.data.hadoop.store.StoreException;
+
+/**
+ * Tests for {@link EntityRecordMapper}.
+ */
+public class EntityRecordMapperTests {
+
+	@Test
+	public void testRoundTrip() {
+		Schema schema = ReflectData.AllowNull.get().getSchema(SimplePojo.class);
+		EntityRecordMapper<SimplePojo> mapper = new EntityRecordMapper<SimplePojo>(SimplePojo.class, schema);
+
+		GenericRecord record = mapper.toRecord(new SimplePojo(1L, "jee", 2L));
+		assertThat((Long) record.get("id"), is(1L));
+		assertThat((String) record.get("name"), is("jee"));
+		assertThat((Long) record.get("birthDate"), is(2L));
+
+		SimplePojo pojo = mapper.toEntity(record);
+		assertThat(pojo.getId(), is(1L));
+		assertThat(pojo.getName(), is("jee"));
+		assertThat(pojo.getBirthDate(), is(2L));
+	}
+
+	@Test
+	public void testNullValues() {
+		Schema schema = ReflectData.AllowNull.get().getSchema(SimplePojo.class);
+		EntityRecordMapper<SimplePojo> mapper = new EntityRecordMapper<SimplePojo>(SimplePojo.class, schema);
+
+		GenericRecord record = mapper.toRecord(new SimplePojo(1L, null, null));
+		assertThat(record.get("name"), nullValue());
+
+		SimplePojo pojo = mapper.toEntity(record);
+		assertThat(pojo.getId(), is(1L));
+		assertThat(pojo.getName(), nullValue());
+		assertThat(pojo.getBirthDate(), nullValue());
+	}
+
+	@Test
+	public void testConvertsRecordValues() {
+		Schema schema = ReflectData.AllowNull.get().getSchema(SimplePojo.class);
+		EntityRecordMapper<SimplePojo> mapper = new EntityRecordMapper<SimplePojo>(SimplePojo.class, schema);
+
+		GenericRecord record = new GenericData.Record(schema);
+		record.put("id", 1);
+		record.put("name", new Utf8("jee"));
+		record.put("birthDate", "3");
+
+		SimplePojo pojo = mapper.toEntity(record);
+		assertThat(pojo.getId(), is(1L));
+		assertThat(pojo.getName(), is("jee"));
+		assertThat(pojo.getBirthDate(), is(3L));
+	}
+
+	@Test
+	public void testBytes() {
+		Schema schema = ReflectData.AllowNull.get().getSchema(BytesPojo.class);
+		EntityRecordMapper<BytesPojo> mapper = new EntityRecordMapper<BytesPojo>(BytesPojo.class, schema);
+
+		BytesPojo pojo = new BytesPojo();
+		pojo.setData(new byte[] { 1, 2, 3 });
+		GenericRecord record = mapper.toRecord(pojo);
+		assertThat(record.get("data"), is((Object) ByteBuffer.wrap(new byte[] { 1, 2, 3 })));
+	}
+
+	@Test(expected = StoreException.class)
+	public void testNestedRecordNotSupported() {
+		Schema schema = ReflectData.AllowNull.get().getSchema(NestedPojo.class);
+		EntityRecordMapper<NestedPojo> mapper = new EntityRecordMapper<NestedPojo>(NestedPojo.class, schema);
+		NestedPojo pojo = new NestedPojo();
+		pojo.setPojo(new SimplePojo(1L, "jee", 2L));
+		mapper.toRecord(pojo);
+	}
+
+	public static class BytesPojo {
+
+		private byte[] data;
+
+		public byte[] getData() {
+			return data;
+		}
+
+		public void setData(byte[] data) {
+			this.data = data;
+		}
+	}
+
+	public static class NestedPojo {
+
+		private SimplePojo pojo;
+
+		public SimplePojo getPojo() {
+			return pojo;
+		}
+
+		public void setPojo(SimplePojo pojo) {
+			this.pojo = pojo;
+		}
+	}
+
+}
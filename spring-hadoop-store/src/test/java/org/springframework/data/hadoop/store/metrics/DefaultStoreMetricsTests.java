@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.metrics;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.apache.hadoop.fs.Path;
+import org.junit.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.jmx.export.annotation.AnnotationMBeanExporter;
+
+/**
+ * Tests for {@link DefaultStoreMetrics}.
+ */
+public class DefaultStoreMetricsTests {
+
+	@Test
+	public void testCountersAndLatencies() {
+		DefaultStoreMetrics metrics = new DefaultStoreMetrics();
+		Path path = new Path("/tmp/foo");
+		metrics.streamOpened(path);
+		metrics.streamOpened(path);
+		metrics.streamClosed(path);
+		metrics.recordWrite(2, 20);
+		metrics.recordWrite(1, 0);
+		metrics.recordRename(TimeUnit.MILLISECONDS.toNanos(2));
+		metrics.recordRename(TimeUnit.MILLISECONDS.toNanos(4));
+		metrics.recordIdleTimeout();
+
+		assertThat(metrics.getOpenStreams(), is(1l));
+		assertThat(metrics.getOpenedStreams(), is(2l));
+		assertThat(metrics.getWrittenRecords(), is(3l));
+		assertThat(metrics.getWrittenBytes(), is(20l));
+		assertThat(metrics.getRenameCount(), is(2l));
+		assertThat(metrics.getRenameTimeAvg(), is(3d));
+		assertThat(metrics.getRenameTimeMax(), is(4d));
+		assertThat(metrics.getIdleTimeouts(), is(1l));
+		assertThat(metrics.getWrittenRecordsPerSecond() > 0, is(true));
+
+		metrics.reset();
+		assertThat(metrics.getOpenStreams(), is(1l));
+		assertThat(metrics.getOpenedStreams(), is(0l));
+		assertThat(metrics.getWrittenRecords(), is(0l));
+		assertThat(metrics.getRenameCount(), is(0l));
+		assertThat(metrics.getRenameTimeMax(), is(0d));
+		assertThat(metrics.getRenameTimeAvg(), is(0d));
+	}
+
+	@Test
+	public void testOpenPaths() {
+		DefaultStoreMetrics metrics = new DefaultStoreMetrics();
+		Path path1 = new Path("/tmp/foo");
+		Path path2 = new Path("/tmp/bar");
+		metrics.streamOpened(path1);
+		metrics.streamOpened(path1);
+		metrics.streamOpened(path2);
+		assertThat(metrics.getOpenPaths(), is(new String[] { "/tmp/bar", "/tmp/foo" }));
+
+		metrics.streamClosed(path1);
+		metrics.streamClosed(path2);
+		assertThat(metrics.getOpenPaths(), is(new String[] { "/tmp/foo" }));
+		metrics.reset();
+		assertThat(metrics.getOpenPaths(), is(new String[] { "/tmp/foo" }));
+		metrics.streamClosed(path1);
+		assertThat(metrics.getOpenPaths(), is(new String[0]));
+	}
+
+	@Test
+	public void testRatesReset() {
+		DefaultStoreMetrics metrics = new DefaultStoreMetrics();
+		metrics.recordWrite(100, 1000);
+		metrics.recordRead(10, 100);
+		assertThat(metrics.getWrittenRecordsPerSecond() > 0, is(true));
+		assertThat(metrics.getWrittenBytesPerSecond() > metrics.getWrittenRecordsPerSecond(), is(true));
+		assertThat(metrics.getReadRecordsPerSecond() > 0, is(true));
+
+		metrics.reset();
+		assertThat(metrics.getWrittenRecordsPerSecond(), is(0d));
+		assertThat(metrics.getReadBytesPerSecond(), is(0d));
+	}
+
+	@Test
+	public void testJmxExport() throws Exception {
+		MBeanServer server = MBeanServerFactory.newMBeanServer();
+		AnnotationMBeanExporter exporter = new AnnotationMBeanExporter();
+		exporter.setServer(server);
+		exporter.setBeanFactory(new DefaultListableBeanFactory());
+		exporter.afterPropertiesSet();
+		exporter.afterSingletonsInstantiated();
+
+		DefaultStoreMetrics metrics = new DefaultStoreMetrics();
+		ObjectName name = new ObjectName("org.springframework.data.hadoop.store:type=StoreMetrics");
+		exporter.registerManagedResource(metrics, name);
+		metrics.recordWrite(5, 50);
+
+		assertThat((Long) server.getAttribute(name, "WrittenRecords"), is(5l));
+		assertThat((Long) server.getAttribute(name, "WrittenBytes"), is(50l));
+		server.invoke(name, "reset", null, null);
+		assertThat((Long) server.getAttribute(name, "WrittenRecords"), is(0l));
+		exporter.destroy();
+	}
+
+}
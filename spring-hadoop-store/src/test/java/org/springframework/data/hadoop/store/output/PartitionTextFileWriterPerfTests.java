@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.output;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.apache.hadoop.fs.Path;
+import org.junit.Test;
+import org.springframework.data.hadoop.store.AbstractStoreTests;
+import org.springframework.data.hadoop.store.partition.PartitionKeyResolver;
+import org.springframework.data.hadoop.store.partition.PartitionResolver;
+import org.springframework.data.hadoop.store.partition.PartitionStrategy;
+import org.springframework.data.hadoop.test.context.HadoopDelegatingSmartContextLoader;
+import org.springframework.data.hadoop.test.context.MiniHadoopCluster;
+import org.springframework.data.hadoop.test.tests.Assume;
+import org.springframework.data.hadoop.test.tests.TestGroup;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.util.StopWatch;
+
+/**
+ * Performance tests for {@link PartitionTextFileWriter} comparing
+ * serialized and concurrent write modes.
+ */
+@ContextConfiguration(loader=HadoopDelegatingSmartContextLoader.class)
+@MiniHadoopCluster
+public class PartitionTextFileWriterPerfTests extends AbstractStoreTests {
+
+	private final int THREADS = 20;
+
+	private final int PARTITIONS = 20;
+
+	private final int COUNT = 20000;
+
+	@org.springframework.context.annotation.Configuration
+	static class Config {
+		// just empty to survive without xml configs
+	}
+
+	@Test
+	public void testSerializedWrites() throws Exception {
+		Assume.group(TestGroup.PERFORMANCE);
+		testPerformance("testSerializedWrites", false);
+	}
+
+	@Test
+	public void testConcurrentWrites() throws Exception {
+		Assume.group(TestGroup.PERFORMANCE);
+		testPerformance("testConcurrentWrites", true);
+	}
+
+	private void testPerformance(String name, boolean concurrent) throws Exception {
+		final PartitionTextFileWriter<String> writer = new PartitionTextFileWriter<String>(getConfiguration(),
+				new Path(testDefaultPath, name), null, new ThreadPartitionStrategy());
+		writer.setConcurrent(concurrent);
+
+		StopWatch sw = new StopWatch(name);
+		sw.start();
+		final CountDownLatch latch = new CountDownLatch(1);
+		ArrayList<Thread> joins = new ArrayList<Thread>();
+		for (int i = 0; i < THREADS; i++) {
+			final String partition = "partition" + (i % PARTITIONS);
+			Thread t = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						latch.await();
+						for (int j = 0; j < COUNT; j++) {
+							writer.write(DATA10, partition);
+						}
+					} catch (Exception e) {
+					}
+				}
+			});
+			joins.add(t);
+			t.start();
+		}
+		latch.countDown();
+		for (Thread t : joins) {
+			t.join();
+		}
+		sw.stop();
+		writer.flush();
+		writer.close();
+		System.out.println(sw.prettyPrint());
+		System.out.println("Writes/sec: " + ((long) THREADS * COUNT * 1000 / Math.max(1, sw.getTotalTimeMillis())));
+	}
+
+	private static class ThreadPartitionStrategy implements PartitionStrategy<String, String> {
+
+		@Override
+		public PartitionResolver<String> getPartitionResolver() {
+			return new PartitionResolver<String>() {
+
+				@Override
+				public Path resolvePath(String partitionKey) {
+					return new Path(partitionKey);
+				}
+			};
+		}
+
+		@Override
+		public PartitionKeyResolver<String, String> getPartitionKeyResolver() {
+			return new PartitionKeyResolver<String, String>() {
+
+				@Override
+				public String resolvePartitionKey(String entity) {
+					return null;
+				}
+			};
+		}
+	}
+
+}
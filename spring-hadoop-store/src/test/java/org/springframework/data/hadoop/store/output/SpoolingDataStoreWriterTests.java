@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.output;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.hadoop.store.DataStoreWriter;
+import org.springframework.data.hadoop.store.StoreException;
+
+/**
+ * Tests for {@link SpoolingDataStoreWriter}.
+ */
+public class SpoolingDataStoreWriterTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testFlushDrainsInOrder() throws IOException {
+		File dir = folder.newFolder();
+		TestWriter delegate = new TestWriter();
+		SpoolingDataStoreWriter<String> writer = createWriter(delegate, dir);
+		List<String> expected = writeData(writer, 0, 100);
+		writer.flush();
+
+		assertThat(delegate.entities, is(expected));
+		assertThat(delegate.flushes > 0, is(true));
+		assertThat(writer.getSpoolSize(), is(0l));
+		assertThat(writer.getPendingSegments(), is(0l));
+		assertThat(writer.getDrainedEntities(), is(100l));
+		assertThat(dir.list().length, is(0));
+		writer.close();
+		assertThat(delegate.closed, is(true));
+	}
+
+	@Test
+	public void testSealIntervalDrainsWithoutFlush() throws Exception {
+		TestWriter delegate = new TestWriter();
+		SpoolingDataStoreWriter<String> writer = createWriter(delegate, folder.newFolder());
+		writer.setSealInterval(100);
+		List<String> expected = writeData(writer, 0, 3);
+		for (int i = 0; i < 50 && delegate.entities.size() < 3; i++) {
+			Thread.sleep(100);
+		}
+		assertThat(delegate.entities, is(expected));
+		writer.close();
+	}
+
+	@Test
+	public void testFailedWritesRetried() throws IOException {
+		TestWriter delegate = new TestWriter();
+		delegate.failures = 3;
+		SpoolingDataStoreWriter<String> writer = createWriter(delegate, folder.newFolder());
+		writer.setRetryInterval(10);
+		List<String> expected = writeData(writer, 0, 10);
+		writer.flush();
+		assertThat(delegate.entities, is(expected));
+		writer.close();
+	}
+
+	@Test
+	public void testReplayAfterRestart() throws IOException {
+		File dir = folder.newFolder();
+		TestWriter failing = new TestWriter();
+		failing.failures = Integer.MAX_VALUE;
+		SpoolingDataStoreWriter<String> writer1 = createWriter(failing, dir);
+		writer1.setRetryInterval(10);
+		writer1.setDrainTimeout(200);
+		writer1.setSegmentSize(100);
+		List<String> expected = writeData(writer1, 0, 20);
+		writer1.close();
+		assertThat(failing.entities.size(), is(0));
+		assertThat(dir.list().length > 1, is(true));
+
+		TestWriter delegate = new TestWriter();
+		SpoolingDataStoreWriter<String> writer2 = createWriter(delegate, dir);
+		writer2.start();
+		expected.addAll(writeData(writer2, 20, 30));
+		writer2.flush();
+		assertThat(delegate.entities, is(expected));
+		assertThat(dir.list().length, is(0));
+		writer2.close();
+	}
+
+	@Test
+	public void testCorruptSegmentQuarantined() throws IOException {
+		File dir = folder.newFolder();
+		TestWriter failing = new TestWriter();
+		failing.failures = Integer.MAX_VALUE;
+		SpoolingDataStoreWriter<String> writer1 = createWriter(failing, dir);
+		writer1.setRetryInterval(10);
+		writer1.setDrainTimeout(200);
+		List<String> expected = writeData(writer1, 0, 10);
+		writer1.close();
+		File[] segments = dir.listFiles();
+		assertThat(segments.length, is(1));
+		RandomAccessFile file = new RandomAccessFile(segments[0], "rw");
+		try {
+			file.setLength(file.length() - 2);
+		} finally {
+			file.close();
+		}
+
+		TestWriter delegate = new TestWriter();
+		SpoolingDataStoreWriter<String> writer2 = createWriter(delegate, dir);
+		writer2.start();
+		writer2.flush();
+		assertThat(delegate.entities, is(expected.subList(0, 9)));
+		assertThat(writer2.getCorruptSegments(), is(1L));
+		assertThat(dir.list().length, is(1));
+		assertThat(dir.list()[0], endsWith(".corrupt"));
+		writer2.close();
+	}
+
+	@Test
+	public void testWriteBlocksWhenSpoolIsFull() throws Exception {
+		final TestWriter delegate = new TestWriter();
+		delegate.gate = new CountDownLatch(1);
+		final SpoolingDataStoreWriter<String> writer = createWriter(delegate, folder.newFolder());
+		writer.setSegmentSize(50);
+		writer.setMaxSpoolSize(200);
+		final CountDownLatch done = new CountDownLatch(1);
+		Thread producer = new Thread() {
+
+			@Override
+			public void run() {
+				try {
+					writeData(writer, 0, 50);
+				} catch (IOException e) {
+				}
+				done.countDown();
+			}
+		};
+		producer.start();
+
+		assertThat(done.await(500, TimeUnit.MILLISECONDS), is(false));
+		assertThat(writer.getSpoolSize(), lessThanOrEqualTo(200l));
+		delegate.gate.countDown();
+		assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+		writer.flush();
+		assertThat(delegate.entities.size(), is(50));
+		writer.close();
+	}
+
+	@Test(timeout = 30000)
+	public void testFailsFastWhenRetriesExhausted() throws IOException {
+		File dir = folder.newFolder();
+		TestWriter failing = new TestWriter();
+		failing.failures = Integer.MAX_VALUE;
+		SpoolingDataStoreWriter<String> writer = createWriter(failing, dir);
+		writer.setRetryInterval(1);
+		writer.setMaxRetries(2);
+		writer.setSegmentSize(100);
+		writeData(writer, 0, 20);
+		try {
+			writer.flush();
+			fail("Flush should fail");
+		} catch (StoreException e) {
+		}
+		try {
+			writer.write("entity-20");
+			fail("Write should fail");
+		} catch (StoreException e) {
+		}
+		assertThat(writer.getSpoolSize(), is(0l));
+		try {
+			writer.close();
+			fail("Close should fail");
+		} catch (StoreException e) {
+		}
+		assertThat(failing.closed, is(true));
+		// failed segments are kept for a replay
+		assertThat(dir.list().length > 1, is(true));
+	}
+
+	@Test(timeout = 30000)
+	public void testFullSpoolFailsFastWhenDrainerFails() throws IOException {
+		TestWriter failing = new TestWriter();
+		failing.failures = Integer.MAX_VALUE;
+		SpoolingDataStoreWriter<String> writer = createWriter(failing, folder.newFolder());
+		writer.setRetryInterval(1);
+		writer.setMaxRetries(1);
+		writer.setSegmentSize(50);
+		writer.setMaxSpoolSize(200);
+		try {
+			writeData(writer, 0, 1000);
+			fail("Write should fail");
+		} catch (StoreException e) {
+		}
+	}
+
+	@Test
+	public void testCloseDoesNotInterruptDrainer() throws Exception {
+		TestWriter delegate = new TestWriter();
+		delegate.gate = new CountDownLatch(1);
+		SpoolingDataStoreWriter<String> writer = createWriter(delegate, folder.newFolder());
+		writer.setDrainTimeout(200);
+		writeData(writer, 0, 10);
+		writer.close();
+		delegate.gate.countDown();
+		Thread.sleep(200);
+		assertThat(delegate.interrupted, is(false));
+		assertThat(delegate.entities.size(), is(1));
+	}
+
+	private static SpoolingDataStoreWriter<String> createWriter(TestWriter delegate, File dir) {
+		SpoolingDataStoreWriter<String> writer = new SpoolingDataStoreWriter<String>(delegate, dir,
+				new StringSpoolSerializer());
+		writer.setSealInterval(0);
+		writer.setDrainTimeout(10000);
+		return writer;
+	}
+
+	private static List<String> writeData(DataStoreWriter<String> writer, int from, int to) throws IOException {
+		List<String> data = new ArrayList<String>();
+		for (int i = from; i < to; i++) {
+			String entity = "entity-" + i;
+			writer.write(entity);
+			data.add(entity);
+		}
+		return data;
+	}
+
+	private static class TestWriter implements DataStoreWriter<String> {
+
+		final List<String> entities = Collections.synchronizedList(new ArrayList<String>());
+		volatile int failures;
+		volatile int flushes;
+		volatile boolean closed;
+		volatile boolean interrupted;
+		volatile CountDownLatch gate;
+
+		@Override
+		public void write(String entity) throws IOException {
+			if (gate != null) {
+				try {
+					gate.await();
+				} catch (InterruptedException e) {
+					interrupted = true;
+					throw new IOException(e);
+				}
+			}
+			if (failures > 0) {
+				failures--;
+				throw new IOException("Simulated failure");
+			}
+			entities.add(entity);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			flushes++;
+		}
+
+		@Override
+		public void close() throws IOException {
+			closed = true;
+		}
+	}
+
+}
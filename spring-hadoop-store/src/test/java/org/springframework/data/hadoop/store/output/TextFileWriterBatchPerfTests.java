@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.output;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.fs.Path;
+import org.junit.Test;
+import org.springframework.data.hadoop.store.AbstractStoreTests;
+import org.springframework.data.hadoop.test.context.HadoopDelegatingSmartContextLoader;
+import org.springframework.data.hadoop.test.context.MiniHadoopCluster;
+import org.springframework.data.hadoop.test.tests.Assume;
+import org.springframework.data.hadoop.test.tests.TestGroup;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.util.StopWatch;
+
+/**
+ * Performance tests for {@link TextFileWriter} comparing single
+ * entity writes against batched writes.
+ */
+@ContextConfiguration(loader=HadoopDelegatingSmartContextLoader.class)
+@MiniHadoopCluster
+public class TextFileWriterBatchPerfTests extends AbstractStoreTests {
+
+	private final int COUNT = 1000000;
+
+	@org.springframework.context.annotation.Configuration
+	static class Config {
+		// just empty to survive without xml configs
+	}
+
+	@Test
+	public void testBatchSize1() throws Exception {
+		Assume.group(TestGroup.PERFORMANCE);
+		testPerformance("testBatchSize1", 1);
+	}
+
+	@Test
+	public void testBatchSize1000() throws Exception {
+		Assume.group(TestGroup.PERFORMANCE);
+		testPerformance("testBatchSize1000", 1000);
+	}
+
+	private void testPerformance(String name, int batchSize) throws Exception {
+		TextFileWriter writer = new TextFileWriter(getConfiguration(), new Path(testDefaultPath, name), null);
+		List<String> batch = new ArrayList<String>(batchSize);
+		for (int i = 0; i < batchSize; i++) {
+			batch.add(DATA10);
+		}
+
+		StopWatch sw = new StopWatch(name);
+		sw.start();
+		for (int i = 0; i < COUNT / batchSize; i++) {
+			if (batchSize == 1) {
+				writer.write(DATA10);
+			} else {
+				writer.writeBatch(batch);
+			}
+		}
+		writer.flush();
+		sw.stop();
+		writer.close();
+		System.out.println(sw.prettyPrint());
+		System.out.println("Writes/sec: " + ((long) COUNT * 1000 / Math.max(1, sw.getTotalTimeMillis())));
+	}
+
+}
@@ -286,6 +286,30 @@ public class DefaultPartitionStrategyPerfTests extends AbstractStoreTests {
 		testPerformance("testUsePayload4", expression, messages);
 	}
 
+	@Test
+	public void testDateFormatWithTimestampBucket() throws IOException {
+		Assume.group(TestGroup.PERFORMANCE);
+		String expression = "dateFormat('yyyy/MM/dd/HH', timestamp)";
+		DefaultPartitionStrategy<String> strategy = new DefaultPartitionStrategy<String>(expression);
+		strategy.setTimestampBucket(60 * 60 * 1000);
+		PartitionResolver<Map<String, Object>> resolver = strategy.getPartitionResolver();
+
+		StopWatch sw = new StopWatch("testDateFormatWithTimestampBucket");
+		sw.start("bucket");
+		for (int i = 0; i<COUNT; i++) {
+			resolver.resolvePath(new DefaultPartitionKey(i * 1000l));
+		}
+		sw.stop();
+
+		strategy.setTimestampBucket(0);
+		sw.start("nobucket");
+		for (int i = 0; i<COUNT; i++) {
+			resolver.resolvePath(new DefaultPartitionKey(i * 1000l));
+		}
+		sw.stop();
+		System.out.println(sw.prettyPrint());
+	}
+
 	private void testPerformance(String name, String expression) throws IOException {
 		ArrayList<Map<String, Object>> messages = new ArrayList<Map<String,Object>>(1);
 		Map<String, Object> message = new HashMap<String, Object>();
@@ -23,6 +23,7 @@ import static org.junit.Assert.assertThat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Map;
+import java.util.TimeZone;
 
 import org.apache.hadoop.fs.Path;
 import org.junit.Test;
@@ -142,4 +143,76 @@ public class DefaultPartitionStrategyTests {
 		assertThat(resolvedPartitionKey, notNullValue());
 	}
 
+	@Test
+	public void testPathCache() {
+		String expression = "region + '/' + dateFormat('yyyy/MM', timestamp)";
+		DefaultPartitionStrategy<String> strategy = new DefaultPartitionStrategy<String>(expression);
+		DefaultPartitionKey key1 = new DefaultPartitionKey(0l);
+		key1.put("region", "foo");
+		DefaultPartitionKey key2 = new DefaultPartitionKey(1000l);
+		key2.put("region", "foo");
+		Path resolvedPath1 = strategy.getPartitionResolver().resolvePath(key1);
+		Path resolvedPath2 = strategy.getPartitionResolver().resolvePath(key2);
+		assertThat(resolvedPath1 == resolvedPath2, is(true));
+
+		key2.put("region", "bar");
+		Path resolvedPath3 = strategy.getPartitionResolver().resolvePath(key2);
+		assertThat(resolvedPath3.toString(), is("bar/" + new SimpleDateFormat("yyyy/MM").format(new Date(1000l))));
+	}
+
+	@Test
+	public void testTimestampBucket() {
+		String expression = "dateFormat('yyyy/MM/dd/HH/mm', timestamp)";
+		DefaultPartitionStrategy<String> strategy = new DefaultPartitionStrategy<String>(expression);
+		strategy.setTimestampBucket(60000);
+		SimpleDateFormat format = new SimpleDateFormat("yyyy/MM/dd/HH/mm");
+
+		long minute = 60000l * 1000;
+		for (long t = minute - 5000; t < minute + 65000; t += 1000) {
+			Path resolvedPath = strategy.getPartitionResolver().resolvePath(new DefaultPartitionKey(t));
+			assertThat(resolvedPath.toString(), is(format.format(new Date(t))));
+		}
+	}
+
+	@Test
+	public void testDayTimestampBucketInNonUtcZone() {
+		TimeZone defaultZone = TimeZone.getDefault();
+		TimeZone.setDefault(TimeZone.getTimeZone("Asia/Kolkata"));
+		try {
+			// pattern not used elsewhere so that no date format
+			// with a previous default zone is cached for this thread
+			String expression = "dateFormat('yyyy/MM/dd/', timestamp)";
+			DefaultPartitionStrategy<String> strategy = new DefaultPartitionStrategy<String>(expression);
+			strategy.setTimestampBucket(24l * 60 * 60 * 1000);
+			SimpleDateFormat format = new SimpleDateFormat("yyyy/MM/dd/");
+
+			long day = 24l * 60 * 60 * 1000 * 1000;
+			for (long t = day - 2 * day / 1000; t < day + 2 * day / 1000; t += 15 * 60 * 1000) {
+				Path resolvedPath = strategy.getPartitionResolver().resolvePath(new DefaultPartitionKey(t));
+				assertThat(resolvedPath.toString(), is(new Path(format.format(new Date(t))).toString()));
+			}
+		} finally {
+			TimeZone.setDefault(defaultZone);
+		}
+	}
+
+	@Test
+	public void testPathCacheEvictsLeastRecentlyUsed() {
+		String expression = "region";
+		DefaultPartitionStrategy<String> strategy = new DefaultPartitionStrategy<String>(expression);
+		strategy.setPathCacheSize(2);
+		Path a = strategy.getPartitionResolver().resolvePath(regionKey("a"));
+		Path b = strategy.getPartitionResolver().resolvePath(regionKey("b"));
+		assertThat(strategy.getPartitionResolver().resolvePath(regionKey("a")) == a, is(true));
+		strategy.getPartitionResolver().resolvePath(regionKey("c"));
+		assertThat(strategy.getPartitionResolver().resolvePath(regionKey("a")) == a, is(true));
+		assertThat(strategy.getPartitionResolver().resolvePath(regionKey("b")) == b, is(false));
+	}
+
+	private static DefaultPartitionKey regionKey(String region) {
+		DefaultPartitionKey key = new DefaultPartitionKey();
+		key.put("region", region);
+		return key;
+	}
+
 }
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.reactive;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.data.hadoop.store.DataStoreReader;
+import org.springframework.data.hadoop.store.input.TextFileReader;
+import org.springframework.data.hadoop.store.output.TextFileWriter;
+import org.springframework.data.hadoop.store.reactive.DataStoreWriterSubscriberTests.QueueExecutor;
+
+/**
+ * Tests for {@link DataStoreReaderPublisher}.
+ */
+public class DataStoreReaderPublisherTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testEmitsAllInOrder() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			TestReader reader = new TestReader(1000);
+			DataStoreReaderPublisher<String> publisher = new DataStoreReaderPublisher<String>(reader, executor, 16);
+			TestSubscriber subscriber = new TestSubscriber(7);
+			publisher.subscribe(subscriber);
+
+			assertThat(subscriber.done.await(5, TimeUnit.SECONDS), is(true));
+			assertThat(subscriber.error, is((Throwable) null));
+			assertThat(subscriber.entities, is(reader.data));
+			assertThat(reader.closed, is(true));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testPrefetchIsBounded() {
+		TestReader reader = new TestReader(100);
+		QueueExecutor executor = new QueueExecutor();
+		DataStoreReaderPublisher<String> publisher = new DataStoreReaderPublisher<String>(reader, executor, 8);
+		TestSubscriber subscriber = new TestSubscriber(0);
+		publisher.subscribe(subscriber);
+		assertThat(reader.reads, is(0));
+
+		subscriber.subscription.request(1);
+		executor.runAll();
+		assertThat(subscriber.entities.size(), is(1));
+		assertThat(reader.reads, is(8));
+
+		subscriber.subscription.request(2);
+		executor.runAll();
+		assertThat(subscriber.entities.size(), is(3));
+		assertThat(reader.reads, is(8));
+
+		subscriber.subscription.request(3);
+		executor.runAll();
+		assertThat(subscriber.entities.size(), is(6));
+		assertThat(reader.reads, lessThanOrEqualTo(6 + 8));
+	}
+
+	@Test
+	public void testCancelClosesReader() {
+		TestReader reader = new TestReader(100);
+		QueueExecutor executor = new QueueExecutor();
+		DataStoreReaderPublisher<String> publisher = new DataStoreReaderPublisher<String>(reader, executor, 8);
+		TestSubscriber subscriber = new TestSubscriber(0);
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(2);
+		executor.runAll();
+		subscriber.subscription.cancel();
+		subscriber.subscription.request(2);
+		executor.runAll();
+
+		assertThat(reader.closed, is(true));
+		assertThat(subscriber.entities.size(), is(2));
+		assertThat(subscriber.done.getCount(), is(1l));
+	}
+
+	@Test
+	public void testReadErrorSignalled() throws Exception {
+		TestReader reader = new TestReader(10);
+		reader.failAt = 5;
+		QueueExecutor executor = new QueueExecutor();
+		DataStoreReaderPublisher<String> publisher = new DataStoreReaderPublisher<String>(reader, executor);
+		TestSubscriber subscriber = new TestSubscriber(100);
+		publisher.subscribe(subscriber);
+		executor.runAll();
+
+		assertThat(subscriber.entities.size(), is(5));
+		assertThat(subscriber.error, instanceOf(IOException.class));
+		assertThat(reader.closed, is(true));
+	}
+
+	@Test
+	public void testInvalidRequestSignalsError() {
+		TestReader reader = new TestReader(10);
+		DataStoreReaderPublisher<String> publisher = new DataStoreReaderPublisher<String>(reader,
+				new QueueExecutor());
+		TestSubscriber subscriber = new TestSubscriber(0);
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(0);
+
+		assertThat(subscriber.error, instanceOf(IllegalArgumentException.class));
+		assertThat(reader.closed, is(true));
+	}
+
+	@Test
+	public void testSecondSubscriberRejected() {
+		DataStoreReaderPublisher<String> publisher = new DataStoreReaderPublisher<String>(new TestReader(1),
+				new QueueExecutor());
+		publisher.subscribe(new TestSubscriber(0));
+		TestSubscriber subscriber = new TestSubscriber(0);
+		publisher.subscribe(subscriber);
+		assertThat(subscriber.error, instanceOf(IllegalStateException.class));
+	}
+
+	@Test
+	public void testTextFileRoundTrip() throws Exception {
+		Configuration configuration = new Configuration();
+		Path source = new Path(new File(folder.getRoot(), "source.txt").toURI());
+		Path target = new Path(new File(folder.getRoot(), "target.txt").toURI());
+		List<String> expected = new ArrayList<String>();
+		TextFileWriter sourceWriter = new TextFileWriter(configuration, source, null);
+		for (int i = 0; i < 500; i++) {
+			expected.add("line-" + i);
+			sourceWriter.write("line-" + i);
+		}
+		sourceWriter.close();
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			DataStoreReaderPublisher<String> publisher = new DataStoreReaderPublisher<String>(
+					new TextFileReader(configuration, source, null), executor, 32);
+			DataStoreWriterSubscriber<String> subscriber = new DataStoreWriterSubscriber<String>(
+					new TextFileWriter(configuration, target, null), executor, 64, 16);
+			publisher.subscribe(subscriber);
+			subscriber.getCompletion().get(10, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdown();
+		}
+
+		TextFileReader targetReader = new TextFileReader(configuration, target, null);
+		List<String> actual = new ArrayList<String>();
+		String line;
+		while ((line = targetReader.read()) != null) {
+			actual.add(line);
+		}
+		targetReader.close();
+		assertThat(actual, is(expected));
+	}
+
+	private static class TestSubscriber implements Subscriber<String> {
+
+		final List<String> entities = Collections.synchronizedList(new ArrayList<String>());
+		final CountDownLatch done = new CountDownLatch(1);
+		final int batch;
+		volatile Subscription subscription;
+		volatile Throwable error;
+		int received;
+
+		TestSubscriber(int batch) {
+			this.batch = batch;
+		}
+
+		@Override
+		public void onSubscribe(Subscription s) {
+			subscription = s;
+			if (batch > 0) {
+				s.request(batch);
+			}
+		}
+
+		@Override
+		public void onNext(String t) {
+			entities.add(t);
+			if (batch > 0 && ++received % batch == 0) {
+				subscription.request(batch);
+			}
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			error = t;
+			done.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			done.countDown();
+		}
+	}
+
+	private static class TestReader implements DataStoreReader<String> {
+
+		final List<String> data = new ArrayList<String>();
+		volatile int reads;
+		volatile int failAt = -1;
+		volatile boolean closed;
+
+		TestReader(int count) {
+			for (int i = 0; i < count; i++) {
+				data.add("entity-" + i);
+			}
+		}
+
+		@Override
+		public String read() throws IOException {
+			if (reads == failAt) {
+				throw new IOException("Simulated failure");
+			}
+			return reads < data.size() ? data.get(reads++) : null;
+		}
+
+		@Override
+		public void close() throws IOException {
+			closed = true;
+		}
+	}
+
+}
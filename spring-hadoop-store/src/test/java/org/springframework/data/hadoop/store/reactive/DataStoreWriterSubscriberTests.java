@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.reactive;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.hadoop.store.DataBatchWriter;
+import org.springframework.data.hadoop.store.DataStoreWriter;
+
+/**
+ * Tests for {@link DataStoreWriterSubscriber}.
+ */
+public class DataStoreWriterSubscriberTests {
+
+	@Test
+	public void testWritesInBatchesWithBoundedDemand() throws Exception {
+		TestWriter writer = new TestWriter();
+		QueueExecutor executor = new QueueExecutor();
+		DataStoreWriterSubscriber<String> subscriber = new DataStoreWriterSubscriber<String>(writer, executor, 10, 4);
+		TestSubscription subscription = new TestSubscription();
+		subscriber.onSubscribe(subscription);
+		assertThat(subscription.requested, is(10l));
+
+		for (int i = 0; i < 10; i++) {
+			subscriber.onNext("entity-" + i);
+		}
+		assertThat(writer.entities.size(), is(0));
+		executor.runAll();
+		assertThat(writer.batches, is(Arrays.asList(4, 4, 2)));
+		assertThat(subscription.requested, is(20l));
+
+		subscriber.onNext("entity-10");
+		subscriber.onComplete();
+		executor.runAll();
+		assertThat(writer.entities.size(), is(11));
+		assertThat(writer.entities.get(10), is("entity-10"));
+		assertThat(writer.closed, is(true));
+		assertThat(subscriber.getCompletion().isDone(), is(true));
+		subscriber.getCompletion().get();
+	}
+
+	@Test
+	public void testWritesWithPlainWriter() throws Exception {
+		PlainWriter writer = new PlainWriter();
+		DataStoreWriterSubscriber<String> subscriber = new DataStoreWriterSubscriber<String>(writer,
+				new SyncTaskExecutor());
+		subscriber.setCloseOnComplete(false);
+		subscriber.onSubscribe(new TestSubscription());
+		subscriber.onNext("entity-0");
+		subscriber.onNext("entity-1");
+		subscriber.onComplete();
+		subscriber.getCompletion().get(1, TimeUnit.SECONDS);
+		assertThat(writer.entities, is(Arrays.asList("entity-0", "entity-1")));
+		assertThat(writer.flushed, is(true));
+		assertThat(writer.closed, is(false));
+	}
+
+	@Test
+	public void testWriteFailureCancelsSubscription() throws Exception {
+		TestWriter writer = new TestWriter();
+		writer.fail = true;
+		DataStoreWriterSubscriber<String> subscriber = new DataStoreWriterSubscriber<String>(writer,
+				new SyncTaskExecutor());
+		TestSubscription subscription = new TestSubscription();
+		subscriber.onSubscribe(subscription);
+		subscriber.onNext("entity-0");
+		subscriber.onNext("entity-1");
+
+		assertThat(subscription.cancelled, is(true));
+		assertThat(writer.closed, is(true));
+		assertThat(writer.entities.size(), is(0));
+		try {
+			subscriber.getCompletion().get();
+			fail("Expected completion to fail");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause(), instanceOf(IOException.class));
+		}
+	}
+
+	@Test
+	public void testUpstreamErrorWritesBufferedEntities() throws Exception {
+		TestWriter writer = new TestWriter();
+		QueueExecutor executor = new QueueExecutor();
+		DataStoreWriterSubscriber<String> subscriber = new DataStoreWriterSubscriber<String>(writer, executor);
+		subscriber.onSubscribe(new TestSubscription());
+		subscriber.onNext("entity-0");
+		subscriber.onError(new IllegalStateException("Upstream failure"));
+		executor.runAll();
+
+		assertThat(writer.entities, is(Arrays.asList("entity-0")));
+		assertThat(writer.closed, is(true));
+		try {
+			subscriber.getCompletion().get();
+			fail("Expected completion to fail");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+		}
+	}
+
+	@Test
+	public void testSecondSubscriptionCancelled() {
+		DataStoreWriterSubscriber<String> subscriber = new DataStoreWriterSubscriber<String>(new TestWriter(),
+				new SyncTaskExecutor());
+		TestSubscription subscription1 = new TestSubscription();
+		TestSubscription subscription2 = new TestSubscription();
+		subscriber.onSubscribe(subscription1);
+		subscriber.onSubscribe(subscription2);
+		assertThat(subscription1.cancelled, is(false));
+		assertThat(subscription2.cancelled, is(true));
+		assertThat(subscription2.requested, is(0l));
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void testNullEntityRejected() {
+		Subscriber<String> subscriber = new DataStoreWriterSubscriber<String>(new TestWriter(), new SyncTaskExecutor());
+		subscriber.onSubscribe(new TestSubscription());
+		subscriber.onNext(null);
+	}
+
+	static class QueueExecutor implements Executor {
+
+		final List<Runnable> tasks = new ArrayList<Runnable>();
+
+		@Override
+		public synchronized void execute(Runnable command) {
+			tasks.add(command);
+		}
+
+		void runAll() {
+			while (true) {
+				Runnable task;
+				synchronized (this) {
+					if (tasks.isEmpty()) {
+						return;
+					}
+					task = tasks.remove(0);
+				}
+				task.run();
+			}
+		}
+	}
+
+	private static class TestSubscription implements Subscription {
+
+		volatile long requested;
+		volatile boolean cancelled;
+
+		@Override
+		public void request(long n) {
+			requested += n;
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+	}
+
+	private static class TestWriter implements DataBatchWriter<String>, DataStoreWriter<String> {
+
+		final List<String> entities = new ArrayList<String>();
+		final List<Integer> batches = new ArrayList<Integer>();
+		volatile boolean fail;
+		volatile boolean closed;
+
+		@Override
+		public void write(String entity) throws IOException {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void writeBatch(Collection<? extends String> batch) throws IOException {
+			if (fail) {
+				throw new IOException("Simulated failure");
+			}
+			batches.add(batch.size());
+			entities.addAll(batch);
+		}
+
+		@Override
+		public void flush() throws IOException {
+		}
+
+		@Override
+		public void close() throws IOException {
+			closed = true;
+		}
+	}
+
+	private static class PlainWriter implements DataStoreWriter<String> {
+
+		final List<String> entities = new ArrayList<String>();
+		volatile boolean flushed;
+		volatile boolean closed;
+
+		@Override
+		public void write(String entity) throws IOException {
+			entities.add(entity);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			flushed = true;
+		}
+
+		@Override
+		public void close() throws IOException {
+			closed = true;
+		}
+	}
+
+}
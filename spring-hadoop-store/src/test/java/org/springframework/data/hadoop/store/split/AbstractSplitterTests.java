@@ -47,6 +47,11 @@ public abstract class AbstractSplitterTests {
 	}
 
 	protected static Path mockWithFileSystem(int blockCount, long blockSize, long extraBlockSize) throws Exception {
+		return mockWithFileSystem(null, blockCount, blockSize, extraBlockSize);
+	}
+
+	protected static Path mockWithFileSystem(String name, int blockCount, long blockSize, long extraBlockSize)
+			throws Exception {
 		final ArrayList<BlockLocation> blocks = new ArrayList<BlockLocation>();
 		long offset = 0;
 		int i = 0;
@@ -78,6 +83,7 @@ public abstract class AbstractSplitterTests {
 		});
 
 		when(mPath.getFileSystem((Configuration)any())).thenReturn(mFs);
+		when(mPath.getName()).thenReturn(name);
 		return mPath;
 	}
 
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.split;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.fs.BlockLocation;
+import org.apache.hadoop.fs.Path;
+import org.junit.Test;
+import org.springframework.data.hadoop.store.codec.Codecs;
+
+/**
+ * Tests for {@link CompressionAwareSplitter}.
+ */
+public class CompressionAwareSplitterTests extends AbstractSplitterTests {
+
+	@Test
+	public void testUncompressedSplitBySize() throws Exception {
+		Path path = mockWithFileSystem("data.txt", 3, 100, 0);
+		CompressionAwareSplitter splitter = new CompressionAwareSplitter(CONFIGURATION, 50, 50);
+		List<Split> splits = splitter.getSplits(path);
+		assertThat(splits.size(), is(6));
+		assertThat(splits.get(5).getStart(), is(250l));
+	}
+
+	@Test
+	public void testNonSplittableCodecSingleSplit() throws Exception {
+		Path path = mockWithFileSystem("data.gz", 3, 100, 10);
+		CompressionAwareSplitter splitter = new CompressionAwareSplitter(CONFIGURATION, 50, 50);
+		List<Split> splits = splitter.getSplits(path);
+		assertThat(splits.size(), is(1));
+		assertThat(splits.get(0).getStart(), is(0l));
+		assertThat(splits.get(0).getLength(), is(310l));
+		assertThat(((FileSplit) splits.get(0)).getPath(), is(path));
+	}
+
+	@Test
+	public void testConfiguredCodecInfo() throws Exception {
+		Path path = mockWithFileSystem("data", 3, 100, 0);
+		CompressionAwareSplitter splitter = new CompressionAwareSplitter(CONFIGURATION, 50, 50);
+		splitter.setCodec(Codecs.SNAPPY.getCodecInfo());
+		assertThat(splitter.getSplits(path).size(), is(1));
+	}
+
+	@Test
+	public void testBzip2AlignedToBlocks() throws Exception {
+		Path path = mockWithFileSystem("data.bz2", 3, 100, 0);
+		CompressionAwareSplitter splitter = new CompressionAwareSplitter(CONFIGURATION, 30, 30);
+		List<Split> splits = splitter.getSplits(path);
+		assertThat(splits.size(), is(3));
+		assertThat(splits.get(0).getStart(), is(0l));
+		assertThat(splits.get(1).getStart(), is(100l));
+		assertThat(splits.get(2).getStart(), is(200l));
+		assertThat(splits.get(2).getLength(), is(100l));
+	}
+
+	@Test
+	public void testCombineSmallFiles() throws Exception {
+		List<Path> paths = new ArrayList<Path>();
+		for (int i = 0; i < 5; i++) {
+			paths.add(mockWithFileSystem("small" + i, 1, 10, 0));
+		}
+		paths.add(mockWithFileSystem("large", 2, 100, 0));
+		CompressionAwareSplitter splitter = new CompressionAwareSplitter(CONFIGURATION);
+		splitter.setCombineThreshold(50);
+		splitter.setMaxCombinedSize(25);
+		List<Split> splits = splitter.getSplits(paths);
+		assertThat(splits.size(), is(5));
+		assertThat(((FileSplit) splits.get(0)).getPath(), is(paths.get(5)));
+		assertThat(((FileSplit) splits.get(1)).getPath(), is(paths.get(5)));
+		assertThat(splits.get(2), instanceOf(CombinedSplit.class));
+		assertThat(splits.get(2).getLength(), is(20l));
+		assertThat(((CombinedSplit) splits.get(2)).getSplits().size(), is(2));
+		assertThat(((CombinedSplit) splits.get(2)).getLocations(), is(new String[] { "hosts0" }));
+		assertThat(splits.get(3), instanceOf(CombinedSplit.class));
+		assertThat(splits.get(4), instanceOf(FileSplit.class));
+		assertThat(((FileSplit) splits.get(4)).getPath(), is(paths.get(4)));
+	}
+
+	@Test
+	public void testCombineDisabled() throws Exception {
+		List<Path> paths = new ArrayList<Path>();
+		for (int i = 0; i < 3; i++) {
+			paths.add(mockWithFileSystem("small" + i, 1, 10, 0));
+		}
+		CompressionAwareSplitter splitter = new CompressionAwareSplitter(CONFIGURATION);
+		splitter.setCombineThreshold(0);
+		assertThat(splitter.getSplits(paths).size(), is(3));
+	}
+
+	@Test
+	public void testBlockIndex() throws Exception {
+		List<BlockLocation> blocks = new ArrayList<BlockLocation>();
+		for (int i = 0; i < 7; i++) {
+			blocks.add(new BlockLocation(new String[] { "names" + i }, new String[] { "hosts" + i }, i * 100, 100));
+		}
+		BlockLocation[] array = blocks.toArray(new BlockLocation[0]);
+		CompressionAwareSplitter splitter = new CompressionAwareSplitter(CONFIGURATION);
+		for (int i = 0; i < 700; i++) {
+			assertThat(splitter.getBlockIndex(array, i), is(i / 100));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBlockIndexOutside() throws Exception {
+		BlockLocation[] array = new BlockLocation[] {
+				new BlockLocation(new String[] { "names" }, new String[] { "hosts" }, 0, 100) };
+		new CompressionAwareSplitter(CONFIGURATION).getBlockIndex(array, 100);
+	}
+
+}
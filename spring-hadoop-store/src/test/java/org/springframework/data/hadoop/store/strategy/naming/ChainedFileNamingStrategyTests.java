@@ -45,6 +45,26 @@ public class ChainedFileNamingStrategyTests {
 		assertThat(strategy.resolve(null).toString(), is("base-fakeuuid-0.extension"));
 	}
 
+	@Test
+	public void testSeek() {
+		List<FileNamingStrategy> strategies = new ArrayList<FileNamingStrategy>();
+		strategies.add(new StaticFileNamingStrategy("base"));
+		strategies.add(new UuidFileNamingStrategy("fakeuuid", true));
+		strategies.add(new RollingFileNamingStrategy());
+		CountingFileNamingStrategy counting = new CountingFileNamingStrategy();
+		strategies.add(counting);
+		strategies.add(new StaticFileNamingStrategy(".extension"));
+
+		ChainedFileNamingStrategy strategy = new ChainedFileNamingStrategy(strategies);
+		strategy.next();
+		strategy.seek(1000);
+		assertThat(strategy.resolve(null).toString(), is("base-fakeuuid-1000#1000.extension"));
+		// only a strategy which is not seekable is rolled forward
+		assertThat(counting.nexts, is(1001));
+		strategy.seek(2);
+		assertThat(strategy.resolve(null).toString(), is("base-fakeuuid-2#2.extension"));
+	}
+
 	@Test
 	public void testOrdering() {
 		List<FileNamingStrategy> strategies = new ArrayList<FileNamingStrategy>();
@@ -113,4 +133,31 @@ public class ChainedFileNamingStrategyTests {
 		assertThat(strategy.resolve(null).toString(), is("base-2.extension"));
 	}
 
+	private static class CountingFileNamingStrategy extends AbstractFileNamingStrategy {
+
+		int counter;
+		int nexts;
+
+		@Override
+		public Path resolve(Path path) {
+			return new Path(path.getParent(), path.getName() + "#" + counter);
+		}
+
+		@Override
+		public void next() {
+			counter++;
+			nexts++;
+		}
+
+		@Override
+		public void reset() {
+			counter = 0;
+		}
+
+		@Override
+		public FileNamingStrategy createInstance() {
+			return new CountingFileNamingStrategy();
+		}
+	}
+
 }
@@ -61,6 +61,16 @@ public class RollingFileNamingStrategyTests {
 		assertThat(strategy.resolve(new Path("/foo/jee")).toString(), is("/foo/jee-2"));
 	}
 
+	@Test
+	public void testSeek() {
+		RollingFileNamingStrategy strategy = new RollingFileNamingStrategy();
+		strategy.next();
+		strategy.seek(12345);
+		assertThat(strategy.resolve(new Path("/foo/jee")).toString(), is("/foo/jee-12345"));
+		strategy.seek(0);
+		assertThat(strategy.resolve(new Path("/foo/jee")).toString(), is("/foo/jee-0"));
+	}
+
 	@Test
 	public void testEnabled() {
 		RollingFileNamingStrategy strategy = new RollingFileNamingStrategy();
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.strategy.rollover;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link TimeIntervalRolloverStrategy} and {@link RecordCountRolloverStrategy}.
+ */
+public class TimeIntervalRolloverStrategyTests {
+
+	private static final long MINUTE = 60000;
+
+	@Test
+	public void testAlignedBoundaries() {
+		TestTimeIntervalRolloverStrategy strategy = new TestTimeIntervalRolloverStrategy("5m");
+		strategy.setTimeZone(TimeZone.getTimeZone("UTC"));
+		assertThat(strategy.getInterval(), is(5 * MINUTE));
+
+		// nothing written, nothing to roll
+		strategy.time = 1000 * MINUTE + 3 * MINUTE;
+		assertThat(strategy.hasRolled(), is(false));
+		assertThat(strategy.getRolloverTime(), is(-1l));
+
+		strategy.setWritePosition(10);
+		assertThat(strategy.getRolloverTime(), is(1005 * MINUTE));
+		strategy.time = 1005 * MINUTE - 1;
+		assertThat(strategy.hasRolled(), is(false));
+		strategy.time = 1005 * MINUTE;
+		assertThat(strategy.hasRolled(), is(true));
+
+		// next file is aligned to a next boundary
+		strategy.reset();
+		assertThat(strategy.hasRolled(), is(false));
+		strategy.time = 1005 * MINUTE + 1;
+		strategy.setWritePosition(10);
+		assertThat(strategy.getRolloverTime(), is(1010 * MINUTE));
+	}
+
+	@Test
+	public void testAlignedToTimeZone() {
+		TestTimeIntervalRolloverStrategy strategy = new TestTimeIntervalRolloverStrategy("1d");
+		strategy.setTimeZone(TimeZone.getTimeZone("GMT+02:00"));
+		long day = 24 * 60 * MINUTE;
+		strategy.time = 100 * day + 12 * 60 * MINUTE;
+		strategy.setWritePosition(1);
+		// local midnight is two hours before utc midnight
+		assertThat(strategy.getRolloverTime(), is(101 * day - 2 * 60 * MINUTE));
+	}
+
+	@Test
+	public void testParseIntervals() {
+		assertThat(new TimeIntervalRolloverStrategy("100").getInterval(), is(100l));
+		assertThat(new TimeIntervalRolloverStrategy("100ms").getInterval(), is(100l));
+		assertThat(new TimeIntervalRolloverStrategy("30s").getInterval(), is(30000l));
+		assertThat(new TimeIntervalRolloverStrategy("1H").getInterval(), is(60 * MINUTE));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testParseInvalidInterval() {
+		new TimeIntervalRolloverStrategy("5 minutes");
+	}
+
+	@Test
+	public void testRecordCount() {
+		RecordCountRolloverStrategy strategy = new RecordCountRolloverStrategy(3);
+		strategy.addWriteCount(2);
+		assertThat(strategy.hasRolled(), is(false));
+		strategy.addWriteCount(1);
+		assertThat(strategy.hasRolled(), is(true));
+		strategy.reset();
+		assertThat(strategy.hasRolled(), is(false));
+		assertThat(strategy.createInstance().hasRolled(), is(false));
+	}
+
+	@Test
+	public void testChainedWithCount() {
+		List<RolloverStrategy> strategies = new ArrayList<RolloverStrategy>();
+		strategies.add(new SizeRolloverStrategy(1000));
+		strategies.add(new RecordCountRolloverStrategy(2));
+		ChainedRolloverStrategy strategy = new ChainedRolloverStrategy(strategies);
+		strategy.setWritePosition(10);
+		strategy.addWriteCount(1);
+		assertThat(strategy.hasRolled(), is(false));
+		strategy.addWriteCount(1);
+		assertThat(strategy.hasRolled(), is(true));
+		strategy.reset();
+		assertThat(strategy.hasRolled(), is(false));
+		strategy.setWritePosition(1000);
+		assertThat(strategy.hasRolled(), is(true));
+	}
+
+	private static class TestTimeIntervalRolloverStrategy extends TimeIntervalRolloverStrategy {
+
+		long time;
+
+		public TestTimeIntervalRolloverStrategy(String interval) {
+			super(interval);
+		}
+
+		@Override
+		protected long getCurrentTime() {
+			return time;
+		}
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.strategy.sync;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link GroupSyncStrategy}.
+ */
+public class GroupSyncStrategyTests {
+
+	@Test
+	public void testSyncEveryWrite() {
+		GroupSyncStrategy strategy = new GroupSyncStrategy();
+		assertThat(strategy.shouldSync(), is(false));
+		strategy.setWritePosition(10, 1);
+		assertThat(strategy.shouldSync(), is(true));
+		strategy.reset();
+		assertThat(strategy.shouldSync(), is(false));
+	}
+
+	@Test
+	public void testRecordLimit() {
+		GroupSyncStrategy strategy = new GroupSyncStrategy(3, 0, 0);
+		strategy.setWritePosition(10, 1);
+		strategy.setWritePosition(20, 1);
+		assertThat(strategy.shouldSync(), is(false));
+		assertThat(strategy.getUnsyncedRecords(), is(2l));
+		strategy.setWritePosition(30, 1);
+		assertThat(strategy.shouldSync(), is(true));
+		strategy.reset();
+		assertThat(strategy.getUnsyncedRecords(), is(0l));
+		assertThat(strategy.getUnsyncedBytes(), is(0l));
+		assertThat(strategy.shouldSync(), is(false));
+	}
+
+	@Test
+	public void testByteLimit() {
+		GroupSyncStrategy strategy = new GroupSyncStrategy(0, 100, 0);
+		strategy.setWritePosition(60, 5);
+		assertThat(strategy.shouldSync(), is(false));
+		assertThat(strategy.getUnsyncedBytes(), is(60l));
+		strategy.setWritePosition(100, 5);
+		assertThat(strategy.shouldSync(), is(true));
+		strategy.reset();
+		strategy.setWritePosition(150, 5);
+		assertThat(strategy.getUnsyncedBytes(), is(50l));
+		assertThat(strategy.shouldSync(), is(false));
+	}
+
+	@Test
+	public void testInterval() throws InterruptedException {
+		GroupSyncStrategy strategy = new GroupSyncStrategy(1000, 0, 100);
+		assertThat(strategy.shouldSync(), is(false));
+		strategy.setWritePosition(10, 1);
+		assertThat(strategy.shouldSync(), is(false));
+		Thread.sleep(150);
+		assertThat(strategy.shouldSync(), is(true));
+		strategy.reset();
+		assertThat(strategy.shouldSync(), is(false));
+
+		// interval alone never syncs without written data
+		Thread.sleep(150);
+		assertThat(strategy.shouldSync(), is(false));
+	}
+
+	@Test
+	public void testCreateInstance() {
+		GroupSyncStrategy strategy = new GroupSyncStrategy(10, 20, 30);
+		strategy.setHsync(true);
+		strategy.setWritePosition(10, 10);
+
+		GroupSyncStrategy instance = (GroupSyncStrategy) strategy.createInstance();
+		assertThat(instance.getMaxRecords(), is(10l));
+		assertThat(instance.getMaxBytes(), is(20l));
+		assertThat(instance.getInterval(), is(30l));
+		assertThat(instance.isHsync(), is(true));
+		assertThat(instance.getUnsyncedRecords(), is(0l));
+		assertThat(instance.shouldSync(), is(false));
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.support;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.Charset;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link DelimitedFieldEncoder}.
+ */
+public class DelimitedFieldEncoderTests {
+
+	private final static Charset UTF8 = Charset.forName("UTF-8");
+
+	@Test
+	public void testPlainFieldsNotQuoted() {
+		DelimitedFieldEncoder encoder = new DelimitedFieldEncoder(",".getBytes());
+		encoder.field("foo").field("").field((String) null).field(12).field("b a r");
+		assertThat(decode(encoder), is("foo,,,12,b a r"));
+	}
+
+	@Test
+	public void testQuotedFields() {
+		DelimitedFieldEncoder encoder = new DelimitedFieldEncoder(",".getBytes());
+		encoder.field("a,b").field("say \"hi\"").field("tab\tok");
+		assertThat(decode(encoder), is("\"a,b\",\"say \"\"hi\"\"\",tab\tok"));
+	}
+
+	@Test
+	public void testLineBreaksRejected() {
+		DelimitedFieldEncoder encoder = new DelimitedFieldEncoder(",".getBytes());
+		encoder.field("a");
+		try {
+			encoder.field("cr\r");
+			fail("Line break should be rejected");
+		} catch (IllegalArgumentException e) {
+		}
+		byte[] value = "l\nf".getBytes(UTF8);
+		try {
+			encoder.reset().field(value, 0, value.length);
+			fail("Line break should be rejected");
+		} catch (IllegalArgumentException e) {
+		}
+		encoder.reset().field("b");
+		assertThat(decode(encoder), is("b"));
+	}
+
+	@Test
+	public void testQuotedBytesAndMultiByteDelimiter() {
+		DelimitedFieldEncoder encoder = new DelimitedFieldEncoder("::".getBytes());
+		byte[] value = "x:y::z".getBytes(UTF8);
+		encoder.field("a:b").field(value, 0, value.length);
+		assertThat(decode(encoder), is("a:b::\"x:y::z\""));
+	}
+
+	@Test
+	public void testLongQuotedFieldAfterReset() {
+		DelimitedFieldEncoder encoder = new DelimitedFieldEncoder(",".getBytes());
+		StringBuilder buf = new StringBuilder();
+		for (int i = 0; i < 100; i++) {
+			buf.append("\"0,");
+		}
+		encoder.field("first").reset().field(buf);
+		String expected = "\"" + buf.toString().replace("\"", "\"\"") + "\"";
+		assertThat(decode(encoder), is(expected));
+	}
+
+	private static String decode(Utf8FieldEncoder encoder) {
+		return new String(encoder.getBuffer(), 0, encoder.getLength(), UTF8);
+	}
+
+}
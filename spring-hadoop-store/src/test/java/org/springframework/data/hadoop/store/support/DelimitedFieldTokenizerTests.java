@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.support;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link DelimitedFieldTokenizer}.
+ */
+public class DelimitedFieldTokenizerTests {
+
+	private final static Charset UTF8 = Charset.forName("UTF-8");
+
+	@Test
+	public void testPlainFields() {
+		DelimitedFieldTokenizer tokenizer = new DelimitedFieldTokenizer(",".getBytes());
+		assertThat(tokenize(tokenizer, "foo,,bar,"), is(4));
+		assertThat(tokenizer.toList(), is(Arrays.asList("foo", "", "bar", "")));
+		assertThat(tokenize(tokenizer, "foo"), is(1));
+		assertThat(tokenizer.getString(0), is("foo"));
+	}
+
+	@Test
+	public void testRegexMetaCharacterDelimiter() {
+		DelimitedFieldTokenizer tokenizer = new DelimitedFieldTokenizer("|".getBytes());
+		tokenize(tokenizer, "a|b.c|*");
+		assertThat(tokenizer.toList(), is(Arrays.asList("a", "b.c", "*")));
+	}
+
+	@Test
+	public void testMultiByteDelimiter() {
+		DelimitedFieldTokenizer tokenizer = new DelimitedFieldTokenizer("::".getBytes());
+		tokenize(tokenizer, "a::b:c::\"d::e\"::");
+		assertThat(tokenizer.toList(), is(Arrays.asList("a", "b:c", "d::e", "")));
+	}
+
+	@Test
+	public void testQuotedFields() {
+		DelimitedFieldTokenizer tokenizer = new DelimitedFieldTokenizer(",".getBytes());
+		tokenize(tokenizer, "\"a,b\",\"say \"\"hi\"\"\",\"\",\u00e4\u20ac");
+		assertThat(tokenizer.toList(), is(Arrays.asList("a,b", "say \"hi\"", "", "\u00e4\u20ac")));
+	}
+
+	@Test
+	public void testMalformedQuotes() {
+		DelimitedFieldTokenizer tokenizer = new DelimitedFieldTokenizer(",".getBytes());
+		tokenize(tokenizer, "\"ab\"c,x\"y\",\"open,end");
+		assertThat(tokenizer.toList(), is(Arrays.asList("abc", "x\"y\"", "open,end")));
+	}
+
+	@Test
+	public void testQuotingDisabled() {
+		DelimitedFieldTokenizer tokenizer = new DelimitedFieldTokenizer(",".getBytes(), false);
+		tokenize(tokenizer, "\"a,b\"");
+		assertThat(tokenizer.toList(), is(Arrays.asList("\"a", "b\"")));
+	}
+
+	@Test
+	public void testTypedFields() {
+		DelimitedFieldTokenizer tokenizer = new DelimitedFieldTokenizer("\t".getBytes());
+		tokenize(tokenizer, "42\t-7\t" + Long.MIN_VALUE + "\t" + Long.MAX_VALUE + "\t1.5\tTRUE\tno\t+3");
+		assertThat(tokenizer.getInt(0), is(42));
+		assertThat(tokenizer.getLong(1), is(-7l));
+		assertThat(tokenizer.getLong(2), is(Long.MIN_VALUE));
+		assertThat(tokenizer.getLong(3), is(Long.MAX_VALUE));
+		assertThat(tokenizer.getDouble(4), is(1.5d));
+		assertThat(tokenizer.getBoolean(5), is(true));
+		assertThat(tokenizer.getBoolean(6), is(false));
+		assertThat(tokenizer.getInt(7), is(3));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testLongOverflow() {
+		DelimitedFieldTokenizer tokenizer = new DelimitedFieldTokenizer(",".getBytes());
+		tokenize(tokenizer, "9223372036854775808");
+		tokenizer.getLong(0);
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testInvalidNumber() {
+		DelimitedFieldTokenizer tokenizer = new DelimitedFieldTokenizer(",".getBytes());
+		tokenize(tokenizer, "12a");
+		tokenizer.getLong(0);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testMissingField() {
+		DelimitedFieldTokenizer tokenizer = new DelimitedFieldTokenizer(",".getBytes());
+		tokenize(tokenizer, "a,b");
+		tokenizer.getString(2);
+	}
+
+	@Test
+	public void testManyFieldsAndOffset() {
+		StringBuilder buf = new StringBuilder("xx");
+		for (int i = 0; i < 100; i++) {
+			buf.append(i).append(',');
+		}
+		byte[] bytes = buf.toString().getBytes(UTF8);
+		DelimitedFieldTokenizer tokenizer = new DelimitedFieldTokenizer(",".getBytes());
+		assertThat(tokenizer.tokenize(bytes, 2, bytes.length - 2), is(101));
+		for (int i = 0; i < 100; i++) {
+			assertThat(tokenizer.getInt(i), is(i));
+		}
+		assertThat(tokenizer.isEmpty(100), is(true));
+	}
+
+	@Test
+	public void testEncoderRoundTrip() {
+		String[] values = new String[] { "plain", "a,b", "say \"hi\"", "", "tab\tbreak", "\u00e4,\u20ac" };
+		DelimitedFieldEncoder encoder = new DelimitedFieldEncoder(",".getBytes());
+		for (String value : values) {
+			encoder.field(value);
+		}
+		DelimitedFieldTokenizer tokenizer = new DelimitedFieldTokenizer(",".getBytes());
+		tokenizer.tokenize(encoder.getBuffer(), 0, encoder.getLength());
+		assertThat(tokenizer.toList(), is(Arrays.asList(values)));
+	}
+
+	private static int tokenize(DelimitedFieldTokenizer tokenizer, String line) {
+		byte[] bytes = line.getBytes(UTF8);
+		return tokenizer.tokenize(bytes, 0, bytes.length);
+	}
+
+}
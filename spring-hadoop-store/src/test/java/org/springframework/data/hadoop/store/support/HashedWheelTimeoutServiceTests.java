@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.support;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests for {@link HashedWheelTimeoutService}.
+ */
+public class HashedWheelTimeoutServiceTests {
+
+	private HashedWheelTimeoutService service;
+
+	@After
+	public void clean() {
+		if (service != null) {
+			service.destroy();
+		}
+		service = null;
+	}
+
+	@Test
+	public void testNotExpiredEarly() throws InterruptedException {
+		service = new HashedWheelTimeoutService(10, 8, null);
+		final CountDownLatch latch = new CountDownLatch(1);
+		long start = System.nanoTime();
+		service.schedule(new TimeoutTask() {
+
+			@Override
+			public long run() {
+				latch.countDown();
+				return 0;
+			}
+		}, 200);
+		assertThat(latch.await(2, TimeUnit.SECONDS), is(true));
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), greaterThanOrEqualTo(200l));
+	}
+
+	@Test
+	public void testRearmAndCancel() throws InterruptedException {
+		service = new HashedWheelTimeoutService(10, 8, null);
+		final CountDownLatch latch = new CountDownLatch(3);
+		final AtomicInteger counter = new AtomicInteger();
+		Timeout timeout = service.schedule(new TimeoutTask() {
+
+			@Override
+			public long run() {
+				counter.incrementAndGet();
+				latch.countDown();
+				return 50;
+			}
+		}, 50);
+		assertThat(latch.await(2, TimeUnit.SECONDS), is(true));
+		timeout.cancel();
+		assertThat(timeout.isCancelled(), is(true));
+		Thread.sleep(100);
+		int count = counter.get();
+		Thread.sleep(300);
+		assertThat(counter.get(), is(count));
+	}
+
+	@Test
+	public void testSlowTaskDelaysOnlyItsBatch() throws InterruptedException {
+		service = new HashedWheelTimeoutService(10, 8, null);
+		service.setBatchSize(2);
+		final CountDownLatch release = new CountDownLatch(1);
+		// one task may share a batch with a slow task
+		final CountDownLatch latch = new CountDownLatch(9);
+		service.schedule(new TimeoutTask() {
+
+			@Override
+			public long run() {
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return 0;
+			}
+		}, 50);
+		TimeoutTask task = new TimeoutTask() {
+
+			@Override
+			public long run() {
+				latch.countDown();
+				return 0;
+			}
+		};
+		for (int i = 0; i < 10; i++) {
+			service.schedule(task, 50);
+		}
+		assertThat(latch.await(2, TimeUnit.SECONDS), is(true));
+		release.countDown();
+	}
+
+	@Test
+	public void testWithExecutor() throws InterruptedException {
+		final AtomicInteger executed = new AtomicInteger();
+		service = new HashedWheelTimeoutService(10, 8, null);
+		service.setBatchSize(10);
+		TimeoutService view = service.withExecutor(new Executor() {
+
+			@Override
+			public void execute(Runnable command) {
+				executed.incrementAndGet();
+				command.run();
+			}
+		});
+		int count = 100;
+		final CountDownLatch latch = new CountDownLatch(count);
+		TimeoutTask task = new TimeoutTask() {
+
+			@Override
+			public long run() {
+				latch.countDown();
+				return 0;
+			}
+		};
+		for (int i = 0; i < count; i++) {
+			view.schedule(task, 50);
+		}
+		assertThat(latch.await(2, TimeUnit.SECONDS), is(true));
+		// timeouts may expire in different ticks
+		assertThat(executed.get(), greaterThanOrEqualTo(count / 10));
+		assertThat(executed.get(), lessThan(count));
+	}
+
+	@Test
+	public void testLongDelayOverManyRounds() throws InterruptedException {
+		// wheel of 4 ticks turns around several times
+		service = new HashedWheelTimeoutService(10, 4, null);
+		final CountDownLatch latch = new CountDownLatch(1);
+		long start = System.nanoTime();
+		service.schedule(new TimeoutTask() {
+
+			@Override
+			public long run() {
+				latch.countDown();
+				return 0;
+			}
+		}, 300);
+		assertThat(latch.await(2, TimeUnit.SECONDS), is(true));
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), greaterThanOrEqualTo(300l));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testScheduleAfterDestroy() {
+		service = new HashedWheelTimeoutService();
+		service.destroy();
+		service.schedule(new TimeoutTask() {
+
+			@Override
+			public long run() {
+				return 0;
+			}
+		}, 100);
+	}
+
+}
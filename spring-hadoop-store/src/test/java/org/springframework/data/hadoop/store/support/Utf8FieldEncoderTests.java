@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.hadoop.store.support;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.nio.charset.Charset;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link Utf8FieldEncoder}.
+ */
+public class Utf8FieldEncoderTests {
+
+	private final static Charset UTF8 = Charset.forName("UTF-8");
+
+	@Test
+	public void testAsciiFields() {
+		Utf8FieldEncoder encoder = new Utf8FieldEncoder(",".getBytes());
+		encoder.field("foo").field("").field((String) null).field("bar");
+		assertThat(decode(encoder), is("foo,,,bar"));
+		assertThat(encoder.getFieldCount(), is(4));
+	}
+
+	@Test
+	public void testMultiByteFields() {
+		String value = "\u00e4\u20ac\ud83d\ude00x";
+		Utf8FieldEncoder encoder = new Utf8FieldEncoder("\t".getBytes());
+		encoder.field(value).field(value);
+		assertThat(decode(encoder), is(value + "\t" + value));
+		assertThat(encoder.getLength(), is((value + "\t" + value).getBytes(UTF8).length));
+	}
+
+	@Test
+	public void testNumberFields() {
+		Utf8FieldEncoder encoder = new Utf8FieldEncoder(",".getBytes());
+		encoder.field(0).field(-1).field(1234567890123l).field(Long.MIN_VALUE).field(Long.MAX_VALUE);
+		assertThat(decode(encoder), is("0,-1,1234567890123," + Long.MIN_VALUE + "," + Long.MAX_VALUE));
+	}
+
+	@Test
+	public void testResetAndGrow() {
+		Utf8FieldEncoder encoder = new Utf8FieldEncoder(",".getBytes(), 16);
+		StringBuilder buf = new StringBuilder();
+		for (int i = 0; i < 100; i++) {
+			buf.append("0123456789");
+		}
+		encoder.field(buf);
+		assertThat(decode(encoder), is(buf.toString()));
+		byte[] grown = encoder.getBuffer();
+		encoder.reset().field("foo");
+		assertThat(decode(encoder), is("foo"));
+		assertThat(encoder.getBuffer() == grown, is(true));
+	}
+
+	private static String decode(Utf8FieldEncoder encoder) {
+		return new String(encoder.getBuffer(), 0, encoder.getLength(), UTF8);
+	}
+
+}
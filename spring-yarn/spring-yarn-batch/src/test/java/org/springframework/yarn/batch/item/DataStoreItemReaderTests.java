@@ -33,6 +33,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.hadoop.store.DataStoreReader;
 import org.springframework.data.hadoop.store.input.TextFileReader;
+import org.springframework.data.hadoop.store.input.TextSequenceFileReader;
+import org.springframework.data.hadoop.store.output.TextSequenceFileWriter;
 import org.springframework.data.hadoop.store.split.Split;
 import org.springframework.data.hadoop.store.split.StaticLengthSplitter;
 import org.springframework.test.context.ContextConfiguration;
@@ -95,6 +97,33 @@ public class DataStoreItemReaderTests extends AbstractYarnClusterTests {
 		assertThat(count, is(300));
 	}
 
+	@Test
+	public void testWithSequenceFileSplits() throws Exception {
+		Path path = new Path("/syarn-tmp/DataStoreItemReaderTests-testWithSequenceFileSplits/data.seq");
+		TextSequenceFileWriter writer = new TextSequenceFileWriter(configuration, path, null);
+		for (int i = 0; i < 300; i++) {
+			writer.write("line" + i);
+		}
+		writer.close();
+
+		StaticLengthSplitter splitter = new StaticLengthSplitter(getConfiguration(), 2000);
+		List<Split> splits = splitter.getSplits(path);
+		assertThat(splits.size(), greaterThan(1));
+
+		int count = 0;
+		for (Split split : splits) {
+			DataStoreReader<String> reader = new TextSequenceFileReader(configuration, path, null, split);
+			DataStoreItemReader<String> itemReader = new DataStoreItemReader<String>();
+			itemReader.setDataStoreReader(reader);
+			itemReader.setLineDataMapper(new PassThroughLineDataMapper());
+			while (itemReader.read() != null) {
+				count++;
+			}
+			itemReader.close();
+		}
+		assertThat(count, is(300));
+	}
+
 	@Test
 	public void testRestore() throws Exception {
 		Path path = new Path("/syarn-tmp/DataStoreItemReaderTests-testRestore/data.txt");